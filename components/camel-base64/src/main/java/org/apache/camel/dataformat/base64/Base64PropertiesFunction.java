@@ -35,6 +35,11 @@ public class Base64PropertiesFunction implements PropertiesFunction {
         return "base64";
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public boolean lookupFirst(String remainder) {
         return !remainder.startsWith("decode:");
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Invokes a bean method using a {@link MethodHandle} that has been adapted once to take the bean and the arguments as
+ * an object array, instead of using {@link Method#invoke(Object, Object...)}.
+ * <p/>
+ * Only public methods on public classes are supported. The arguments must match the parameter types of the method,
+ * which is checked by {@link #accepts(Object, Object[])} so the caller can fall back to reflection (which reports
+ * mismatches with the usual {@link IllegalArgumentException}).
+ */
+final class MethodHandleInvoker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MethodHandleInvoker.class);
+
+    private final MethodHandle handle;
+    private final Class<?> declaringClass;
+    private final boolean isStatic;
+    private final Class<?>[] types;
+    private final boolean[] primitives;
+
+    private MethodHandleInvoker(MethodHandle handle, Method method) {
+        this.handle = handle;
+        this.declaringClass = method.getDeclaringClass();
+        this.isStatic = Modifier.isStatic(method.getModifiers());
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        this.types = new Class<?>[parameterTypes.length];
+        this.primitives = new boolean[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            this.types[i] = ObjectHelper.convertPrimitiveTypeToWrapperType(parameterTypes[i]);
+            this.primitives[i] = parameterTypes[i].isPrimitive();
+        }
+    }
+
+    /**
+     * Creates an invoker for the given method.
+     *
+     * @return the invoker, or <tt>null</tt> if the method cannot be invoked using a method handle
+     */
+    static MethodHandleInvoker create(Method method) {
+        Class<?> type = method.getDeclaringClass();
+        if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(type.getModifiers())
+                || Proxy.isProxyClass(type)) {
+            return null;
+        }
+        try {
+            int count = method.getParameterCount();
+            MethodHandle mh = MethodHandles.publicLookup().unreflect(method).asFixedArity();
+            if (Modifier.isStatic(method.getModifiers())) {
+                mh = mh.asType(MethodType.genericMethodType(count)).asSpreader(Object[].class, count);
+                mh = MethodHandles.dropArguments(mh, 0, Object.class);
+            } else {
+                mh = mh.asType(MethodType.genericMethodType(count + 1)).asSpreader(Object[].class, count);
+            }
+            return new MethodHandleInvoker(mh, method);
+        } catch (IllegalAccessException | RuntimeException | LinkageError e) {
+            // not accessible from the public lookup (such as classes in non exported packages) so use reflection
+            LOG.trace("Cannot create method handle for method: {} due to: {}. Reflection will be used.", method,
+                    e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Whether the bean and arguments can be passed to the method handle as-is
+     */
+    boolean accepts(Object pojo, Object[] arguments) {
+        if (!isStatic && !declaringClass.isInstance(pojo)) {
+            return false;
+        }
+        int len = arguments != null ? arguments.length : 0;
+        if (len != types.length) {
+            return false;
+        }
+        for (int i = 0; i < len; i++) {
+            Object arg = arguments[i];
+            if (arg == null ? primitives[i] : !types[i].isInstance(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Invokes the method, where any exception thrown by the method is wrapped in an
+     * {@link InvocationTargetException} the same way as reflection does.
+     */
+    Object invoke(Object pojo, Object[] arguments) throws InvocationTargetException {
+        try {
+            return (Object) handle.invokeExact(pojo, arguments);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+}
@@ -73,6 +73,7 @@ public class MethodInfo {
     private CamelContext camelContext;
     private Class<?> type;
     private Method method;
+    private MethodHandleInvoker invoker;
     private final List<ParameterInfo> parameters;
     private final List<ParameterInfo> bodyParameters;
     private final boolean hasCustomAnnotation;
@@ -121,6 +122,7 @@ public class MethodInfo {
         this.hasCustomAnnotation = hasCustomAnnotation;
         this.hasHandlerAnnotation = hasHandlerAnnotation;
         this.parametersExpression = createParametersExpression();
+        this.invoker = MethodHandleInvoker.create(method);
 
         Map<Class<?>, Annotation> collectedMethodAnnotation = collectMethodAnnotations(type, method);
 
@@ -489,6 +491,10 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        if (mth == method && invoker != null && invoker.accepts(pojo, arguments)) {
+            // fast path using a method handle
+            return invoker.invoke(pojo, arguments);
+        }
         try {
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -545,9 +551,15 @@ public class MethodInfo {
      */
     private final class ParameterExpression implements Expression {
         private final Expression[] expressions;
+        // the parameter types where primitive types are boxed so results can be used as-is without type conversion
+        private final Class<?>[] boxedTypes;
 
         ParameterExpression(Expression[] expressions) {
             this.expressions = expressions;
+            this.boxedTypes = new Class<?>[parameters.size()];
+            for (int i = 0; i < boxedTypes.length; i++) {
+                boxedTypes[i] = org.apache.camel.util.ObjectHelper.convertPrimitiveTypeToWrapperType(parameters.get(i).getType());
+            }
         }
 
         @Override
@@ -743,7 +755,7 @@ public class MethodInfo {
             Object result = expression.evaluate(exchange, Object.class);
             if (result != null) {
                 try {
-                    if (parameterType.isInstance(result)) {
+                    if (boxedTypes[index].isInstance(result)) {
                         // optimize if the value is already the same type
                         answer = result;
                     } else {
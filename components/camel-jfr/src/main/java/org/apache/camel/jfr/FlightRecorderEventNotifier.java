@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.CamelEvent.ExchangeCompletedEvent;
+import org.apache.camel.spi.CamelEvent.ExchangeCreatedEvent;
+import org.apache.camel.spi.CamelEvent.ExchangeEvent;
+import org.apache.camel.spi.CamelEvent.ExchangeFailedEvent;
+import org.apache.camel.spi.CamelEvent.ExchangeRedeliveryEvent;
+import org.apache.camel.spi.CamelEvent.ExchangeSentEvent;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.EventHelper;
+import org.apache.camel.support.EventNotifierSupport;
+import org.apache.camel.support.ExchangeHelper;
+
+/**
+ * An {@link org.apache.camel.spi.EventNotifier} which emits the exchange lifecycle events (created, completed, sent
+ * and redelivery) to Java Flight Recorder.
+ * <p/>
+ * The exchange events are only enabled while a JFR recording is running (tracked with a {@link FlightRecorderListener}),
+ * so when nothing is recording Camel does not create the exchange events, nor time the sending to endpoints, for this
+ * notifier. The type converter and stream caching statistics are emitted as periodic events (when
+ * the statistics are enabled on the {@link org.apache.camel.CamelContext}).
+ */
+public class FlightRecorderEventNotifier extends EventNotifierSupport {
+
+    private final Runnable typeConverterHook = this::emitTypeConverterStatistics;
+    private final Runnable streamCachingHook = this::emitStreamCachingStatistics;
+    private final FlightRecorderListener recordingListener = new FlightRecorderListener() {
+        @Override
+        public void recordingStateChanged(Recording recording) {
+            updateRecording();
+        }
+    };
+    private volatile boolean recording;
+
+    public FlightRecorderEventNotifier() {
+        // only exchange events are emitted
+        setIgnoreCamelContextEvents(true);
+        setIgnoreRouteEvents(true);
+        setIgnoreServiceEvents(true);
+        setIgnoreStepEvents(true);
+        // sending events must not be ignored as otherwise sent events are not emitted either
+    }
+
+    @Override
+    public boolean isIgnoreExchangeEvents() {
+        return !recording || super.isIgnoreExchangeEvents();
+    }
+
+    private void updateRecording() {
+        boolean running = FlightRecorder.isInitialized()
+                && FlightRecorder.getFlightRecorder().getRecordings().stream()
+                        .anyMatch(r -> r.getState() == RecordingState.RUNNING);
+        if (running != recording) {
+            recording = running;
+            if (getCamelContext() != null) {
+                // the camel context only emits exchange events when some notifier accepts them
+                getCamelContext().getCamelContextExtension()
+                        .setEventNotificationApplicable(EventHelper.eventsApplicable(getCamelContext()));
+            }
+        }
+    }
+
+    @Override
+    public void notify(CamelEvent event) throws Exception {
+        if (event instanceof ExchangeCreatedEvent) {
+            onExchangeCreated((ExchangeCreatedEvent) event);
+        } else if (event instanceof ExchangeCompletedEvent || event instanceof ExchangeFailedEvent) {
+            onExchangeCompleted((ExchangeEvent) event);
+        } else if (event instanceof ExchangeSentEvent) {
+            onExchangeSent((ExchangeSentEvent) event);
+        } else if (event instanceof ExchangeRedeliveryEvent) {
+            onExchangeRedelivery((ExchangeRedeliveryEvent) event);
+        }
+    }
+
+    protected void onExchangeCreated(ExchangeCreatedEvent event) {
+        FlightRecorderExchangeCreatedEvent jfr = new FlightRecorderExchangeCreatedEvent();
+        if (jfr.isEnabled()) {
+            Exchange exchange = event.getExchange();
+            jfr.exchangeId = exchange.getExchangeId();
+            jfr.routeId = exchange.getFromRouteId();
+            jfr.endpoint = exchange.getFromEndpoint() != null ? exchange.getFromEndpoint().getEndpointUri() : null;
+            jfr.commit();
+        }
+    }
+
+    protected void onExchangeCompleted(ExchangeEvent event) {
+        FlightRecorderExchangeCompletedEvent jfr = new FlightRecorderExchangeCompletedEvent();
+        if (jfr.isEnabled()) {
+            Exchange exchange = event.getExchange();
+            jfr.exchangeId = exchange.getExchangeId();
+            jfr.routeId = exchange.getFromRouteId();
+            jfr.elapsed = System.currentTimeMillis() - exchange.getCreated();
+            jfr.failed = exchange.isFailed();
+            if (exchange.getException() != null) {
+                jfr.exception = exchange.getException().getClass().getName();
+            }
+            jfr.commit();
+        }
+    }
+
+    protected void onExchangeSent(ExchangeSentEvent event) {
+        FlightRecorderExchangeSentEvent jfr = new FlightRecorderExchangeSentEvent();
+        if (jfr.isEnabled()) {
+            Exchange exchange = event.getExchange();
+            jfr.exchangeId = exchange.getExchangeId();
+            jfr.routeId = ExchangeHelper.getRouteId(exchange);
+            jfr.endpoint = event.getEndpoint().getEndpointUri();
+            jfr.timeTaken = event.getTimeTaken();
+            jfr.commit();
+        }
+    }
+
+    protected void onExchangeRedelivery(ExchangeRedeliveryEvent event) {
+        FlightRecorderExchangeRedeliveryEvent jfr = new FlightRecorderExchangeRedeliveryEvent();
+        if (jfr.isEnabled()) {
+            Exchange exchange = event.getExchange();
+            jfr.exchangeId = exchange.getExchangeId();
+            jfr.routeId = ExchangeHelper.getRouteId(exchange);
+            jfr.attempt = event.getAttempt();
+            jfr.commit();
+        }
+    }
+
+    private void emitTypeConverterStatistics() {
+        TypeConverterRegistry.Statistics stats = getCamelContext().getTypeConverterRegistry().getStatistics();
+        if (stats.isStatisticsEnabled()) {
+            FlightRecorderTypeConverterStatisticsEvent jfr = new FlightRecorderTypeConverterStatisticsEvent();
+            jfr.attemptCounter = stats.getAttemptCounter();
+            jfr.hitCounter = stats.getHitCounter();
+            jfr.missCounter = stats.getMissCounter();
+            jfr.failedCounter = stats.getFailedCounter();
+            jfr.commit();
+        }
+    }
+
+    private void emitStreamCachingStatistics() {
+        StreamCachingStrategy.Statistics stats = getCamelContext().getStreamCachingStrategy().getStatistics();
+        if (stats.isStatisticsEnabled()) {
+            FlightRecorderStreamCachingStatisticsEvent jfr = new FlightRecorderStreamCachingStatisticsEvent();
+            jfr.cacheMemoryCounter = stats.getCacheMemoryCounter();
+            jfr.cacheMemorySize = stats.getCacheMemorySize();
+            jfr.cacheSpoolCounter = stats.getCacheSpoolCounter();
+            jfr.cacheSpoolSize = stats.getCacheSpoolSize();
+            jfr.commit();
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        FlightRecorder.addPeriodicEvent(FlightRecorderTypeConverterStatisticsEvent.class, typeConverterHook);
+        FlightRecorder.addPeriodicEvent(FlightRecorderStreamCachingStatisticsEvent.class, streamCachingHook);
+        FlightRecorder.addListener(recordingListener);
+        updateRecording();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        FlightRecorder.removeListener(recordingListener);
+        FlightRecorder.removePeriodicEvent(typeConverterHook);
+        FlightRecorder.removePeriodicEvent(streamCachingHook);
+    }
+
+    @Override
+    public String toString() {
+        return "java-flight-recorder";
+    }
+}
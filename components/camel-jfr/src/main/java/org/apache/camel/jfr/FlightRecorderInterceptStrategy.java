@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Processor;
+import org.apache.camel.spi.InterceptStrategy;
+import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.processor.DelegateAsyncProcessor;
+
+/**
+ * An {@link InterceptStrategy} which emits an event to Java Flight Recorder for each processor (EIP) in the routes,
+ * with the duration of the processing (from begin to end).
+ * <p/>
+ * The event is only created when it is enabled in a running recording, so this costs (almost) nothing when no recording
+ * is in progress.
+ */
+public class FlightRecorderInterceptStrategy implements InterceptStrategy {
+
+    @Override
+    public Processor wrapProcessorInInterceptors(
+            CamelContext context, NamedNode definition, Processor target, Processor nextTarget)
+            throws Exception {
+        return new FlightRecorderProcessor(target, definition.getId(), definition.getShortName());
+    }
+
+    private static final class FlightRecorderProcessor extends DelegateAsyncProcessor {
+
+        private final String nodeId;
+        private final String shortName;
+
+        FlightRecorderProcessor(Processor processor, String nodeId, String shortName) {
+            super(processor);
+            this.nodeId = nodeId;
+            this.shortName = shortName;
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            FlightRecorderProcessorEvent event = new FlightRecorderProcessorEvent();
+            if (!event.isEnabled()) {
+                return processor.process(exchange, callback);
+            }
+
+            event.exchangeId = exchange.getExchangeId();
+            event.routeId = ExchangeHelper.getAtRouteId(exchange);
+            event.nodeId = nodeId;
+            event.processor = shortName;
+            event.begin();
+            return processor.process(exchange, doneSync -> {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.failed = exchange.isFailed();
+                    event.commit();
+                }
+                callback.done(doneSync);
+            });
+        }
+
+        @Override
+        public String toString() {
+            return "FlightRecorder[" + processor + "]";
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlightRecorderEventNotifierTest extends CamelTestSupport {
+
+    private final FlightRecorderEventNotifier notifier = new FlightRecorderEventNotifier();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getManagementStrategy().addEventNotifier(notifier);
+        context.getCamelContextExtension().addInterceptStrategy(new FlightRecorderInterceptStrategy());
+        return context;
+    }
+
+    @Test
+    public void testEvents() throws Exception {
+        // no recording so no events
+        assertTrue(notifier.isIgnoreExchangeEvents());
+        template.sendBody("direct:start", "Hello World");
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(FlightRecorderExchangeCreatedEvent.NAME);
+            recording.enable(FlightRecorderExchangeCompletedEvent.NAME);
+            recording.enable(FlightRecorderExchangeSentEvent.NAME);
+            recording.enable(FlightRecorderProcessorEvent.NAME);
+            recording.start();
+            assertFalse(notifier.isIgnoreExchangeEvents());
+            assertTrue(context.getCamelContextExtension().isEventNotificationApplicable());
+
+            getMockEndpoint("mock:result").expectedMessageCount(2);
+            template.sendBody("direct:start", "Bye World");
+            MockEndpoint.assertIsSatisfied(context);
+
+            recording.stop();
+            assertTrue(notifier.isIgnoreExchangeEvents());
+            Path file = Files.createTempFile("camel-jfr-test", ".jfr");
+            try {
+                recording.dump(file);
+                events = RecordingFile.readAllEvents(file);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        List<RecordedEvent> created = filter(events, FlightRecorderExchangeCreatedEvent.NAME);
+        assertEquals(1, created.size());
+
+        List<RecordedEvent> completed = filter(events, FlightRecorderExchangeCompletedEvent.NAME);
+        assertEquals(1, completed.size());
+        assertEquals(created.get(0).getString("exchangeId"), completed.get(0).getString("exchangeId"));
+        assertEquals(false, completed.get(0).getBoolean("failed"));
+
+        List<RecordedEvent> sent = filter(events, FlightRecorderExchangeSentEvent.NAME);
+        // sent to direct:start (by the producer template), log:foo and mock:result
+        assertEquals(3, sent.size());
+        List<String> uris = sent.stream().map(e -> e.getString("endpoint")).collect(Collectors.toList());
+        assertTrue(uris.contains("mock://result"), "Should contain mock://result: " + uris);
+
+        List<RecordedEvent> processors = filter(events, FlightRecorderProcessorEvent.NAME);
+        assertEquals(2, processors.size());
+        List<String> nodeIds = processors.stream().map(e -> e.getString("nodeId")).collect(Collectors.toList());
+        assertTrue(nodeIds.contains("myLog"), "Should contain myLog: " + nodeIds);
+        assertTrue(nodeIds.contains("myMock"), "Should contain myMock: " + nodeIds);
+        processors.forEach(e -> assertEquals("foo", e.getString("routeId")));
+    }
+
+    private static List<RecordedEvent> filter(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> name.equals(e.getEventType().getName())).collect(Collectors.toList());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("foo")
+                        .to("log:foo").id("myLog")
+                        .to("mock:result").id("myMock");
+            }
+        };
+    }
+}
@@ -20,8 +20,10 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.LongTaskTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
@@ -30,6 +32,8 @@ import org.apache.camel.Exchange;
 import org.apache.camel.NonManagedService;
 import org.apache.camel.Route;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedCamelContext;
+import org.apache.camel.api.management.mbean.ManagedRouteMBean;
 import org.apache.camel.component.micrometer.MicrometerUtils;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.RoutePolicySupport;
@@ -38,6 +42,7 @@ import org.apache.camel.util.ObjectHelper;
 
 import static org.apache.camel.component.micrometer.MicrometerConstants.DEFAULT_CAMEL_ROUTE_POLICY_METER_NAME;
 import static org.apache.camel.component.micrometer.MicrometerConstants.METRICS_REGISTRY_NAME;
+import static org.apache.camel.component.micrometer.MicrometerConstants.PERCENTILE_TAG;
 import static org.apache.camel.component.micrometer.MicrometerConstants.SERVICE_NAME;
 
 /**
@@ -78,6 +83,33 @@ public class MicrometerRoutePolicy extends RoutePolicySupport implements NonMana
             if (configuration.isAdditionalCounters()) {
                 initAdditionalCounters();
             }
+            if (configuration.isLatencyHistogram()) {
+                initLatencyGauges();
+            }
+        }
+
+        private void initLatencyGauges() {
+            createLatencyGauge("0.5", ManagedRouteMBean::getIntervalLatencyP50);
+            createLatencyGauge("0.99", ManagedRouteMBean::getIntervalLatencyP99);
+            createLatencyGauge("0.999", ManagedRouteMBean::getIntervalLatencyP999);
+        }
+
+        private void createLatencyGauge(String percentile, ToDoubleFunction<ManagedRouteMBean> function) {
+            Gauge.builder(namingStrategy.getLatencyName(route), this, s -> {
+                ManagedRouteMBean mrb = s.managedRoute();
+                return mrb != null ? function.applyAsDouble(mrb) : Double.NaN;
+            })
+                    .tags(namingStrategy.getTags(route))
+                    .tag(PERCENTILE_TAG, percentile)
+                    .baseUnit("milliseconds")
+                    .description("Route latency percentile of the last interval")
+                    .register(meterRegistry);
+        }
+
+        private ManagedRouteMBean managedRoute() {
+            ManagedCamelContext mcc
+                    = route.getCamelContext().getCamelContextExtension().getContextPlugin(ManagedCamelContext.class);
+            return mcc != null ? mcc.getManagedRoute(route.getId()) : null;
         }
 
         private void initAdditionalCounters() {
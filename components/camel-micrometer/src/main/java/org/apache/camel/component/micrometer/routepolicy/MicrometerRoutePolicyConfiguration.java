@@ -30,6 +30,7 @@ public class MicrometerRoutePolicyConfiguration {
     private boolean externalRedeliveries = true;
     private boolean failuresHandled = true;
     private boolean longTask;
+    private boolean latencyHistogram;
     private Consumer<Timer.Builder> timerInitiator;
     private Consumer<LongTaskTimer.Builder> longTaskInitiator;
 
@@ -89,6 +90,18 @@ public class MicrometerRoutePolicyConfiguration {
         this.longTask = longTask;
     }
 
+    public boolean isLatencyHistogram() {
+        return latencyHistogram;
+    }
+
+    /**
+     * Whether to report the latency percentiles (p50, p99 and p999 of the last interval) from the latency
+     * histograms of camel-management as gauges. This requires JMX with latencyHistogramEnabled=true.
+     */
+    public void setLatencyHistogram(boolean latencyHistogram) {
+        this.latencyHistogram = latencyHistogram;
+    }
+
     public Consumer<Timer.Builder> getTimerInitiator() {
         return timerInitiator;
     }
@@ -60,6 +60,10 @@ public interface MicrometerRoutePolicyNamingStrategy {
         return DEFAULT_CAMEL_ROUTE_POLICY_LONGMETER_NAME;
     }
 
+    default String getLatencyName(Route route) {
+        return DEFAULT_CAMEL_ROUTE_POLICY_LATENCY_METER_NAME;
+    }
+
     default Tags getTags(Route route) {
         return Tags.of(
                 CAMEL_CONTEXT_TAG, route.getCamelContext().getName(),
@@ -1479,4 +1479,19 @@ public interface CamelContext extends CamelContextLifecycle, RuntimeConfiguratio
      */
     StartupSummaryLevel getStartupSummaryLevel();
 
+    /**
+     * Sets the number of routes to warm up in parallel when starting routes. This can speed up starting contexts with
+     * many routes (such as from route templates and kamelets). Routes with an explicit startupOrder, and routes
+     * consuming from the same endpoint, are still warmed up one by one in the startup order. The route consumers are
+     * always started one by one in the startup order.
+     * <p/>
+     * The default value is 0 which means the routes are warmed up one by one.
+     */
+    void setRouteStartupParallelism(int routeStartupParallelism);
+
+    /**
+     * Gets the number of routes to warm up in parallel when starting routes.
+     */
+    int getRouteStartupParallelism();
+
 }
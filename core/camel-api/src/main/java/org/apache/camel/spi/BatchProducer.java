@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import java.util.List;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.Producer;
+
+/**
+ * A {@link Producer} which can send a batch of exchanges in one call, such as a batch insert into a database, or
+ * sending many records in one request.
+ * <p/>
+ * When a batch created by the batch EIP is sent to the producer, then the producer receives the whole batch in this
+ * method instead of processing the exchange holding the batch. Each exchange in the batch is completed individually,
+ * so if an exchange in the batch failed then the producer should set the exception on that exchange only, which allows
+ * the error handling and acknowledgements to work per exchange.
+ */
+public interface BatchProducer extends Producer {
+
+    /**
+     * Sends the batch of exchanges.
+     *
+     * @param  exchanges the exchanges in the batch
+     * @param  callback  the callback to invoke when all the exchanges in the batch have been sent
+     * @return           (doneSync) <tt>true</tt> to continue execute synchronously, <tt>false</tt> to continue being
+     *                   executed asynchronously
+     */
+    boolean processBatch(List<Exchange> exchanges, AsyncCallback callback);
+
+}
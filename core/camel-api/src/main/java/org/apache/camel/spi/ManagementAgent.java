@@ -277,6 +277,23 @@ public interface ManagementAgent extends Service {
      */
     Boolean getEndpointRuntimeStatisticsEnabled();
 
+    /**
+     * Sets whether latency histograms is enabled (records the processing time of each route and processor in a
+     * histogram, to provide percentiles such as p99 and p999).
+     * <p/>
+     * The default value is <tt>false</tt>
+     *
+     * @param flag <tt>true</tt> to enable latency histograms
+     */
+    void setLatencyHistogramEnabled(Boolean flag);
+
+    /**
+     * Gets whether latency histograms is enabled
+     *
+     * @return <tt>true</tt> if enabled
+     */
+    Boolean getLatencyHistogramEnabled();
+
     /**
      * Sets the statistics level
      * <p/>
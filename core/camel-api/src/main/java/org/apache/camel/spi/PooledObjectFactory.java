@@ -49,6 +49,11 @@ public interface PooledObjectFactory<T> extends Service, CamelContextAware {
          */
         long getDiscardedCounter();
 
+        /**
+         * Number of exchanges leaked (garbage collected while in use without being released back to pool).
+         */
+        long getLeakedCounter();
+
         /**
          * Reset the counters
          */
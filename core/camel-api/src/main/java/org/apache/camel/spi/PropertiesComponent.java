@@ -296,4 +296,35 @@ public interface PropertiesComponent extends StaticService {
      */
     void addPropertiesLookupListener(PropertiesLookupListener propertiesLookupListener);
 
+    /**
+     * Whether to cache the resolved property placeholders.
+     */
+    void setCacheEnabled(boolean cacheEnabled);
+
+    /**
+     * Whether resolved property placeholders are cached.
+     */
+    boolean isCacheEnabled();
+
+    /**
+     * Clears the cache of resolved property placeholders, such as when JVM system properties or OS environment
+     * variables have been changed at runtime.
+     */
+    void clearCache();
+
+    /**
+     * Number of property placeholders resolved from the cache.
+     */
+    long getCacheHits();
+
+    /**
+     * Number of property placeholders that were not in the cache.
+     */
+    long getCacheMisses();
+
+    /**
+     * Version of the cache, which is incremented every time the cache is cleared.
+     */
+    long getCacheVersion();
+
 }
@@ -46,4 +46,14 @@ public interface PropertiesFunction {
         return false;
     }
 
+    /**
+     * Whether the result of this function can be cached (when the properties component has cache enabled). Functions
+     * which lookup values from external systems (such as vaults) that may change at runtime should not be cached.
+     *
+     * @return true if the result of this function can be cached, false to not cache (default).
+     */
+    default boolean isCacheable() {
+        return false;
+    }
+
 }
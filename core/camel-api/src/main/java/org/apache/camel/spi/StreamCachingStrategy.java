@@ -63,6 +63,27 @@ public interface StreamCachingStrategy extends StaticService {
          */
         long getCacheSpoolAverageSize();
 
+        /**
+         * Gets the counter for number of buffers acquired from the buffer pool (when buffer pool is enabled).
+         */
+        long getBufferPoolAcquiredCounter();
+
+        /**
+         * Gets the counter for number of buffers created because the buffer pool was empty (when buffer pool is
+         * enabled).
+         */
+        long getBufferPoolCreatedCounter();
+
+        /**
+         * Gets the counter for number of buffers released back to the buffer pool (when buffer pool is enabled).
+         */
+        long getBufferPoolReleasedCounter();
+
+        /**
+         * Gets the number of buffers currently available in the buffer pool (when buffer pool is enabled).
+         */
+        int getBufferPoolAvailable();
+
         /**
          * Reset the counters
          */
@@ -178,6 +199,39 @@ public interface StreamCachingStrategy extends StaticService {
 
     int getBufferSize();
 
+    /**
+     * Sets whether to use a pool of reusable buffers (of the buffer size) for in-memory stream caches. The buffers are
+     * chained together, so the stream cache does not need to copy the data when growing, and are released back to the
+     * pool when the exchange is done. Spooled stream caches are read back using memory mapped files (unless a spool
+     * cipher is in use).
+     * <p/>
+     * Notice that when using the buffer pool then in-memory stream caches can no longer be read after the exchange is
+     * done (just like spooled stream caches, which temporary files are deleted).
+     * <p/>
+     * This option is default <tt>false</tt>
+     */
+    void setBufferPoolEnabled(boolean bufferPoolEnabled);
+
+    boolean isBufferPoolEnabled();
+
+    /**
+     * Sets the maximum number of buffers to keep in the buffer pool.
+     * <p/>
+     * The default size is 1024.
+     */
+    void setBufferPoolMaxSize(int bufferPoolMaxSize);
+
+    int getBufferPoolMaxSize();
+
+    /**
+     * Whether the buffer pool should use direct (off heap) buffers instead of heap buffers.
+     * <p/>
+     * This option is default <tt>false</tt>
+     */
+    void setBufferPoolDirect(boolean bufferPoolDirect);
+
+    boolean isBufferPoolDirect();
+
     /**
      * Sets a cipher name to use when spooling to disk to write with encryption.
      * <p/>
@@ -157,6 +157,14 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
      */
     int size();
 
+    /**
+     * Number of entries in the resolution cache, which remembers the pairs of types that have no type converter (and
+     * therefore are converted using the fallback type converters).
+     *
+     * @return number of entries in the resolution cache
+     */
+    int getResolutionCacheSize();
+
     /**
      * The logging level to use when logging that a type converter already exists when attempting to add a duplicate
      * type converter.
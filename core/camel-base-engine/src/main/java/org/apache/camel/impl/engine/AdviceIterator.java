@@ -42,4 +42,18 @@ final class AdviceIterator {
             }
         }
     }
+
+    static void runAfterTasks(
+            CamelInternalProcessorAdvice[] advices, int[] stateIndexes, Object[] states, Exchange exchange) {
+        for (int i = advices.length - 1; i >= 0; i--) {
+            int index = stateIndexes[i];
+            Object state = index >= 0 ? states[index] : null;
+            try {
+                advices[i].after(exchange, state);
+            } catch (Throwable e) {
+                exchange.setException(e);
+                // allow all advices to complete even if there was an exception
+            }
+        }
+    }
 }
@@ -193,7 +193,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         ThreadPoolProfile defaultProfile = getDefaultThreadPoolProfile();
         profile.addDefaults(defaultProfile);
 
-        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true);
+        boolean virtual = Boolean.TRUE.equals(profile.getVirtualThreads());
+        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true, virtual);
         ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
         onThreadPoolCreated(executorService, source, profile.getId());
         if (LOG.isDebugEnabled()) {
@@ -219,7 +220,10 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     @Override
     public ExecutorService newCachedThreadPool(Object source, String name) {
         String sanitizedName = URISupport.sanitizeUri(name);
-        ExecutorService answer = threadPoolFactory.newCachedThreadPool(createThreadFactory(sanitizedName, true));
+        // cached thread pools use virtual threads if enabled on the default profile
+        boolean virtual = Boolean.TRUE.equals(getDefaultThreadPoolProfile().getVirtualThreads());
+        ExecutorService answer
+                = threadPoolFactory.newCachedThreadPool(createThreadFactory(sanitizedName, true, virtual));
         onThreadPoolCreated(answer, source, null);
 
         if (LOG.isDebugEnabled()) {
@@ -235,6 +239,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         profile.setMaxPoolSize(poolSize);
         profile.setKeepAliveTime(0L);
         profile.setAllowCoreThreadTimeOut(false);
+        // fixed (and single) thread pools are bounded by the pool size, so they never use virtual threads
+        profile.setVirtualThreads(false);
         return newThreadPool(source, name, profile);
     }
 
@@ -583,7 +589,11 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
     }
 
     protected ThreadFactory createThreadFactory(String name, boolean isDaemon) {
-        return new CamelThreadFactory(threadNamePattern, name, isDaemon);
+        return createThreadFactory(name, isDaemon, false);
+    }
+
+    protected ThreadFactory createThreadFactory(String name, boolean isDaemon, boolean isVirtual) {
+        return new CamelThreadFactory(threadNamePattern, name, isDaemon, isVirtual);
     }
 
 }
@@ -104,12 +104,18 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
     private static final Logger LOG = LoggerFactory.getLogger(CamelInternalProcessor.class);
 
     private static final Object[] EMPTY_STATES = new Object[0];
+    private static final CamelInternalProcessorAdvice<?>[] EMPTY_ADVICES = new CamelInternalProcessorAdvice<?>[0];
+    private static final int[] EMPTY_STATE_INDEXES = new int[0];
 
     final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
     private final ShutdownStrategy shutdownStrategy;
     private final List<CamelInternalProcessorAdvice<?>> advices = new ArrayList<>();
     private byte statefulAdvices;
+    // the advices in the order they are executed, with the index in the states array for each advice (or -1 if the
+    // advice has no state), which is computed when advices are added, so routing does not need to do this
+    private CamelInternalProcessorAdvice<?>[] adviceChain = EMPTY_ADVICES;
+    private int[] adviceStateIndexes = EMPTY_STATE_INDEXES;
     private Object[] emptyStatefulStates;
     private PooledObjectFactory<CamelInternalTask> taskFactory;
 
@@ -167,6 +173,17 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         if (advice.hasState()) {
             statefulAdvices++;
         }
+        buildAdviceChain();
+    }
+
+    private void buildAdviceChain() {
+        CamelInternalProcessorAdvice<?>[] chain = advices.toArray(EMPTY_ADVICES);
+        int[] indexes = new int[chain.length];
+        for (int i = 0, j = 0; i < chain.length; i++) {
+            indexes[i] = chain[i].hasState() ? j++ : -1;
+        }
+        adviceStateIndexes = indexes;
+        adviceChain = chain;
     }
 
     @Override
@@ -247,7 +264,7 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         @Override
         public void done(boolean doneSync) {
             try {
-                AdviceIterator.runAfterTasks(advices, states, exchange);
+                AdviceIterator.runAfterTasks(adviceChain, adviceStateIndexes, states, exchange);
             } finally {
                 // ----------------------------------------------------------
                 // CAMEL END USER - DEBUG ME HERE +++ START +++
@@ -302,6 +319,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
             return true;
         }
 
+        if (adviceChain.length == 0 && !exchange.isTransacted()) {
+            // optimise as there are no advices so we can pass through to the processor
+            return processWithoutAdvices(exchange, originalCallback);
+        }
+
         Object[] states;
 
         // create internal callback which will execute the advices in reverse order when done
@@ -315,13 +337,15 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         afterTask.prepare(exchange, originalCallback);
 
         // optimise to use object array for states, and only for the number of advices that keep state
-        // optimise for loop using index access to avoid creating iterator object
-        for (int i = 0, j = 0; i < advices.size(); i++) {
-            CamelInternalProcessorAdvice<?> task = advices.get(i);
+        // (the advices and their index in the states array are computed up front when the advices are added)
+        final CamelInternalProcessorAdvice<?>[] chain = adviceChain;
+        final int[] indexes = adviceStateIndexes;
+        for (int i = 0; i < chain.length; i++) {
             try {
-                Object state = task.before(exchange);
-                if (task.hasState()) {
-                    states[j++] = state;
+                Object state = chain[i].before(exchange);
+                int index = indexes[i];
+                if (index >= 0) {
+                    states[index] = state;
                 }
             } catch (Throwable e) {
                 // error in before so break out
@@ -396,6 +420,31 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor implements In
         }
     }
 
+    /**
+     * Processes the exchange when there are no advices, which only needs to continue routing in the reactive executor
+     * when the processor is done.
+     */
+    private boolean processWithoutAdvices(Exchange exchange, AsyncCallback originalCallback) {
+        final UnitOfWork uow = exchange.getUnitOfWork();
+
+        AsyncCallback async = doneSync -> reactiveExecutor.schedule(originalCallback);
+        if (uow != null && uow.isBeforeAfterProcess()) {
+            async = uow.beforeProcess(processor, exchange, async);
+        }
+
+        // ----------------------------------------------------------
+        // CAMEL END USER - DEBUG ME HERE +++ START +++
+        // ----------------------------------------------------------
+        boolean sync = processor.process(exchange, async);
+        if (!sync) {
+            EventHelper.notifyExchangeAsyncProcessingStartedEvent(camelContext, exchange);
+        }
+        // ----------------------------------------------------------
+        // CAMEL END USER - DEBUG ME HERE +++ END +++
+        // ----------------------------------------------------------
+        return sync;
+    }
+
     @Override
     public String toString() {
         return processor != null ? processor.toString() : super.toString();
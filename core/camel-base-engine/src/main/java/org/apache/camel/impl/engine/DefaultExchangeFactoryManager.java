@@ -163,6 +163,17 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
             return answer;
         }
 
+        @Override
+        public long getLeakedCounter() {
+            long answer = 0;
+            if (statisticsEnabled) {
+                for (ExchangeFactory ef : factories.values()) {
+                    answer += ef.getStatistics().getLeakedCounter();
+                }
+            }
+            return answer;
+        }
+
     }
 
     @Override
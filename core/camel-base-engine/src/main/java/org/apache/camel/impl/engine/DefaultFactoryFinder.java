@@ -19,6 +19,7 @@ package org.apache.camel.impl.engine;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
@@ -36,15 +37,33 @@ import org.apache.camel.util.IOHelper;
  */
 public class DefaultFactoryFinder implements FactoryFinder {
 
+    /**
+     * Classpath location of the merged index of all the factories (created by the camel-maven-plugin), which maps the
+     * path of the factories (relative to {@link FactoryFinder#DEFAULT_PATH}) to the factory class name.
+     */
+    public static final String SERVICE_INDEX = FactoryFinder.DEFAULT_PATH + "UberServiceIndex";
+
     protected ConcurrentMap<String, Class<?>> classMap = new ConcurrentHashMap<>();
     protected ConcurrentMap<String, Boolean> classesNotFound = new ConcurrentHashMap<>();
     protected ConcurrentMap<String, Exception> classesNotFoundExceptions = new ConcurrentHashMap<>();
     protected ClassResolver classResolver;
     private final String path;
+    private final Map<String, String> serviceIndex;
 
     public DefaultFactoryFinder(ClassResolver classResolver, String resourcePath) {
+        this(classResolver, resourcePath, null);
+    }
+
+    /**
+     * @param classResolver the class resolver
+     * @param resourcePath  the resource path
+     * @param serviceIndex  the merged index of the factories (the key is the full path of the factory and the value is
+     *                      the factory class name), or <tt>null</tt> to always look up the factories on the classpath
+     */
+    public DefaultFactoryFinder(ClassResolver classResolver, String resourcePath, Map<String, String> serviceIndex) {
         this.classResolver = classResolver;
         this.path = resourcePath;
+        this.serviceIndex = serviceIndex;
     }
 
     @Override
@@ -111,6 +130,16 @@ public class DefaultFactoryFinder implements FactoryFinder {
     private Properties doFindFactoryProperties(String key) throws IOException {
         String uri = path + key;
 
+        if (serviceIndex != null) {
+            // a single lookup instead of loading the factory from the classpath
+            String className = serviceIndex.get(uri);
+            if (className != null) {
+                Properties properties = new Properties();
+                properties.setProperty("class", className);
+                return properties;
+            }
+        }
+
         InputStream in = classResolver.loadResourceAsStream(uri);
         if (in == null) {
             return null;
@@ -16,22 +16,73 @@
  */
 package org.apache.camel.impl.engine;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.apache.camel.spi.ClassResolver;
 import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.FactoryFinderResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Default factory finder.
+ * <p/>
+ * If the merged index of all the factories ({@link DefaultFactoryFinder#SERVICE_INDEX}) is present on the classpath,
+ * then the factory finders use the index, instead of looking up the factories on the classpath one at a time.
  */
 public class DefaultFactoryFinderResolver implements FactoryFinderResolver {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultFactoryFinderResolver.class);
+
+    private final Map<ClassResolver, Map<String, String>> serviceIndexes = new ConcurrentHashMap<>();
+
     @Override
     public FactoryFinder resolveFactoryFinder(ClassResolver classResolver, String resourcePath) {
-        return new DefaultFactoryFinder(classResolver, resourcePath);
+        return new DefaultFactoryFinder(classResolver, resourcePath, getServiceIndex(classResolver));
     }
 
     @Override
     public FactoryFinder resolveBootstrapFactoryFinder(ClassResolver classResolver, String resourcePath) {
-        return new BootstrapFactoryFinder(classResolver, resourcePath);
+        return new BootstrapFactoryFinder(classResolver, resourcePath, getServiceIndex(classResolver));
+    }
+
+    /**
+     * Gets the merged index of all the factories
+     *
+     * @param  classResolver the class resolver to load the index
+     * @return               the index, or <tt>null</tt> if there is no index
+     */
+    protected Map<String, String> getServiceIndex(ClassResolver classResolver) {
+        if (classResolver == null) {
+            return null;
+        }
+        Map<String, String> answer = serviceIndexes.computeIfAbsent(classResolver, this::loadServiceIndex);
+        return answer.isEmpty() ? null : answer;
+    }
+
+    private Map<String, String> loadServiceIndex(ClassResolver classResolver) {
+        Properties properties = new Properties();
+        try (InputStream is = classResolver.loadResourceAsStream(DefaultFactoryFinder.SERVICE_INDEX)) {
+            if (is == null) {
+                return Collections.emptyMap();
+            }
+            properties.load(is);
+        } catch (IOException e) {
+            LOG.warn("Error loading {}. The index is not used.", DefaultFactoryFinder.SERVICE_INDEX, e);
+            return Collections.emptyMap();
+        }
+
+        Map<String, String> answer = new HashMap<>(properties.size() * 2);
+        for (String key : properties.stringPropertyNames()) {
+            answer.put(FactoryFinder.DEFAULT_PATH + key, properties.getProperty(key));
+        }
+        LOG.debug("Loaded {} with {} factories", DefaultFactoryFinder.SERVICE_INDEX, answer.size());
+        return answer;
     }
 }
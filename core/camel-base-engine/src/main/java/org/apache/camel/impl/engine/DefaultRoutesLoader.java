@@ -16,14 +16,18 @@
  */
 package org.apache.camel.impl.engine;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
@@ -38,10 +42,13 @@ import org.apache.camel.spi.RoutesBuilderLoader;
 import org.apache.camel.spi.RoutesLoader;
 import org.apache.camel.support.PluginHelper;
 import org.apache.camel.support.ResolverHelper;
+import org.apache.camel.support.ResourceSupport;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Default {@link RoutesLoader}.
@@ -53,7 +60,27 @@ public class DefaultRoutesLoader extends ServiceSupport implements RoutesLoader,
      */
     public static final String ROUTES_LOADER_KEY_PREFIX = "routes-builder-loader-";
 
+    /**
+     * Classpath location of the index of the build-time snapshots of routes (created by the camel-maven-plugin), which
+     * maps the classpath location of the routes to the checksum (CRC32) of the routes the snapshot was created from.
+     */
+    public static final String ROUTES_SNAPSHOT_INDEX = "META-INF/camel/routes-snapshot.properties";
+
+    /**
+     * Classpath directory of the build-time snapshots of routes.
+     */
+    public static final String ROUTES_SNAPSHOT_DIRECTORY = "META-INF/camel/routes-snapshot/";
+
+    /**
+     * File extension of the build-time snapshots of routes, which is also the extension of the {@link RoutesBuilderLoader}
+     * which loads the snapshots.
+     */
+    public static final String ROUTES_SNAPSHOT_EXTENSION = "snapshot";
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultRoutesLoader.class);
+
     private final Map<String, RoutesBuilderLoader> loaders;
+    private volatile Properties snapshots;
 
     private CamelContext camelContext;
 
@@ -110,7 +137,18 @@ public class DefaultRoutesLoader extends ServiceSupport implements RoutesLoader,
         // now group resources by loader
         Map<RoutesBuilderLoader, List<Resource>> groups = new LinkedHashMap<>();
         for (Resource resource : resources) {
-            RoutesBuilderLoader loader = resolveRoutesBuilderLoader(resource, optional);
+            // use the build-time snapshot of the routes if possible
+            RoutesBuilderLoader loader = null;
+            Resource snapshot = resolveSnapshot(resource);
+            if (snapshot != null) {
+                loader = getRoutesLoader(ROUTES_SNAPSHOT_EXTENSION);
+                if (loader != null) {
+                    resource = snapshot;
+                }
+            }
+            if (loader == null) {
+                loader = resolveRoutesBuilderLoader(resource, optional);
+            }
             if (loader != null) {
                 List<Resource> list = groups.getOrDefault(loader, new ArrayList<>());
                 list.add(resource);
@@ -211,6 +249,76 @@ public class DefaultRoutesLoader extends ServiceSupport implements RoutesLoader,
         return answer;
     }
 
+    /**
+     * Resolves the build-time snapshot of the routes in the given resource. The snapshot is only used for classpath
+     * resources, which have not been changed since the snapshot was created.
+     *
+     * @param  resource the resource with the routes
+     * @return          the snapshot (with the same location as the resource), or <tt>null</tt> if no snapshot exists
+     */
+    protected Resource resolveSnapshot(Resource resource) {
+        if (!DefaultResourceResolvers.ClasspathResolver.SCHEME.equals(resource.getScheme())) {
+            return null;
+        }
+        Properties index = snapshots;
+        if (index == null) {
+            index = new Properties();
+            try (InputStream is = camelContext.getClassResolver().loadResourceAsStream(ROUTES_SNAPSHOT_INDEX)) {
+                if (is != null) {
+                    index.load(is);
+                }
+            } catch (IOException e) {
+                LOG.warn("Error loading routes snapshot index: {}. Snapshots are not used.", ROUTES_SNAPSHOT_INDEX, e);
+            }
+            snapshots = index;
+        }
+        if (index.isEmpty()) {
+            return null;
+        }
+
+        String path = resource.getLocation();
+        if (path.startsWith(DefaultResourceResolvers.ClasspathResolver.SCHEME + ":")) {
+            path = path.substring(DefaultResourceResolvers.ClasspathResolver.SCHEME.length() + 1);
+        }
+        path = FileUtil.compactPath(FileUtil.stripLeadingSeparator(path), '/');
+        String checksum = index.getProperty(path);
+        if (checksum == null) {
+            return null;
+        }
+
+        try (InputStream is = resource.getInputStream()) {
+            if (is == null) {
+                return null;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(is.readAllBytes());
+            if (!checksum.equals(Long.toHexString(crc.getValue()))) {
+                LOG.debug("Routes snapshot of {} is outdated and is not used", resource.getLocation());
+                return null;
+            }
+        } catch (IOException e) {
+            LOG.debug("Error computing checksum of {}. Routes snapshot is not used.", resource.getLocation(), e);
+            return null;
+        }
+
+        final String snapshotPath = ROUTES_SNAPSHOT_DIRECTORY + path + "." + ROUTES_SNAPSHOT_EXTENSION;
+        if (camelContext.getClassResolver().loadResourceAsURL(snapshotPath) == null) {
+            return null;
+        }
+        LOG.debug("Using routes snapshot {} for {}", snapshotPath, resource.getLocation());
+        return new ResourceSupport(resource.getScheme(), resource.getLocation()) {
+            @Override
+            public boolean exists() {
+                return true;
+            }
+
+            @Override
+            public InputStream getInputStream() throws IOException {
+                return camelContext.getClassResolver().loadResourceAsStream(snapshotPath);
+            }
+        };
+    }
+
     protected RoutesBuilderLoader resolveRoutesBuilderLoader(Resource resource, boolean optional) throws Exception {
         // the loader to use is derived from the file extension
         final String extension = FileUtil.onlyExt(resource.getLocation(), false);
@@ -27,6 +27,7 @@ import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.StreamCacheBufferPool;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.FilePathResolver;
@@ -52,6 +53,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private SpoolUsedHeapMemoryLimit spoolUsedHeapMemoryLimit;
     private String spoolCipher;
     private int bufferSize = IOHelper.DEFAULT_BUFFER_SIZE;
+    private boolean bufferPoolEnabled;
+    private int bufferPoolMaxSize = 1024;
+    private boolean bufferPoolDirect;
+    private StreamCacheBufferPool bufferPool;
     private boolean removeSpoolDirectoryWhenStopping = true;
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
@@ -152,6 +157,36 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.bufferSize = bufferSize;
     }
 
+    @Override
+    public boolean isBufferPoolEnabled() {
+        return bufferPoolEnabled;
+    }
+
+    @Override
+    public void setBufferPoolEnabled(boolean bufferPoolEnabled) {
+        this.bufferPoolEnabled = bufferPoolEnabled;
+    }
+
+    @Override
+    public int getBufferPoolMaxSize() {
+        return bufferPoolMaxSize;
+    }
+
+    @Override
+    public void setBufferPoolMaxSize(int bufferPoolMaxSize) {
+        this.bufferPoolMaxSize = bufferPoolMaxSize;
+    }
+
+    @Override
+    public boolean isBufferPoolDirect() {
+        return bufferPoolDirect;
+    }
+
+    @Override
+    public void setBufferPoolDirect(boolean bufferPoolDirect) {
+        this.bufferPoolDirect = bufferPoolDirect;
+    }
+
     @Override
     public boolean isRemoveSpoolDirectoryWhenStopping() {
         return removeSpoolDirectoryWhenStopping;
@@ -337,6 +372,15 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
         }
 
+        if (bufferPoolEnabled) {
+            if (bufferPool == null) {
+                bufferPool = new StreamCacheBufferPool(bufferSize, bufferPoolMaxSize, bufferPoolDirect);
+                camelContext.getCamelContextExtension().addContextPlugin(StreamCacheBufferPool.class, bufferPool);
+            }
+            statistics.bufferPool = bufferPool;
+            LOG.debug("Using stream cache buffer pool: {}", bufferPool);
+        }
+
         LOG.debug("StreamCaching configuration {}", this);
 
         if (spoolDirectory != null) {
@@ -361,6 +405,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+        if (bufferPool != null) {
+            bufferPool.clear();
+        }
     }
 
     private boolean isSpoolRemovable() {
@@ -376,6 +423,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
                + ", bufferSize=" + bufferSize
+               + ", bufferPoolEnabled=" + bufferPoolEnabled
                + ", anySpoolRules=" + anySpoolRules + "]";
     }
 
@@ -454,6 +502,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         private volatile long spoolCounter;
         private volatile long spoolSize;
         private volatile long spoolAverageSize;
+        private volatile StreamCacheBufferPool bufferPool;
 
         synchronized void updateMemory(long size) {
             memoryCounter++;
@@ -497,6 +546,30 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             return spoolAverageSize;
         }
 
+        @Override
+        public long getBufferPoolAcquiredCounter() {
+            StreamCacheBufferPool pool = bufferPool;
+            return pool != null ? pool.getAcquiredCounter() : 0;
+        }
+
+        @Override
+        public long getBufferPoolCreatedCounter() {
+            StreamCacheBufferPool pool = bufferPool;
+            return pool != null ? pool.getCreatedCounter() : 0;
+        }
+
+        @Override
+        public long getBufferPoolReleasedCounter() {
+            StreamCacheBufferPool pool = bufferPool;
+            return pool != null ? pool.getReleasedCounter() : 0;
+        }
+
+        @Override
+        public int getBufferPoolAvailable() {
+            StreamCacheBufferPool pool = bufferPool;
+            return pool != null ? pool.getAvailable() : 0;
+        }
+
         @Override
         public synchronized void reset() {
             memoryCounter = 0;
@@ -505,6 +578,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             spoolCounter = 0;
             spoolSize = 0;
             spoolAverageSize = 0;
+            StreamCacheBufferPool pool = bufferPool;
+            if (pool != null) {
+                pool.resetStatistics();
+            }
         }
 
         @Override
@@ -520,8 +597,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         @Override
         public String toString() {
             return String.format(
-                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s]",
-                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize);
+                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s, bufferPoolAcquiredCounter=%s, bufferPoolCreatedCounter=%s, bufferPoolAvailable=%s]",
+                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize,
+                    getBufferPoolAcquiredCounter(), getBufferPoolCreatedCounter(), getBufferPoolAvailable());
         }
     }
 
@@ -23,6 +23,10 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.camel.Consumer;
 import org.apache.camel.Endpoint;
@@ -30,6 +34,7 @@ import org.apache.camel.FailedToStartRouteException;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.MultipleConsumersSupport;
 import org.apache.camel.Route;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.ServiceStatus;
 import org.apache.camel.StartupListener;
 import org.apache.camel.StartupStep;
@@ -284,6 +289,17 @@ class InternalRouteStartupManager {
     }
 
     void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup) throws FailedToStartRouteException {
+        int parallelism = abstractCamelContext.getRouteStartupParallelism();
+        if (parallelism > 1 && inputs.size() > 1) {
+            if (abstractCamelContext.getStartupStepRecorder().isEnabled()) {
+                // the startup recorder records the steps as a tree, so it cannot be used from multiple threads
+                LOG.debug("Warming up routes one by one as startup step recorder is enabled");
+            } else {
+                doWarmUpRoutesParallel(inputs, autoStartup, parallelism);
+                return;
+            }
+        }
+
         // now prepare the routes by starting its services before we start the
         // input
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
@@ -299,18 +315,140 @@ class InternalRouteStartupManager {
             StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, routeService.getId(),
                     "Warump Route");
             try {
-                LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
-                setupRoute.set(routeService.getRoute());
-                // ensure we setup before warmup
-                routeService.setUp();
-                routeService.warmUp();
+                doWarmUpRoute(routeService, autoStartup);
             } finally {
-                setupRoute.remove();
                 abstractCamelContext.getStartupStepRecorder().endStep(step);
             }
         }
     }
 
+    private void doWarmUpRouteServices(RouteService routeService, boolean autoStartup) throws FailedToStartRouteException {
+        try {
+            LOG.debug("Warming up services of route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+            setupRoute.set(routeService.getRoute());
+            // ensure we setup before warmup
+            routeService.setUp();
+            routeService.warmUpServices();
+        } finally {
+            setupRoute.remove();
+        }
+    }
+
+    private void doWarmUpRoute(RouteService routeService, boolean autoStartup) throws FailedToStartRouteException {
+        try {
+            LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+            setupRoute.set(routeService.getRoute());
+            // ensure we setup before warmup
+            routeService.setUp();
+            routeService.warmUp();
+        } finally {
+            setupRoute.remove();
+        }
+    }
+
+    /**
+     * Warms up the routes in parallel. The routes are divided into groups which are warmed up one by one (in the
+     * startup order) while the groups are warmed up in parallel. Routes consuming from the same endpoint are in the
+     * same group. A route with an explicit startupOrder is a barrier, which is warmed up alone after all the routes
+     * before it.
+     * <p/>
+     * Only the services of the routes (endpoint, processors, producers etc.) are started in parallel. Adding the routes
+     * to the CamelContext (lifecycle strategies such as JMX, and the inflight repository) is done afterwards one by one
+     * in the startup order.
+     */
+    private void doWarmUpRoutesParallel(
+            Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup, int parallelism)
+            throws FailedToStartRouteException {
+        LOG.debug("Warming up {} routes using parallelism: {}", inputs.size(), parallelism);
+
+        ExecutorService executor = abstractCamelContext.getExecutorServiceManager()
+                .newFixedThreadPool(this, "RouteStartup", Math.min(parallelism, inputs.size()));
+        try {
+            List<RouteService> routeServices = new ArrayList<>();
+            Map<String, List<RouteService>> groups = new LinkedHashMap<>();
+            for (DefaultRouteStartupOrder order : inputs.values()) {
+                RouteService routeService = order.getRouteService();
+                if (order.getRoute().getStartupOrder() != null) {
+                    // explicit startup order so warm up the routes before, and then this route alone
+                    doWarmUpRouteGroups(executor, routeServices, groups.values(), autoStartup);
+                    routeServices.clear();
+                    groups.clear();
+                    doWarmUpRoute(routeService, autoStartup);
+                } else {
+                    Endpoint endpoint = order.getRoute().getEndpoint();
+                    String key = endpoint != null ? endpoint.getEndpointUri() : routeService.getId();
+                    groups.computeIfAbsent(key, k -> new ArrayList<>()).add(routeService);
+                    routeServices.add(routeService);
+                }
+            }
+            doWarmUpRouteGroups(executor, routeServices, groups.values(), autoStartup);
+        } finally {
+            abstractCamelContext.getExecutorServiceManager().shutdownNow(executor);
+        }
+    }
+
+    private void doWarmUpRouteGroups(
+            ExecutorService executor, List<RouteService> routeServices, Collection<List<RouteService>> groups,
+            boolean autoStartup)
+            throws FailedToStartRouteException {
+        if (groups.isEmpty()) {
+            return;
+        }
+
+        // warm up the services of the routes in parallel (a group stops on the first failure)
+        Map<RouteService, Throwable> failures = new ConcurrentHashMap<>();
+        List<Future<?>> futures = new ArrayList<>(groups.size());
+        for (List<RouteService> group : groups) {
+            futures.add(executor.submit(() -> {
+                abstractCamelContext.setStartingRoutes(true);
+                try {
+                    for (RouteService routeService : group) {
+                        try {
+                            doWarmUpRouteServices(routeService, autoStartup);
+                        } catch (Exception | Error e) {
+                            failures.put(routeService, e);
+                            break;
+                        }
+                    }
+                } finally {
+                    abstractCamelContext.setStartingRoutes(false);
+                }
+            }));
+        }
+
+        // wait for all the groups to complete
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw RuntimeCamelException.wrapRuntimeException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeCamelException("Interrupted while warming up routes", e);
+            }
+        }
+
+        // add the routes one by one in the startup order, and use the failure from the first route (in startup order)
+        // so the outcome is the same as when warming up one by one
+        Throwable failure = null;
+        for (RouteService routeService : routeServices) {
+            failure = failures.get(routeService);
+            if (failure != null) {
+                break;
+            }
+            doWarmUpRoute(routeService, autoStartup);
+        }
+        if (failure instanceof FailedToStartRouteException) {
+            throw (FailedToStartRouteException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw RuntimeCamelException.wrapRuntimeException(failure);
+        }
+    }
+
     void doResumeRouteConsumers(Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes) throws Exception {
         doStartOrResumeRouteConsumers(inputs, true, addingRoutes);
     }
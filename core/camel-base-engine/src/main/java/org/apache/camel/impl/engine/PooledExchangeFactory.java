@@ -22,6 +22,8 @@ import org.apache.camel.Exchange;
 import org.apache.camel.PooledExchange;
 import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.support.DefaultPooledExchange;
+import org.apache.camel.support.PooledObjectFactorySupport;
+import org.apache.camel.util.URISupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,6 +82,7 @@ public final class PooledExchangeFactory extends PrototypeExchangeFactory {
         // reset exchange for reuse
         PooledExchange ee = (PooledExchange) exchange;
         ee.reset(System.currentTimeMillis());
+        onAcquired(exchange);
 
         return exchange;
     }
@@ -102,6 +105,7 @@ public final class PooledExchangeFactory extends PrototypeExchangeFactory {
         // reset exchange for reuse
         PooledExchange ee = (PooledExchange) exchange;
         ee.reset(System.currentTimeMillis());
+        onAcquired(exchange);
 
         return exchange;
     }
@@ -109,6 +113,7 @@ public final class PooledExchangeFactory extends PrototypeExchangeFactory {
     @Override
     public boolean release(Exchange exchange) {
         try {
+            onReleased(exchange);
             // done exchange before returning to pool
             PooledExchange ee = (PooledExchange) exchange;
             ee.done();
@@ -141,6 +146,9 @@ public final class PooledExchangeFactory extends PrototypeExchangeFactory {
             answer = new DefaultPooledExchange(camelContext);
         }
         answer.setAutoRelease(autoRelease);
+        if (statisticsEnabled && answer instanceof DefaultPooledExchange) {
+            ((DefaultPooledExchange) answer).setLeakTracker(createLeakTracker(answer));
+        }
         if (autoRelease) {
             // the consumer will either always be in auto release mode or not, so its safe to initialize the task only once when the exchange is created
             answer.onDone(onDone);
@@ -148,6 +156,31 @@ public final class PooledExchangeFactory extends PrototypeExchangeFactory {
         return answer;
     }
 
+    static void onAcquired(Exchange exchange) {
+        if (exchange instanceof DefaultPooledExchange) {
+            PooledObjectFactorySupport.LeakTracker tracker = ((DefaultPooledExchange) exchange).getLeakTracker();
+            if (tracker != null) {
+                tracker.acquired();
+            }
+        }
+    }
+
+    static void onReleased(Exchange exchange) {
+        if (exchange instanceof DefaultPooledExchange) {
+            PooledObjectFactorySupport.LeakTracker tracker = ((DefaultPooledExchange) exchange).getLeakTracker();
+            if (tracker != null) {
+                tracker.released();
+            }
+        }
+    }
+
+    @Override
+    protected void onLeaked() {
+        super.onLeaked();
+        String uri = consumer != null ? URISupport.sanitizeUri(consumer.getEndpoint().getEndpointBaseUri()) : null;
+        LOG.warn("Leak detected: pooled exchange from consumer: {} was garbage collected without being released.", uri);
+    }
+
     @Override
     public boolean isPooled() {
         return true;
@@ -64,7 +64,7 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
                 statistics.created.increment();
             }
             // create a new exchange as there was no free from the pool
-            answer = new DefaultPooledExchange(exchange);
+            answer = createPooledExchange(exchange);
         } else {
             if (statisticsEnabled) {
                 statistics.acquired.increment();
@@ -74,6 +74,7 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
         // reset exchange for reuse
         PooledExchange ee = (PooledExchange) answer;
         ee.reset(System.currentTimeMillis());
+        PooledExchangeFactory.onAcquired(answer);
 
         ExchangeHelper.copyResults(answer, exchange);
         return answer;
@@ -87,7 +88,7 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
                 statistics.created.increment();
             }
             // create a new exchange as there was no free from the pool
-            answer = new DefaultPooledExchange(exchange);
+            answer = createPooledExchange(exchange);
             // if creating a copy via constructor (as above) then the unit of work is also
             // copied over to answer, which we then must set to null as we do not want to share unit of work
             answer.getExchangeExtension().setUnitOfWork(null);
@@ -100,6 +101,7 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
         // reset exchange for reuse
         PooledExchange ee = (PooledExchange) answer;
         ee.reset(System.currentTimeMillis());
+        PooledExchangeFactory.onAcquired(answer);
 
         ExchangeHelper.copyResults(answer, exchange);
         // do not reuse message id on copy
@@ -118,7 +120,7 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
         Exchange answer = pool.poll();
         if (answer == null) {
             // create a new exchange as there was no free from the pool
-            answer = new DefaultPooledExchange(fromEndpoint, exchangePattern);
+            answer = createPooledExchange(fromEndpoint, exchangePattern);
             if (statisticsEnabled) {
                 statistics.created.increment();
             }
@@ -131,13 +133,38 @@ public class PooledProcessorExchangeFactory extends PrototypeProcessorExchangeFa
         // reset exchange for reuse
         PooledExchange ee = (PooledExchange) answer;
         ee.reset(System.currentTimeMillis());
+        PooledExchangeFactory.onAcquired(answer);
 
         return answer;
     }
 
+    private DefaultPooledExchange createPooledExchange(Exchange exchange) {
+        DefaultPooledExchange answer = new DefaultPooledExchange(exchange);
+        if (statisticsEnabled) {
+            answer.setLeakTracker(createLeakTracker(answer));
+        }
+        return answer;
+    }
+
+    private DefaultPooledExchange createPooledExchange(Endpoint fromEndpoint, ExchangePattern exchangePattern) {
+        DefaultPooledExchange answer = new DefaultPooledExchange(fromEndpoint, exchangePattern);
+        if (statisticsEnabled) {
+            answer.setLeakTracker(createLeakTracker(answer));
+        }
+        return answer;
+    }
+
+    @Override
+    protected void onLeaked() {
+        super.onLeaked();
+        LOG.warn("Leak detected: pooled exchange from processor: {} was garbage collected without being released.",
+                processor);
+    }
+
     @Override
     public boolean release(Exchange exchange) {
         try {
+            PooledExchangeFactory.onReleased(exchange);
             // done exchange before returning to pool
             PooledExchange ee = (PooledExchange) exchange;
             ee.done();
@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.Experimental;
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} which only binds a worker (and its task queue) to a thread while that thread has reactive
+ * work to do. When the work is drained the worker is released from the thread and returned to a small bounded pool
+ * for reuse.
+ * <p/>
+ * The {@link DefaultReactiveExecutor} keeps a worker per thread for the lifetime of the thread, which is fine for a
+ * fixed set of platform threads, but causes memory to grow with the number of threads when exchanges are routed by
+ * many short-lived threads (such as virtual threads). With this executor the memory used is bounded by the number of
+ * threads that are concurrently doing reactive work, and not by how many threads have ever passed through.
+ */
+@Experimental
+@ManagedResource(description = "Managed PooledReactiveExecutor")
+public class PooledReactiveExecutor extends ServiceSupport implements ReactiveExecutor, StaticService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PooledReactiveExecutor.class);
+
+    private final ThreadLocal<Worker> workers = new ThreadLocal<>();
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+    private final LongAdder activeWorkers = new LongAdder();
+    private final LongAdder runningWorkers = new LongAdder();
+    private final LongAdder pendingTasks = new LongAdder();
+    private AtomicReferenceArray<Worker> pool;
+    private int poolSize;
+
+    // use for statistics so we have insights at runtime
+    private boolean statisticsEnabled;
+
+    public PooledReactiveExecutor() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    public PooledReactiveExecutor(int poolSize) {
+        setPoolSize(poolSize);
+    }
+
+    @Override
+    public void schedule(Runnable runnable) {
+        acquire().schedule(runnable, false, false, false);
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        acquire().schedule(runnable, true, true, false);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        acquire().schedule(runnable, false, true, true);
+    }
+
+    @Override
+    public void scheduleQueue(Runnable runnable) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("ScheduleQueue: {}", runnable);
+        }
+        Worker worker = acquire();
+        worker.queue.add(runnable);
+        if (statisticsEnabled) {
+            pendingTasks.increment();
+        }
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        Worker worker = workers.get();
+        if (worker == null) {
+            return false;
+        }
+        boolean answer = worker.executeFromQueue();
+        if (!answer && worker.depth == 0 && worker.isEmpty()) {
+            // no more work so release the worker from the current thread, but only when not called from within
+            // a running task (such as a synchronous call waiting for its reply) as the outermost task is still
+            // using the worker, and will release it when done
+            release(worker);
+        }
+        return answer;
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    @ManagedAttribute(description = "Maximum number of idle workers kept in the pool for reuse")
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Maximum number of idle workers kept in the pool for reuse. Workers that are released when the pool is full are
+     * discarded and left for garbage collection.
+     */
+    public void setPoolSize(int poolSize) {
+        if (poolSize < 0) {
+            throw new IllegalArgumentException("PoolSize must be zero or positive, was: " + poolSize);
+        }
+        this.poolSize = poolSize;
+        this.pool = new AtomicReferenceArray<>(poolSize);
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of workers currently bound to a thread")
+    public int getActiveWorkers() {
+        return activeWorkers.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        return runningWorkers.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        return pendingTasks.intValue();
+    }
+
+    @ManagedAttribute(description = "Number of idle workers in the pool")
+    public int getIdleWorkers() {
+        int count = 0;
+        for (int i = 0; i < pool.length(); i++) {
+            if (pool.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (LOG.isDebugEnabled() && statisticsEnabled) {
+            LOG.debug(
+                    "Stopping PooledReactiveExecutor [createdWorkers: {}, activeWorkers: {}, runningWorkers: {}, pendingTasks: {}]",
+                    getCreatedWorkers(), getActiveWorkers(), getRunningWorkers(), getPendingTasks());
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        workers.remove();
+        for (int i = 0; i < pool.length(); i++) {
+            pool.set(i, null);
+        }
+    }
+
+    /**
+     * Gets the worker bound to the current thread, or binds a worker (reused from the pool if possible) when the
+     * current thread has no reactive work in progress.
+     */
+    private Worker acquire() {
+        Worker worker = workers.get();
+        if (worker == null) {
+            worker = poll();
+            if (worker == null) {
+                worker = new Worker(createdWorkers.incrementAndGet(), this);
+            }
+            workers.set(worker);
+            if (statisticsEnabled) {
+                activeWorkers.increment();
+            }
+        }
+        return worker;
+    }
+
+    /**
+     * Unbinds the worker from the current thread and offers it back to the pool
+     */
+    private void release(Worker worker) {
+        workers.remove();
+        if (statisticsEnabled) {
+            activeWorkers.decrement();
+        }
+        worker.reset();
+        offer(worker);
+    }
+
+    private Worker poll() {
+        int len = pool.length();
+        if (len == 0) {
+            return null;
+        }
+        int start = (int) (Thread.currentThread().getId() % len);
+        for (int i = 0; i < len; i++) {
+            int idx = (start + i) % len;
+            if (pool.get(idx) != null) {
+                Worker worker = pool.getAndSet(idx, null);
+                if (worker != null) {
+                    return worker;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void offer(Worker worker) {
+        int len = pool.length();
+        if (len == 0) {
+            return;
+        }
+        int start = (int) (Thread.currentThread().getId() % len);
+        for (int i = 0; i < len; i++) {
+            int idx = (start + i) % len;
+            if (pool.compareAndSet(idx, null, worker)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PooledReactiveExecutor";
+    }
+
+    private static class Worker {
+
+        private final int number;
+        private final PooledReactiveExecutor executor;
+        private Deque<Runnable> queue = new ArrayDeque<>();
+        private Deque<Deque<Runnable>> back;
+        private int depth;
+
+        Worker(int number, PooledReactiveExecutor executor) {
+            this.number = number;
+            this.executor = executor;
+        }
+
+        void schedule(Runnable runnable, boolean first, boolean main, boolean sync) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, runnable);
+            }
+            final boolean stats = executor.statisticsEnabled;
+            if (main) {
+                if (!queue.isEmpty()) {
+                    if (back == null) {
+                        back = new ArrayDeque<>();
+                    }
+                    back.push(queue);
+                    queue = new ArrayDeque<>();
+                }
+            }
+            if (first) {
+                queue.addFirst(runnable);
+            } else {
+                queue.addLast(runnable);
+            }
+            if (stats) {
+                executor.pendingTasks.increment();
+            }
+            if (depth == 0 || sync) {
+                depth++;
+                if (stats) {
+                    executor.runningWorkers.increment();
+                }
+                try {
+                    executeReactiveWork(stats);
+                } finally {
+                    depth--;
+                    if (stats) {
+                        executor.runningWorkers.decrement();
+                    }
+                    if (depth == 0 && isEmpty()) {
+                        // all work done so the thread no longer need this worker
+                        executor.release(this);
+                    }
+                }
+            } else {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Queuing reactive work: {}", runnable);
+                }
+            }
+        }
+
+        private void executeReactiveWork(boolean stats) {
+            for (;;) {
+                final Runnable polled = queue.pollFirst();
+                if (polled == null) {
+                    if (back != null && !back.isEmpty()) {
+                        queue = back.pollFirst();
+                        continue;
+                    } else {
+                        break;
+                    }
+                }
+                try {
+                    if (stats) {
+                        executor.pendingTasks.decrement();
+                    }
+                    if (LOG.isTraceEnabled()) {
+                        LOG.trace("Worker #{} running: {}", number, polled);
+                    }
+                    polled.run();
+                } catch (Throwable t) {
+                    LOG.warn("Error executing reactive work due to {}. This exception is ignored.",
+                            t.getMessage(), t);
+                }
+            }
+        }
+
+        boolean executeFromQueue() {
+            final Runnable polled = queue.pollFirst();
+            if (polled == null) {
+                return false;
+            }
+            try {
+                if (executor.statisticsEnabled) {
+                    executor.pendingTasks.decrement();
+                }
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Running: {}", polled);
+                }
+                polled.run();
+            } catch (Throwable t) {
+                // should not happen
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.", t.getMessage(), t);
+            }
+            return true;
+        }
+
+        boolean isEmpty() {
+            return queue.isEmpty() && (back == null || back.isEmpty());
+        }
+
+        void reset() {
+            depth = 0;
+            back = null;
+        }
+
+    }
+
+}
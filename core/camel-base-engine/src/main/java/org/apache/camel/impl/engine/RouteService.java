@@ -63,6 +63,7 @@ public class RouteService extends ChildServiceSupport {
     private Consumer input;
     private final AtomicBoolean setUpDone = new AtomicBoolean();
     private final AtomicBoolean warmUpDone = new AtomicBoolean();
+    private final AtomicBoolean routeAddedDone = new AtomicBoolean();
     private final AtomicBoolean endpointDone = new AtomicBoolean();
 
     public RouteService(Route route) {
@@ -123,6 +124,19 @@ public class RouteService extends ChildServiceSupport {
         }
     }
 
+    /**
+     * Warms up the services of the route (endpoint, processors, producers and other child services) without adding the
+     * route to the CamelContext, which is done by {@link #warmUp()}. This allows warming up the services of several
+     * routes concurrently, while the routes are added to the CamelContext one by one.
+     */
+    void warmUpServices() throws FailedToStartRouteException {
+        try {
+            doWarmUpServices();
+        } catch (Exception e) {
+            throw new FailedToStartRouteException(getId(), route.getDescription(), e);
+        }
+    }
+
     public void setUp() throws FailedToStartRouteException {
         if (setUpDone.compareAndSet(false, true)) {
             try {
@@ -176,21 +190,10 @@ public class RouteService extends ChildServiceSupport {
     }
 
     protected synchronized void doWarmUp() throws Exception {
-        if (endpointDone.compareAndSet(false, true)) {
-            // endpoints should only be started once as they can be reused on other routes
-            // and whatnot, thus their lifecycle is to start once, and only to stop when Camel shutdown
-            // ensure endpoint is started first (before the route services, such as the consumer)
-            ServiceHelper.startService(route.getEndpoint());
-        }
-
-        if (warmUpDone.compareAndSet(false, true)) {
+        doWarmUpServices();
 
+        if (routeAddedDone.compareAndSet(false, true)) {
             try (MDCHelper mdcHelper = new MDCHelper(route.getId())) {
-                // warm up the route first
-                route.warmUp();
-
-                startChildServices(route, childServices);
-
                 // fire event
                 EventHelper.notifyRouteAdded(camelContext, route);
             }
@@ -208,6 +211,25 @@ public class RouteService extends ChildServiceSupport {
         }
     }
 
+    protected synchronized void doWarmUpServices() throws Exception {
+        if (endpointDone.compareAndSet(false, true)) {
+            // endpoints should only be started once as they can be reused on other routes
+            // and whatnot, thus their lifecycle is to start once, and only to stop when Camel shutdown
+            // ensure endpoint is started first (before the route services, such as the consumer)
+            ServiceHelper.startService(route.getEndpoint());
+        }
+
+        if (warmUpDone.compareAndSet(false, true)) {
+
+            try (MDCHelper mdcHelper = new MDCHelper(route.getId())) {
+                // warm up the route first
+                route.warmUp();
+
+                startChildServices(route, childServices);
+            }
+        }
+    }
+
     @Override
     protected void doStart() {
         try (MDCHelper mdcHelper = new MDCHelper(route.getId())) {
@@ -278,6 +300,7 @@ public class RouteService extends ChildServiceSupport {
         input = null;
         childServices = null;
         warmUpDone.set(false);
+        routeAddedDone.set(false);
         setUpDone.set(false);
         endpointDone.set(false);
         setUpDone.set(false);
@@ -322,6 +345,7 @@ public class RouteService extends ChildServiceSupport {
         input = null;
         childServices = null;
         warmUpDone.set(false);
+        routeAddedDone.set(false);
         setUpDone.set(false);
         endpointDone.set(false);
     }
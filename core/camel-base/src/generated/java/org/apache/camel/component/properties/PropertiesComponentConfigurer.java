@@ -23,6 +23,10 @@ public class PropertiesComponentConfigurer extends org.apache.camel.support.comp
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "autodiscoverpropertiessources":
         case "AutoDiscoverPropertiesSources": target.setAutoDiscoverPropertiesSources(property(camelContext, boolean.class, value)); return true;
+        case "cacheenabled":
+        case "CacheEnabled": target.setCacheEnabled(property(camelContext, boolean.class, value)); return true;
+        case "cachesize":
+        case "CacheSize": target.setCacheSize(property(camelContext, int.class, value)); return true;
         case "camelcontext":
         case "CamelContext": target.setCamelContext(property(camelContext, org.apache.camel.CamelContext.class, value)); return true;
         case "defaultfallbackenabled":
@@ -60,6 +64,10 @@ public class PropertiesComponentConfigurer extends org.apache.camel.support.comp
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "autodiscoverpropertiessources":
         case "AutoDiscoverPropertiesSources": return boolean.class;
+        case "cacheenabled":
+        case "CacheEnabled": return boolean.class;
+        case "cachesize":
+        case "CacheSize": return int.class;
         case "camelcontext":
         case "CamelContext": return org.apache.camel.CamelContext.class;
         case "defaultfallbackenabled":
@@ -98,6 +106,10 @@ public class PropertiesComponentConfigurer extends org.apache.camel.support.comp
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "autodiscoverpropertiessources":
         case "AutoDiscoverPropertiesSources": return target.isAutoDiscoverPropertiesSources();
+        case "cacheenabled":
+        case "CacheEnabled": return target.isCacheEnabled();
+        case "cachesize":
+        case "CacheSize": return target.getCacheSize();
         case "camelcontext":
         case "CamelContext": return target.getCamelContext();
         case "defaultfallbackenabled":
@@ -29,6 +29,12 @@ public class EnvPropertiesFunction implements PropertiesFunction {
         return "env";
     }
 
+    @Override
+    public boolean isCacheable() {
+        // the same as regular property placeholders which are also looked up from OS environment variables
+        return true;
+    }
+
     @Override
     public String apply(String remainder) {
         String key = remainder;
@@ -19,9 +19,12 @@ package org.apache.camel.component.properties;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -39,6 +42,7 @@ import org.apache.camel.spi.PropertiesFunction;
 import org.apache.camel.spi.PropertiesSource;
 import org.apache.camel.spi.PropertiesSourceFactory;
 import org.apache.camel.spi.annotations.JdkService;
+import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.PatternHelper;
 import org.apache.camel.support.service.ServiceHelper;
@@ -124,6 +128,15 @@ public class PropertiesComponent extends ServiceSupport
     private int systemPropertiesMode = SYSTEM_PROPERTIES_MODE_OVERRIDE;
     private int environmentVariableMode = ENVIRONMENT_VARIABLES_MODE_OVERRIDE;
     private boolean autoDiscoverPropertiesSources = true;
+    private boolean cacheEnabled;
+    private int cacheSize = 1000;
+    private volatile Map<String, CachedValue> cache;
+    private volatile Map<String, CachedValue> cacheKeepUnresolvedOptional;
+    private final AtomicLong cacheVersion = new AtomicLong();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    // marks that a properties function which is not cacheable was applied while resolving a placeholder
+    private final ThreadLocal<Boolean> nonCacheableFunction = new ThreadLocal<>();
 
     public PropertiesComponent() {
         // include out of the box functions
@@ -305,14 +318,50 @@ public class PropertiesComponent extends ServiceSupport
             key = key + SUFFIX_TOKEN;
         }
 
+        // the cache can only be used with the default lookup and when there are no local properties
+        // (such as when creating routes from route templates) as they may resolve differently
+        Map<String, CachedValue> resolved = null;
+        long version = 0;
+        if (cacheEnabled && properties == propertiesLookup && getLocalProperties() == null) {
+            resolved = keepUnresolvedOptional ? cacheKeepUnresolvedOptional : cache;
+            version = cacheVersion.get();
+            if (resolved != null) {
+                CachedValue cached = resolved.get(key);
+                if (cached != null && cached.version == version) {
+                    cacheHits.increment();
+                    LOG.trace("Parsed uri {} -> {} (cached)", uri, cached.value);
+                    return cached.value;
+                }
+                cacheMisses.increment();
+            }
+        }
+
+        String cacheKey = key;
         // if key starts with a ! then negate a boolean response
         boolean negate = key.startsWith(NEGATE_PREFIX);
         if (negate) {
             key = PREFIX_TOKEN + key.substring(NEGATE_PREFIX.length());
         }
 
-        String answer
-                = propertiesParser.parseUri(key, properties, defaultFallbackEnabled, keepUnresolvedOptional, nestedPlaceholder);
+        String answer;
+        if (resolved != null) {
+            // track whether a function which is not cacheable is applied (restore as this may be nested)
+            Boolean previous = nonCacheableFunction.get();
+            nonCacheableFunction.remove();
+            try {
+                answer = propertiesParser.parseUri(key, properties, defaultFallbackEnabled, keepUnresolvedOptional,
+                        nestedPlaceholder);
+            } finally {
+                if (nonCacheableFunction.get() != null) {
+                    resolved = null;
+                } else if (previous != null) {
+                    nonCacheableFunction.set(previous);
+                }
+            }
+        } else {
+            answer = propertiesParser.parseUri(key, properties, defaultFallbackEnabled, keepUnresolvedOptional,
+                    nestedPlaceholder);
+        }
         if (negate) {
             if ("true".equalsIgnoreCase(answer)) {
                 answer = "false";
@@ -324,6 +373,10 @@ public class PropertiesComponent extends ServiceSupport
             // Remove the escape characters if any
             answer = unescape(answer);
         }
+        if (resolved != null) {
+            // the version ensures that a value resolved while the cache was invalidated is not used
+            resolved.put(cacheKey, new CachedValue(version, answer));
+        }
         LOG.trace("Parsed uri {} -> {}", uri, answer);
         return answer;
     }
@@ -351,6 +404,7 @@ public class PropertiesComponent extends ServiceSupport
         for (PropertiesLocation loc : locations) {
             addPropertiesLocationsAsPropertiesSource(loc);
         }
+        clearCache();
     }
 
     /**
@@ -433,6 +487,7 @@ public class PropertiesComponent extends ServiceSupport
      */
     public void setPropertiesParser(PropertiesParser propertiesParser) {
         this.propertiesParser = propertiesParser;
+        clearCache();
     }
 
     public PropertiesFunctionResolver getPropertiesFunctionResolver() {
@@ -444,6 +499,7 @@ public class PropertiesComponent extends ServiceSupport
      */
     public void setPropertiesFunctionResolver(PropertiesFunctionResolver propertiesFunctionResolver) {
         this.propertiesFunctionResolver = propertiesFunctionResolver;
+        clearCache();
     }
 
     @ManagedAttribute(description = "Whether to support using fallback values if a property cannot be found")
@@ -456,6 +512,7 @@ public class PropertiesComponent extends ServiceSupport
      */
     public void setDefaultFallbackEnabled(boolean defaultFallbackEnabled) {
         this.defaultFallbackEnabled = defaultFallbackEnabled;
+        clearCache();
     }
 
     @ManagedAttribute(description = "Ignore missing location")
@@ -476,6 +533,7 @@ public class PropertiesComponent extends ServiceSupport
     @Override
     public void setNestedPlaceholder(boolean nestedPlaceholder) {
         this.nestedPlaceholder = nestedPlaceholder;
+        clearCache();
     }
 
     /**
@@ -492,6 +550,7 @@ public class PropertiesComponent extends ServiceSupport
     @Override
     public void setInitialProperties(Properties initialProperties) {
         this.initialProperties = initialProperties;
+        clearCache();
     }
 
     @Override
@@ -500,6 +559,7 @@ public class PropertiesComponent extends ServiceSupport
             this.initialProperties = new OrderedProperties();
         }
         this.initialProperties.setProperty(key, value);
+        clearCache();
     }
 
     /**
@@ -516,6 +576,7 @@ public class PropertiesComponent extends ServiceSupport
     @Override
     public void setOverrideProperties(Properties overrideProperties) {
         this.overrideProperties = overrideProperties;
+        clearCache();
     }
 
     @Override
@@ -524,7 +585,7 @@ public class PropertiesComponent extends ServiceSupport
             this.overrideProperties = new OrderedProperties();
         }
         this.overrideProperties.setProperty(key, value);
-
+        clearCache();
     }
 
     @Override
@@ -551,12 +612,18 @@ public class PropertiesComponent extends ServiceSupport
         if (name == null) {
             return null;
         }
-        return propertiesFunctionResolver.resolvePropertiesFunction(name);
+        PropertiesFunction answer = propertiesFunctionResolver.resolvePropertiesFunction(name);
+        if (answer != null && cacheEnabled && !answer.isCacheable()) {
+            // the placeholder being resolved must not be cached
+            nonCacheableFunction.set(Boolean.TRUE);
+        }
+        return answer;
     }
 
     @Override
     public void addPropertiesFunction(PropertiesFunction function) {
         propertiesFunctionResolver.addPropertiesFunction(function);
+        clearCache();
     }
 
     @Override
@@ -582,6 +649,7 @@ public class PropertiesComponent extends ServiceSupport
      */
     public void setSystemPropertiesMode(int systemPropertiesMode) {
         this.systemPropertiesMode = systemPropertiesMode;
+        clearCache();
     }
 
     @ManagedAttribute(description = "Environment variable mode")
@@ -602,6 +670,80 @@ public class PropertiesComponent extends ServiceSupport
      */
     public void setEnvironmentVariableMode(int environmentVariableMode) {
         this.environmentVariableMode = environmentVariableMode;
+        clearCache();
+    }
+
+    @ManagedAttribute(description = "Whether resolved property placeholders are cached")
+    @Override
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    /**
+     * Whether to cache the resolved property placeholders, so a placeholder which is resolved again (such as endpoint
+     * uris, dynamic to and property binding) does not have to be parsed and looked up in all the properties sources and
+     * functions again.
+     * <p/>
+     * The cache is cleared when properties are reloaded, or when properties sources, functions or other options are
+     * changed. JVM system properties and OS environment variables which are changed at runtime are not detected, so
+     * {@link #clearCache()} must be called in that case.
+     */
+    @Override
+    public void setCacheEnabled(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+        clearCache();
+    }
+
+    @ManagedAttribute(description = "Maximum number of resolved property placeholders to cache")
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Maximum number of resolved property placeholders to cache (when cache is enabled).
+     */
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+        // create new caches with the new size
+        this.cache = null;
+        this.cacheKeepUnresolvedOptional = null;
+        clearCache();
+    }
+
+    @ManagedOperation(description = "Clears the cache of resolved property placeholders")
+    @Override
+    public void clearCache() {
+        cacheVersion.incrementAndGet();
+        if (cacheEnabled) {
+            if (cache == null) {
+                cache = LRUCacheFactory.newLRUCache(cacheSize);
+                cacheKeepUnresolvedOptional = LRUCacheFactory.newLRUCache(cacheSize);
+            } else {
+                cache.clear();
+                cacheKeepUnresolvedOptional.clear();
+            }
+        } else {
+            cache = null;
+            cacheKeepUnresolvedOptional = null;
+        }
+    }
+
+    @ManagedAttribute(description = "Number of property placeholders resolved from the cache")
+    @Override
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    @ManagedAttribute(description = "Number of property placeholders that were not in the cache")
+    @Override
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    @ManagedAttribute(description = "Version of the cache, which is incremented every time the cache is cleared")
+    @Override
+    public long getCacheVersion() {
+        return cacheVersion.get();
     }
 
     public boolean isAutoDiscoverPropertiesSources() {
@@ -630,6 +772,7 @@ public class PropertiesComponent extends ServiceSupport
                 ServiceHelper.startService(propertiesSource);
             }
         }
+        clearCache();
     }
 
     @Override
@@ -688,6 +831,9 @@ public class PropertiesComponent extends ServiceSupport
                 }
             }
         }
+        if (answer) {
+            clearCache();
+        }
         return answer;
     }
 
@@ -817,6 +963,20 @@ public class PropertiesComponent extends ServiceSupport
         return answer;
     }
 
+    /**
+     * A resolved property placeholder in the cache
+     */
+    private static final class CachedValue {
+
+        private final long version;
+        private final String value;
+
+        private CachedValue(long version, String value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+
     /**
      * Replaces all the double curly braces that have been escaped by double curly braces.
      *
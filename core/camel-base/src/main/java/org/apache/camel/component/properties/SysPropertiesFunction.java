@@ -29,6 +29,12 @@ public class SysPropertiesFunction implements PropertiesFunction {
         return "sys";
     }
 
+    @Override
+    public boolean isCacheable() {
+        // the same as regular property placeholders which are also looked up from JVM system properties
+        return true;
+    }
+
     @Override
     public String apply(String remainder) {
         String key = remainder;
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.CamelContext;
@@ -63,6 +64,9 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected final DoubleMap<Class<?>, Class<?>, TypeConverter> typeMappings = new DoubleMap<>(16);
     // fallback converters
     protected final List<FallbackTypeConverter> fallbackConverters = new CopyOnWriteArrayList<>();
+    // resolution cache of pairs of types which has no type converter (to avoid expensive lookups of the interfaces and
+    // super classes every time a pair is converted by a fallback converter)
+    protected final DoubleMap<Class<?>, Class<?>, Boolean> lookupMisses = new DoubleMap<>(16);
     // special enum converter for optional performance
     protected final TypeConverter enumTypeConverter = new EnumTypeConverter();
 
@@ -78,6 +82,11 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
     // to keep track of number of converters in the bulked classes
     private int sumBulkTypeConverters;
+    // to keep track of whether there are remembered misses that should be invalidated
+    private volatile boolean hasMisses;
+    // incremented when the resolution cache is invalidated, so a lookup that runs concurrently with adding a type
+    // converter does not remember a stale miss
+    private final AtomicLong resolutionVersion = new AtomicLong();
 
     public CoreTypeConverterRegistry() {
     }
@@ -442,6 +451,9 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             attemptCounter.increment();
         }
 
+        // to detect type converters being added while converting, so a stale miss is not remembered
+        final long version = resolutionVersion.get();
+
         // attempt bulk first which is the fastest
         for (BulkTypeConverters bulk : bulkTypeConverters) {
             Object rc = bulk.convertTo(value.getClass(), type, exchange, value);
@@ -504,10 +516,15 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             }
         }
 
-        if (!tryConvert) {
+        if (!tryConvert && version == resolutionVersion.get()) {
             // Could not find suitable conversion, so remember it
             // do not register misses for try conversions
+            hasMisses = true;
             typeMappings.put(type, value.getClass(), MISS_CONVERTER);
+            if (version != resolutionVersion.get()) {
+                // a type converter was added while remembering the miss, which may no longer be a miss
+                invalidateResolutionCache();
+            }
         }
 
         // Could not find suitable conversion, so return Void to indicate not found
@@ -547,6 +564,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                 this.bulkTypeConverters.add(bulkTypeConverters);
             }
             sumBulkTypeConverters += bulkTypeConverters.size();
+            invalidateResolutionCache();
         }
     }
 
@@ -557,6 +575,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         if (converter == MISS_CONVERTER) {
             // we have previously attempted to convert but missed so add this converter
             typeMappings.put(toType, fromType, typeConverter);
+            invalidateResolutionCache();
             return;
         }
 
@@ -584,13 +603,18 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
             if (add) {
                 typeMappings.put(toType, fromType, typeConverter);
+                invalidateResolutionCache();
             }
         }
     }
 
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
-        return typeMappings.remove(toType, fromType);
+        boolean answer = typeMappings.remove(toType, fromType);
+        if (answer) {
+            invalidateResolutionCache();
+        }
+        return answer;
     }
 
     @Override
@@ -604,6 +628,31 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         // add in top of fallback as the toString() fallback will nearly always be able to convert
         // the last one which is add to the FallbackTypeConverter will be called at the first place
         fallbackConverters.add(0, new FallbackTypeConverter(typeConverter, canPromote));
+        invalidateResolutionCache();
+    }
+
+    /**
+     * Invalidates the resolution cache and the remembered misses, as a new or removed type converter may change how a
+     * pair of types is converted.
+     */
+    protected void invalidateResolutionCache() {
+        // must be incremented before clearing, so a concurrent lookup can detect it
+        resolutionVersion.incrementAndGet();
+        if (lookupMisses.size() > 0) {
+            lookupMisses.clear();
+        }
+        if (hasMisses) {
+            hasMisses = false;
+            List<Class<?>[]> misses = new ArrayList<>();
+            typeMappings.forEach((k1, k2, v) -> {
+                if (v == MISS_CONVERTER) {
+                    misses.add(new Class<?>[] { k1, k2 });
+                }
+            });
+            for (Class<?>[] miss : misses) {
+                typeMappings.remove(miss[0], miss[1]);
+            }
+        }
     }
 
     public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
@@ -613,10 +662,21 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected TypeConverter getOrFindTypeConverter(Class<?> toType, Class<?> fromType) {
         TypeConverter converter = typeMappings.get(toType, fromType);
         if (converter == null) {
+            if (lookupMisses.containsKey(toType, fromType)) {
+                // we have previously looked up and there is no converter
+                return null;
+            }
             // converter not found, try to lookup then
+            long version = resolutionVersion.get();
             converter = lookup(toType, fromType);
             if (converter != null) {
                 typeMappings.put(toType, fromType, converter);
+            } else if (version == resolutionVersion.get()) {
+                lookupMisses.put(toType, fromType, Boolean.TRUE);
+                if (version != resolutionVersion.get()) {
+                    // a type converter was added while remembering the miss, which may no longer be a miss
+                    lookupMisses.remove(toType, fromType);
+                }
             }
         }
         return converter;
@@ -737,6 +797,11 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         return typeMappings.size() + sumBulkTypeConverters;
     }
 
+    @Override
+    public int getResolutionCacheSize() {
+        return lookupMisses.size();
+    }
+
     public LoggingLevel getTypeConverterExistsLoggingLevel() {
         return typeConverterExistsLoggingLevel;
     }
@@ -770,6 +835,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         }
 
         typeMappings.clear();
+        lookupMisses.clear();
         statistics.reset();
     }
 
@@ -38,6 +38,11 @@ public class PropertiesDevConsole extends AbstractDevConsole {
         String loc = String.join(", ", pc.getLocations());
         sb.append(String.format("Properties loaded from locations: %s", loc));
         sb.append("\n");
+        if (pc.isCacheEnabled()) {
+            sb.append(String.format("Properties cache: hits=%s misses=%s version=%s", pc.getCacheHits(),
+                    pc.getCacheMisses(), pc.getCacheVersion()));
+            sb.append("\n");
+        }
         for (Map.Entry<Object, Object> entry : pc.loadProperties().entrySet()) {
             Object k = entry.getKey();
             Object v = entry.getValue();
@@ -54,6 +59,13 @@ public class PropertiesDevConsole extends AbstractDevConsole {
 
         PropertiesComponent pc = getCamelContext().getPropertiesComponent();
         root.put("locations", pc.getLocations());
+        if (pc.isCacheEnabled()) {
+            JsonObject cache = new JsonObject();
+            cache.put("hits", pc.getCacheHits());
+            cache.put("misses", pc.getCacheMisses());
+            cache.put("version", pc.getCacheVersion());
+            root.put("cache", cache);
+        }
         JsonObject props = new JsonObject();
         root.put("properties", props);
         for (Map.Entry<Object, Object> entry : pc.loadProperties().entrySet()) {
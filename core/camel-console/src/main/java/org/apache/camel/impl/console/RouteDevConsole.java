@@ -27,11 +27,14 @@ import java.util.function.Function;
 import org.apache.camel.Exchange;
 import org.apache.camel.Route;
 import org.apache.camel.api.management.ManagedCamelContext;
+import org.apache.camel.api.management.mbean.ManagedPerformanceCounterMBean;
 import org.apache.camel.api.management.mbean.ManagedProcessorMBean;
 import org.apache.camel.api.management.mbean.ManagedRouteMBean;
+import org.apache.camel.spi.RoutePolicy;
 import org.apache.camel.spi.annotations.DevConsole;
 import org.apache.camel.support.PatternHelper;
 import org.apache.camel.support.console.AbstractDevConsole;
+import org.apache.camel.throttling.AdaptiveConcurrencyRoutePolicy;
 import org.apache.camel.util.StringHelper;
 import org.apache.camel.util.TimeUtils;
 import org.apache.camel.util.json.JsonArray;
@@ -95,6 +98,7 @@ public class RouteDevConsole extends AbstractDevConsole {
             sb.append(String.format("\n    Mean Time: %s", TimeUtils.printDuration(mrb.getMeanProcessingTime(), true)));
             sb.append(String.format("\n    Max Time: %s", TimeUtils.printDuration(mrb.getMaxProcessingTime(), true)));
             sb.append(String.format("\n    Min Time: %s", TimeUtils.printDuration(mrb.getMinProcessingTime(), true)));
+            includeLatencyText(mrb, sb, "    ");
             if (mrb.getExchangesTotal() > 0) {
                 sb.append(String.format("\n    Last Time: %s", TimeUtils.printDuration(mrb.getLastProcessingTime(), true)));
                 sb.append(String.format("\n    Delta Time: %s", TimeUtils.printDuration(mrb.getDeltaProcessingTime(), true)));
@@ -114,6 +118,14 @@ public class RouteDevConsole extends AbstractDevConsole {
                 String ago = TimeUtils.printSince(last.getTime());
                 sb.append(String.format("\n    Since Last Failed: %s", ago));
             }
+            AdaptiveConcurrencyRoutePolicy acp = getAdaptiveConcurrencyRoutePolicy(mrb);
+            if (acp != null) {
+                sb.append(String.format("\n    Concurrency Limit: %s (%s)", acp.getLimit(), acp.getAlgorithm()));
+                sb.append(String.format("\n    Concurrency Inflight: %s", acp.getInflightExchanges()));
+                sb.append(String.format("\n    Concurrency Rejected: %s", acp.getRejectedExchanges()));
+                sb.append(String.format("\n    Concurrency Rtt (min/last/long): %.3f/%.3f/%.3f ms", acp.getMinRtt(),
+                        acp.getLastRtt(), acp.getLongRtt()));
+            }
             if (processors) {
                 includeProcessorsText(mrb, sb);
             }
@@ -163,6 +175,7 @@ public class RouteDevConsole extends AbstractDevConsole {
             sb.append(String.format("\n        Mean Time: %s", TimeUtils.printDuration(mp.getMeanProcessingTime(), true)));
             sb.append(String.format("\n        Max Time: %s", TimeUtils.printDuration(mp.getMaxProcessingTime(), true)));
             sb.append(String.format("\n        Min Time: %s", TimeUtils.printDuration(mp.getMinProcessingTime(), true)));
+            includeLatencyText(mp, sb, "        ");
             if (mp.getExchangesTotal() > 0) {
                 sb.append(String.format("\n    Last Time: %s", TimeUtils.printDuration(mp.getLastProcessingTime(), true)));
                 sb.append(String.format("\n    Delta Time: %s", TimeUtils.printDuration(mp.getDeltaProcessingTime(), true)));
@@ -180,6 +193,29 @@ public class RouteDevConsole extends AbstractDevConsole {
         }
     }
 
+    private static void includeLatencyText(ManagedPerformanceCounterMBean mb, StringBuilder sb, String indent) {
+        if (mb.isLatencyHistogramEnabled()) {
+            sb.append(String.format("\n%sLatency (p50/p90/p99/p999): %.3f/%.3f/%.3f/%.3f ms", indent, mb.getLatencyP50(),
+                    mb.getLatencyP90(), mb.getLatencyP99(), mb.getLatencyP999()));
+            sb.append(String.format("\n%sInterval Latency (p50/p99/p999): %.3f/%.3f/%.3f ms", indent,
+                    mb.getIntervalLatencyP50(), mb.getIntervalLatencyP99(), mb.getIntervalLatencyP999()));
+        }
+    }
+
+    private static void includeLatencyJson(ManagedPerformanceCounterMBean mb, JsonObject stats) {
+        if (mb.isLatencyHistogramEnabled()) {
+            JsonObject jo = new JsonObject();
+            jo.put("p50", mb.getLatencyP50());
+            jo.put("p90", mb.getLatencyP90());
+            jo.put("p99", mb.getLatencyP99());
+            jo.put("p999", mb.getLatencyP999());
+            jo.put("intervalP50", mb.getIntervalLatencyP50());
+            jo.put("intervalP99", mb.getIntervalLatencyP99());
+            jo.put("intervalP999", mb.getIntervalLatencyP999());
+            stats.put("latency", jo);
+        }
+    }
+
     @Override
     protected JsonObject doCallJson(Map<String, Object> options) {
         final boolean processors = "true".equals(options.getOrDefault(PROCESSORS, "false"));
@@ -218,6 +254,7 @@ public class RouteDevConsole extends AbstractDevConsole {
             stats.put("meanProcessingTime", mrb.getMeanProcessingTime());
             stats.put("maxProcessingTime", mrb.getMaxProcessingTime());
             stats.put("minProcessingTime", mrb.getMinProcessingTime());
+            includeLatencyJson(mrb, stats);
             if (mrb.getExchangesTotal() > 0) {
                 stats.put("lastProcessingTime", mrb.getLastProcessingTime());
                 stats.put("deltaProcessingTime", mrb.getDeltaProcessingTime());
@@ -238,6 +275,20 @@ public class RouteDevConsole extends AbstractDevConsole {
                 stats.put("sinceLastFailedExchange", ago);
             }
             jo.put("statistics", stats);
+            AdaptiveConcurrencyRoutePolicy acp = getAdaptiveConcurrencyRoutePolicy(mrb);
+            if (acp != null) {
+                JsonObject cl = new JsonObject();
+                cl.put("algorithm", acp.getAlgorithm().name());
+                cl.put("limit", acp.getLimit());
+                cl.put("minLimit", acp.getMinLimit());
+                cl.put("maxLimit", acp.getMaxLimit());
+                cl.put("inflight", acp.getInflightExchanges());
+                cl.put("rejected", acp.getRejectedExchanges());
+                cl.put("minRtt", acp.getMinRtt());
+                cl.put("lastRtt", acp.getLastRtt());
+                cl.put("longRtt", acp.getLongRtt());
+                jo.put("concurrencyLimit", cl);
+            }
             if (processors) {
                 JsonArray arr = new JsonArray();
                 jo.put("processors", arr);
@@ -304,6 +355,7 @@ public class RouteDevConsole extends AbstractDevConsole {
             stats.put("meanProcessingTime", mp.getMeanProcessingTime());
             stats.put("maxProcessingTime", mp.getMaxProcessingTime());
             stats.put("minProcessingTime", mp.getMinProcessingTime());
+            includeLatencyJson(mp, stats);
             if (mp.getExchangesTotal() > 0) {
                 stats.put("lastProcessingTime", mp.getLastProcessingTime());
                 stats.put("deltaProcessingTime", mp.getDeltaProcessingTime());
@@ -343,6 +395,18 @@ public class RouteDevConsole extends AbstractDevConsole {
         }
     }
 
+    private AdaptiveConcurrencyRoutePolicy getAdaptiveConcurrencyRoutePolicy(ManagedRouteMBean mrb) {
+        Route route = getCamelContext().getRoute(mrb.getRouteId());
+        if (route != null) {
+            for (RoutePolicy policy : route.getRoutePolicyList()) {
+                if (policy instanceof AdaptiveConcurrencyRoutePolicy) {
+                    return (AdaptiveConcurrencyRoutePolicy) policy;
+                }
+            }
+        }
+        return null;
+    }
+
     private static boolean accept(ManagedRouteMBean mrb, String filter) {
         if (filter == null || filter.isBlank()) {
             return true;
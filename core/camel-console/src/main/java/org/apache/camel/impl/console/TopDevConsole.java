@@ -85,6 +85,7 @@ public class TopDevConsole extends AbstractDevConsole {
                     sb.append(String.format("\n    Mean Time: %s", TimeUtils.printDuration(mrb.getMeanProcessingTime(), true)));
                     sb.append(String.format("\n    Max Time: %s", TimeUtils.printDuration(mrb.getMaxProcessingTime(), true)));
                     sb.append(String.format("\n    Min Time: %s", TimeUtils.printDuration(mrb.getMinProcessingTime(), true)));
+                    includeLatencyText(mrb, sb);
                     sb.append(
                             String.format("\n    Last Time: %s", TimeUtils.printDuration(mrb.getLastProcessingTime(), true)));
                     sb.append(
@@ -141,6 +142,7 @@ public class TopDevConsole extends AbstractDevConsole {
                     sb.append(String.format("\n    Mean Time: %s", TimeUtils.printDuration(mpb.getMeanProcessingTime(), true)));
                     sb.append(String.format("\n    Max Time: %s", TimeUtils.printDuration(mpb.getMaxProcessingTime(), true)));
                     sb.append(String.format("\n    Min Time: %s", TimeUtils.printDuration(mpb.getMinProcessingTime(), true)));
+                    includeLatencyText(mpb, sb);
                     sb.append(
                             String.format("\n    Last Time: %s", TimeUtils.printDuration(mpb.getLastProcessingTime(), true)));
                     sb.append(
@@ -189,6 +191,7 @@ public class TopDevConsole extends AbstractDevConsole {
                     stats.put("meanProcessingTime", mrb.getMeanProcessingTime());
                     stats.put("maxProcessingTime", mrb.getMaxProcessingTime());
                     stats.put("minProcessingTime", mrb.getMinProcessingTime());
+                    includeLatencyJson(mrb, stats);
                     stats.put("lastProcessingTime", mrb.getLastProcessingTime());
                     stats.put("deltaProcessingTime", mrb.getDeltaProcessingTime());
                     stats.put("totalProcessingTime", mrb.getTotalProcessingTime());
@@ -250,6 +253,7 @@ public class TopDevConsole extends AbstractDevConsole {
                     stats.put("meanProcessingTime", mpb.getMeanProcessingTime());
                     stats.put("maxProcessingTime", mpb.getMaxProcessingTime());
                     stats.put("minProcessingTime", mpb.getMinProcessingTime());
+                    includeLatencyJson(mpb, stats);
                     stats.put("lastProcessingTime", mpb.getLastProcessingTime());
                     stats.put("deltaProcessingTime", mpb.getDeltaProcessingTime());
                     stats.put("totalProcessingTime", mpb.getTotalProcessingTime());
@@ -320,7 +324,37 @@ public class TopDevConsole extends AbstractDevConsole {
                 || PatternHelper.matchPattern(mpb.getSourceLocation(), filter);
     }
 
+    private static void includeLatencyText(ManagedPerformanceCounterMBean mb, StringBuilder sb) {
+        if (mb.isLatencyHistogramEnabled()) {
+            sb.append(String.format("\n    Latency (p50/p90/p99/p999): %.3f/%.3f/%.3f/%.3f ms", mb.getLatencyP50(),
+                    mb.getLatencyP90(), mb.getLatencyP99(), mb.getLatencyP999()));
+            sb.append(String.format("\n    Interval Latency (p50/p99/p999): %.3f/%.3f/%.3f ms",
+                    mb.getIntervalLatencyP50(), mb.getIntervalLatencyP99(), mb.getIntervalLatencyP999()));
+        }
+    }
+
+    private static void includeLatencyJson(ManagedPerformanceCounterMBean mb, JsonObject stats) {
+        if (mb.isLatencyHistogramEnabled()) {
+            JsonObject jo = new JsonObject();
+            jo.put("p50", mb.getLatencyP50());
+            jo.put("p90", mb.getLatencyP90());
+            jo.put("p99", mb.getLatencyP99());
+            jo.put("p999", mb.getLatencyP999());
+            jo.put("intervalP50", mb.getIntervalLatencyP50());
+            jo.put("intervalP99", mb.getIntervalLatencyP99());
+            jo.put("intervalP999", mb.getIntervalLatencyP999());
+            stats.put("latency", jo);
+        }
+    }
+
     private static int top(ManagedPerformanceCounterMBean o1, ManagedPerformanceCounterMBean o2) {
+        if (o1.isLatencyHistogramEnabled() && o2.isLatencyHistogramEnabled()) {
+            // sort for highest tail latency in the last interval as we want the slowest in the top
+            int answer = Double.compare(o2.getIntervalLatencyP99(), o1.getIntervalLatencyP99());
+            if (answer != 0) {
+                return answer;
+            }
+        }
         // sort for highest mean value as we want the slowest in the top
         long m1 = o1.getMeanProcessingTime();
         long m2 = o2.getMeanProcessingTime();
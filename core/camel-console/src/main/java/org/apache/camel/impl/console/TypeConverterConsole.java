@@ -36,6 +36,7 @@ public class TypeConverterConsole extends AbstractDevConsole {
 
         TypeConverterRegistry reg = getCamelContext().getTypeConverterRegistry();
         sb.append(String.format("\n    Converters: %s", reg.size()));
+        sb.append(String.format("\n    Resolution Cache: %s", reg.getResolutionCacheSize()));
         sb.append(String.format("\n    Exists: %s", reg.getTypeConverterExists().name()));
         sb.append(String.format("\n    Exists LoggingLevel: %s", reg.getTypeConverterExistsLoggingLevel()));
         if (reg.getStatistics().isStatisticsEnabled()) {
@@ -55,6 +56,7 @@ public class TypeConverterConsole extends AbstractDevConsole {
 
         TypeConverterRegistry reg = getCamelContext().getTypeConverterRegistry();
         root.put("size", reg.size());
+        root.put("resolutionCacheSize", reg.getResolutionCacheSize());
         root.put("exists", reg.getTypeConverterExists().name());
         root.put("existsLoggingLevel", reg.getTypeConverterExistsLoggingLevel().name());
         if (reg.getStatistics().isStatisticsEnabled()) {
@@ -62,7 +64,7 @@ public class TypeConverterConsole extends AbstractDevConsole {
             root.put("statistics", props);
             props.put("attemptCounter", reg.getStatistics().getAttemptCounter());
             props.put("hitCounter", reg.getStatistics().getHitCounter());
-            props.put("missCounter", reg.getStatistics().getAttemptCounter());
+            props.put("missCounter", reg.getStatistics().getMissCounter());
             props.put("failedCounter", reg.getStatistics().getFailedCounter());
             props.put("noopCounter", reg.getStatistics().getNoopCounter());
         }
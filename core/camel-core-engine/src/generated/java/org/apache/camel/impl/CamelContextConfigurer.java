@@ -89,6 +89,8 @@ public class CamelContextConfigurer extends org.apache.camel.support.component.P
         case "RestRegistry": target.setRestRegistry(property(camelContext, org.apache.camel.spi.RestRegistry.class, value)); return true;
         case "routecontroller":
         case "RouteController": target.setRouteController(property(camelContext, org.apache.camel.spi.RouteController.class, value)); return true;
+        case "routestartupparallelism":
+        case "RouteStartupParallelism": target.setRouteStartupParallelism(property(camelContext, int.class, value)); return true;
         case "runtimeendpointregistry":
         case "RuntimeEndpointRegistry": target.setRuntimeEndpointRegistry(property(camelContext, org.apache.camel.spi.RuntimeEndpointRegistry.class, value)); return true;
         case "sslcontextparameters":
@@ -208,6 +210,8 @@ public class CamelContextConfigurer extends org.apache.camel.support.component.P
         case "RestRegistry": return org.apache.camel.spi.RestRegistry.class;
         case "routecontroller":
         case "RouteController": return org.apache.camel.spi.RouteController.class;
+        case "routestartupparallelism":
+        case "RouteStartupParallelism": return int.class;
         case "runtimeendpointregistry":
         case "RuntimeEndpointRegistry": return org.apache.camel.spi.RuntimeEndpointRegistry.class;
         case "sslcontextparameters":
@@ -328,6 +332,8 @@ public class CamelContextConfigurer extends org.apache.camel.support.component.P
         case "RestRegistry": return target.getRestRegistry();
         case "routecontroller":
         case "RouteController": return target.getRouteController();
+        case "routestartupparallelism":
+        case "RouteStartupParallelism": return target.getRouteStartupParallelism();
         case "runtimeendpointregistry":
         case "RuntimeEndpointRegistry": return target.getRuntimeEndpointRegistry();
         case "sslcontextparameters":
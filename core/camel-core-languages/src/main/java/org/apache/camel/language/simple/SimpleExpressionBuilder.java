@@ -16,6 +16,7 @@
  */
 package org.apache.camel.language.simple;
 
+import java.lang.reflect.Modifier;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
@@ -37,10 +38,10 @@ import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.spi.ClassResolver;
 import org.apache.camel.spi.ExchangeFormatter;
-import org.apache.camel.spi.Language;
 import org.apache.camel.spi.UuidGenerator;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.ClassicUuidGenerator;
+import org.apache.camel.support.ConstantExpressionAdapter;
 import org.apache.camel.support.DefaultUuidGenerator;
 import org.apache.camel.support.ExpressionAdapter;
 import org.apache.camel.support.MessageHelper;
@@ -688,7 +689,7 @@ public final class SimpleExpressionBuilder {
         return new ExpressionAdapter() {
             private ClassResolver classResolver;
             private Expression exp;
-            private Language bean;
+            private final SimpleOgnlCallSite callSite = new SimpleOgnlCallSite(ognl);
 
             @Override
             public Object evaluate(Exchange exchange) {
@@ -705,9 +706,7 @@ public final class SimpleExpressionBuilder {
                 } catch (InvalidPayloadException e) {
                     throw CamelExecutionException.wrapCamelExecutionException(exchange, e);
                 }
-                Expression ognlExp = bean.createExpression(null, new Object[] { body, ognl });
-                ognlExp.init(exchange.getContext());
-                return ognlExp.evaluate(exchange, Object.class);
+                return callSite.evaluate(exchange, body);
             }
 
             @Override
@@ -715,7 +714,7 @@ public final class SimpleExpressionBuilder {
                 classResolver = context.getClassResolver();
                 exp = ExpressionBuilder.simpleExpression(name);
                 exp.init(context);
-                bean = context.resolveLanguage("bean");
+                callSite.init(context);
             }
 
             @Override
@@ -771,7 +770,7 @@ public final class SimpleExpressionBuilder {
         return new ExpressionAdapter() {
             private ClassResolver classResolver;
             private Expression exp;
-            private Language bean;
+            private final SimpleOgnlCallSite callSite = new SimpleOgnlCallSite(ognl);
 
             @Override
             public Object evaluate(Exchange exchange) {
@@ -786,9 +785,7 @@ public final class SimpleExpressionBuilder {
                 if (body != null) {
                     // ognl is able to evaluate method name if it contains nested functions
                     // so we should not eager evaluate ognl as a string
-                    Expression ognlExp = bean.createExpression(null, new Object[] { body, ognl });
-                    ognlExp.init(exchange.getContext());
-                    return ognlExp.evaluate(exchange, Object.class);
+                    return callSite.evaluate(exchange, body);
                 } else {
                     return null;
                 }
@@ -799,7 +796,7 @@ public final class SimpleExpressionBuilder {
                 classResolver = context.getClassResolver();
                 exp = ExpressionBuilder.simpleExpression(name);
                 exp.init(context);
-                bean = context.resolveLanguage("bean");
+                callSite.init(context);
             }
 
             @Override
@@ -816,20 +813,18 @@ public final class SimpleExpressionBuilder {
      */
     public static Expression exchangeOgnlExpression(final String ognl) {
         return new ExpressionAdapter() {
-            private Language bean;
+            private final SimpleOgnlCallSite callSite = new SimpleOgnlCallSite(ognl);
 
             @Override
             public Object evaluate(Exchange exchange) {
                 // ognl is able to evaluate method name if it contains nested functions
                 // so we should not eager evaluate ognl as a string
-                Expression ognlExp = bean.createExpression(null, new Object[] { exchange, ognl });
-                ognlExp.init(exchange.getContext());
-                return ognlExp.evaluate(exchange, Object.class);
+                return callSite.evaluate(exchange, exchange);
             }
 
             @Override
             public void init(CamelContext context) {
-                bean = context.resolveLanguage("bean");
+                callSite.init(context);
             }
 
             @Override
@@ -875,7 +870,7 @@ public final class SimpleExpressionBuilder {
      */
     public static Expression bodyOgnlExpression(final String ognl) {
         return new ExpressionAdapter() {
-            private Language bean;
+            private final SimpleOgnlCallSite callSite = new SimpleOgnlCallSite(ognl);
 
             @Override
             public Object evaluate(Exchange exchange) {
@@ -883,14 +878,12 @@ public final class SimpleExpressionBuilder {
                 if (body == null) {
                     return null;
                 }
-                Expression ognlExp = bean.createExpression(null, new Object[] { body, ognl });
-                ognlExp.init(exchange.getContext());
-                return ognlExp.evaluate(exchange, Object.class);
+                return callSite.evaluate(exchange, body);
             }
 
             @Override
             public void init(CamelContext context) {
-                bean = context.resolveLanguage("bean");
+                callSite.init(context);
             }
 
             @Override
@@ -938,6 +931,7 @@ public final class SimpleExpressionBuilder {
         return new ExpressionAdapter() {
             private ClassResolver classResolver;
             private Expression exp;
+            private volatile Object constant;
 
             @Override
             public void init(CamelContext context) {
@@ -948,11 +942,16 @@ public final class SimpleExpressionBuilder {
 
             @Override
             public Object evaluate(Exchange exchange) {
+                Object answer = constant;
+                if (answer != null) {
+                    return answer;
+                }
+
                 // it may refer to a class type
                 String text = exp.evaluate(exchange, String.class);
                 Class<?> type = classResolver.resolveClass(text);
                 if (type != null) {
-                    return type;
+                    return fold(type);
                 }
 
                 int pos = text.lastIndexOf('.');
@@ -966,16 +965,16 @@ public final class SimpleExpressionBuilder {
                             Class<Enum<?>> enumClass = (Class<Enum<?>>) type;
                             for (Enum<?> enumValue : enumClass.getEnumConstants()) {
                                 if (enumValue.name().equalsIgnoreCase(after)) {
-                                    return type.cast(enumValue);
+                                    return fold(type.cast(enumValue));
                                 }
                             }
                             throw CamelExecutionException.wrapCamelExecutionException(exchange,
                                     new ClassNotFoundException("Cannot find enum: " + after + " on type: " + type));
                         } else {
                             // we assume it is a field constant
-                            Object answer = ObjectHelper.lookupConstantFieldValue(type, after);
+                            answer = ObjectHelper.lookupConstantFieldValue(type, after);
                             if (answer != null) {
-                                return answer;
+                                return isFinalField(type, after) ? fold(answer) : answer;
                             }
                         }
                     }
@@ -985,6 +984,22 @@ public final class SimpleExpressionBuilder {
                         new ClassNotFoundException("Cannot find type: " + text));
             }
 
+            private Object fold(Object answer) {
+                if (exp instanceof ConstantExpressionAdapter) {
+                    // the type name is constant so the result can be folded into a constant as well
+                    constant = answer;
+                }
+                return answer;
+            }
+
+            private boolean isFinalField(Class<?> type, String field) {
+                try {
+                    return Modifier.isFinal(type.getField(field).getModifiers());
+                } catch (NoSuchFieldException e) {
+                    return false;
+                }
+            }
+
             @Override
             public String toString() {
                 return "type:" + name;
@@ -1016,7 +1031,7 @@ public final class SimpleExpressionBuilder {
      */
     public static Expression exchangeExceptionOgnlExpression(final String ognl) {
         return new ExpressionAdapter() {
-            private Language bean;
+            private final SimpleOgnlCallSite callSite = new SimpleOgnlCallSite(ognl);
 
             @Override
             public Object evaluate(Exchange exchange) {
@@ -1031,14 +1046,12 @@ public final class SimpleExpressionBuilder {
 
                 // ognl is able to evaluate method name if it contains nested functions
                 // so we should not eager evaluate ognl as a string
-                Expression ognlExp = bean.createExpression(null, new Object[] { exception, ognl });
-                ognlExp.init(exchange.getContext());
-                return ognlExp.evaluate(exchange, Object.class);
+                return callSite.evaluate(exchange, exception);
             }
 
             @Override
             public void init(CamelContext context) {
-                bean = context.resolveLanguage("bean");
+                callSite.init(context);
             }
 
             @Override
@@ -1060,7 +1073,7 @@ public final class SimpleExpressionBuilder {
         private String method;
         private Expression keyExpression;
         private Expression ognlExpression;
-        private Language beanLanguage;
+        private SimpleOgnlCallSite callSite;
 
         KeyedOgnlExpressionAdapter(String ognl, String toStringValue,
                                    KeyedEntityRetrievalStrategy keyedEntityRetrievalStrategy) {
@@ -1084,11 +1097,16 @@ public final class SimpleExpressionBuilder {
             key = OgnlHelper.removeOperators(key);
             // and this may be the last remainder method to try as OGNL if there are no exchange properties with those key names
             method = StringHelper.after(ognl, key + keySuffix);
+            if (method != null) {
+                callSite = new SimpleOgnlCallSite(method);
+            }
         }
 
         @Override
         public void init(CamelContext context) {
-            beanLanguage = context.resolveLanguage("bean");
+            if (callSite != null) {
+                callSite.init(context);
+            }
             ognlExpression = ExpressionBuilder.simpleExpression(ognl);
             ognlExpression.init(context);
             // key must be lazy eval as it only used in special situations
@@ -1112,10 +1130,8 @@ public final class SimpleExpressionBuilder {
             if (property == null) {
                 return null;
             }
-            if (method != null) {
-                Expression exp = beanLanguage.createExpression(null, new Object[] { property, method });
-                exp.init(exchange.getContext());
-                return exp.evaluate(exchange, Object.class);
+            if (callSite != null) {
+                return callSite.evaluate(exchange, property);
             } else {
                 return property;
             }
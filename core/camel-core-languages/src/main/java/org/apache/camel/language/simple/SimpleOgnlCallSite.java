@@ -0,0 +1,321 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.regex.Pattern;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExpressionException;
+import org.apache.camel.spi.Language;
+import org.apache.camel.util.OgnlHelper;
+
+/**
+ * A call site for invoking a chain of methods in a simple OGNL notation (such as <tt>${body.address.city}</tt>) on a
+ * target (such as the message body).
+ * <p/>
+ * The leading methods of the chain which are getters (or methods without parameters) are resolved into method handles
+ * once per type of the target and cached on the call site, so they can be invoked directly instead of using the bean
+ * language. The rest of the chain (such as methods with parameters, or index lookups on maps and lists) is delegated to
+ * the bean language, which is also used when a method cannot be resolved. When an invocation fails (or returns
+ * <tt>null</tt> and the chain cannot continue) then the same exception as the bean language is thrown, without invoking
+ * any of the methods again.
+ */
+final class SimpleOgnlCallSite {
+
+    private static final Pattern METHOD_NAME = Pattern.compile("[a-zA-Z_$][a-zA-Z0-9_$]*(\\(\\))?");
+    private static final MethodType GENERIC = MethodType.methodType(Object.class, Object.class);
+    private static final String BEAN_EXCEPTION = "org.apache.camel.language.bean.RuntimeBeanExpressionException";
+    private static final Method AMBIGUOUS;
+
+    static {
+        try {
+            AMBIGUOUS = Object.class.getMethod("toString");
+        } catch (NoSuchMethodException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final String ognl;
+    // the leading methods of the chain which can be invoked using method handles
+    private final String[] names;
+    private final boolean[] nullSafe;
+    // the next method of the chain (including its leading operator) after the given method
+    private final String[] nextMethods;
+    // the remainder of the chain (from the given method) to delegate to the bean language
+    private final String[] remainders;
+    private final ResolvedMethod[] resolved;
+    private Language bean;
+    private MethodHandle beanExceptionWithCause;
+    private MethodHandle beanExceptionWithMessage;
+
+    SimpleOgnlCallSite(String ognl) {
+        this.ognl = ognl;
+
+        List<String> methods = OgnlHelper.splitOgnl(ognl);
+        int size = 0;
+        for (String method : methods) {
+            String name = OgnlHelper.removeLeadingOperators(method);
+            if (name == null || !METHOD_NAME.matcher(name).matches()) {
+                break;
+            }
+            size++;
+        }
+        this.names = new String[size];
+        this.nullSafe = new boolean[size];
+        this.nextMethods = new String[size];
+        this.remainders = new String[size + 1];
+        this.resolved = new ResolvedMethod[size];
+        for (int i = 0; i < size; i++) {
+            names[i] = OgnlHelper.removeLeadingOperators(methods.get(i));
+            nullSafe[i] = OgnlHelper.isNullSafeOperator(methods.get(i));
+            nextMethods[i] = i + 1 < methods.size() ? methods.get(i + 1) : null;
+        }
+        for (int i = 0; i <= size; i++) {
+            remainders[i] = i == 0 ? ognl : i < methods.size() ? String.join("", methods.subList(i, methods.size())) : null;
+        }
+    }
+
+    void init(CamelContext context) {
+        bean = context.resolveLanguage("bean");
+        // the exception from the bean language (camel-bean is not a dependency of this module)
+        Class<?> type = context.getClassResolver().resolveClass(BEAN_EXCEPTION);
+        if (type != null) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                beanExceptionWithCause = lookup.findConstructor(type,
+                        MethodType.methodType(void.class, Exchange.class, String.class, String.class, Throwable.class));
+                beanExceptionWithMessage = lookup.findConstructor(type,
+                        MethodType.methodType(void.class, Exchange.class, String.class, String.class, String.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                beanExceptionWithCause = null;
+                beanExceptionWithMessage = null;
+            }
+        }
+    }
+
+    /**
+     * Invokes the chain of methods on the target
+     *
+     * @param  exchange the exchange
+     * @param  target   the target to invoke the first method on, must not be <tt>null</tt>
+     * @return          the result of the last method
+     */
+    Object evaluate(Exchange exchange, Object target) {
+        Object result = target;
+        for (int i = 0; i < names.length; i++) {
+            MethodHandle handle = resolve(i, result.getClass());
+            if (handle == null) {
+                return delegate(exchange, result, remainders[i]);
+            }
+            try {
+                result = (Object) handle.invokeExact(result);
+            } catch (Throwable e) {
+                // fail in the same way as the bean language
+                throw beanException(exchange, null, names[i], e);
+            }
+            if (result == null) {
+                if (nullSafe[i] || remainders[i + 1] == null) {
+                    return null;
+                }
+                // fail in the same way as the bean language invoking the next method on null
+                String message = "last method returned null and therefore cannot continue to invoke method "
+                                 + nextMethods[i] + " on a null instance";
+                throw beanException(exchange, target.getClass().getCanonicalName(), ognl, message);
+            }
+        }
+        String remainder = remainders[names.length];
+        return remainder != null ? delegate(exchange, result, remainder) : result;
+    }
+
+    private Object delegate(Exchange exchange, Object target, String remainder) {
+        Expression exp = bean.createExpression(null, new Object[] { target, remainder });
+        exp.init(exchange.getContext());
+        return exp.evaluate(exchange, Object.class);
+    }
+
+    /**
+     * Creates the exception the bean language throws when invoking a method fails.
+     */
+    private RuntimeException beanException(Exchange exchange, String beanName, String method, Object cause) {
+        MethodHandle constructor = cause instanceof Throwable ? beanExceptionWithCause : beanExceptionWithMessage;
+        if (constructor != null) {
+            try {
+                return (RuntimeException) constructor.invoke(exchange, beanName, method, cause);
+            } catch (Throwable e) {
+                // ignore and use the generic exception
+            }
+        }
+        if (cause instanceof Throwable) {
+            return new RuntimeExpressionException(
+                    "Failed to invoke method: " + method + " on " + beanName + " due to: " + cause, (Throwable) cause);
+        }
+        return new RuntimeExpressionException("Failed to invoke method: " + method + " on " + beanName + " due " + cause);
+    }
+
+    private MethodHandle resolve(int index, Class<?> type) {
+        ResolvedMethod answer = resolved[index];
+        if (answer == null || answer.type != type) {
+            // the types are typically the same on every invocation so cache the last resolved method
+            answer = new ResolvedMethod(type, resolveMethod(type, names[index]));
+            resolved[index] = answer;
+        }
+        return answer.handle;
+    }
+
+    /**
+     * Resolves the method with the given name (or getter for the shorthand name) in the same way as the bean language,
+     * if its an unambiguous method without parameters which can be invoked using a public method handle.
+     */
+    static MethodHandle resolveMethod(Class<?> type, String name) {
+        if (Proxy.isProxyClass(type) || type.getName().contains("$$")) {
+            // enhanced and proxy classes are special in the bean language
+            return null;
+        }
+        boolean explicit = name.endsWith("()");
+        if (explicit) {
+            name = name.substring(0, name.length() - 2);
+        }
+
+        Method method;
+        try {
+            method = findMethod(type, name);
+            if (method == null && !explicit && Character.isLowerCase(name.charAt(0))) {
+                // shorthand name of a getter
+                String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+                Method getter = findMethod(type, "get" + suffix);
+                Method is = findMethod(type, "is" + suffix);
+                if (is != null && is != AMBIGUOUS
+                        && !is.getReturnType().getSimpleName().equalsIgnoreCase("boolean")) {
+                    is = null;
+                }
+                method = getter != null && is != null ? AMBIGUOUS : getter != null ? getter : is;
+            }
+        } catch (RuntimeException | LinkageError e) {
+            // cannot introspect the type
+            return null;
+        }
+        if (method == null || method == AMBIGUOUS || !isSimpleMethod(method)) {
+            return null;
+        }
+
+        for (Class<?> clazz : publicTypes(type)) {
+            try {
+                return MethodHandles.publicLookup()
+                        .findVirtual(clazz, method.getName(), MethodType.methodType(method.getReturnType()))
+                        .asType(GENERIC);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // try the next type
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the method with the given name which the bean language would introspect on the type.
+     *
+     * @return the method, <tt>null</tt> if not found, or {@link #AMBIGUOUS} if the method is overloaded
+     */
+    private static Method findMethod(Class<?> type, String name) {
+        List<Method> methods = new ArrayList<>();
+        collectMethods(type, name, methods);
+        Method answer = null;
+        for (Method method : methods) {
+            if (answer == null) {
+                answer = method;
+            } else if (!Arrays.equals(answer.getParameterTypes(), method.getParameterTypes())) {
+                return AMBIGUOUS;
+            }
+        }
+        return answer;
+    }
+
+    private static void collectMethods(Class<?> type, String name, List<Method> methods) {
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.getName().equals(name) && !method.isBridge() && !Modifier.isPrivate(method.getModifiers())) {
+                methods.add(method);
+            }
+        }
+        Class<?> superClass = type.getSuperclass();
+        if (superClass != null && superClass != Object.class) {
+            collectMethods(superClass, name, methods);
+        }
+        for (Class<?> superInterface : type.getInterfaces()) {
+            collectMethods(superInterface, name, methods);
+        }
+    }
+
+    private static boolean isSimpleMethod(Method method) {
+        Class<?> returnType = method.getReturnType();
+        if (method.getParameterCount() > 0 || Modifier.isStatic(method.getModifiers()) || returnType == Void.TYPE
+                || Exchange.class.isAssignableFrom(returnType) || CompletionStage.class.isAssignableFrom(returnType)) {
+            return false;
+        }
+        for (Annotation annotation : method.getAnnotations()) {
+            // camel annotations such as @RecipientList changes how the bean language invokes the method
+            if (annotation.annotationType().getName().startsWith("org.apache.camel.")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Class<?>> publicTypes(Class<?> type) {
+        List<Class<?>> answer = new ArrayList<>();
+        for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+            if (Modifier.isPublic(clazz.getModifiers())) {
+                answer.add(clazz);
+            }
+        }
+        for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+            for (Class<?> superInterface : clazz.getInterfaces()) {
+                if (Modifier.isPublic(superInterface.getModifiers())) {
+                    answer.add(superInterface);
+                }
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public String toString() {
+        return ognl;
+    }
+
+    private static final class ResolvedMethod {
+        private final Class<?> type;
+        private final MethodHandle handle;
+
+        private ResolvedMethod(Class<?> type, MethodHandle handle) {
+            this.type = type;
+            this.handle = handle;
+        }
+    }
+
+}
@@ -88,6 +88,14 @@ public class BinaryExpression extends BaseSimpleNode {
         final Expression leftExp = left.createExpression(camelContext, expression);
         final Expression rightExp = right.createExpression(camelContext, expression);
 
+        if (right instanceof NumericExpression) {
+            // comparing with a numeric literal (eg ${header.age} > 18) can be optimized
+            Expression answer = createNumericExpression(camelContext, leftExp, ((NumericExpression) right).getNumber());
+            if (answer != null) {
+                return answer;
+            }
+        }
+
         if (operator == BinaryOperatorType.EQ) {
             return createExpression(camelContext, leftExp, rightExp, PredicateBuilder.isEqualTo(leftExp, rightExp));
         } else if (operator == BinaryOperatorType.EQ_IGNORE) {
@@ -133,6 +141,75 @@ public class BinaryExpression extends BaseSimpleNode {
         throw new SimpleParserException("Unknown binary operator " + operator, token.getIndex());
     }
 
+    private Expression createNumericExpression(
+            final CamelContext camelContext, final Expression leftExp, final Object number) {
+        if (!(number instanceof Integer || number instanceof Long)) {
+            return null;
+        }
+        if (operator != BinaryOperatorType.EQ && operator != BinaryOperatorType.NOT_EQ
+                && operator != BinaryOperatorType.GT && operator != BinaryOperatorType.GTE
+                && operator != BinaryOperatorType.LT && operator != BinaryOperatorType.LTE) {
+            return null;
+        }
+
+        final boolean integer = number instanceof Integer;
+        final long num = ((Number) number).longValue();
+        return new Expression() {
+            @Override
+            public <T> T evaluate(Exchange exchange, Class<T> type) {
+                Object value = leftExp.evaluate(exchange, Object.class);
+                boolean answer;
+                if (value == null) {
+                    // the numeric literal is never null
+                    answer = operator == BinaryOperatorType.NOT_EQ;
+                } else {
+                    answer = matches(exchange, value);
+                }
+                return camelContext.getTypeConverter().convertTo(type, answer);
+            }
+
+            private boolean matches(Exchange exchange, Object value) {
+                // compare the common types as primitive values (in the same way as the type coerced comparison)
+                long leftNum;
+                if (integer && value instanceof Integer || !integer && value instanceof Long) {
+                    leftNum = ((Number) value).longValue();
+                } else if (value instanceof String && ObjectHelper.isNumber((String) value)) {
+                    leftNum = integer ? Integer.parseInt((String) value) : Long.parseLong((String) value);
+                } else if (operator == BinaryOperatorType.EQ) {
+                    return ObjectHelper.typeCoerceEquals(exchange.getContext().getTypeConverter(), value, number);
+                } else if (operator == BinaryOperatorType.NOT_EQ) {
+                    return ObjectHelper.typeCoerceNotEquals(exchange.getContext().getTypeConverter(), value, number);
+                } else {
+                    return compare(ObjectHelper.typeCoerceCompare(exchange.getContext().getTypeConverter(), value, number));
+                }
+                if (operator == BinaryOperatorType.EQ) {
+                    return leftNum == num;
+                } else if (operator == BinaryOperatorType.NOT_EQ) {
+                    return leftNum != num;
+                } else {
+                    return compare(Long.compare(leftNum, num));
+                }
+            }
+
+            private boolean compare(int result) {
+                if (operator == BinaryOperatorType.GT) {
+                    return result > 0;
+                } else if (operator == BinaryOperatorType.GTE) {
+                    return result >= 0;
+                } else if (operator == BinaryOperatorType.LT) {
+                    return result < 0;
+                } else {
+                    return result <= 0;
+                }
+            }
+
+            @Override
+            public String toString() {
+                return left + " " + token.getText() + " " + right;
+            }
+        };
+    }
+
     private Expression createIsExpression(
             final CamelContext camelContext, final String expression, final Expression leftExp, final Expression rightExp) {
         return new Expression() {
@@ -90,6 +90,13 @@ public class ThreadPoolProfileBuilder {
         return this;
     }
 
+    public ThreadPoolProfileBuilder virtualThreads(Boolean virtualThreads) {
+        if (virtualThreads != null) {
+            profile.setVirtualThreads(virtualThreads);
+        }
+        return this;
+    }
+
     public ThreadPoolProfileBuilder rejectedPolicy(ThreadPoolRejectedPolicy rejectedPolicy) {
         if (rejectedPolicy != null) {
             profile.setRejectedPolicy(rejectedPolicy);
@@ -90,6 +90,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
     @Metadata(javaType = "java.lang.Boolean")
     private String optimisticLocking;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String parallelCorrelationLocks;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService")
     private String executorService;
     @XmlAttribute
@@ -455,6 +458,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.optimisticLocking = optimisticLocking;
     }
 
+    public String getParallelCorrelationLocks() {
+        return parallelCorrelationLocks;
+    }
+
+    public void setParallelCorrelationLocks(String parallelCorrelationLocks) {
+        this.parallelCorrelationLocks = parallelCorrelationLocks;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -954,6 +965,18 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Number of locks to use, for aggregating exchanges with different correlation keys in parallel. By default, a
+     * single lock is used, which means all exchanges are aggregated one at a time. When set then the correlation keys
+     * are spread over the given number of locks, so exchanges with different correlation keys can be aggregated in
+     * parallel, while exchanges with the same correlation key are still aggregated in order. This cannot be used
+     * together with optimistic locking or completion from batch consumer.
+     */
+    public AggregateDefinition parallelCorrelationLocks(int locks) {
+        setParallelCorrelationLocks(Integer.toString(locks));
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
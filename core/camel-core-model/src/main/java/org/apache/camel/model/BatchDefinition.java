@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.model;
+
+import java.util.List;
+
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlAttribute;
+import jakarta.xml.bind.annotation.XmlElementRef;
+import jakarta.xml.bind.annotation.XmlRootElement;
+
+import org.apache.camel.spi.Metadata;
+
+/**
+ * Collects messages into batches by size, byte size or linger time, and routes each batch as a single message, while
+ * each message is still completed individually.
+ */
+@Metadata(label = "eip,routing")
+@XmlRootElement(name = "batch")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class BatchDefinition extends OutputDefinition<BatchDefinition> {
+
+    @XmlAttribute
+    @Metadata(defaultValue = "100", javaType = "java.lang.Integer")
+    private String size;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Long")
+    private String byteSize;
+    @XmlAttribute
+    @Metadata(defaultValue = "100", javaType = "java.time.Duration")
+    private String lingerTime;
+
+    public BatchDefinition() {
+    }
+
+    @Override
+    public List<ProcessorDefinition<?>> getOutputs() {
+        return super.getOutputs();
+    }
+
+    @XmlElementRef
+    @Override
+    public void setOutputs(List<ProcessorDefinition<?>> outputs) {
+        super.setOutputs(outputs);
+    }
+
+    @Override
+    public String getShortName() {
+        return "batch";
+    }
+
+    @Override
+    public String getLabel() {
+        return "batch";
+    }
+
+    @Override
+    public String toString() {
+        return "Batch[" + getOutputs() + "]";
+    }
+
+    // Fluent API
+    // -------------------------------------------------------------------------
+
+    /**
+     * The maximum number of messages in a batch. When the batch is full then it is routed.
+     */
+    public BatchDefinition size(int size) {
+        return size(Integer.toString(size));
+    }
+
+    /**
+     * The maximum number of messages in a batch. When the batch is full then it is routed.
+     */
+    public BatchDefinition size(String size) {
+        setSize(size);
+        return this;
+    }
+
+    /**
+     * The maximum number of bytes of the message bodies in a batch. When the batch reaches this size then it is routed.
+     * By default there is no limit.
+     */
+    public BatchDefinition byteSize(long byteSize) {
+        return byteSize(Long.toString(byteSize));
+    }
+
+    /**
+     * The maximum number of bytes of the message bodies in a batch. When the batch reaches this size then it is routed.
+     * By default there is no limit.
+     */
+    public BatchDefinition byteSize(String byteSize) {
+        setByteSize(byteSize);
+        return this;
+    }
+
+    /**
+     * The maximum time in millis to wait for more messages, after the first message has been added to a batch. When
+     * the time has elapsed, then the batch is routed even if it is not full.
+     */
+    public BatchDefinition lingerTime(long lingerTime) {
+        return lingerTime(Long.toString(lingerTime));
+    }
+
+    /**
+     * The maximum time to wait for more messages, after the first message has been added to a batch. When the time has
+     * elapsed, then the batch is routed even if it is not full.
+     */
+    public BatchDefinition lingerTime(String lingerTime) {
+        setLingerTime(lingerTime);
+        return this;
+    }
+
+    // Properties
+    // -------------------------------------------------------------------------
+
+    public String getSize() {
+        return size;
+    }
+
+    /**
+     * The maximum number of messages in a batch. When the batch is full then it is routed.
+     */
+    public void setSize(String size) {
+        this.size = size;
+    }
+
+    public String getByteSize() {
+        return byteSize;
+    }
+
+    /**
+     * The maximum number of bytes of the message bodies in a batch. When the batch reaches this size then it is routed.
+     * By default there is no limit.
+     */
+    public void setByteSize(String byteSize) {
+        this.byteSize = byteSize;
+    }
+
+    public String getLingerTime() {
+        return lingerTime;
+    }
+
+    /**
+     * The maximum time to wait for more messages, after the first message has been added to a batch. When the time has
+     * elapsed, then the batch is routed even if it is not full.
+     */
+    public void setLingerTime(String lingerTime) {
+        this.lingerTime = lingerTime;
+    }
+}
@@ -820,6 +820,24 @@ public abstract class ProcessorDefinition<Type extends ProcessorDefinition<Type>
         return answer;
     }
 
+    /**
+     * Collects the messages into batches, and routes each batch as a single message which has the messages of the batch
+     * as a {@link java.util.List} of {@link Exchange} in the message body. Each message is completed individually, when
+     * its batch has been routed.
+     * <p/>
+     * If the batch is routed to a producer which implements {@link org.apache.camel.spi.BatchProducer} then the
+     * producer receives the whole batch in one call.
+     *
+     * @param  size the maximum number of messages in a batch
+     * @return      the builder
+     */
+    public BatchDefinition batch(int size) {
+        BatchDefinition answer = new BatchDefinition();
+        answer.setSize(Integer.toString(size));
+        addOutput(answer);
+        return answer;
+    }
+
     /**
      * <a href="https://camel.apache.org/components/latest/eips/pipeline-eip.html">Pipes and Filters EIP:</a> Creates a
      * {@link org.apache.camel.processor.Pipeline} so that the message will get processed by each endpoint in turn and
@@ -67,6 +67,9 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @Metadata(javaType = "java.lang.Boolean")
     private String streaming;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String parallelWindowSize;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String stopOnException;
     @XmlAttribute
@@ -318,6 +321,31 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * The maximum number of split messages being processed in parallel at any time. The splitter only splits the next
+     * message when a message has been completed and aggregated, and the replies are aggregated in the same order as the
+     * messages was split. Together with streaming mode this keeps the memory usage bounded regardless of how many
+     * messages are split. This option requires parallel processing to be enabled. By default there is no limit.
+     *
+     * @return the builder
+     */
+    public SplitDefinition parallelWindowSize(int parallelWindowSize) {
+        return parallelWindowSize(Integer.toString(parallelWindowSize));
+    }
+
+    /**
+     * The maximum number of split messages being processed in parallel at any time. The splitter only splits the next
+     * message when a message has been completed and aggregated, and the replies are aggregated in the same order as the
+     * messages was split. Together with streaming mode this keeps the memory usage bounded regardless of how many
+     * messages are split. This option requires parallel processing to be enabled. By default there is no limit.
+     *
+     * @return the builder
+     */
+    public SplitDefinition parallelWindowSize(String parallelWindowSize) {
+        setParallelWindowSize(parallelWindowSize);
+        return this;
+    }
+
     /**
      * Will now stop further processing if an exception or failure occurred during processing of an
      * {@link org.apache.camel.Exchange} and the caused exception will be thrown.
@@ -530,6 +558,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.streaming = streaming;
     }
 
+    public String getParallelWindowSize() {
+        return parallelWindowSize;
+    }
+
+    public void setParallelWindowSize(String parallelWindowSize) {
+        this.parallelWindowSize = parallelWindowSize;
+    }
+
     public String getParallelAggregate() {
         return parallelAggregate;
     }
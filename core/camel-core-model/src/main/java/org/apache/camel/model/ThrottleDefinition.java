@@ -60,6 +60,10 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String rejectExecution;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "org.apache.camel.model.ThrottlingMode", defaultValue = "DelayQueue",
+              enums = "DelayQueue,TokenBucket")
+    private String mode;
 
     public ThrottleDefinition() {
     }
@@ -251,6 +255,27 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    /**
+     * Sets the throttling mode to use a lock-free token bucket, which is better suited for high message rates with many
+     * concurrent threads.
+     *
+     * @return the builder
+     */
+    public ThrottleDefinition modeTokenBucket() {
+        return mode(ThrottlingMode.TokenBucket.name());
+    }
+
+    /**
+     * Sets the throttling mode.
+     *
+     * @param  mode the throttling mode
+     * @return      the builder
+     */
+    public ThrottleDefinition mode(String mode) {
+        setMode(mode);
+        return this;
+    }
+
     /**
      * To use a custom thread pool (ScheduledExecutorService) by the throttler.
      *
@@ -329,6 +354,21 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.rejectExecution = rejectExecution;
     }
 
+    public String getMode() {
+        return mode;
+    }
+
+    /**
+     * Sets the throttling mode. The DelayQueue mode uses a rolling window of permits, where no more than the maximum
+     * number of requests are let through within any time period. The TokenBucket mode uses a lock-free token bucket,
+     * which lets through a burst of up to the maximum number of requests, and then spaces the requests evenly over the
+     * time period. The TokenBucket mode does not allocate any objects per message, and is better suited for high
+     * message rates with many concurrent threads.
+     */
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
     /**
      * The expression used to calculate the correlation key to use for throttle grouping. The Exchange which has the
      * same correlation key is throttled together.
@@ -0,0 +1,304 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.Navigate;
+import org.apache.camel.Processor;
+import org.apache.camel.StreamCache;
+import org.apache.camel.Traceable;
+import org.apache.camel.spi.IdAware;
+import org.apache.camel.spi.RouteIdAware;
+import org.apache.camel.spi.ShutdownPrepared;
+import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.service.ServiceHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects the exchanges into batches, by number of exchanges, byte size of the message bodies, or linger time, and
+ * routes each batch as a single exchange which has the exchanges of the batch as a {@link List} in the message body
+ * (and in the {@link Exchange#GROUPED_EXCHANGE} property).
+ * <p/>
+ * Unlike the aggregator, the batch is only kept in memory, and each exchange is not completed until its batch has been
+ * routed. If routing the batch failed, then the exception is set on each exchange in the batch which has not failed
+ * individually, so error handling and acknowledgements happen per exchange.
+ *
+ * @see org.apache.camel.spi.BatchProducer
+ */
+public class BatchProcessor extends AsyncProcessorSupport
+        implements Navigate<Processor>, Traceable, ShutdownPrepared, IdAware, RouteIdAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchProcessor.class);
+
+    private final CamelContext camelContext;
+    private final AsyncProcessor processor;
+    private final int size;
+    private final long byteSize;
+    private final long lingerTime;
+    private final ScheduledExecutorService lingerExecutorService;
+    private final boolean shutdownLingerExecutorService;
+    private final Lock lock = new ReentrantLock();
+    private String id;
+    private String routeId;
+    private Batch batch;
+
+    public BatchProcessor(CamelContext camelContext, AsyncProcessor processor, int size, long byteSize, long lingerTime,
+                          ScheduledExecutorService lingerExecutorService, boolean shutdownLingerExecutorService) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("A positive value is required for the batch size");
+        }
+        if (lingerTime <= 0) {
+            // the callers are waiting for their batch to be routed, so there must be a time bound
+            throw new IllegalArgumentException("A positive value is required for the linger time");
+        }
+        this.camelContext = camelContext;
+        this.processor = processor;
+        this.size = size;
+        this.byteSize = byteSize;
+        this.lingerTime = lingerTime;
+        this.lingerExecutorService = lingerExecutorService;
+        this.shutdownLingerExecutorService = shutdownLingerExecutorService;
+    }
+
+    /**
+     * The exchanges and their callbacks of a batch being collected
+     */
+    private static final class Batch {
+        private final List<Exchange> exchanges;
+        private final List<AsyncCallback> callbacks;
+        private long bytes;
+        private ScheduledFuture<?> linger;
+
+        private Batch(int size) {
+            this.exchanges = new ArrayList<>(size);
+            this.callbacks = new ArrayList<>(size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return id;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    @Override
+    public String getRouteId() {
+        return routeId;
+    }
+
+    @Override
+    public void setRouteId(String routeId) {
+        this.routeId = routeId;
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "batch[" + size + "]";
+    }
+
+    @Override
+    public List<Processor> next() {
+        if (!hasNext()) {
+            return null;
+        }
+        List<Processor> answer = new ArrayList<>(1);
+        answer.add(processor);
+        return answer;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return processor != null;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getByteSize() {
+        return byteSize;
+    }
+
+    public long getLingerTime() {
+        return lingerTime;
+    }
+
+    /**
+     * The number of exchanges in the batch currently being collected
+     */
+    public int getPendingExchangesSize() {
+        lock.lock();
+        try {
+            return batch != null ? batch.exchanges.size() : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        long bytes = byteSize > 0 ? sizeOf(exchange) : 0;
+
+        Batch full = null;
+        lock.lock();
+        try {
+            if (batch == null) {
+                final Batch current = new Batch(size);
+                current.linger = lingerExecutorService.schedule(() -> flush(current), lingerTime, TimeUnit.MILLISECONDS);
+                batch = current;
+            }
+            batch.exchanges.add(exchange);
+            batch.callbacks.add(callback);
+            batch.bytes += bytes;
+            if (batch.exchanges.size() >= size || byteSize > 0 && batch.bytes >= byteSize) {
+                full = batch;
+                batch = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (full != null) {
+            full.linger.cancel(false);
+            sendBatch(full);
+        }
+        // the exchange is completed when its batch has been routed
+        return false;
+    }
+
+    /**
+     * Routes the given batch, unless the batch has already been routed.
+     */
+    private void flush(Batch target) {
+        lock.lock();
+        try {
+            if (batch != target) {
+                return;
+            }
+            batch = null;
+        } finally {
+            lock.unlock();
+        }
+        sendBatch(target);
+    }
+
+    /**
+     * Routes the batch currently being collected, if any.
+     */
+    public void flush() {
+        Batch target;
+        lock.lock();
+        try {
+            target = batch;
+            batch = null;
+        } finally {
+            lock.unlock();
+        }
+        if (target != null) {
+            target.linger.cancel(false);
+            sendBatch(target);
+        }
+    }
+
+    private void sendBatch(Batch target) {
+        LOG.debug("Routing batch with {} exchanges", target.exchanges.size());
+
+        final Exchange answer = new DefaultExchange(camelContext);
+        answer.setProperty(ExchangePropertyKey.BATCH_SIZE, target.exchanges.size());
+        answer.setProperty(ExchangePropertyKey.GROUPED_EXCHANGE, target.exchanges);
+        answer.getMessage().setBody(target.exchanges);
+
+        processor.process(answer, doneSync -> {
+            Exception cause = answer.getException();
+            for (int i = 0; i < target.exchanges.size(); i++) {
+                Exchange exchange = target.exchanges.get(i);
+                if (cause != null && exchange.getException() == null) {
+                    exchange.setException(cause);
+                }
+                target.callbacks.get(i).done(false);
+            }
+        });
+    }
+
+    private static long sizeOf(Exchange exchange) {
+        Object body = exchange.getMessage().getBody();
+        if (body == null) {
+            return 0;
+        } else if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        } else if (body instanceof StreamCache) {
+            return ((StreamCache) body).length();
+        } else if (body instanceof InputStream || body instanceof Reader) {
+            // do not read the stream as it can only be read once
+            return 0;
+        }
+        byte[] data = exchange.getContext().getTypeConverter().tryConvertTo(byte[].class, exchange, body);
+        return data != null ? data.length : 0;
+    }
+
+    @Override
+    public void prepareShutdown(boolean suspendOnly, boolean forced) {
+        // route the pending exchanges, so they are not waiting for more exchanges which will not come
+        if (!forced) {
+            flush();
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ServiceHelper.startService(processor);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        flush();
+        ServiceHelper.stopService(processor);
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        if (shutdownLingerExecutorService && lingerExecutorService != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(lingerExecutorService);
+        }
+        ServiceHelper.stopAndShutdownServices(processor);
+    }
+}
@@ -167,6 +167,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
     private ExecutorService aggregateExecutorService;
     private boolean shutdownAggregateExecutorService;
     private final long timeout;
+    private int parallelWindowSize;
     private final ConcurrentMap<Processor, Processor> errorHandlers = new ConcurrentHashMap<>();
     private final boolean shareUnitOfWork;
 
@@ -382,6 +383,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean paused = new AtomicBoolean();
         final Map<String, String> mdc;
 
         private MulticastTask() {
@@ -410,10 +412,13 @@ public class MulticastProcessor extends AsyncProcessorSupport
             } else {
                 this.mdc = null;
             }
+            // when using a window then the replies are always aggregated in order, so the window bounds
+            // the number of replies waiting to be aggregated
+            boolean ordered = !isStreaming() || isWindowed();
             if (capacity > 0) {
-                this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock, capacity);
+                this.completion = new AsyncCompletionService<>(scheduler, ordered, lock, capacity);
             } else {
-                this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock);
+                this.completion = new AsyncCompletionService<>(scheduler, ordered, lock);
             }
         }
 
@@ -438,6 +443,9 @@ public class MulticastProcessor extends AsyncProcessorSupport
                         doAggregate(result, exchange, original);
                         if (nbAggregated.incrementAndGet() >= nbExchangeSent.get() && allSent.get()) {
                             doDone(result.get(), true);
+                        } else if (isWindowed()) {
+                            // a slot in the window is free
+                            resume();
                         }
                     }
                 } catch (Throwable e) {
@@ -478,6 +486,26 @@ public class MulticastProcessor extends AsyncProcessorSupport
             }
         }
 
+        /**
+         * Schedules this task to send the next pair when there is a free slot in the window, otherwise this task is
+         * paused until an exchange has been aggregated.
+         */
+        protected void scheduleWithinWindow() {
+            paused.set(true);
+            // check again after pausing as exchanges may have been aggregated in the meantime
+            resume();
+        }
+
+        /**
+         * Resumes this task if paused, and there is a free slot in the window.
+         */
+        protected void resume() {
+            if (paused.get() && !done.get() && nbExchangeSent.get() - nbAggregated.get() < parallelWindowSize
+                    && paused.compareAndSet(true, false)) {
+                schedule(this);
+            }
+        }
+
         protected void doDone(Exchange exchange, boolean forceExhaust) {
             if (done.compareAndSet(false, true)) {
                 MulticastProcessor.this.doDone(original, exchange, pairs, callback, false, forceExhaust);
@@ -576,7 +604,11 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
                 if (hasNext && isParallelProcessing()) {
-                    schedule(this);
+                    if (isWindowed()) {
+                        scheduleWithinWindow();
+                    } else {
+                        schedule(this);
+                    }
                 }
             } catch (Exception e) {
                 original.setException(e);
@@ -1252,6 +1284,22 @@ public class MulticastProcessor extends AsyncProcessorSupport
         return parallelProcessing;
     }
 
+    /**
+     * The maximum number of exchanges being processed in parallel, which have not yet been aggregated, or 0 for no
+     * limit.
+     */
+    public int getParallelWindowSize() {
+        return parallelWindowSize;
+    }
+
+    public void setParallelWindowSize(int parallelWindowSize) {
+        this.parallelWindowSize = parallelWindowSize;
+    }
+
+    private boolean isWindowed() {
+        return parallelWindowSize > 0 && isParallelProcessing();
+    }
+
     public boolean isParallelAggregate() {
         return parallelAggregate;
     }
@@ -16,17 +16,21 @@
  */
 package org.apache.camel.processor;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProducer;
 import org.apache.camel.CamelContext;
+import org.apache.camel.DelegateProcessor;
 import org.apache.camel.Endpoint;
 import org.apache.camel.EndpointAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
 import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.Processor;
 import org.apache.camel.Traceable;
+import org.apache.camel.spi.BatchProducer;
 import org.apache.camel.spi.IdAware;
 import org.apache.camel.spi.ProducerCache;
 import org.apache.camel.spi.RouteIdAware;
@@ -55,6 +59,7 @@ public class SendProcessor extends AsyncProcessorSupport implements Traceable, E
     protected final ExchangePattern pattern;
     protected ProducerCache producerCache;
     protected AsyncProducer producer;
+    protected BatchProducer batchProducer;
     protected Endpoint destination;
     protected ExchangePattern destinationExchangePattern;
     protected String id;
@@ -129,6 +134,14 @@ public class SendProcessor extends AsyncProcessorSupport implements Traceable, E
             counter.incrementAndGet();
         }
 
+        // if the exchange is a batch and the producer supports batching then send the whole batch in one call
+        if (batchProducer != null) {
+            List<Exchange> batch = exchange.getProperty(ExchangePropertyKey.GROUPED_EXCHANGE, List.class);
+            if (batch != null) {
+                return processBatch(exchange, batch, callback);
+            }
+        }
+
         // if we have a producer then use that as its optimized
         if (producer != null) {
             final Exchange target = exchange;
@@ -201,6 +214,23 @@ public class SendProcessor extends AsyncProcessorSupport implements Traceable, E
         }
     }
 
+    protected boolean processBatch(Exchange exchange, List<Exchange> batch, AsyncCallback callback) {
+        // set property which endpoint we send to
+        exchange.setProperty(ExchangePropertyKey.TO_ENDPOINT, destination.getEndpointUri());
+        for (Exchange target : batch) {
+            target.setProperty(ExchangePropertyKey.TO_ENDPOINT, destination.getEndpointUri());
+        }
+
+        LOG.debug(">>>> {} batch of {} exchanges", destination, batch.size());
+        try {
+            return batchProducer.processBatch(batch, callback);
+        } catch (Throwable throwable) {
+            exchange.setException(throwable);
+            callback.done(true);
+        }
+        return true;
+    }
+
     public Endpoint getDestination() {
         return destination;
     }
@@ -244,6 +274,11 @@ public class SendProcessor extends AsyncProcessorSupport implements Traceable, E
         // yes we can optimize and use the producer directly for sending
         if (destination.isSingletonProducer()) {
             this.producer = destination.createAsyncProducer();
+            // the producer may be wrapped to be async
+            Processor target = producer instanceof DelegateProcessor ? ((DelegateProcessor) producer).getProcessor() : producer;
+            if (target instanceof BatchProducer) {
+                this.batchProducer = (BatchProducer) target;
+            }
             // ensure the producer is managed and started
             camelContext.addService(this.producer, true, true);
         } else {
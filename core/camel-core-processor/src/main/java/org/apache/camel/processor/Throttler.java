@@ -31,11 +31,6 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.RuntimeExchangeException;
-import org.apache.camel.Traceable;
-import org.apache.camel.spi.IdAware;
-import org.apache.camel.spi.RouteIdAware;
-import org.apache.camel.support.AsyncProcessorSupport;
-import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,12 +51,10 @@ import org.slf4j.LoggerFactory;
  * rolling window of time. Where from the callers point of view in the last timePeriodMillis no more than
  * maxRequestsPerPeriod have been allowed to be acquired.
  */
-public class Throttler extends AsyncProcessorSupport implements Traceable, IdAware, RouteIdAware {
+public class Throttler extends AbstractThrottler {
 
     private static final Logger LOG = LoggerFactory.getLogger(Throttler.class);
 
-    private static final String DEFAULT_KEY = "CamelThrottlerDefaultKey";
-
     private static final String PROPERTY_EXCHANGE_QUEUED_TIMESTAMP = "CamelThrottlerExchangeQueuedTimestamp";
     private static final String PROPERTY_EXCHANGE_STATE = "CamelThrottlerExchangeState";
 
@@ -71,39 +64,16 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         ASYNC_REJECTED
     }
 
-    private final CamelContext camelContext;
-    private final ScheduledExecutorService asyncExecutor;
-    private final boolean shutdownAsyncExecutor;
-
-    private volatile long timePeriodMillis;
     private volatile long cleanPeriodMillis;
-    private String id;
-    private String routeId;
-    private Expression maxRequestsPerPeriodExpression;
-    private boolean rejectExecution;
-    private boolean asyncDelayed;
-    private boolean callerRunsWhenRejected = true;
-    private Expression correlationExpression;
     private Map<String, ThrottlingState> states = new ConcurrentHashMap<>();
 
     public Throttler(final CamelContext camelContext, final Expression maxRequestsPerPeriodExpression,
                      final long timePeriodMillis,
                      final ScheduledExecutorService asyncExecutor, final boolean shutdownAsyncExecutor,
                      final boolean rejectExecution, Expression correlation) {
-        this.camelContext = camelContext;
-        this.rejectExecution = rejectExecution;
-        this.shutdownAsyncExecutor = shutdownAsyncExecutor;
-
-        ObjectHelper.notNull(maxRequestsPerPeriodExpression, "maxRequestsPerPeriodExpression");
-        this.maxRequestsPerPeriodExpression = maxRequestsPerPeriodExpression;
-
-        if (timePeriodMillis <= 0) {
-            throw new IllegalArgumentException("TimePeriodMillis should be a positive number, was: " + timePeriodMillis);
-        }
-        this.timePeriodMillis = timePeriodMillis;
+        super(camelContext, maxRequestsPerPeriodExpression, timePeriodMillis, asyncExecutor, shutdownAsyncExecutor,
+              rejectExecution, correlation);
         this.cleanPeriodMillis = timePeriodMillis * 10;
-        this.asyncExecutor = asyncExecutor;
-        this.correlationExpression = correlation;
     }
 
     @Override
@@ -241,22 +211,8 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         }
     }
 
-    @Override
-    protected void doStart() throws Exception {
-        if (isAsyncDelayed()) {
-            ObjectHelper.notNull(asyncExecutor, "executorService", this);
-        }
-    }
-
-    @Override
-    protected void doStop() throws Exception {
-    }
-
     @Override
     protected void doShutdown() throws Exception {
-        if (shutdownAsyncExecutor && asyncExecutor != null) {
-            camelContext.getExecutorServiceManager().shutdownNow(asyncExecutor);
-        }
         states.clear();
         super.doShutdown();
     }
@@ -316,7 +272,7 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
          * Evaluates the maxRequestsPerPeriodExpression and adjusts the throttle rate up or down.
          */
         public synchronized void calculateAndSetMaxRequestsPerPeriod(final Exchange exchange) throws Exception {
-            Integer newThrottle = maxRequestsPerPeriodExpression.evaluate(exchange, Integer.class);
+            Integer newThrottle = getMaximumRequestsPerPeriodExpression().evaluate(exchange, Integer.class);
 
             if (newThrottle != null && newThrottle < 0) {
                 throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
@@ -324,7 +280,7 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
 
             if (newThrottle == null && throttleRate == 0) {
                 throw new RuntimeExchangeException(
-                        "The maxRequestsPerPeriodExpression was evaluated as null: " + maxRequestsPerPeriodExpression,
+                        "The maxRequestsPerPeriodExpression was evaluated as null: " + getMaximumRequestsPerPeriodExpression(),
                         exchange);
             }
 
@@ -397,87 +353,13 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         }
     }
 
-    public boolean isRejectExecution() {
-        return rejectExecution;
-    }
-
-    public void setRejectExecution(boolean rejectExecution) {
-        this.rejectExecution = rejectExecution;
-    }
-
-    public boolean isAsyncDelayed() {
-        return asyncDelayed;
-    }
-
-    public void setAsyncDelayed(boolean asyncDelayed) {
-        this.asyncDelayed = asyncDelayed;
-    }
-
-    public boolean isCallerRunsWhenRejected() {
-        return callerRunsWhenRejected;
-    }
-
-    public void setCallerRunsWhenRejected(boolean callerRunsWhenRejected) {
-        this.callerRunsWhenRejected = callerRunsWhenRejected;
-    }
-
     @Override
-    public String getId() {
-        return id;
-    }
-
-    @Override
-    public void setId(final String id) {
-        this.id = id;
-    }
-
-    @Override
-    public String getRouteId() {
-        return routeId;
-    }
-
-    @Override
-    public void setRouteId(String routeId) {
-        this.routeId = routeId;
-    }
-
-    /**
-     * Sets the maximum number of requests per time period expression
-     */
-    public void setMaximumRequestsPerPeriodExpression(Expression maxRequestsPerPeriodExpression) {
-        this.maxRequestsPerPeriodExpression = maxRequestsPerPeriodExpression;
-    }
-
-    public Expression getMaximumRequestsPerPeriodExpression() {
-        return maxRequestsPerPeriodExpression;
-    }
-
-    /**
-     * Gets the current maximum request per period value. If it is grouped throttling applied with correlationExpression
-     * than the max per period within the group will return
-     */
     public int getCurrentMaximumRequestsPerPeriod() {
         return states.values().stream().mapToInt(ThrottlingState::getThrottleRate).max().orElse(0);
     }
 
-    /**
-     * Sets the time period during which the maximum number of requests apply
-     */
-    public void setTimePeriodMillis(final long timePeriodMillis) {
-        this.timePeriodMillis = timePeriodMillis;
-    }
-
-    public long getTimePeriodMillis() {
-        return timePeriodMillis;
-    }
-
-    @Override
-    public String getTraceLabel() {
-        return "throttle[" + maxRequestsPerPeriodExpression + " per: " + timePeriodMillis + "]";
-    }
-
     @Override
-    public String toString() {
-        return id;
+    public String getMode() {
+        return "DelayQueue";
     }
 }
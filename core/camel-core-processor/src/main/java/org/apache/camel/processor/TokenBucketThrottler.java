@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExchangeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A <a href="http://camel.apache.org/throttler.html">Throttler</a> that uses a lock-free token bucket to limit the
+ * number of message exchanges which can be sent to a processor within a specific time period.
+ * <p/>
+ * The token bucket is implemented using the generic cell rate algorithm (GCRA), where the only state kept per
+ * correlation key is the theoretical arrival time of the next exchange, which is updated using compare-and-set. The
+ * bucket holds up to maxRequestsPerPeriod tokens and is continuously refilled at the rate of maxRequestsPerPeriod tokens
+ * per timePeriodMillis. This means that a burst of up to maxRequestsPerPeriod exchanges is let through immediately, and
+ * after that the exchanges are spaced evenly by timePeriodMillis / maxRequestsPerPeriod.
+ * <p/>
+ * An exchange that has to wait reserves its slot up front, and is then either delayed by blocking the current thread,
+ * or when asyncDelayed is enabled, by scheduling its continuation on the asyncExecutor without blocking any thread.
+ * <p/>
+ * Compared to {@link Throttler} this implementation does not allocate any objects per exchange that is let through,
+ * and does not use any locks, which makes it better suited for high message rates with many concurrent threads.
+ */
+public class TokenBucketThrottler extends AbstractThrottler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenBucketThrottler.class);
+
+    private final Map<String, TokenBucket> states = new ConcurrentHashMap<>();
+    private final TokenBucket defaultState = new TokenBucket(DEFAULT_KEY);
+    private ScheduledFuture<?> cleanTask;
+
+    public TokenBucketThrottler(final CamelContext camelContext, final Expression maxRequestsPerPeriodExpression,
+                                final long timePeriodMillis,
+                                final ScheduledExecutorService asyncExecutor, final boolean shutdownAsyncExecutor,
+                                final boolean rejectExecution, Expression correlation) {
+        super(camelContext, maxRequestsPerPeriodExpression, timePeriodMillis, asyncExecutor, shutdownAsyncExecutor,
+              rejectExecution, correlation);
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+
+            TokenBucket bucket = getTokenBucket(exchange);
+            int rate = bucket.calculateAndSetMaxRequestsPerPeriod(exchange);
+            while (rate == 0 && !isRejectExecution()) {
+                // nothing is allowed so block until the rate is increased
+                TimeUnit.MILLISECONDS.sleep(timePeriodMillis);
+                rate = bucket.calculateAndSetMaxRequestsPerPeriod(exchange);
+            }
+            long delay = bucket.acquire(rate, !isRejectExecution());
+            if (delay <= 0) {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+                }
+                callback.done(true);
+                return true;
+            }
+
+            if (isRejectExecution()) {
+                throw new ThrottlerRejectedExecutionException(
+                        "Exceeded the max throttle rate of " + rate + " within " + timePeriodMillis + "ms");
+            }
+
+            if (isAsyncDelayed() && !exchange.isTransacted()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug(
+                            "Throttle rate exceeded but AsyncDelayed enabled, so delaying exchangeId: {} asynchronously for {}ns",
+                            exchange.getExchangeId(), delay);
+                }
+                try {
+                    asyncExecutor.schedule(() -> callback.done(false), delay, TimeUnit.NANOSECONDS);
+                    return false;
+                } catch (RejectedExecutionException e) {
+                    if (!isCallerRunsWhenRejected()) {
+                        throw e;
+                    }
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("AsyncExecutor is full, rejected exchange will run in the current thread, exchangeId: {}",
+                                exchange.getExchangeId());
+                    }
+                }
+            }
+
+            // block the current thread until the reserved slot
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Throttled for {}ns, exchangeId: {}", delay, exchange.getExchangeId());
+            }
+            TimeUnit.NANOSECONDS.sleep(delay);
+        } catch (final InterruptedException e) {
+            // determine if we can still run, or the camel context is forcing a shutdown
+            boolean forceShutdown = exchange.getContext().getShutdownStrategy().isForceShutdown();
+            if (forceShutdown) {
+                String msg = "Run not allowed as ShutdownStrategy is forcing shutting down, will reject executing exchange: "
+                             + exchange;
+                LOG.debug(msg);
+                exchange.setException(new RejectedExecutionException(msg, e));
+            } else {
+                exchange.setException(e);
+            }
+        } catch (final Throwable t) {
+            exchange.setException(t);
+        }
+        callback.done(true);
+        return true;
+    }
+
+    private TokenBucket getTokenBucket(Exchange exchange) {
+        if (correlationExpression == null) {
+            return defaultState;
+        }
+        String key = correlationExpression.evaluate(exchange, String.class);
+        if (key == null) {
+            key = DEFAULT_KEY;
+        }
+        TokenBucket answer = states.get(key);
+        if (answer == null) {
+            answer = states.computeIfAbsent(key, TokenBucket::new);
+        }
+        return answer;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (correlationExpression != null && asyncExecutor != null) {
+            // remove the state of correlation keys which has not been used for a while
+            long period = timePeriodMillis * 10;
+            cleanTask = asyncExecutor.scheduleWithFixedDelay(this::clean, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (cleanTask != null) {
+            cleanTask.cancel(false);
+            cleanTask = null;
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        states.clear();
+        super.doShutdown();
+    }
+
+    private void clean() {
+        long idle = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(timePeriodMillis * 10);
+        states.values().removeIf(bucket -> bucket.isIdleSince(idle));
+    }
+
+    @Override
+    public int getCurrentMaximumRequestsPerPeriod() {
+        if (correlationExpression == null) {
+            return defaultState.getThrottleRate();
+        }
+        return states.values().stream().mapToInt(TokenBucket::getThrottleRate).max().orElse(0);
+    }
+
+    @Override
+    public String getMode() {
+        return "TokenBucket";
+    }
+
+    private final class TokenBucket {
+        private final String key;
+        // the theoretical arrival time (System.nanoTime) of the next exchange, if the exchanges arrived evenly spaced
+        private final AtomicLong tat = new AtomicLong(System.nanoTime());
+        private volatile int throttleRate;
+
+        TokenBucket(String key) {
+            this.key = key;
+        }
+
+        int getThrottleRate() {
+            return throttleRate;
+        }
+
+        boolean isIdleSince(long time) {
+            return tat.get() - time < 0;
+        }
+
+        /**
+         * Evaluates the maxRequestsPerPeriodExpression and returns the throttle rate to use
+         */
+        int calculateAndSetMaxRequestsPerPeriod(final Exchange exchange) {
+            Integer newThrottle = getMaximumRequestsPerPeriodExpression().evaluate(exchange, Integer.class);
+
+            if (newThrottle != null && newThrottle < 0) {
+                throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
+            }
+
+            int rate = throttleRate;
+            if (newThrottle == null) {
+                if (rate == 0) {
+                    throw new RuntimeExchangeException(
+                            "The maxRequestsPerPeriodExpression was evaluated as null: "
+                                                       + getMaximumRequestsPerPeriodExpression(),
+                            exchange);
+                }
+                return rate;
+            }
+            if (newThrottle != rate) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Throttle rate changed from {} to {} for key: {}, triggered by ExchangeId: {}", rate,
+                            newThrottle, key, exchange.getExchangeId());
+                }
+                throttleRate = newThrottle;
+            }
+            return newThrottle;
+        }
+
+        /**
+         * Acquires a token from the bucket.
+         *
+         * @param  rate    the maximum number of requests per period
+         * @param  reserve whether to reserve a future token, when no token is currently available
+         * @return         zero or a negative value if a token was acquired, otherwise the delay in nanos until a token
+         *                 is available (which has been reserved if reserve is true)
+         */
+        long acquire(int rate, boolean reserve) {
+            long period = TimeUnit.MILLISECONDS.toNanos(timePeriodMillis);
+            if (rate == 0) {
+                return period;
+            }
+            long interval = period / rate;
+            long tolerance = period - interval;
+            for (;;) {
+                long now = System.nanoTime();
+                long current = tat.get();
+                long next = current - now < 0 ? now : current;
+                long delay = next - tolerance - now;
+                if (delay > 0 && !reserve) {
+                    return delay;
+                }
+                if (tat.compareAndSet(current, next + interval)) {
+                    return delay;
+                }
+            }
+        }
+    }
+
+}
@@ -98,6 +98,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
     private volatile Lock lock;
+    private volatile Lock[] lockStripes;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -228,6 +229,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int parallelCorrelationLocks;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -401,13 +403,21 @@ public class AggregateProcessor extends AsyncProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        // the groups to force complete which was requested while aggregating (only in use with parallel correlation locks)
+        List<String> forceCompletionKeys = lockStripes != null ? new ArrayList<>() : null;
+        Lock groupLock = getLock(key);
+        groupLock.lock();
         try {
-            aggregated = doAggregation(key, copy);
+            aggregated = doAggregation(key, copy, forceCompletionKeys);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            groupLock.unlock();
+        }
+
+        // force completion of the groups which was requested while aggregating must be done outside the lock
+        if (forceCompletionKeys != null) {
+            forceCompletionKeys.forEach(this::forceCompletionOfGroup);
         }
 
         // we are completed so do that work outside the lock
@@ -473,7 +483,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
      *                                                 not yet complete
      * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
      */
-    private List<Exchange> doAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+    private List<Exchange> doAggregation(String key, Exchange newExchange, List<String> forceCompletionKeys) throws CamelExchangeException {
         LOG.trace("onAggregation +++ start +++ with correlation key: {}", key);
 
         List<Exchange> list = new ArrayList<>();
@@ -573,10 +583,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            onForceCompletionOfAllGroups(key, forceCompletionKeys);
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
-            forceCompletionOfAllGroups();
+            onForceCompletionOfAllGroups(key, forceCompletionKeys);
         }
 
         // special for some repository implementations
@@ -613,6 +623,27 @@ public class AggregateProcessor extends AsyncProcessorSupport
         return list;
     }
 
+    /**
+     * Forces completion of all groups while aggregating. When using parallel correlation locks then we only hold the
+     * lock for the current group, so the keys of the existing groups (except the current group) are collected while
+     * holding the lock, and these groups are completed after the lock has been released, as otherwise we could deadlock
+     * with another thread that holds the lock of another group.
+     */
+    private void onForceCompletionOfAllGroups(String key, List<String> forceCompletionKeys) {
+        if (forceCompletionKeys != null) {
+            Set<String> keys = aggregationRepository.getKeys();
+            if (keys != null) {
+                for (String other : keys) {
+                    if (!key.equals(other)) {
+                        forceCompletionKeys.add(other);
+                    }
+                }
+            }
+        } else {
+            forceCompletionOfAllGroups();
+        }
+    }
+
     protected void doAggregationComplete(
             String complete, List<Exchange> list, String key,
             Exchange originalExchange, Exchange answer, boolean aggregateFailed) {
@@ -1097,6 +1128,52 @@ public class AggregateProcessor extends AsyncProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getParallelCorrelationLocks() {
+        return parallelCorrelationLocks;
+    }
+
+    /**
+     * Number of locks to use for aggregating different correlation keys in parallel. By default (0) a single lock is
+     * used, which means all aggregation is serialized. When set then the correlation keys are hashed to the given
+     * number of locks (rounded up to a power of two), so exchanges with different correlation keys can be aggregated
+     * in parallel, while exchanges with the same correlation key are still aggregated one at a time.
+     * <p/>
+     * This cannot be used together with optimistic locking, or completion from batch consumer.
+     */
+    public void setParallelCorrelationLocks(int parallelCorrelationLocks) {
+        this.parallelCorrelationLocks = parallelCorrelationLocks;
+    }
+
+    /**
+     * Gets the lock to use for aggregating the given correlation key
+     */
+    protected Lock getLock(String key) {
+        Lock[] stripes = lockStripes;
+        if (stripes != null) {
+            int h = key.hashCode();
+            // spread the hash so the high bits are in use as well
+            h ^= h >>> 16;
+            return stripes[h & (stripes.length - 1)];
+        }
+        return lock;
+    }
+
+    /**
+     * Gets the lock to use for operations that spans all the correlation groups, which is the shared aggregation lock,
+     * or a no-op lock when using parallel correlation locks (then each group is locked individually).
+     */
+    private Lock getSharedLock() {
+        return lockStripes != null ? NoLock.INSTANCE : lock;
+    }
+
+    /**
+     * Gets the lock for the given correlation key when using parallel correlation locks, otherwise a no-op lock as
+     * the shared aggregation lock is already held.
+     */
+    private Lock getGroupLock(String key) {
+        return lockStripes != null ? getLock(key) : NoLock.INSTANCE;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1256,7 +1333,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
             // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+            // (unless using parallel correlation locks where there is no shared lock)
+            super(executor, requestMapPollTimeMillis, optimisticLocking || parallelCorrelationLocks > 0);
             addListener(this::onEviction);
         }
 
@@ -1265,11 +1343,12 @@ public class AggregateProcessor extends AsyncProcessorSupport
             // wait for lock to be created
             if (lock != null) {
                 // must acquire the shared aggregation lock to be able to purge
-                lock.lock();
+                Lock sharedLock = getSharedLock();
+                sharedLock.lock();
                 try {
                     super.purge();
                 } finally {
-                    lock.unlock();
+                    sharedLock.unlock();
                 }
             }
         }
@@ -1288,20 +1367,26 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
             // get the aggregated exchange
             boolean evictionStolen = false;
-            Exchange answer = aggregationRepository.get(camelContext, key);
-            if (answer == null) {
-                evictionStolen = true;
-            } else {
-                // indicate it was completed by timeout
-                answer.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_TIMEOUT);
-                try {
-                    answer = onCompletion(key, answer, answer, true, false);
-                    if (answer != null) {
-                        onSubmitCompletion(key, answer);
-                    }
-                } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+            Lock groupLock = getGroupLock(key);
+            groupLock.lock();
+            try {
+                Exchange answer = aggregationRepository.get(camelContext, key);
+                if (answer == null) {
                     evictionStolen = true;
+                } else {
+                    // indicate it was completed by timeout
+                    answer.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_TIMEOUT);
+                    try {
+                        answer = onCompletion(key, answer, answer, true, false);
+                        if (answer != null) {
+                            onSubmitCompletion(key, answer);
+                        }
+                    } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                        evictionStolen = true;
+                    }
                 }
+            } finally {
+                groupLock.unlock();
             }
 
             if (optimisticLocking && evictionStolen) {
@@ -1333,25 +1418,32 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
             if (keys != null && !keys.isEmpty()) {
                 // must acquire the shared aggregation lock to be able to trigger interval completion
-                lock.lock();
+                Lock sharedLock = getSharedLock();
+                sharedLock.lock();
                 try {
                     for (String key : keys) {
                         boolean stolenInterval = false;
-                        Exchange exchange = aggregationRepository.get(camelContext, key);
-                        if (exchange == null) {
-                            stolenInterval = true;
-                        } else {
-                            LOG.trace("Completion interval triggered for correlation key: {}", key);
-                            // indicate it was completed by interval
-                            exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
-                            try {
-                                Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                                if (answer != null) {
-                                    onSubmitCompletion(key, answer);
-                                }
-                            } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                        Lock groupLock = getGroupLock(key);
+                        groupLock.lock();
+                        try {
+                            Exchange exchange = aggregationRepository.get(camelContext, key);
+                            if (exchange == null) {
                                 stolenInterval = true;
+                            } else {
+                                LOG.trace("Completion interval triggered for correlation key: {}", key);
+                                // indicate it was completed by interval
+                                exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
+                                try {
+                                    Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                                    if (answer != null) {
+                                        onSubmitCompletion(key, answer);
+                                    }
+                                } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                                    stolenInterval = true;
+                                }
                             }
+                        } finally {
+                            groupLock.unlock();
                         }
                         if (optimisticLocking && stolenInterval) {
                             LOG.debug(
@@ -1360,7 +1452,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         }
                     }
                 } finally {
-                    lock.unlock();
+                    sharedLock.unlock();
                 }
             }
 
@@ -1401,7 +1493,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         LOG.info("We are shutting down so stop recovering");
                         return;
                     }
-                    lock.lock();
+                    Lock sharedLock = getSharedLock();
+                    sharedLock.lock();
                     try {
                         // consider in progress if it was in progress before we did the scan, or currently after we did the scan
                         // its safer to consider it in progress than risk duplicates due both in progress + recovered
@@ -1478,7 +1571,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                             }
                         }
                     } finally {
-                        lock.unlock();
+                        sharedLock.unlock();
                     }
                 }
             } finally {
@@ -1536,6 +1629,16 @@ public class AggregateProcessor extends AsyncProcessorSupport
             LOG.info("Defaulting to MemoryAggregationRepository");
         }
 
+        if (parallelCorrelationLocks > 0) {
+            if (optimisticLocking) {
+                throw new IllegalArgumentException("Parallel correlation locks cannot be used together with optimistic locking");
+            }
+            if (completionFromBatchConsumer) {
+                throw new IllegalArgumentException(
+                        "Parallel correlation locks cannot be used together with completion from batch consumer");
+            }
+        }
+
         if (optimisticLocking) {
             if (!(aggregationRepository instanceof OptimisticLockingAggregationRepository)) {
                 throw new IllegalArgumentException(
@@ -1628,6 +1731,17 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 shutdownOptimisticLockingExecutorService = true;
             }
         } else {
+            if (parallelCorrelationLocks > 0) {
+                // round up to power of two so we can use a bit mask to select the lock
+                int size = Integer.highestOneBit(parallelCorrelationLocks - 1) << 1;
+                size = Math.max(1, size);
+                Lock[] stripes = new Lock[size];
+                for (int i = 0; i < size; i++) {
+                    stripes[i] = new ReentrantLock();
+                }
+                LOG.info("Using {} parallel correlation locks", size);
+                lockStripes = stripes;
+            }
             lock = new ReentrantLock();
         }
     }
@@ -1739,7 +1853,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock groupLock = getLock(key);
+        groupLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1753,7 +1868,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 }
             }
         } finally {
-            lock.unlock();
+            groupLock.unlock();
         }
         LOG.trace("Completed force completion of group {}", key);
 
@@ -1781,23 +1896,30 @@ public class AggregateProcessor extends AsyncProcessorSupport
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            Lock sharedLock = getSharedLock();
+            sharedLock.lock();
             total = keys.size();
             try {
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force completion triggered for correlation key: {}", key);
-                        // indicate it was completed by a force completion request
-                        exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
-                        Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                        if (answer != null) {
-                            onSubmitCompletion(key, answer);
+                    Lock groupLock = getGroupLock(key);
+                    groupLock.lock();
+                    try {
+                        Exchange exchange = aggregationRepository.get(camelContext, key);
+                        if (exchange != null) {
+                            LOG.trace("Force completion triggered for correlation key: {}", key);
+                            // indicate it was completed by a force completion request
+                            exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
+                            Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                            if (answer != null) {
+                                onSubmitCompletion(key, answer);
+                            }
                         }
+                    } finally {
+                        groupLock.unlock();
                     }
                 }
             } finally {
-                lock.unlock();
+                sharedLock.unlock();
             }
         }
         LOG.trace("Completed force completion of all groups task");
@@ -1812,7 +1934,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock groupLock = getLock(key);
+        groupLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1822,7 +1945,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            groupLock.unlock();
         }
         LOG.trace("Completed force discarded of group {}", key);
 
@@ -1850,19 +1973,26 @@ public class AggregateProcessor extends AsyncProcessorSupport
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            Lock sharedLock = getSharedLock();
+            sharedLock.lock();
             total = keys.size();
             try {
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force discarded triggered for correlation key: {}", key);
-                        // force discarding by setting aggregate failed as true
-                        onCompletion(key, exchange, exchange, false, true);
+                    Lock groupLock = getGroupLock(key);
+                    groupLock.lock();
+                    try {
+                        Exchange exchange = aggregationRepository.get(camelContext, key);
+                        if (exchange != null) {
+                            LOG.trace("Force discarded triggered for correlation key: {}", key);
+                            // force discarding by setting aggregate failed as true
+                            onCompletion(key, exchange, exchange, false, true);
+                        }
+                    } finally {
+                        groupLock.unlock();
                     }
                 }
             } finally {
-                lock.unlock();
+                sharedLock.unlock();
             }
         }
         LOG.trace("Completed force discarding of all groups task");
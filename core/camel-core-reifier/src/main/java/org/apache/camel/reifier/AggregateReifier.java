@@ -124,6 +124,10 @@ public class AggregateReifier extends ProcessorReifier<AggregateDefinition> {
         if (optimisticLocking != null) {
             answer.setOptimisticLocking(optimisticLocking);
         }
+        Integer parallelCorrelationLocks = parseInt(definition.getParallelCorrelationLocks());
+        if (parallelCorrelationLocks != null) {
+            answer.setParallelCorrelationLocks(parallelCorrelationLocks);
+        }
         if (definition.getCompletionPredicate() != null) {
             Predicate predicate = createPredicate(definition.getCompletionPredicate());
             answer.setCompletionPredicate(predicate);
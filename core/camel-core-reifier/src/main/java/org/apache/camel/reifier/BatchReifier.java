@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.reifier;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Processor;
+import org.apache.camel.Route;
+import org.apache.camel.model.BatchDefinition;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.processor.BatchProcessor;
+import org.apache.camel.support.PluginHelper;
+
+public class BatchReifier extends ProcessorReifier<BatchDefinition> {
+
+    public BatchReifier(Route route, ProcessorDefinition<?> definition) {
+        super(route, BatchDefinition.class.cast(definition));
+    }
+
+    @Override
+    public Processor createProcessor() throws Exception {
+        Processor childProcessor = this.createChildProcessor(true);
+
+        // wrap the batch route in a unit of work processor
+        AsyncProcessor target = PluginHelper.getInternalProcessorFactory(camelContext)
+                .addUnitOfWorkProcessorAdvice(camelContext, childProcessor, route);
+
+        int size = parseInt(definition.getSize(), 100);
+        long byteSize = parseLong(definition.getByteSize(), 0);
+        long lingerTime = parseDuration(definition.getLingerTime(), 100);
+
+        if (lingerTime <= 0) {
+            // the exchanges are waiting for their batch to be routed, which may never be full
+            throw new IllegalArgumentException("A positive value is required for the linger time, was: " + lingerTime);
+        }
+
+        ScheduledExecutorService lingerExecutorService
+                = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(definition, "Batch");
+
+        return new BatchProcessor(camelContext, target, size, byteSize, lingerTime, lingerExecutorService, true);
+    }
+}
@@ -35,6 +35,7 @@ import org.apache.camel.Route;
 import org.apache.camel.StartupStep;
 import org.apache.camel.model.AggregateDefinition;
 import org.apache.camel.model.AggregationStrategyAwareDefinition;
+import org.apache.camel.model.BatchDefinition;
 import org.apache.camel.model.BeanDefinition;
 import org.apache.camel.model.CatchDefinition;
 import org.apache.camel.model.ChoiceDefinition;
@@ -191,6 +192,8 @@ public abstract class ProcessorReifier<T extends ProcessorDefinition<?>> extends
 
         if (definition instanceof AggregateDefinition) {
             return new AggregateReifier(route, definition);
+        } else if (definition instanceof BatchDefinition) {
+            return new BatchReifier(route, definition);
         } else if (definition instanceof BeanDefinition) {
             return new BeanReifier(route, definition);
         } else if (definition instanceof CatchDefinition) {
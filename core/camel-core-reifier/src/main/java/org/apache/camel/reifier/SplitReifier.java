@@ -55,6 +55,10 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
         if (timeout > 0 && !isParallelProcessing) {
             throw new IllegalArgumentException("Timeout is used but ParallelProcessing has not been enabled.");
         }
+        Integer parallelWindowSize = parseInt(definition.getParallelWindowSize());
+        if (parallelWindowSize != null && parallelWindowSize > 0 && !isParallelProcessing) {
+            throw new IllegalArgumentException("ParallelWindowSize is used but ParallelProcessing has not been enabled.");
+        }
         Processor prepare = definition.getOnPrepareProcessor();
         if (prepare == null && definition.getOnPrepare() != null) {
             prepare = mandatoryLookup(definition.getOnPrepare(), Processor.class);
@@ -75,6 +79,9 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
                     threadPool, shutdownThreadPool, isStreaming, isStopOnException, timeout, prepare,
                     isShareUnitOfWork, isParallelAggregate);
         }
+        if (parallelWindowSize != null) {
+            answer.setParallelWindowSize(parallelWindowSize);
+        }
 
         return answer;
     }
@@ -23,7 +23,10 @@ import org.apache.camel.Processor;
 import org.apache.camel.Route;
 import org.apache.camel.model.ProcessorDefinition;
 import org.apache.camel.model.ThrottleDefinition;
+import org.apache.camel.model.ThrottlingMode;
+import org.apache.camel.processor.AbstractThrottler;
 import org.apache.camel.processor.Throttler;
+import org.apache.camel.processor.TokenBucketThrottler;
 
 public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
 
@@ -52,8 +55,15 @@ public class ThrottleReifier extends ExpressionReifier<ThrottleDefinition> {
         }
 
         boolean reject = parseBoolean(definition.getRejectExecution(), false);
-        Throttler answer = new Throttler(
-                camelContext, maxRequestsExpression, period, threadPool, shutdownThreadPool, reject, correlation);
+        ThrottlingMode mode = parse(ThrottlingMode.class, definition.getMode());
+        AbstractThrottler answer;
+        if (mode == ThrottlingMode.TokenBucket) {
+            answer = new TokenBucketThrottler(
+                    camelContext, maxRequestsExpression, period, threadPool, shutdownThreadPool, reject, correlation);
+        } else {
+            answer = new Throttler(
+                    camelContext, maxRequestsExpression, period, threadPool, shutdownThreadPool, reject, correlation);
+        }
 
         answer.setAsyncDelayed(async);
         // should be true by default
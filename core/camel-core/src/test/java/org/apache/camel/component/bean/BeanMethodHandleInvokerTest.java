@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BeanMethodHandleInvokerTest extends ContextTestSupport {
+
+    @Test
+    public void testCreate() throws Exception {
+        assertNotNull(MethodHandleInvoker.create(MyBean.class.getMethod("hello", String.class)));
+        assertNotNull(MethodHandleInvoker.create(MyBean.class.getMethod("square", int.class)));
+        assertNotNull(MethodHandleInvoker.create(MyBean.class.getMethod("greeting", String.class)));
+        // not public so reflection must be used
+        assertNull(MethodHandleInvoker.create(MyPackageBean.class.getMethod("hello", String.class)));
+    }
+
+    @Test
+    public void testAccepts() throws Exception {
+        MethodHandleInvoker invoker = MethodHandleInvoker.create(MyBean.class.getMethod("square", int.class));
+        MyBean bean = new MyBean();
+
+        assertTrue(invoker.accepts(bean, new Object[] { 5 }));
+        assertFalse(invoker.accepts(bean, new Object[] { null }));
+        assertFalse(invoker.accepts(bean, new Object[] { 5L }));
+        assertFalse(invoker.accepts(bean, new Object[] { "5" }));
+        assertFalse(invoker.accepts(bean, new Object[0]));
+        assertFalse(invoker.accepts("not the bean", new Object[] { 5 }));
+        assertFalse(invoker.accepts(null, new Object[] { 5 }));
+
+        MethodHandleInvoker stat = MethodHandleInvoker.create(MyBean.class.getMethod("greeting", String.class));
+        assertTrue(stat.accepts(null, new Object[] { null }));
+    }
+
+    @Test
+    public void testInvoke() throws Exception {
+        MyBean bean = new MyBean();
+        assertEquals("Hello World", MethodHandleInvoker.create(MyBean.class.getMethod("hello", String.class))
+                .invoke(bean, new Object[] { "World" }));
+        assertEquals(25, MethodHandleInvoker.create(MyBean.class.getMethod("square", int.class))
+                .invoke(bean, new Object[] { 5 }));
+        assertEquals("Hi World", MethodHandleInvoker.create(MyBean.class.getMethod("greeting", String.class))
+                .invoke(null, new Object[] { "World" }));
+        assertNull(MethodHandleInvoker.create(MyBean.class.getMethod("touch")).invoke(bean, null));
+        assertEquals(1, bean.getTouched());
+
+        MethodHandleInvoker kaboom = MethodHandleInvoker.create(MyBean.class.getMethod("kaboom", String.class));
+        InvocationTargetException e
+                = assertThrows(InvocationTargetException.class, () -> kaboom.invoke(bean, new Object[] { "World" }));
+        assertEquals("Forced World", e.getTargetException().getMessage());
+    }
+
+    @Test
+    public void testRoute() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World", "Hello Camel");
+
+        template.sendBody("direct:start", "World");
+        template.sendBody("direct:package", "Camel");
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(36, template.requestBody("direct:square", "6"));
+    }
+
+    @Test
+    public void testRouteException() throws Exception {
+        CamelExecutionException e
+                = assertThrows(CamelExecutionException.class, () -> template.sendBody("direct:kaboom", "World"));
+        IllegalArgumentException cause = assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+        assertEquals("Forced World", cause.getMessage());
+        assertSame(cause, e.getExchange().getException());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").bean(MyBean.class, "hello").to("mock:result");
+                from("direct:package").bean(new MyPackageBean(), "hello").to("mock:result");
+                from("direct:square").bean(MyBean.class, "square");
+                from("direct:kaboom").bean(MyBean.class, "kaboom");
+            }
+        };
+    }
+
+    public static class MyBean {
+
+        private int touched;
+
+        public static String greeting(String name) {
+            return "Hi " + name;
+        }
+
+        public String hello(String name) {
+            return "Hello " + name;
+        }
+
+        public int square(int number) {
+            return number * number;
+        }
+
+        public void touch() {
+            touched++;
+        }
+
+        public int getTouched() {
+            return touched;
+        }
+
+        public String kaboom(String name) {
+            throw new IllegalArgumentException("Forced " + name);
+        }
+    }
+
+    static class MyPackageBean {
+
+        public String hello(String name) {
+            return "Hello " + name;
+        }
+    }
+
+}
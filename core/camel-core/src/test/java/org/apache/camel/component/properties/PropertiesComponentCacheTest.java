@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.properties;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.spi.PropertiesComponent;
+import org.apache.camel.spi.PropertiesFunction;
+import org.apache.camel.spi.PropertiesSource;
+import org.apache.camel.support.DefaultContextReloadStrategy;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.OrderedLocationProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PropertiesComponentCacheTest extends ContextTestSupport {
+
+    private String name;
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testCache() throws Exception {
+        context.start();
+
+        PropertiesComponent pc = context.getPropertiesComponent();
+        assertTrue(pc.isCacheEnabled());
+
+        assertEquals("mock:10", pc.parseUri("mock:{{myQueueSize}}"));
+        assertEquals(0, pc.getCacheHits());
+        assertEquals(1, pc.getCacheMisses());
+
+        assertEquals("mock:10", pc.parseUri("mock:{{myQueueSize}}"));
+        assertEquals("mock:10", pc.parseUri("mock:{{myQueueSize}}"));
+        assertEquals(2, pc.getCacheHits());
+        assertEquals(1, pc.getCacheMisses());
+
+        // optional placeholders which cannot be resolved are also cached
+        assertNull(pc.parseUri("{{?unknown}}"));
+        assertNull(pc.parseUri("{{?unknown}}"));
+        assertEquals("{{?unknown}}", pc.parseUri("{{?unknown}}", true));
+        assertEquals(3, pc.getCacheHits());
+        assertEquals(3, pc.getCacheMisses());
+
+        // but not missing properties
+        assertThrows(IllegalArgumentException.class, () -> pc.parseUri("{{unknown}}"));
+        assertThrows(IllegalArgumentException.class, () -> pc.parseUri("{{unknown}}"));
+        assertEquals(3, pc.getCacheHits());
+        assertEquals(5, pc.getCacheMisses());
+    }
+
+    @Test
+    public void testCacheReloadProperties() throws Exception {
+        context.start();
+
+        PropertiesComponent pc = context.getPropertiesComponent();
+        assertEquals("mock:10", pc.parseUri("mock:{{myQueueSize}}"));
+        long version = pc.getCacheVersion();
+
+        IOHelper.writeText("myQueueSize = 20", new File(name));
+        assertTrue(pc.reloadProperties(null));
+        assertTrue(pc.getCacheVersion() > version);
+
+        assertEquals("mock:20", pc.parseUri("mock:{{myQueueSize}}"));
+        assertEquals(0, pc.getCacheHits());
+    }
+
+    @Test
+    public void testCacheContextReload() throws Exception {
+        context.start();
+
+        PropertiesComponent pc = context.getPropertiesComponent();
+        assertEquals("mock:10", pc.parseUri("mock:{{myQueueSize}}"));
+
+        IOHelper.writeText("myQueueSize = 20", new File(name));
+        DefaultContextReloadStrategy strategy = new DefaultContextReloadStrategy();
+        strategy.setCamelContext(context);
+        strategy.onReload("test");
+        assertEquals(1, strategy.getReloadCounter());
+
+        assertEquals("mock:20", pc.parseUri("mock:{{myQueueSize}}"));
+        assertEquals(0, pc.getCacheHits());
+    }
+
+    @Test
+    public void testCacheFunctions() throws Exception {
+        context.start();
+
+        PropertiesComponent pc = context.getPropertiesComponent();
+        AtomicInteger counter = new AtomicInteger();
+        pc.addPropertiesFunction(new CounterFunction("counter", false, counter));
+        AtomicInteger cacheableCounter = new AtomicInteger();
+        pc.addPropertiesFunction(new CounterFunction("cacheable", true, cacheableCounter));
+        pc.addOverrideProperty("nested", "{{counter:nested}}");
+
+        // functions which are not cacheable are applied every time
+        assertEquals("mock:1", pc.parseUri("mock:{{counter:foo}}"));
+        assertEquals("mock:2", pc.parseUri("mock:{{counter:foo}}"));
+        // also when used from a nested placeholder
+        assertEquals("mock:3", pc.parseUri("mock:{{nested}}"));
+        assertEquals("mock:4", pc.parseUri("mock:{{nested}}"));
+        assertEquals(0, pc.getCacheHits());
+
+        // cacheable functions are only applied the first time
+        assertEquals("mock:1", pc.parseUri("mock:{{cacheable:foo}}"));
+        assertEquals("mock:1", pc.parseUri("mock:{{cacheable:foo}}"));
+        assertEquals(1, cacheableCounter.get());
+        assertEquals(1, pc.getCacheHits());
+    }
+
+    @Test
+    public void testCacheNegate() throws Exception {
+        context.start();
+
+        PropertiesComponent pc = context.getPropertiesComponent();
+        pc.addOverrideProperty("myFlag", "true");
+
+        assertEquals("false", pc.parseUri("{{!myFlag}}"));
+        assertEquals("true", pc.parseUri("{{myFlag}}"));
+        assertEquals("false", pc.parseUri("{{!myFlag}}"));
+        assertEquals("true", pc.parseUri("{{myFlag}}"));
+        assertEquals(2, pc.getCacheHits());
+    }
+
+    @Test
+    public void testCacheChangeProperties() throws Exception {
+        context.start();
+
+        PropertiesComponent pc = context.getPropertiesComponent();
+        assertEquals("mock:10", pc.parseUri("mock:{{myQueueSize}}"));
+
+        pc.addOverrideProperty("myQueueSize", "30");
+        assertEquals("mock:30", pc.parseUri("mock:{{myQueueSize}}"));
+
+        pc.addPropertiesSource(new PropertiesSource() {
+            @Override
+            public String getName() {
+                return "custom";
+            }
+
+            @Override
+            public String getProperty(String name) {
+                return "cheese".equals(name) ? "gouda" : null;
+            }
+        });
+        assertEquals("mock:gouda", pc.parseUri("mock:{{cheese}}"));
+        assertEquals(0, pc.getCacheHits());
+    }
+
+    @Test
+    public void testCacheNotUsedWithLocalProperties() throws Exception {
+        context.start();
+
+        PropertiesComponent pc = context.getPropertiesComponent();
+        assertEquals("mock:10", pc.parseUri("mock:{{myQueueSize}}"));
+
+        OrderedLocationProperties local = new OrderedLocationProperties();
+        local.putAll("local", Map.of("myQueueSize", "40"));
+        pc.setLocalProperties(local);
+        try {
+            assertEquals("mock:40", pc.parseUri("mock:{{myQueueSize}}"));
+        } finally {
+            pc.setLocalProperties(null);
+        }
+
+        assertEquals("mock:10", pc.parseUri("mock:{{myQueueSize}}"));
+        assertEquals(1, pc.getCacheHits());
+        assertEquals(1, pc.getCacheMisses());
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+
+        name = fileUri() + "/mycache.properties";
+        name = name.substring(5);
+        IOHelper.writeText("myQueueSize = 10", new File(name));
+
+        context.getPropertiesComponent().setLocation("file:" + name);
+        context.getPropertiesComponent().setCacheEnabled(true);
+        return context;
+    }
+
+    private static final class CounterFunction implements PropertiesFunction {
+
+        private final String name;
+        private final boolean cacheable;
+        private final AtomicInteger counter;
+
+        private CounterFunction(String name, boolean cacheable, AtomicInteger counter) {
+            this.name = name;
+            this.cacheable = cacheable;
+            this.counter = counter;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String apply(String remainder) {
+            return String.valueOf(counter.incrementAndGet());
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return cacheable;
+        }
+    }
+
+}
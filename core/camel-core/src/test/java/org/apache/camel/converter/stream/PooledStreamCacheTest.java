@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledStreamCacheTest extends ContextTestSupport {
+    private static final String TEST_STRING = "This is a test string and it has enough"
+                                              + " aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa ";
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory(true).toFile());
+        context.getStreamCachingStrategy().setSpoolEnabled(true);
+        context.getStreamCachingStrategy().setSpoolThreshold(200);
+        context.getStreamCachingStrategy().setBufferSize(16);
+        context.getStreamCachingStrategy().setBufferPoolEnabled(true);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        exchange = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(exchange);
+        exchange.getExchangeExtension().setUnitOfWork(uow);
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testPooledInMemory() throws Exception {
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        cos.close();
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof PooledInputStreamCache, "Should be pooled stream cache");
+        assertTrue(cache.inMemory());
+        assertEquals(TEST_STRING.length(), cache.length());
+        assertEquals(TEST_STRING, context.getTypeConverter().convertTo(String.class, cache));
+
+        // can be reset and read again
+        cache.reset();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        cache.writeTo(bos);
+        assertEquals(TEST_STRING, bos.toString(StandardCharsets.UTF_8));
+
+        // copy has its own position
+        StreamCache copy = cache.copy(exchange);
+        assertEquals(TEST_STRING, context.getTypeConverter().convertTo(String.class, copy));
+
+        StreamCachingStrategy.Statistics stats = context.getStreamCachingStrategy().getStatistics();
+        long buffers = (TEST_STRING.length() + 15) / 16;
+        assertEquals(buffers, stats.getBufferPoolAcquiredCounter());
+        assertEquals(buffers, stats.getBufferPoolCreatedCounter());
+        assertEquals(0, stats.getBufferPoolAvailable());
+
+        exchange.getUnitOfWork().done(exchange);
+
+        // buffers are released when the exchange is done
+        assertEquals(buffers, stats.getBufferPoolReleasedCounter());
+        assertEquals(buffers, stats.getBufferPoolAvailable());
+        assertThrows(IOException.class, () -> ((InputStream) cache).read());
+
+        // and reused by the next stream cache
+        Exchange exchange2 = new DefaultExchange(context);
+        exchange2.getExchangeExtension().setUnitOfWork(new DefaultUnitOfWork(exchange2));
+        CachedOutputStream cos2 = new CachedOutputStream(exchange2);
+        cos2.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        assertEquals(TEST_STRING, context.getTypeConverter().convertTo(String.class, cos2.newStreamCache()));
+        assertEquals(buffers, stats.getBufferPoolCreatedCounter());
+        assertEquals(0, stats.getBufferPoolAvailable());
+        exchange2.getUnitOfWork().done(exchange2);
+        assertEquals(buffers, stats.getBufferPoolAvailable());
+    }
+
+    @Test
+    public void testPooledSpoolMemoryMapped() throws Exception {
+        context.start();
+
+        String data = TEST_STRING + TEST_STRING + TEST_STRING;
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data.getBytes(StandardCharsets.UTF_8));
+        cos.close();
+
+        File file = testDirectory().toFile();
+        String[] files = file.list();
+        assertEquals(1, files.length, "we should have a temp file");
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof FileInputStreamCache, "Should be file stream cache");
+        assertFalse(cache.inMemory());
+        assertEquals(data, context.getTypeConverter().convertTo(String.class, cache));
+
+        // buffers are released when spooled to disk
+        StreamCachingStrategy.Statistics stats = context.getStreamCachingStrategy().getStatistics();
+        assertEquals(stats.getBufferPoolAcquiredCounter(), stats.getBufferPoolReleasedCounter());
+
+        cache.reset();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        cache.writeTo(bos);
+        assertEquals(data, bos.toString(StandardCharsets.UTF_8));
+
+        ((InputStream) cache).close();
+        exchange.getUnitOfWork().done(exchange);
+
+        files = file.list();
+        assertEquals(0, files.length, "we should have no temp file");
+    }
+
+    @Test
+    public void testMemoryMappedChunks() throws Exception {
+        byte[] data = new byte[1000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        Path path = testDirectory().resolve("mapped.dat");
+        Files.write(path, data);
+
+        // read the file using chunks smaller than the file
+        try (InputStream is = new FileInputStreamCache.MappedInputStream(
+                FileChannel.open(path, StandardOpenOption.READ), data.length, 64)) {
+            assertArrayEquals(data, is.readAllBytes());
+            assertEquals(-1, is.read());
+        }
+
+        try (InputStream is = new FileInputStreamCache.MappedInputStream(
+                FileChannel.open(path, StandardOpenOption.READ), data.length, 64)) {
+            // skip within the first chunk
+            assertEquals(10, is.skip(10));
+            assertEquals(10, is.read());
+            // skip past the current chunk
+            assertEquals(189, is.skip(189));
+            assertEquals(200 & 0xff, is.read());
+            assertEquals(799, is.available());
+
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            assertEquals(799, is.transferTo(bos));
+            assertEquals(799, bos.size());
+            assertEquals(data[999], bos.toByteArray()[798]);
+            assertEquals(0, is.skip(10));
+            assertEquals(-1, is.read());
+        }
+    }
+}
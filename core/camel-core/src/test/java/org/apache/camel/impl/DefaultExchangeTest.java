@@ -18,6 +18,7 @@ package org.apache.camel.impl;
 
 import java.io.IOException;
 import java.net.ConnectException;
+import java.util.Map;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
@@ -313,6 +314,67 @@ public class DefaultExchangeTest extends ExchangeTestSupport {
 
     }
 
+    @Test
+    public void testCopyOnWrite() {
+        Exchange copy = exchange.copy();
+
+        // the copy and the source are independent when either of them is mutated
+        copy.getIn().setHeader("foo", "def");
+        copy.setProperty("foobar", "fed");
+        assertEquals("def", copy.getIn().getHeader("foo"));
+        assertEquals("fed", copy.getProperty("foobar"));
+        assertEquals("abc", exchange.getIn().getHeader("foo"));
+        assertEquals("cba", exchange.getProperty("foobar"));
+
+        Exchange copy2 = exchange.copy();
+        exchange.getIn().getHeaders().put("baz", 456);
+        exchange.getProperties().put("baz", 456);
+        exchange.getIn().removeHeader("foo");
+        exchange.removeProperty("foobar");
+        assertEquals("abc", copy2.getIn().getHeader("foo"));
+        assertNull(copy2.getIn().getHeader("baz"));
+        assertEquals("cba", copy2.getProperty("foobar"));
+        assertNull(copy2.getProperty("baz"));
+
+        Exchange copy3 = copy2.copy();
+        copy3.getIn().removeHeaders("*");
+        copy3.removeProperties("*");
+        assertFalse(copy3.getIn().hasHeaders());
+        assertFalse(copy3.hasProperties());
+        assertEquals("abc", copy2.getIn().getHeader("foo"));
+        assertEquals(123, copy2.getIn().getHeader("bar"));
+        assertEquals("cba", copy2.getProperty("foobar"));
+    }
+
+    @Test
+    public void testCopyOnWriteRetainedReference() {
+        // maps obtained before copying may be mutated directly, which must not leak into the copy
+        Map<String, Object> headers = exchange.getIn().getHeaders();
+        Map<String, Object> properties = exchange.getProperties();
+        Exchange copy = exchange.copy();
+
+        headers.put("leak", "yes");
+        properties.put("leak", "yes");
+        assertNull(copy.getIn().getHeader("leak"));
+        assertNull(copy.getProperty("leak"));
+        assertEquals("yes", exchange.getIn().getHeader("leak"));
+        assertEquals("yes", exchange.getProperty("leak"));
+
+        // and the other way around
+        Exchange copy2 = exchange.copy();
+        Map<String, Object> copyHeaders = copy2.getIn().getHeaders();
+        Map<String, Object> copyProperties = copy2.getProperties();
+        Exchange copy3 = copy2.copy();
+        copyHeaders.put("leak2", "yes");
+        copyProperties.put("leak2", "yes");
+        assertNull(exchange.getIn().getHeader("leak2"));
+        assertNull(exchange.getProperty("leak2"));
+        assertNull(copy3.getIn().getHeader("leak2"));
+        assertNull(copy3.getProperty("leak2"));
+        assertEquals("yes", copy2.getIn().getHeader("leak2"));
+        assertEquals("yes", copy2.getProperty("leak2"));
+    }
+
     private static final class SafeProperty implements SafeCopyProperty {
 
         private SafeProperty() {
@@ -19,11 +19,15 @@ package org.apache.camel.impl;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.DefaultThreadPoolFactory;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.apache.camel.util.concurrent.ThreadHelper;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -553,4 +557,67 @@ public class DefaultExecutorServiceManagerTest extends ContextTestSupport {
         assertTrue(pool.isTerminated());
     }
 
+    @Test
+    public void testNewThreadPoolVirtualThreads() throws Exception {
+        ThreadPoolProfile foo = new ThreadPoolProfile("foo");
+        foo.setVirtualThreads(true);
+        context.getExecutorServiceManager().registerThreadPoolProfile(foo);
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", "foo");
+        assertNotNull(pool);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<String> name = new AtomicReference<>();
+        pool.submit(() -> {
+            name.set(Thread.currentThread().getName());
+            latch.countDown();
+        });
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        // thread names are based on the pattern also for virtual threads
+        assertTrue(name.get().contains("Cool"));
+
+        if (ThreadHelper.isVirtualThreadsSupported()) {
+            assertFalse(pool instanceof ThreadPoolExecutor);
+        } else {
+            // fallback to use platform threads
+            assertIsInstanceOf(ThreadPoolExecutor.class, pool);
+        }
+
+        // scheduled pools are always using platform threads
+        ExecutorService scheduled = context.getExecutorServiceManager().newScheduledThreadPool(this, "Cool", "foo");
+        assertIsInstanceOf(SizedScheduledExecutorService.class, scheduled);
+
+        context.stop();
+        assertTrue(pool.isShutdown());
+    }
+
+    @Test
+    public void testNewSingleThreadExecutorVirtualThreadsDefaultProfile() throws Exception {
+        final AtomicReference<Boolean> virtual = new AtomicReference<>();
+        context.getExecutorServiceManager().setThreadPoolFactory(new DefaultThreadPoolFactory() {
+            @Override
+            public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+                virtual.set(profile.getVirtualThreads());
+                return super.newThreadPool(profile, factory);
+            }
+        });
+        context.getExecutorServiceManager().getDefaultThreadPoolProfile().setVirtualThreads(true);
+
+        // single and fixed thread pools must stay bounded by their pool size
+        ExecutorService single = context.getExecutorServiceManager().newSingleThreadExecutor(this, "Single");
+        assertEquals(Boolean.FALSE, virtual.get());
+        ThreadPoolExecutor tp = assertIsInstanceOf(ThreadPoolExecutor.class, single);
+        assertEquals(1, tp.getCorePoolSize());
+        assertEquals(1, tp.getMaximumPoolSize());
+
+        ExecutorService fixed = context.getExecutorServiceManager().newFixedThreadPool(this, "Fixed", 5);
+        assertEquals(Boolean.FALSE, virtual.get());
+        tp = assertIsInstanceOf(ThreadPoolExecutor.class, fixed);
+        assertEquals(5, tp.getMaximumPoolSize());
+
+        // other thread pools based on the default profile use virtual threads
+        context.getExecutorServiceManager().newDefaultThreadPool(this, "Default");
+        assertEquals(Boolean.TRUE, virtual.get());
+    }
+
 }
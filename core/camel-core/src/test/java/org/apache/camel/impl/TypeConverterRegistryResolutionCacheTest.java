@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.impl.converter.CoreTypeConverterRegistry;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TypeConverterRegistryResolutionCacheTest {
+
+    @Test
+    public void testLookupMissRemembered() {
+        DefaultCamelContext context = new DefaultCamelContext();
+        MyOrderFallbackTypeConverter fallback = new MyOrderFallbackTypeConverter();
+        context.getTypeConverterRegistry().addFallbackTypeConverter(fallback, false);
+        int size = context.getTypeConverterRegistry().getResolutionCacheSize();
+
+        MyOrder order = context.getTypeConverter().convertTo(MyOrder.class, "123");
+        assertEquals(123, order.getId());
+        assertEquals(1, fallback.getCounter());
+        assertEquals(size + 1, context.getTypeConverterRegistry().getResolutionCacheSize());
+
+        order = context.getTypeConverter().convertTo(MyOrder.class, "456");
+        assertEquals(456, order.getId());
+        assertEquals(2, fallback.getCounter());
+        assertEquals(size + 1, context.getTypeConverterRegistry().getResolutionCacheSize());
+    }
+
+    @Test
+    public void testFallbackOrderKept() {
+        DefaultCamelContext context = new DefaultCamelContext();
+        MyOrderFallbackTypeConverter fallback = new MyOrderFallbackTypeConverter();
+        context.getTypeConverterRegistry().addFallbackTypeConverter(fallback, false);
+        // the last added fallback is tried first, and can only convert some of the values
+        MyNegativeOrderFallbackTypeConverter negative = new MyNegativeOrderFallbackTypeConverter();
+        context.getTypeConverterRegistry().addFallbackTypeConverter(negative, false);
+
+        MyOrder order = context.getTypeConverter().convertTo(MyOrder.class, "123");
+        assertEquals(123, order.getId());
+        assertEquals(1, fallback.getCounter());
+
+        // the fallbacks should still be tried in the same order
+        order = context.getTypeConverter().convertTo(MyOrder.class, "-456");
+        assertEquals(456, order.getId());
+        assertEquals(1, fallback.getCounter());
+
+        order = context.getTypeConverter().convertTo(MyOrder.class, "789");
+        assertEquals(789, order.getId());
+        assertEquals(2, fallback.getCounter());
+    }
+
+    @Test
+    public void testAddTypeConverterInvalidates() {
+        DefaultCamelContext context = new DefaultCamelContext();
+        MyOrderFallbackTypeConverter fallback = new MyOrderFallbackTypeConverter();
+        context.getTypeConverterRegistry().addFallbackTypeConverter(fallback, false);
+
+        MyOrder order = context.getTypeConverter().convertTo(MyOrder.class, "123");
+        assertEquals(123, order.getId());
+        assertEquals(1, fallback.getCounter());
+
+        // add a regular type converter which should now be used instead of the remembered fallback
+        context.getTypeConverterRegistry().addTypeConverter(MyOrder.class, String.class, new MyOrderTypeConverter());
+        assertEquals(0, context.getTypeConverterRegistry().getResolutionCacheSize());
+
+        order = context.getTypeConverter().convertTo(MyOrder.class, "456");
+        assertEquals(-456, order.getId());
+        assertEquals(1, fallback.getCounter());
+    }
+
+    @Test
+    public void testMissThenAddFallbackTypeConverter() {
+        DefaultCamelContext context = new DefaultCamelContext();
+
+        MyOrder order = context.getTypeConverter().convertTo(MyOrder.class, "123");
+        assertNull(order);
+
+        // add a fallback type converter that can convert the missed pair
+        MyOrderFallbackTypeConverter fallback = new MyOrderFallbackTypeConverter();
+        context.getTypeConverterRegistry().addFallbackTypeConverter(fallback, false);
+
+        order = context.getTypeConverter().convertTo(MyOrder.class, "123");
+        assertNotNull(order);
+        assertEquals(123, order.getId());
+        assertEquals(1, fallback.getCounter());
+    }
+
+    @Test
+    public void testAddTypeConverterDuringLookup() {
+        CoreTypeConverterRegistry registry = new CoreTypeConverterRegistry() {
+            private boolean added;
+
+            @Override
+            public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
+                TypeConverter answer = super.lookup(toType, fromType);
+                if (!added) {
+                    // simulate another thread adding a type converter for a super type while looking up
+                    added = true;
+                    addTypeConverter(MyOrder.class, CharSequence.class, new MyOrderTypeConverter());
+                }
+                return answer;
+            }
+        };
+
+        assertNull(registry.convertTo(MyOrder.class, "123"));
+        assertEquals(0, registry.getResolutionCacheSize());
+
+        // the miss should not be remembered, as the new type converter can convert the pair
+        MyOrder order = registry.convertTo(MyOrder.class, "456");
+        assertNotNull(order);
+        assertEquals(-456, order.getId());
+    }
+
+    private static class MyOrder {
+        private final int id;
+
+        MyOrder(int id) {
+            this.id = id;
+        }
+
+        public int getId() {
+            return id;
+        }
+    }
+
+    private static class MyOrderTypeConverter extends TypeConverterSupport {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+            return (T) new MyOrder(-Integer.parseInt(value.toString()));
+        }
+    }
+
+    private static class MyNegativeOrderFallbackTypeConverter extends TypeConverterSupport {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+            if (type == MyOrder.class && value instanceof String && ((String) value).startsWith("-")) {
+                return (T) new MyOrder(-Integer.parseInt(value.toString()));
+            }
+            return null;
+        }
+    }
+
+    private static class MyOrderFallbackTypeConverter extends TypeConverterSupport {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+            if (type == MyOrder.class && value instanceof String) {
+                counter.incrementAndGet();
+                return (T) new MyOrder(Integer.parseInt(value.toString()));
+            }
+            return null;
+        }
+
+        public int getCounter() {
+            return counter.get();
+        }
+    }
+
+}
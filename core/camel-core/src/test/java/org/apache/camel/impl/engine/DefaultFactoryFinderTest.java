@@ -19,8 +19,10 @@ package org.apache.camel.impl.engine;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.util.Map;
 
 import org.apache.camel.spi.ClassResolver;
+import org.apache.camel.spi.FactoryFinder;
 import org.apache.camel.spi.Injector;
 import org.junit.jupiter.api.Test;
 
@@ -121,6 +123,44 @@ public class DefaultFactoryFinderTest {
         assertEquals(TestImplA.class, clazz);
     }
 
+    @Test
+    public void shouldUseServiceIndex() throws IOException {
+        final ClassResolver classResolver = mock(ClassResolver.class);
+
+        doReturn(TestImplA.class).when(classResolver).resolveClass(TestImplA.class.getName());
+
+        final DefaultFactoryFinder factoryFinder = new DefaultFactoryFinder(
+                classResolver, TEST_RESOURCE_PATH, Map.of(TEST_RESOURCE_PATH + "TestImplA", TestImplA.class.getName()));
+
+        assertEquals(TestImplA.class, factoryFinder.findClass("TestImplA").orElse(null));
+        verify(classResolver, never()).loadResourceAsStream(anyString());
+
+        // not in the index so look up on the classpath
+        assertFalse(factoryFinder.findClass("TestImplX").isPresent());
+        verify(classResolver, times(1)).loadResourceAsStream(TEST_RESOURCE_PATH + "TestImplX");
+    }
+
+    @Test
+    public void shouldLoadServiceIndex() throws IOException {
+        final ClassResolver classResolver = mock(ClassResolver.class);
+
+        final String index = "component/foo=" + TestImplA.class.getName();
+
+        when(classResolver.loadResourceAsStream(DefaultFactoryFinder.SERVICE_INDEX))
+                .thenReturn(new ByteArrayInputStream(index.getBytes()));
+        doReturn(TestImplA.class).when(classResolver).resolveClass(TestImplA.class.getName());
+
+        final DefaultFactoryFinderResolver resolver = new DefaultFactoryFinderResolver();
+        final FactoryFinder finder = resolver.resolveFactoryFinder(classResolver, FactoryFinder.DEFAULT_PATH + "component/");
+        final FactoryFinder bootstrap = resolver.resolveBootstrapFactoryFinder(classResolver, FactoryFinder.DEFAULT_PATH);
+
+        assertEquals(TestImplA.class, finder.findClass("foo").orElse(null));
+        assertEquals(TestImplA.class, bootstrap.findClass("component/foo").orElse(null));
+
+        // the index is only loaded once
+        verify(classResolver, times(1)).loadResourceAsStream(anyString());
+    }
+
     URL urlFor(final Class<?> clazz) {
         final String resourceName
                 = clazz.getPackage().getName().replace('.', '/') + "/" + clazz.getSimpleName() + ".properties";
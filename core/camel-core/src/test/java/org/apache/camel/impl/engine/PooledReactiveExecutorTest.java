@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledReactiveExecutorTest extends ContextTestSupport {
+
+    private final PooledReactiveExecutor executor = new PooledReactiveExecutor(1);
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        executor.setStatisticsEnabled(true);
+        context.getCamelContextExtension().setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testManyThreads() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(200);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final int num = i;
+            Thread t = new Thread(() -> template.sendBody("direct:start", "Hello " + num));
+            threads.add(t);
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+
+        assertMockEndpointsSatisfied();
+
+        // all the workers are released when the threads are done (the delayer threads may still be completing
+        // the last exchanges)
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertEquals(0, executor.getActiveWorkers());
+            assertEquals(0, executor.getRunningWorkers());
+            assertEquals(0, executor.getPendingTasks());
+        });
+        assertTrue(executor.getIdleWorkers() <= executor.getPoolSize());
+    }
+
+    @Test
+    public void testNestedSynchronousCall() {
+        getMockEndpoint("mock:b").expectedMessageCount(5);
+
+        // a processor doing a synchronous call waits for the async reply while the worker is in use by the route
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < 5; i++) {
+                assertEquals("Bye World", template.requestBody("direct:a", "World"));
+            }
+        });
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(0, executor.getActiveWorkers()));
+        assertEquals(0, executor.getRunningWorkers());
+    }
+
+    @Test
+    public void testScheduleQueue() {
+        final List<String> order = new ArrayList<>();
+        executor.scheduleQueue(() -> order.add("a"));
+        executor.scheduleQueue(() -> {
+            order.add("b");
+            // scheduling from within a task keeps using the same worker
+            executor.schedule(() -> order.add("c"));
+        });
+
+        assertEquals(1, executor.getActiveWorkers());
+        while (executor.executeFromQueue()) {
+            // noop
+        }
+        assertFalse(executor.executeFromQueue());
+
+        assertEquals(List.of("a", "b", "c"), order);
+        assertEquals(0, executor.getActiveWorkers());
+    }
+
+    @Test
+    public void testNestedSchedule() throws Exception {
+        final List<String> order = new ArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        executor.schedule(() -> {
+            order.add("a");
+            executor.schedule(() -> order.add("c"));
+            executor.scheduleSync(() -> order.add("b"));
+            latch.countDown();
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("a", "b", "c"), order);
+        assertEquals(0, executor.getActiveWorkers());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .to("log:foo?level=OFF")
+                        .delay(1).asyncDelayed()
+                        .to("log:bar?level=OFF")
+                        .to("mock:result");
+
+                from("direct:a")
+                        .process(exchange -> {
+                            String reply = template.requestBody("direct:b", exchange.getMessage().getBody(), String.class);
+                            exchange.getMessage().setBody(reply);
+                        });
+
+                from("direct:b")
+                        .delay(20).asyncDelayed()
+                        .transform(body().prepend("Bye "))
+                        .to("mock:b");
+            }
+        };
+    }
+}
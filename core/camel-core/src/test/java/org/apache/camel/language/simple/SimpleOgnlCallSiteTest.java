@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.LanguageTestSupport;
+import org.apache.camel.language.bean.RuntimeBeanExpressionException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SimpleOgnlCallSiteTest extends LanguageTestSupport {
+
+    @Override
+    protected String getLanguageName() {
+        return "simple";
+    }
+
+    @Test
+    public void testResolveMethod() throws Exception {
+        assertNotNull(SimpleOgnlCallSite.resolveMethod(Person.class, "name"));
+        assertNotNull(SimpleOgnlCallSite.resolveMethod(Person.class, "getName"));
+        assertNotNull(SimpleOgnlCallSite.resolveMethod(Person.class, "getName()"));
+        assertNotNull(SimpleOgnlCallSite.resolveMethod(Person.class, "active"));
+        assertNotNull(SimpleOgnlCallSite.resolveMethod(String.class, "length"));
+        // overloaded, static, void and unknown methods are left to the bean language
+        assertNull(SimpleOgnlCallSite.resolveMethod(Person.class, "greet"));
+        assertNull(SimpleOgnlCallSite.resolveMethod(Person.class, "create"));
+        assertNull(SimpleOgnlCallSite.resolveMethod(Person.class, "reset"));
+        assertNull(SimpleOgnlCallSite.resolveMethod(Person.class, "unknown"));
+        assertNull(SimpleOgnlCallSite.resolveMethod(String.class, "toUpperCase"));
+        // there is no getter shorthand for an explicit method call
+        assertNull(SimpleOgnlCallSite.resolveMethod(Person.class, "name()"));
+    }
+
+    @Test
+    public void testGetterChain() throws Exception {
+        Person person = new Person("Claus", new Person("Jonathan", null));
+        exchange.getIn().setBody(person);
+
+        assertExpression("${body.name}", "Claus");
+        assertExpression("${body.getName()}", "Claus");
+        assertExpression("${body.parent.name}", "Jonathan");
+        assertExpression("${body.parent.name.length()}", 8);
+        assertExpression("${body.parent?.parent?.name}", null);
+
+        // and the same call site should work with other types of bodies
+        Expression expression = context.resolveLanguage("simple").createExpression("${body.name}");
+        expression.init(context);
+        exchange.getIn().setBody(new Person("Willem", null));
+        assertEquals("Willem", expression.evaluate(exchange, String.class));
+        exchange.getIn().setBody(new Animal("Tiger"));
+        assertEquals("Tiger", expression.evaluate(exchange, String.class));
+    }
+
+    @Test
+    public void testGetterChainWithRemainder() throws Exception {
+        Person person = new Person("Claus", new Person("Jonathan", null));
+        person.getFriends().add(new Person("James", null));
+        exchange.getIn().setBody(person);
+        exchange.getIn().setHeader("person", person);
+
+        assertExpression("${body.friends[0].name}", "James");
+        assertExpression("${body.parent.greet('Hello')}", "Hello Jonathan");
+        assertExpression("${header.person.friends[0].name}", "James");
+        assertExpression("${header.person.parent.name}", "Jonathan");
+    }
+
+    @Test
+    public void testGetterChainFailures() throws Exception {
+        Person person = new Person("Claus", null);
+        exchange.getIn().setBody(person);
+
+        // the bean language should fail in the same way
+        RuntimeBeanExpressionException e = assertThrows(RuntimeBeanExpressionException.class,
+                () -> assertExpression("${body.parent.name}", null));
+        assertEquals(".parent.name", e.getMethod());
+        assertEquals(Person.class.getCanonicalName(), e.getBeanName());
+        assertEquals("Failed to invoke method: .parent.name on " + Person.class.getCanonicalName()
+                     + " due last method returned null and therefore cannot continue to invoke method .name on a null instance",
+                e.getMessage());
+
+        e = assertThrows(RuntimeBeanExpressionException.class, () -> assertExpression("${body.kaboom}", null));
+        assertEquals("kaboom", e.getMethod());
+        assertEquals("Forced", e.getCause().getMessage());
+
+        // and the methods should only be invoked once
+        assertEquals(1, person.getKabooms());
+        e = assertThrows(RuntimeBeanExpressionException.class, () -> assertExpression("${body.nothing.name}", null));
+        assertEquals(".nothing.name", e.getMethod());
+        assertEquals(1, person.getNothings());
+    }
+
+    @Test
+    public void testNumericComparison() throws Exception {
+        exchange.getIn().setHeader("age", 21);
+        assertPredicate("${header.age} > 18", true);
+        assertPredicate("${header.age} <= 18", false);
+        assertPredicate("${header.age} == 21", true);
+        assertPredicate("${header.age} != 21", false);
+
+        exchange.getIn().setHeader("age", "17");
+        assertPredicate("${header.age} > 18", false);
+        assertPredicate("${header.age} < 18", true);
+        assertPredicate("${header.age} == 17", true);
+
+        exchange.getIn().setHeader("age", 21L);
+        assertPredicate("${header.age} >= 21", true);
+        assertPredicate("${header.age} > 12345678901", false);
+        exchange.getIn().setHeader("age", 19.5d);
+        assertPredicate("${header.age} > 18", true);
+        exchange.getIn().setHeader("age", "abc");
+        assertPredicate("${header.age} == 18", false);
+
+        exchange.getIn().removeHeader("age");
+        assertPredicate("${header.age} > 18", false);
+        assertPredicate("${header.age} == 18", false);
+        assertPredicate("${header.age} != 18", true);
+    }
+
+    @Test
+    public void testTypeConstant() throws Exception {
+        Expression expression = context.resolveLanguage("simple").createExpression("${type:org.apache.camel.Exchange.FILE_NAME}");
+        expression.init(context);
+        assertEquals(Exchange.FILE_NAME, expression.evaluate(exchange, String.class));
+        assertEquals(Exchange.FILE_NAME, expression.evaluate(exchange, String.class));
+    }
+
+    public static class Person {
+        private final String name;
+        private final Person parent;
+        private final List<Person> friends = new ArrayList<>();
+        private int kabooms;
+        private int nothings;
+
+        public Person(String name, Person parent) {
+            this.name = name;
+            this.parent = parent;
+        }
+
+        public static Person create(String name) {
+            return new Person(name, null);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Person getParent() {
+            return parent;
+        }
+
+        public List<Person> getFriends() {
+            return friends;
+        }
+
+        public boolean isActive() {
+            return true;
+        }
+
+        public String getKaboom() {
+            kabooms++;
+            throw new IllegalArgumentException("Forced");
+        }
+
+        public int getKabooms() {
+            return kabooms;
+        }
+
+        public Person getNothing() {
+            nothings++;
+            return null;
+        }
+
+        public int getNothings() {
+            return nothings;
+        }
+
+        public String greet(String greeting) {
+            return greeting + " " + name;
+        }
+
+        public String greet(String greeting, String punctuation) {
+            return greeting + " " + name + punctuation;
+        }
+
+        public void reset() {
+            // noop
+        }
+    }
+
+    public static class Animal {
+        private final String name;
+
+        public Animal(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+}
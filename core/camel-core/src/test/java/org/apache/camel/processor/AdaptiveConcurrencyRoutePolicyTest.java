@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.throttling.AdaptiveConcurrencyRoutePolicy;
+import org.apache.camel.throttling.AdaptiveConcurrencyRoutePolicy.LimitAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveConcurrencyRoutePolicyTest extends ContextTestSupport {
+
+    private final String url = "seda:foo?concurrentConsumers=20";
+    private final int size = 100;
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private final AdaptiveConcurrencyRoutePolicy rejectPolicy = new AdaptiveConcurrencyRoutePolicy();
+    private final AdaptiveConcurrencyRoutePolicy policyA = new AdaptiveConcurrencyRoutePolicy();
+    private final AdaptiveConcurrencyRoutePolicy policyB = new AdaptiveConcurrencyRoutePolicy();
+
+    @Test
+    public void testAdaptiveConcurrencyRoutePolicy() throws Exception {
+        // we use seda which are not persistent and hence can loose a message
+        // when we get graceful shutdown support we can prevent this
+        getMockEndpoint("mock:result").expectedMinimumMessageCount(size - 10);
+
+        for (int i = 0; i < size; i++) {
+            template.sendBody(url, "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testRejectExceeded() throws Exception {
+        getMockEndpoint("mock:reject").expectedBodiesReceived("A");
+
+        Future<Object> future = template.asyncRequestBody("direct:reject", "A");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> rejectPolicy.getInflightExchanges() == 1);
+
+        CamelExecutionException e
+                = assertThrows(CamelExecutionException.class, () -> template.requestBody("direct:reject", "B"));
+        assertIsInstanceOf(RejectedExecutionException.class, e.getCause());
+        assertEquals(1, rejectPolicy.getRejectedExchanges());
+
+        latch.countDown();
+        assertEquals("A", future.get(5, TimeUnit.SECONDS));
+        assertMockEndpointsSatisfied();
+        assertEquals(0, rejectPolicy.getInflightExchanges());
+        assertTrue(rejectPolicy.getLastRtt() > 0);
+    }
+
+    @Test
+    public void testChainedRoutes() throws Exception {
+        getMockEndpoint("mock:b").expectedMessageCount(5);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:a", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+        // each policy must only count the exchanges it has started
+        assertEquals(0, policyA.getInflightExchanges());
+        assertEquals(0, policyB.getInflightExchanges());
+        assertTrue(policyA.getLastRtt() >= policyB.getLastRtt());
+    }
+
+    @Test
+    public void testAimd() throws Exception {
+        MyPolicy policy = new MyPolicy(LimitAlgorithm.Aimd);
+
+        // not busy so the limit should not grow
+        policy.sample(10, false, 1);
+        assertEquals(10, policy.getLimit());
+
+        policy.sample(10, false, 10);
+        assertEquals(11, policy.getLimit());
+        policy.sample(10, false, 11);
+        assertEquals(12, policy.getLimit());
+
+        policy.sample(10, true, 12);
+        assertEquals(10, policy.getLimit());
+    }
+
+    @Test
+    public void testVegas() throws Exception {
+        MyPolicy policy = new MyPolicy(LimitAlgorithm.Vegas);
+
+        for (int i = 0; i < 10; i++) {
+            policy.sample(10, false, policy.getLimit());
+        }
+        int limit = policy.getLimit();
+        assertTrue(limit > 10, "Limit should increase, was: " + limit);
+        assertEquals(10, policy.getMinRtt(), 0.1);
+
+        // latency increases so the queue is building up
+        for (int i = 0; i < 10; i++) {
+            policy.sample(100, false, policy.getLimit());
+        }
+        assertTrue(policy.getLimit() < limit, "Limit should decrease, was: " + policy.getLimit());
+    }
+
+    @Test
+    public void testGradient() throws Exception {
+        MyPolicy policy = new MyPolicy(LimitAlgorithm.Gradient);
+
+        for (int i = 0; i < 20; i++) {
+            policy.sample(10, false, policy.getLimit());
+        }
+        int limit = policy.getLimit();
+        assertTrue(limit > 10, "Limit should increase, was: " + limit);
+
+        // latency increases compared to the long term average
+        for (int i = 0; i < 10; i++) {
+            policy.sample(100, false, policy.getLimit());
+        }
+        assertTrue(policy.getLimit() < limit, "Limit should decrease, was: " + policy.getLimit());
+    }
+
+    @Test
+    public void testMinAndMaxLimit() throws Exception {
+        MyPolicy policy = new MyPolicy(LimitAlgorithm.Aimd);
+        policy.setMinLimit(5);
+        policy.setMaxLimit(12);
+        policy.start();
+
+        for (int i = 0; i < 10; i++) {
+            policy.sample(10, false, 20);
+        }
+        assertEquals(12, policy.getLimit());
+
+        for (int i = 0; i < 20; i++) {
+            policy.sample(10, true, 20);
+        }
+        assertEquals(5, policy.getLimit());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                AdaptiveConcurrencyRoutePolicy policy = new AdaptiveConcurrencyRoutePolicy();
+                policy.setInitialLimit(10);
+
+                from(url).routePolicy(policy).delay(3).to("log:foo?groupSize=10").to("mock:result");
+
+                rejectPolicy.setInitialLimit(1);
+                rejectPolicy.setMaxLimit(1);
+                rejectPolicy.setRejectExceeded(true);
+
+                from("direct:reject").routePolicy(rejectPolicy)
+                        .process(e -> latch.await(5, TimeUnit.SECONDS))
+                        .to("mock:reject");
+
+                from("direct:a").routePolicy(policyA).to("direct:b");
+                from("direct:b").routePolicy(policyB).to("mock:b");
+            }
+        };
+    }
+
+    private static class MyPolicy extends AdaptiveConcurrencyRoutePolicy {
+
+        MyPolicy(LimitAlgorithm algorithm) {
+            setAlgorithm(algorithm);
+            setInitialLimit(10);
+            start();
+        }
+
+        void sample(long rttMillis, boolean drop, int inflight) {
+            updateLimit(TimeUnit.MILLISECONDS.toNanos(rttMillis), drop, inflight);
+        }
+    }
+}
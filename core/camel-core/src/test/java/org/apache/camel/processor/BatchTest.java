@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Component;
+import org.apache.camel.Consumer;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.BatchProducer;
+import org.apache.camel.support.DefaultComponent;
+import org.apache.camel.support.DefaultEndpoint;
+import org.apache.camel.support.DefaultProducer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchTest extends ContextTestSupport {
+
+    private final List<List<Object>> batches = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testBatchSize() throws Exception {
+        MockEndpoint batch = getMockEndpoint("mock:batch");
+        batch.expectedMessageCount(2);
+        batch.allMessages().exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(5);
+        getMockEndpoint("mock:result").expectedBodiesReceivedInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        for (int i = 0; i < 10; i++) {
+            template.asyncSendBody("direct:start", i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        List<?> first = batch.getReceivedExchanges().get(0).getMessage().getBody(List.class);
+        assertEquals(5, first.size());
+        assertInstanceOf(Exchange.class, first.get(0));
+    }
+
+    @Test
+    public void testBatchLingerTime() throws Exception {
+        MockEndpoint batch = getMockEndpoint("mock:linger");
+        batch.expectedMessageCount(1);
+        batch.message(0).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(3);
+
+        // the batch is not full so the callers are completed after the linger time
+        template.asyncSendBody("direct:linger", "A");
+        template.asyncSendBody("direct:linger", "B");
+        Object out = template.requestBody("direct:linger", "C");
+        assertEquals("C", out);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBatchSynchronousConsumer() throws Exception {
+        MockEndpoint batch = getMockEndpoint("mock:sync");
+        batch.expectedMessageCount(3);
+        batch.allMessages().exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(1);
+
+        // a single caller only has one message in each batch, which is routed after the linger time
+        long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Hello " + i, template.requestBody("direct:sync", "Hello " + i));
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsed >= 3 * 50, "Should wait for the linger time of each batch, was: " + elapsed);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBatchLingerTimeZero() throws Exception {
+        Exception e = assertThrows(Exception.class, () -> context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:zero")
+                    .batch(10).lingerTime(0)
+                        .to("mock:zero")
+                    .end();
+            }
+        }));
+        IllegalArgumentException cause = assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+        assertEquals("A positive value is required for the linger time, was: 0", cause.getMessage());
+    }
+
+    @Test
+    public void testBatchByteSize() throws Exception {
+        MockEndpoint batch = getMockEndpoint("mock:bytes");
+        batch.expectedMessageCount(2);
+        batch.message(0).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(2);
+        batch.message(1).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(1);
+
+        template.asyncSendBody("direct:bytes", "Hello");
+        template.asyncSendBody("direct:bytes", "World");
+        template.asyncSendBody("direct:bytes", "Camel");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBatchProducer() throws Exception {
+        getMockEndpoint("mock:producer").expectedBodiesReceivedInAnyOrder("A", "C");
+
+        Future<Exchange> a = template.asyncSend("direct:producer", e -> e.getMessage().setBody("A"));
+        Future<Exchange> b = template.asyncSend("direct:producer", e -> e.getMessage().setBody("Kaboom"));
+        Future<Exchange> c = template.asyncSend("direct:producer", e -> e.getMessage().setBody("C"));
+
+        // only the failed exchange has the exception
+        assertNull(a.get().getException());
+        assertInstanceOf(IllegalArgumentException.class, b.get().getException());
+        assertNull(c.get().getException());
+
+        assertMockEndpointsSatisfied();
+
+        // the producer received the batch in one call
+        assertEquals(1, batches.size());
+        assertEquals(3, batches.get(0).size());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                getContext().addComponent("mybatch", new MyComponent());
+
+                from("direct:start")
+                    .batch(5).lingerTime(60000)
+                        .to("mock:batch")
+                    .end()
+                    .to("mock:result");
+
+                from("direct:linger")
+                    .batch(100).lingerTime(100)
+                        .to("mock:linger")
+                    .end();
+
+                from("direct:sync")
+                    .batch(10).lingerTime(50)
+                        .to("mock:sync")
+                    .end();
+
+                from("direct:bytes")
+                    .batch(100).byteSize(10).lingerTime(100)
+                        .to("mock:bytes")
+                    .end();
+
+                from("direct:producer")
+                    .batch(3).lingerTime(60000)
+                        .to("mybatch:foo")
+                    .end()
+                    .to("mock:producer");
+            }
+        };
+    }
+
+    public class MyComponent extends DefaultComponent {
+
+        @Override
+        protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters) throws Exception {
+            return new MyEndpoint(uri, this);
+        }
+    }
+
+    public class MyEndpoint extends DefaultEndpoint {
+
+        public MyEndpoint(String endpointUri, Component component) {
+            super(endpointUri, component);
+        }
+
+        @Override
+        public Producer createProducer() throws Exception {
+            return new MyBatchProducer(this);
+        }
+
+        @Override
+        public Consumer createConsumer(Processor processor) throws Exception {
+            throw new UnsupportedOperationException("Consumer not supported");
+        }
+    }
+
+    public class MyBatchProducer extends DefaultProducer implements BatchProducer {
+
+        public MyBatchProducer(Endpoint endpoint) {
+            super(endpoint);
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            throw new IllegalStateException("Should be called with a batch");
+        }
+
+        @Override
+        public boolean processBatch(List<Exchange> exchanges, AsyncCallback callback) {
+            List<Object> bodies = new CopyOnWriteArrayList<>();
+            for (Exchange exchange : exchanges) {
+                bodies.add(exchange.getMessage().getBody());
+                if ("Kaboom".equals(exchange.getMessage().getBody())) {
+                    exchange.setException(new IllegalArgumentException("Forced"));
+                }
+            }
+            batches.add(bodies);
+            callback.done(true);
+            return true;
+        }
+    }
+}
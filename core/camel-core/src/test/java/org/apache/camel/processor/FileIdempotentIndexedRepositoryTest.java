@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.processor.idempotent.IndexedFileIdempotentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileIdempotentIndexedRepositoryTest extends ContextTestSupport {
+
+    private final File store = testFile("idempotentindexedstore.dat").toFile();
+    private final File index = testFile("idempotentindexedstore.dat.index").toFile();
+    private final File otherStore = testFile("idempotentindexedother.dat").toFile();
+    private final File otherIndex = testFile("idempotentindexedother.dat.index").toFile();
+    private IndexedFileIdempotentRepository repo;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        // delete file store before testing
+        store.delete();
+        index.delete();
+        otherStore.delete();
+        otherIndex.delete();
+        repo = new IndexedFileIdempotentRepository(store);
+
+        super.setUp();
+    }
+
+    @Test
+    public void testDuplicateMessagesAreFilteredOut() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("one", "two", "three");
+
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "three", "messageId", "3");
+
+        assertMockEndpointsSatisfied();
+
+        mock.reset();
+        mock.expectedBodiesReceived("two again");
+
+        repo.remove("2");
+
+        template.sendBodyAndHeader("direct:start", "two again", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "three", "messageId", "3");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testReloadAfterStop() throws Exception {
+        IndexedFileIdempotentRepository other = newRepository();
+        other.start();
+        for (int i = 0; i < 5000; i++) {
+            assertTrue(other.add("key-" + i));
+        }
+        for (int i = 0; i < 5000; i += 2) {
+            assertTrue(other.remove("key-" + i));
+        }
+        other.stop();
+
+        // the index is reused as the repository was stopped cleanly
+        other = newRepository();
+        other.start();
+        assertEquals(2500, other.getCurrentSize());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i % 2 == 1, other.contains("key-" + i));
+        }
+        other.stop();
+    }
+
+    @Test
+    public void testRecoverAfterCrash() throws Exception {
+        IndexedFileIdempotentRepository other = newRepository();
+        other.start();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(other.add("key-" + i));
+        }
+        assertTrue(other.remove("key-50"));
+        other.stop();
+
+        // simulate a crash while writing a record, and an index that was not closed cleanly
+        try (FileOutputStream fos = new FileOutputStream(otherStore, true)) {
+            fos.write(new byte[] { 1, 0, 0, 0, 20, 'k', 'e', 'y' });
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(otherIndex, "rw")) {
+            raf.seek(20);
+            raf.writeInt(0);
+        }
+        long size = otherStore.length();
+
+        other = newRepository();
+        other.start();
+        assertEquals(99, other.getCurrentSize());
+        assertTrue(other.contains("key-0"));
+        assertTrue(other.contains("key-99"));
+        assertFalse(other.contains("key-50"));
+        // the partial record is truncated
+        assertEquals(size - 8, other.getLogFileSize());
+        assertTrue(other.add("key-100"));
+        other.stop();
+
+        other = newRepository();
+        other.start();
+        assertEquals(100, other.getCurrentSize());
+        assertTrue(other.contains("key-100"));
+        other.stop();
+    }
+
+    @Test
+    public void testCompact() throws Exception {
+        IndexedFileIdempotentRepository other = newRepository();
+        other.setCompactionMinFileSize(0);
+        other.start();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(other.add("key-" + i));
+        }
+        long size = other.getLogFileSize();
+        for (int i = 0; i < 1000; i++) {
+            if (i % 10 != 0) {
+                assertTrue(other.remove("key-" + i));
+            }
+        }
+        // compaction is triggered when the garbage ratio exceeds the threshold
+        assertTrue(other.getLogFileSize() < size / 2, "Should be compacted, was: " + other.getLogFileSize());
+
+        other.compact();
+        long expected = 0;
+        for (int i = 0; i < 1000; i += 10) {
+            // type, length and checksum of each record
+            expected += 9 + ("key-" + i).length();
+        }
+        assertEquals(expected, other.getLogFileSize());
+        assertEquals(100, other.getCurrentSize());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 10 == 0, other.contains("key-" + i));
+        }
+        other.stop();
+
+        other = newRepository();
+        other.start();
+        assertEquals(100, other.getCurrentSize());
+        assertTrue(other.contains("key-990"));
+        other.clear();
+        assertEquals(0, other.getCurrentSize());
+        assertEquals(0, other.getLogFileSize());
+        assertFalse(other.contains("key-990"));
+        other.stop();
+    }
+
+    private IndexedFileIdempotentRepository newRepository() {
+        IndexedFileIdempotentRepository answer = new IndexedFileIdempotentRepository(otherStore);
+        answer.setInitialIndexCapacity(16);
+        return answer;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start").idempotentConsumer(header("messageId"), repo).to("mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.processor.idempotent.ConcurrentMemoryIdempotentRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IdempotentConsumerConcurrentMemoryRepositoryTest extends ContextTestSupport {
+
+    private final ConcurrentMemoryIdempotentRepository repo = new ConcurrentMemoryIdempotentRepository(10000);
+
+    @Test
+    public void testDuplicateMessagesAreFilteredOut() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("one", "two", "three");
+
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "three", "messageId", "3");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testConcurrentDuplicates() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(500);
+
+        ExecutorService executor = Executors.newFixedThreadPool(10);
+        try {
+            for (int i = 0; i < 10; i++) {
+                executor.submit(() -> {
+                    for (int j = 0; j < 500; j++) {
+                        template.sendBodyAndHeader("direct:start", "Hello " + j, "messageId", "id-" + j);
+                    }
+                });
+            }
+            assertMockEndpointsSatisfied();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(500, repo.getCurrentSize());
+    }
+
+    @Test
+    public void testEvictOldest() throws Exception {
+        ConcurrentMemoryIdempotentRepository small = new ConcurrentMemoryIdempotentRepository(100, 1, 0, false);
+        small.start();
+        for (int i = 0; i < 150; i++) {
+            assertTrue(small.add("key-" + i));
+        }
+        assertEquals(100, small.getCurrentSize());
+        // the oldest keys are evicted first
+        for (int i = 0; i < 50; i++) {
+            assertFalse(small.contains("key-" + i));
+        }
+        for (int i = 50; i < 150; i++) {
+            assertTrue(small.contains("key-" + i));
+        }
+        small.stop();
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        ConcurrentMemoryIdempotentRepository small = new ConcurrentMemoryIdempotentRepository(100, 1, 0, false);
+        small.start();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(small.add("key-" + i));
+        }
+        for (int i = 0; i < 100; i += 2) {
+            assertTrue(small.remove("key-" + i));
+            assertFalse(small.remove("key-" + i));
+        }
+        assertEquals(50, small.getCurrentSize());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, small.contains("key-" + i));
+        }
+        // removed keys can be added again
+        assertTrue(small.add("key-0"));
+        assertFalse(small.add("key-1"));
+        small.stop();
+    }
+
+    @Test
+    public void testRemoveThenFillUp() throws Exception {
+        ConcurrentMemoryIdempotentRepository small = new ConcurrentMemoryIdempotentRepository(100, 1, 0, false);
+        small.start();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(small.add("key-" + i));
+        }
+        // remove keys in the middle, which leaves gaps in the ring buffer
+        for (int i = 40; i < 60; i++) {
+            assertTrue(small.remove("key-" + i));
+        }
+        assertEquals(80, small.getCurrentSize());
+        // fill up to the cache size again, which must not evict any of the remaining keys
+        for (int i = 100; i < 120; i++) {
+            assertTrue(small.add("key-" + i));
+        }
+        assertEquals(100, small.getCurrentSize());
+        for (int i = 0; i < 120; i++) {
+            assertEquals(i < 40 || i >= 60, small.contains("key-" + i), "key-" + i);
+        }
+        // the oldest key is evicted first when the cache size is exceeded
+        assertTrue(small.add("key-120"));
+        assertEquals(100, small.getCurrentSize());
+        assertFalse(small.contains("key-0"));
+        assertTrue(small.contains("key-1"));
+        assertTrue(small.contains("key-120"));
+        small.stop();
+    }
+
+    @Test
+    public void testExpireAfter() throws Exception {
+        ConcurrentMemoryIdempotentRepository expiring = new ConcurrentMemoryIdempotentRepository(100, 1, 200, false);
+        expiring.start();
+        assertTrue(expiring.add("A"));
+        assertFalse(expiring.add("A"));
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertFalse(expiring.contains("A")));
+        assertTrue(expiring.add("A"));
+        expiring.stop();
+    }
+
+    @Test
+    public void testCompactKeys() throws Exception {
+        ConcurrentMemoryIdempotentRepository compact = new ConcurrentMemoryIdempotentRepository(100000, 16, 0, true);
+        compact.start();
+        assertTrue(compact.isCompactKeys());
+
+        String[] keys = new String[50000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = UUID.randomUUID().toString();
+            assertTrue(compact.add(keys[i]));
+        }
+        assertEquals(keys.length, compact.getCurrentSize());
+        AtomicInteger found = new AtomicInteger();
+        for (String key : keys) {
+            assertFalse(compact.add(key));
+            if (compact.contains(key)) {
+                found.incrementAndGet();
+            }
+        }
+        assertEquals(keys.length, found.get());
+        assertFalse(compact.contains(UUID.randomUUID().toString()));
+
+        compact.clear();
+        assertEquals(0, compact.getCurrentSize());
+        assertFalse(compact.contains(keys[0]));
+        compact.stop();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .idempotentConsumer(header("messageId"), repo)
+                        .to("mock:result");
+            }
+        };
+    }
+}
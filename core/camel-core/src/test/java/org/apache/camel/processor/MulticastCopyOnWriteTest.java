@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the headers and properties shared copy-on-write between the multicast branches are isolated when mutated.
+ */
+public class MulticastCopyOnWriteTest extends ContextTestSupport {
+
+    private static final int BRANCHES = 50;
+
+    @Test
+    public void testMulticastCopyOnWrite() throws Exception {
+        MockEndpoint read = getMockEndpoint("mock:read");
+        read.expectedMessageCount(BRANCHES * 5);
+        read.allMessages().header("foo").isEqualTo("parent");
+        read.allMessages().header("bar").isNull();
+        read.allMessages().exchangeProperty("myprop").isEqualTo("parent");
+
+        MockEndpoint write = getMockEndpoint("mock:write");
+        write.expectedMessageCount(BRANCHES * 5);
+        write.allMessages().header("foo").isEqualTo("branch");
+        write.allMessages().header("bar").isEqualTo("branch");
+        write.allMessages().exchangeProperty("myprop").isEqualTo("branch");
+
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedMessageCount(5);
+        result.allMessages().header("foo").isEqualTo("parent");
+        result.allMessages().header("bar").isNull();
+        result.allMessages().exchangeProperty("myprop").isEqualTo("parent");
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBodyAndHeader("direct:start", "Hello " + i, "foo", "parent");
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                String[] uris = new String[BRANCHES * 2];
+                for (int i = 0; i < BRANCHES; i++) {
+                    uris[i * 2] = "direct:read";
+                    uris[i * 2 + 1] = "direct:write";
+                }
+
+                from("direct:start")
+                        .setProperty("myprop", constant("parent"))
+                        .multicast(AggregationStrategies.useOriginal()).parallelProcessing().to(uris)
+                        .end()
+                        .to("mock:result");
+
+                from("direct:read").to("mock:read");
+
+                from("direct:write")
+                        .setHeader("foo", constant("branch"))
+                        .setHeader("bar", constant("branch"))
+                        .setProperty("myprop", constant("branch"))
+                        .to("mock:write");
+            }
+        };
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
+import org.apache.camel.spi.PooledObjectFactory;
+import org.apache.camel.support.DefaultConsumer;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PooledExchangeLeakTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext camelContext = super.createCamelContext();
+        ExtendedCamelContext ecc = camelContext.getCamelContextExtension();
+
+        ecc.setExchangeFactory(new PooledExchangeFactory());
+        ecc.setProcessorExchangeFactory(new PooledProcessorExchangeFactory());
+        ecc.getExchangeFactory().setStatisticsEnabled(true);
+        ecc.getProcessorExchangeFactory().setStatisticsEnabled(true);
+
+        return camelContext;
+    }
+
+    @Test
+    void testReleasedNotLeaked() throws Exception {
+        DefaultConsumer consumer = (DefaultConsumer) context.getRoute("foo").getConsumer();
+
+        Exchange exchange = consumer.createExchange(false);
+        exchange.getMessage().setHeader("foo", 123);
+        consumer.getProcessor().process(exchange);
+        consumer.releaseExchange(exchange, false);
+
+        // the same exchange, message and headers are reused
+        Exchange reused = consumer.createExchange(false);
+        assertSame(exchange, reused);
+        assertSame(exchange.getIn(), reused.getIn());
+        assertEquals(0, reused.getIn().getHeaders().size());
+        consumer.releaseExchange(reused, false);
+        reused = null;
+        exchange = null;
+
+        // released exchanges are kept in the pool
+        context.getCamelContextExtension().getExchangeFactoryManager().purge();
+        System.gc();
+        Thread.sleep(100);
+
+        PooledObjectFactory.Statistics stat
+                = context.getCamelContextExtension().getExchangeFactoryManager().getStatistics();
+        assertEquals(1, stat.getCreatedCounter());
+        assertEquals(1, stat.getAcquiredCounter());
+        assertEquals(2, stat.getReleasedCounter());
+        assertEquals(0, stat.getLeakedCounter());
+    }
+
+    @Test
+    void testLeakDetected() throws Exception {
+        DefaultConsumer consumer = (DefaultConsumer) context.getRoute("foo").getConsumer();
+
+        Exchange leaked = consumer.createExchange(false);
+        consumer.getProcessor().process(leaked);
+        // forget to release the exchange
+        Exchange other = consumer.createExchange(false);
+        assertNotSame(leaked, other);
+        consumer.releaseExchange(other, false);
+        leaked = null;
+
+        PooledObjectFactory.Statistics stat
+                = context.getCamelContextExtension().getExchangeFactoryManager().getStatistics();
+        await().atMost(20, TimeUnit.SECONDS).untilAsserted(() -> {
+            System.gc();
+            assertEquals(1, stat.getLeakedCounter());
+        });
+        assertEquals(2, stat.getCreatedCounter());
+        assertEquals(1, stat.getReleasedCounter());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("foo")
+                        .setHeader("bar", constant("baz"))
+                        .to("log:foo?level=OFF");
+            }
+        };
+    }
+}
@@ -30,6 +30,7 @@ import org.apache.camel.component.mock.MockEndpoint;
 import org.apache.camel.impl.engine.PooledExchangeFactory;
 import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
 import org.apache.camel.spi.PooledObjectFactory;
+import org.apache.camel.spi.UnitOfWork;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -39,6 +40,7 @@ class PooledExchangeTest extends ContextTestSupport {
 
     private final AtomicInteger counter = new AtomicInteger();
     private final AtomicReference<Exchange> ref = new AtomicReference<>();
+    private final AtomicReference<UnitOfWork> uow = new AtomicReference<>();
 
     @Override
     protected CamelContext createCamelContext() throws Exception {
@@ -91,9 +93,12 @@ class PooledExchangeTest extends ContextTestSupport {
                                 Exchange old = ref.get();
                                 if (old == null) {
                                     ref.set(exchange);
+                                    uow.set(exchange.getUnitOfWork());
                                     exchange.getMessage().setHeader("first", true);
                                 } else {
                                     assertSame(old, exchange);
+                                    // the unit of work is reset and reused as well
+                                    assertSame(uow.get(), exchange.getUnitOfWork());
                                 }
                             }
                         })
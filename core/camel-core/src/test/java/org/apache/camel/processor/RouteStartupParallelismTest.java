@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.service.ServiceSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RouteStartupParallelismTest extends ContextTestSupport {
+
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setRouteStartupParallelism(4);
+        return context;
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testRouteStartupParallelism() throws Exception {
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").startupOrder(2).to("seda:foo");
+                from("seda:foo").startupOrder(1).to("mock:result");
+                for (int i = 0; i < 20; i++) {
+                    from("direct:route" + i).routeId("route" + i).process(new MyService(null)).to("mock:result");
+                }
+            }
+        });
+        context.start();
+
+        getMockEndpoint("mock:result").expectedMessageCount(21);
+        template.sendBody("direct:start", "Hello World");
+        for (int i = 0; i < 20; i++) {
+            template.sendBody("direct:route" + i, "Hello World");
+        }
+        assertMockEndpointsSatisfied();
+
+        // the startup order is still the same
+        List<RouteStartupOrder> order = context.getCamelContextExtension().getRouteStartupOrder();
+        assertEquals(22, order.size());
+        assertEquals("seda://foo", order.get(0).getRoute().getEndpoint().getEndpointUri());
+        assertEquals("direct://start", order.get(1).getRoute().getEndpoint().getEndpointUri());
+        for (int i = 0; i < 20; i++) {
+            assertEquals("route" + i, order.get(i + 2).getRoute().getRouteId());
+        }
+
+        // and the routes was warmed up using the route startup threads
+        assertTrue(threads.stream().allMatch(n -> n.contains("RouteStartup")), "Should use route startup threads: " + threads);
+    }
+
+    @Test
+    public void testRouteStartupParallelismFailure() throws Exception {
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                for (int i = 0; i < 20; i++) {
+                    String fail = i == 7 || i == 13 ? "Forced " + i : null;
+                    from("direct:route" + i).routeId("route" + i).process(new MyService(fail)).to("mock:result");
+                }
+            }
+        });
+
+        // should fail with the error from the first failing route (in startup order)
+        Exception e = assertThrows(Exception.class, () -> context.start());
+        Throwable cause = e;
+        while (cause.getCause() != null && !(cause instanceof IllegalStateException)) {
+            cause = cause.getCause();
+        }
+        assertEquals("Forced 7", cause.getMessage());
+    }
+
+    @Test
+    public void testRouteStartupParallelismFailureInOtherGroup() throws Exception {
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                // route0 and route3 consume from the same endpoint so they are warmed up in the same group
+                from("seda:foo?multipleConsumers=true").routeId("route0").process(new MyService(null)).to("mock:result");
+                from("direct:route1").routeId("route1").process(new MyService(null)).to("mock:result");
+                from("direct:route2").routeId("route2").process(new MyService("Forced 2")).to("mock:result");
+                from("seda:foo?multipleConsumers=true").routeId("route3").process(new MyService("Forced 3"))
+                        .to("mock:result");
+            }
+        });
+
+        // should fail with the error from the first failing route (in startup order) and not the first group
+        Exception e = assertThrows(Exception.class, () -> context.start());
+        Throwable cause = e;
+        while (cause.getCause() != null && !(cause instanceof IllegalStateException)) {
+            cause = cause.getCause();
+        }
+        assertEquals("Forced 2", cause.getMessage());
+    }
+
+    private final class MyService extends ServiceSupport implements Processor {
+
+        private final String fail;
+
+        private MyService(String fail) {
+            this.fail = fail;
+        }
+
+        @Override
+        protected void doStart() throws Exception {
+            threads.add(Thread.currentThread().getName());
+            if (fail != null) {
+                throw new IllegalStateException(fail);
+            }
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            // noop
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.FailedToCreateRouteException;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterParallelWindowSizeTest extends ContextTestSupport {
+
+    private static final int SIZE = 200;
+    private static final int WINDOW = 5;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+    private final Random random = new Random();
+
+    @Test
+    public void testParallelWindowSize() throws Exception {
+        List<Integer> body = IntStream.range(0, SIZE).boxed().collect(Collectors.toList());
+
+        getMockEndpoint("mock:split").expectedMessageCount(SIZE);
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:start", body.iterator());
+
+        assertMockEndpointsSatisfied();
+        // the replies are aggregated in the same order as split
+        assertEquals(body, getMockEndpoint("mock:result").getReceivedExchanges().get(0).getMessage().getBody(List.class));
+        assertTrue(maxInflight.get() <= WINDOW, "Should be at most " + WINDOW + " in flight, was: " + maxInflight.get());
+        assertEquals(0, inflight.get());
+    }
+
+    @Test
+    public void testParallelWindowSizeRequiresParallelProcessing() throws Exception {
+        RouteBuilder builder = new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:invalid").split(body()).streaming().parallelWindowSize(WINDOW).to("mock:invalid");
+            }
+        };
+
+        Exception e = assertThrows(FailedToCreateRouteException.class, () -> context.addRoutes(builder));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .split(body(), new ListAggregationStrategy()).streaming().parallelProcessing()
+                        .parallelWindowSize(WINDOW).executorService(context.getExecutorServiceManager()
+                                .newFixedThreadPool(this, "window", WINDOW * 4))
+                        .process(e -> {
+                            int count = inflight.incrementAndGet();
+                            maxInflight.accumulateAndGet(count, Math::max);
+                            Thread.sleep(random.nextInt(5));
+                            inflight.decrementAndGet();
+                        })
+                        .to("mock:split")
+                    .end()
+                    .to("mock:result");
+            }
+        };
+    }
+
+    private static class ListAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            if (oldExchange == null) {
+                List<Integer> list = new ArrayList<>();
+                list.add(newExchange.getMessage().getBody(Integer.class));
+                newExchange.getMessage().setBody(list);
+                return newExchange;
+            }
+            oldExchange.getMessage().getBody(List.class).add(newExchange.getMessage().getBody(Integer.class));
+            return oldExchange;
+        }
+    }
+}
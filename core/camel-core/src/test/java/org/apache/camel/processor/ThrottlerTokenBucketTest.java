@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.WINDOWS)
+public class ThrottlerTokenBucketTest extends ContextTestSupport {
+    private static final int INTERVAL = 500;
+    private static final int MESSAGE_COUNT = 9;
+
+    @Test
+    public void testSendLotsOfMessagesSimultaneously() throws Exception {
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:result");
+        resultEndpoint.expectedMessageCount(MESSAGE_COUNT);
+
+        long elapsed = sendMessages("direct:a", MESSAGE_COUNT);
+        assertMockEndpointsSatisfied();
+
+        // burst of 3 and then one message for every 500 / 3 millis
+        assertThrottlerTiming(elapsed, 3, INTERVAL, MESSAGE_COUNT);
+    }
+
+    @Test
+    public void testSendLotsOfMessagesAsyncDelayed() throws Exception {
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:result");
+        resultEndpoint.expectedMessageCount(MESSAGE_COUNT);
+
+        long elapsed = sendMessages("direct:async", MESSAGE_COUNT);
+        assertMockEndpointsSatisfied();
+
+        assertThrottlerTiming(elapsed, 3, INTERVAL, MESSAGE_COUNT);
+    }
+
+    @Test
+    public void testSendLotsOfMessagesWithRejectExecution() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+        getMockEndpoint("mock:error").expectedMessageCount(4);
+
+        for (int i = 0; i < 6; i++) {
+            template.sendBody("direct:reject", "<message>" + i + "</message>");
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testThrottleByCorrelationKey() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(4);
+        getMockEndpoint("mock:error").expectedMessageCount(2);
+
+        // one message per key is allowed
+        template.sendBodyAndHeader("direct:grouped", "A1", "key", "A");
+        template.sendBodyAndHeader("direct:grouped", "B1", "key", "B");
+        template.sendBodyAndHeader("direct:grouped", "C1", "key", "C");
+        template.sendBodyAndHeader("direct:grouped", "D1", "key", "D");
+        template.sendBodyAndHeader("direct:grouped", "A2", "key", "A");
+        template.sendBodyAndHeader("direct:grouped", "B2", "key", "B");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    private long sendMessages(String endpointUri, int messageCount) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(messageCount);
+        try {
+            long start = System.nanoTime();
+            for (int i = 0; i < messageCount; i++) {
+                final int num = i;
+                executor.execute(() -> template.sendBody(endpointUri, "<message>" + num + "</message>"));
+            }
+            getMockEndpoint("mock:result").assertIsSatisfied();
+            return (System.nanoTime() - start) / 1000000;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertThrottlerTiming(
+            final long elapsedTimeMs, final int throttle, final int intervalMs, final int messageCount) {
+        // the first burst is let through at once, and the rest are evenly spaced
+        long minimum = (long) (messageCount - throttle) * intervalMs / throttle - 50;
+        // add 500 in case running on slow CI boxes
+        long maximum = (long) (messageCount - throttle) * intervalMs / throttle + 500;
+        log.info("Sent {} exchanges in {}ms, with throttle rate of {} per {}ms. Calculated min {}ms and max {}ms", messageCount,
+                elapsedTimeMs, throttle, intervalMs, minimum, maximum);
+
+        assertTrue(elapsedTimeMs >= minimum, "Should take at least " + minimum + "ms, was: " + elapsedTimeMs);
+        assertTrue(elapsedTimeMs <= maximum, "Should take at most " + maximum + "ms, was: " + elapsedTimeMs);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                onException(ThrottlerRejectedExecutionException.class).handled(true).to("mock:error");
+
+                from("direct:a").throttle(3).timePeriodMillis(INTERVAL).modeTokenBucket().to("mock:result");
+
+                from("direct:async").throttle(3).timePeriodMillis(INTERVAL).modeTokenBucket().asyncDelayed()
+                        .to("mock:result");
+
+                from("direct:reject").throttle(2).timePeriodMillis(10000).modeTokenBucket().rejectExecution(true)
+                        .to("mock:result");
+
+                from("direct:grouped").throttle(constant(1), header("key")).timePeriodMillis(10000).modeTokenBucket()
+                        .rejectExecution(true).to("mock:result");
+            }
+        };
+    }
+}
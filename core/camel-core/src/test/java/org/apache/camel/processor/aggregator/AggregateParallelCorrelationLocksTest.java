@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.aggregate.AggregateController;
+import org.apache.camel.processor.aggregate.DefaultAggregateController;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AggregateParallelCorrelationLocksTest extends ContextTestSupport {
+
+    private final int size = 1000;
+    private final AggregateController controller = new DefaultAggregateController();
+
+    @Test
+    public void testAggregateParallelCorrelationLocks() throws Exception {
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final int id = i % 50;
+            final int count = i;
+            tasks.add(() -> {
+                template.sendBodyAndHeader("direct:start", "" + count, "id", id);
+                return null;
+            });
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(50);
+
+        // submit all tasks
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+
+        // each group should have all its messages
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            String body = exchange.getMessage().getBody(String.class);
+            assertEquals(20, body.split("\\+").length);
+        }
+    }
+
+    @Test
+    public void testAggregateControllerForceCompletion() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 1);
+        template.sendBodyAndHeader("direct:start", "B", "id", 1);
+        template.sendBodyAndHeader("direct:start", "C", "id", 2);
+        template.sendBodyAndHeader("direct:start", "D", "id", 3);
+
+        assertEquals(1, controller.forceCompletionOfGroup("1"));
+        assertEquals(2, controller.forceCompletionOfAllGroups());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testCompletionOnNewCorrelationGroup() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:newGroup");
+        mock.expectedBodiesReceived("A1+A2", "B1+B2");
+
+        template.sendBodyAndHeader("direct:newGroup", "A1", "id", "A");
+        template.sendBodyAndHeader("direct:newGroup", "A2", "id", "A");
+        template.sendBodyAndHeader("direct:newGroup", "B1", "id", "B");
+        template.sendBodyAndHeader("direct:newGroup", "B2", "id", "B");
+        template.sendBodyAndHeader("direct:newGroup", "C1", "id", "C");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testCompleteAllGroupsInAggregationStrategy() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:allGroups");
+        mock.expectedBodiesReceived("A1+A2", "B1+B2");
+        mock.allMessages().exchangeProperty(Exchange.AGGREGATION_COMPLETE_ALL_GROUPS).isNull();
+
+        template.sendBodyAndHeader("direct:allGroups", "A1", "id", "A");
+        template.sendBodyAndHeader("direct:allGroups", "A2", "id", "A");
+        template.sendBodyAndHeader("direct:allGroups", "B1", "id", "B");
+        template.sendBodyAndHeader("direct:allGroups", "B2", "id", "B");
+        template.sendBodyAndHeader("direct:allGroups", "C1", "id", "C");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testCompletionTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:timeout");
+        mock.expectedBodiesReceivedInAnyOrder("A1+A2", "B1");
+        mock.allMessages().exchangeProperty(Exchange.AGGREGATED_COMPLETED_BY).isEqualTo("timeout");
+
+        template.sendBodyAndHeader("direct:timeout", "A1", "id", "A");
+        template.sendBodyAndHeader("direct:timeout", "A2", "id", "A");
+        template.sendBodyAndHeader("direct:timeout", "B1", "id", "B");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").aggregate(header("id"), new BodyInAggregatingStrategy())
+                        .aggregateController(controller)
+                        .parallelCorrelationLocks(16)
+                        .completionSize(20)
+                        .to("mock:result");
+
+                from("direct:newGroup").aggregate(header("id"), new BodyInAggregatingStrategy())
+                        .parallelCorrelationLocks(8)
+                        .completionOnNewCorrelationGroup()
+                        .completionSize(100)
+                        .to("mock:newGroup");
+
+                from("direct:allGroups").aggregate(header("id"), new CompleteAllGroupsAggregationStrategy())
+                        .parallelCorrelationLocks(8)
+                        .completionSize(100)
+                        .to("mock:allGroups");
+
+                from("direct:timeout").aggregate(header("id"), new BodyInAggregatingStrategy())
+                        .parallelCorrelationLocks(8)
+                        .completionTimeout(200)
+                        .to("mock:timeout");
+            }
+        };
+    }
+
+    private static class CompleteAllGroupsAggregationStrategy extends BodyInAggregatingStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            if (oldExchange == null) {
+                // we start a new correlation group, so complete all previous groups
+                newExchange.setProperty(Exchange.AGGREGATION_COMPLETE_ALL_GROUPS, true);
+            }
+            return super.aggregate(oldExchange, newExchange);
+        }
+    }
+}
@@ -115,6 +115,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "JmxManagementNamePattern": target.setJmxManagementNamePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "jmxmanagementstatisticslevel":
         case "JmxManagementStatisticsLevel": target.setJmxManagementStatisticsLevel(property(camelContext, org.apache.camel.ManagementStatisticsLevel.class, value)); return true;
+        case "latencyhistogramenabled":
+        case "LatencyHistogramEnabled": target.setLatencyHistogramEnabled(property(camelContext, boolean.class, value)); return true;
         case "lightweight":
         case "Lightweight": target.setLightweight(property(camelContext, boolean.class, value)); return true;
         case "loadhealthchecks":
@@ -165,6 +167,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteFilterExcludePattern": target.setRouteFilterExcludePattern(property(camelContext, java.lang.String.class, value)); return true;
         case "routefilterincludepattern":
         case "RouteFilterIncludePattern": target.setRouteFilterIncludePattern(property(camelContext, java.lang.String.class, value)); return true;
+        case "routestartupparallelism":
+        case "RouteStartupParallelism": target.setRouteStartupParallelism(property(camelContext, int.class, value)); return true;
         case "routesbuilderclasses":
         case "RoutesBuilderClasses": target.setRoutesBuilderClasses(property(camelContext, java.lang.String.class, value)); return true;
         case "routesbuilders":
@@ -358,6 +362,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "JmxManagementNamePattern": return java.lang.String.class;
         case "jmxmanagementstatisticslevel":
         case "JmxManagementStatisticsLevel": return org.apache.camel.ManagementStatisticsLevel.class;
+        case "latencyhistogramenabled":
+        case "LatencyHistogramEnabled": return boolean.class;
         case "lightweight":
         case "Lightweight": return boolean.class;
         case "loadhealthchecks":
@@ -408,6 +414,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteFilterExcludePattern": return java.lang.String.class;
         case "routefilterincludepattern":
         case "RouteFilterIncludePattern": return java.lang.String.class;
+        case "routestartupparallelism":
+        case "RouteStartupParallelism": return int.class;
         case "routesbuilderclasses":
         case "RoutesBuilderClasses": return java.lang.String.class;
         case "routesbuilders":
@@ -602,6 +610,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "JmxManagementNamePattern": return target.getJmxManagementNamePattern();
         case "jmxmanagementstatisticslevel":
         case "JmxManagementStatisticsLevel": return target.getJmxManagementStatisticsLevel();
+        case "latencyhistogramenabled":
+        case "LatencyHistogramEnabled": return target.isLatencyHistogramEnabled();
         case "lightweight":
         case "Lightweight": return target.isLightweight();
         case "loadhealthchecks":
@@ -652,6 +662,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "RouteFilterExcludePattern": return target.getRouteFilterExcludePattern();
         case "routefilterincludepattern":
         case "RouteFilterIncludePattern": return target.getRouteFilterIncludePattern();
+        case "routestartupparallelism":
+        case "RouteStartupParallelism": return target.getRouteStartupParallelism();
         case "routesbuilderclasses":
         case "RoutesBuilderClasses": return target.getRoutesBuilderClasses();
         case "routesbuilders":
@@ -169,6 +169,9 @@ public final class DefaultConfigurationConfigurer {
         if (config.getStartupSummaryLevel() != null) {
             camelContext.setStartupSummaryLevel(config.getStartupSummaryLevel());
         }
+        if (config.getRouteStartupParallelism() > 0) {
+            camelContext.setRouteStartupParallelism(config.getRouteStartupParallelism());
+        }
 
         if (config.getShutdownTimeout() > 0) {
             camelContext.getShutdownStrategy().setTimeout(config.getShutdownTimeout());
@@ -263,6 +266,8 @@ public final class DefaultConfigurationConfigurer {
                     .setEndpointRuntimeStatisticsEnabled(config.isEndpointRuntimeStatisticsEnabled());
             camelContext.getManagementStrategy().getManagementAgent()
                     .setLoadStatisticsEnabled(config.isLoadStatisticsEnabled());
+            camelContext.getManagementStrategy().getManagementAgent()
+                    .setLatencyHistogramEnabled(config.isLatencyHistogramEnabled());
             camelContext.getManagementStrategy().getManagementAgent()
                     .setStatisticsLevel(config.getJmxManagementStatisticsLevel());
             camelContext.getManagementStrategy().getManagementAgent()
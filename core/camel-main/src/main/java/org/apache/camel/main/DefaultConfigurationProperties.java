@@ -36,6 +36,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private String description;
     @Metadata(defaultValue = "Default")
     private StartupSummaryLevel startupSummaryLevel;
+    private int routeStartupParallelism;
     private int durationMaxSeconds;
     private int durationMaxIdleSeconds;
     private int durationMaxMessages;
@@ -90,6 +91,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean autowiredEnabled = true;
     private boolean endpointRuntimeStatisticsEnabled;
     private boolean loadStatisticsEnabled;
+    private boolean latencyHistogramEnabled;
     private boolean endpointLazyStartProducer;
     private boolean endpointBridgeErrorHandler;
     private boolean useDataType;
@@ -186,6 +188,22 @@ public abstract class DefaultConfigurationProperties<T> {
         this.startupSummaryLevel = startupSummaryLevel;
     }
 
+    public int getRouteStartupParallelism() {
+        return routeStartupParallelism;
+    }
+
+    /**
+     * Sets the number of routes to warm up in parallel when starting routes. This can speed up starting Camel with many
+     * routes (such as from route templates and kamelets). Routes with an explicit startupOrder, and routes consuming
+     * from the same endpoint, are still warmed up one by one in the startup order. The route consumers are always
+     * started one by one in the startup order.
+     *
+     * The default value is 0 which means the routes are warmed up one by one.
+     */
+    public void setRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+    }
+
     public int getDurationMaxSeconds() {
         return durationMaxSeconds;
     }
@@ -865,6 +883,21 @@ public abstract class DefaultConfigurationProperties<T> {
         this.loadStatisticsEnabled = loadStatisticsEnabled;
     }
 
+    public boolean isLatencyHistogramEnabled() {
+        return latencyHistogramEnabled;
+    }
+
+    /**
+     * Sets whether latency histograms is enabled (records the processing time of routes and processors in histograms,
+     * to provide percentiles such as p99 and p999). The statistics requires to have camel-management on the classpath
+     * as JMX is required.
+     *
+     * The default value is false.
+     */
+    public void setLatencyHistogramEnabled(boolean latencyHistogramEnabled) {
+        this.latencyHistogramEnabled = latencyHistogramEnabled;
+    }
+
     public boolean isEndpointLazyStartProducer() {
         return endpointLazyStartProducer;
     }
@@ -1637,6 +1670,19 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets the number of routes to warm up in parallel when starting routes. This can speed up starting Camel with many
+     * routes (such as from route templates and kamelets). Routes with an explicit startupOrder, and routes consuming
+     * from the same endpoint, are still warmed up one by one in the startup order. The route consumers are always
+     * started one by one in the startup order.
+     *
+     * The default value is 0 which means the routes are warmed up one by one.
+     */
+    public T withRouteStartupParallelism(int routeStartupParallelism) {
+        this.routeStartupParallelism = routeStartupParallelism;
+        return (T) this;
+    }
+
     /**
      * To specify for how long time in seconds to keep running the JVM before automatic terminating the JVM. You can use
      * this to run Camel for a short while.
@@ -2111,6 +2157,17 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets whether latency histograms is enabled (records the processing time of routes and processors in histograms,
+     * to provide percentiles such as p99 and p999).
+     *
+     * The default value is false.
+     */
+    public T withLatencyHistogramEnabled(boolean latencyHistogramEnabled) {
+        this.latencyHistogramEnabled = latencyHistogramEnabled;
+        return (T) this;
+    }
+
     /**
      * Whether the producer should be started lazy (on the first message). By starting lazy you can use this to allow
      * CamelContext and routes to startup in situations where a producer may otherwise fail during starting and cause
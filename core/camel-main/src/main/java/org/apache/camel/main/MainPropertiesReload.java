@@ -51,6 +51,8 @@ public class MainPropertiesReload extends ServiceSupport
 
     @Override
     public void onReload(String name, Properties properties) throws Exception {
+        // the reloaded properties may resolve to different values
+        camelContext.getPropertiesComponent().clearCache();
         if (properties instanceof OrderedLocationProperties) {
             OrderedLocationProperties prop = (OrderedLocationProperties) properties;
             main.autoConfigurationFromReloadedProperties(camelContext, prop);
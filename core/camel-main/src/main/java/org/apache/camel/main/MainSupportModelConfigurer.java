@@ -122,6 +122,7 @@ public final class MainSupportModelConfigurer {
                 .keepAliveTime(tp.getKeepAliveTime(), tp.getTimeUnit())
                 .maxQueueSize(tp.getMaxQueueSize())
                 .allowCoreThreadTimeOut(tp.getAllowCoreThreadTimeOut())
+                .virtualThreads(tp.getVirtualThreads())
                 .rejectedPolicy(tp.getRejectedPolicy()).build();
 
         for (ThreadPoolProfileConfigurationProperties config : tp.getConfig().values()) {
@@ -131,6 +132,7 @@ public final class MainSupportModelConfigurer {
                     .keepAliveTime(config.getKeepAliveTime(), config.getTimeUnit())
                     .maxQueueSize(config.getMaxQueueSize())
                     .allowCoreThreadTimeOut(config.getAllowCoreThreadTimeOut())
+                    .virtualThreads(config.getVirtualThreads())
                     .rejectedPolicy(config.getRejectedPolicy()).build();
             if (!tpp.isEmpty()) {
                 camelContext.getExecutorServiceManager().registerThreadPoolProfile(tpp);
@@ -43,6 +43,9 @@ public final class JmxSystemPropertyKeys {
     // whether to enable gathering endpoint runtime statistics
     public static final String ENDPOINT_RUNTIME_STATISTICS_ENABLED = "org.apache.camel.jmx.endpointRuntimeStatisticsEnabled";
 
+    // whether to enable gathering latency histograms for routes and processors
+    public static final String LATENCY_HISTOGRAM_ENABLED = "org.apache.camel.jmx.latencyHistogramEnabled";
+
     // the level of statistics enabled
     public static final String STATISTICS_LEVEL = "org.apache.camel.jmx.statisticsLevel";
 
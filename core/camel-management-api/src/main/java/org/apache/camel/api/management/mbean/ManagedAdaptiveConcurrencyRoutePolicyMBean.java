@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.api.management.mbean;
+
+import org.apache.camel.api.management.ManagedAttribute;
+
+public interface ManagedAdaptiveConcurrencyRoutePolicyMBean extends ManagedServiceMBean {
+
+    @ManagedAttribute(description = "Algorithm used for learning the concurrency limit")
+    String getAlgorithm();
+
+    @ManagedAttribute(description = "Current learned concurrency limit")
+    int getLimit();
+
+    @ManagedAttribute(description = "Minimum concurrency limit")
+    int getMinLimit();
+
+    @ManagedAttribute(description = "Minimum concurrency limit")
+    void setMinLimit(int minLimit);
+
+    @ManagedAttribute(description = "Maximum concurrency limit")
+    int getMaxLimit();
+
+    @ManagedAttribute(description = "Maximum concurrency limit")
+    void setMaxLimit(int maxLimit);
+
+    @ManagedAttribute(description = "Resume percentage of the concurrency limit")
+    int getResumePercentOfLimit();
+
+    @ManagedAttribute(description = "Resume percentage of the concurrency limit")
+    void setResumePercentOfLimit(int resumePercentOfLimit);
+
+    @ManagedAttribute(description = "Number of inflight exchanges")
+    int getInflightExchanges();
+
+    @ManagedAttribute(description = "Number of exchanges rejected because the concurrency limit was exceeded")
+    long getRejectedExchanges();
+
+    @ManagedAttribute(description = "Whether to reject exchanges when the concurrency limit is exceeded")
+    boolean isRejectExceeded();
+
+    @ManagedAttribute(description = "Minimum round trip time in millis")
+    double getMinRtt();
+
+    @ManagedAttribute(description = "Round trip time in millis of the last completed exchange")
+    double getLastRtt();
+
+    @ManagedAttribute(description = "Long term average round trip time in millis")
+    double getLongRtt();
+
+    @ManagedAttribute(description = "Logging Level")
+    String getLoggingLevel();
+
+    @ManagedAttribute(description = "Logging Level")
+    void setLoggingLevel(String loggingLevel);
+
+}
@@ -59,6 +59,30 @@ public interface ManagedPerformanceCounterMBean extends ManagedCounterMBean {
     @ManagedAttribute(description = "Delta Processing Time [milliseconds]")
     long getDeltaProcessingTime();
 
+    @ManagedAttribute(description = "Whether latency histogram is enabled")
+    boolean isLatencyHistogramEnabled();
+
+    @ManagedAttribute(description = "Latency 50th percentile [milliseconds]")
+    double getLatencyP50();
+
+    @ManagedAttribute(description = "Latency 90th percentile [milliseconds]")
+    double getLatencyP90();
+
+    @ManagedAttribute(description = "Latency 99th percentile [milliseconds]")
+    double getLatencyP99();
+
+    @ManagedAttribute(description = "Latency 99.9th percentile [milliseconds]")
+    double getLatencyP999();
+
+    @ManagedAttribute(description = "Latency 50th percentile of the last interval [milliseconds]")
+    double getIntervalLatencyP50();
+
+    @ManagedAttribute(description = "Latency 99th percentile of the last interval [milliseconds]")
+    double getIntervalLatencyP99();
+
+    @ManagedAttribute(description = "Latency 99.9th percentile of the last interval [milliseconds]")
+    double getIntervalLatencyP999();
+
     @ManagedAttribute(description = "Last Exchange Created Timestamp")
     Date getLastExchangeCreatedTimestamp();
 
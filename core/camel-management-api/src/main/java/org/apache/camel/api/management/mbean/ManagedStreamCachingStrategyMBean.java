@@ -65,6 +65,15 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Buffer size in bytes to use when coping between buffers")
     int getBufferSize();
 
+    @ManagedAttribute(description = "Whether to use a pool of reusable buffers for in-memory stream caches")
+    boolean isBufferPoolEnabled();
+
+    @ManagedAttribute(description = "Maximum number of buffers to keep in the buffer pool")
+    int getBufferPoolMaxSize();
+
+    @ManagedAttribute(description = "Whether the buffer pool uses direct (off heap) buffers")
+    boolean isBufferPoolDirect();
+
     @ManagedAttribute(description = "Whether to remove spool directory when stopping")
     void setRemoveSpoolDirectoryWhenStopping(boolean remove);
 
@@ -95,6 +104,18 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Average number of bytes per cached stream for spooled (not in-memory) stream caches.")
     long getCacheSpoolAverageSize();
 
+    @ManagedAttribute(description = "Number of buffers acquired from the buffer pool")
+    long getBufferPoolAcquiredCounter();
+
+    @ManagedAttribute(description = "Number of buffers created because the buffer pool was empty")
+    long getBufferPoolCreatedCounter();
+
+    @ManagedAttribute(description = "Number of buffers released back to the buffer pool")
+    long getBufferPoolReleasedCounter();
+
+    @ManagedAttribute(description = "Number of buffers available in the buffer pool")
+    int getBufferPoolAvailable();
+
     @ManagedAttribute(description = "Whether utilization statistics is enabled")
     boolean isStatisticsEnabled();
 
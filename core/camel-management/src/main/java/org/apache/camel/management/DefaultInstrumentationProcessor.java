@@ -16,6 +16,8 @@
  */
 package org.apache.camel.management;
 
+import java.util.concurrent.TimeUnit;
+
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Ordered;
@@ -95,12 +97,16 @@ public class DefaultInstrumentationProcessor extends DelegateAsyncProcessor
     }
 
     protected void recordTime(Exchange exchange, long duration) {
+        recordTime(exchange, duration, TimeUnit.MILLISECONDS.toNanos(duration));
+    }
+
+    protected void recordTime(Exchange exchange, long duration, long nanos) {
         if (LOG.isTraceEnabled()) {
             LOG.trace("{}Recording duration: {} millis for exchange: {}", type != null ? type + ": " : "", duration, exchange);
         }
 
         if (!exchange.isFailed() && exchange.getException() == null) {
-            counter.completedExchange(exchange, duration);
+            counter.completedExchange(exchange, duration, nanos);
         } else {
             counter.failedExchange(exchange);
         }
@@ -128,7 +134,8 @@ public class DefaultInstrumentationProcessor extends DelegateAsyncProcessor
     public void after(Exchange exchange, StopWatch watch) {
         // record end time
         if (watch != null) {
-            recordTime(exchange, watch.taken());
+            long nanos = watch.takenNanos();
+            recordTime(exchange, TimeUnit.NANOSECONDS.toMillis(nanos), nanos);
         }
     }
 
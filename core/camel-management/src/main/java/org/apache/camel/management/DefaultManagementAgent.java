@@ -67,6 +67,7 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
     private Boolean onlyRegisterProcessorWithCustomId = false;
     private Boolean loadStatisticsEnabled = false;
     private Boolean endpointRuntimeStatisticsEnabled;
+    private Boolean latencyHistogramEnabled;
     private Boolean registerAlways = false;
     private Boolean registerNewRoutes = true;
     private Boolean mask = true;
@@ -128,6 +129,10 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
             endpointRuntimeStatisticsEnabled = Boolean.getBoolean(JmxSystemPropertyKeys.ENDPOINT_RUNTIME_STATISTICS_ENABLED);
             values.put(JmxSystemPropertyKeys.ENDPOINT_RUNTIME_STATISTICS_ENABLED, endpointRuntimeStatisticsEnabled);
         }
+        if (System.getProperty(JmxSystemPropertyKeys.LATENCY_HISTOGRAM_ENABLED) != null) {
+            latencyHistogramEnabled = Boolean.getBoolean(JmxSystemPropertyKeys.LATENCY_HISTOGRAM_ENABLED);
+            values.put(JmxSystemPropertyKeys.LATENCY_HISTOGRAM_ENABLED, latencyHistogramEnabled);
+        }
         if (System.getProperty(JmxSystemPropertyKeys.STATISTICS_LEVEL) != null) {
             statisticsLevel = camelContext.getTypeConverter().mandatoryConvertTo(ManagementStatisticsLevel.class,
                     System.getProperty(JmxSystemPropertyKeys.STATISTICS_LEVEL));
@@ -277,6 +282,16 @@ public class DefaultManagementAgent extends ServiceSupport implements Management
         this.endpointRuntimeStatisticsEnabled = endpointRuntimeStatisticsEnabled;
     }
 
+    @Override
+    public Boolean getLatencyHistogramEnabled() {
+        return latencyHistogramEnabled;
+    }
+
+    @Override
+    public void setLatencyHistogramEnabled(Boolean latencyHistogramEnabled) {
+        this.latencyHistogramEnabled = latencyHistogramEnabled;
+    }
+
     @Override
     public ManagementStatisticsLevel getStatisticsLevel() {
         return statisticsLevel;
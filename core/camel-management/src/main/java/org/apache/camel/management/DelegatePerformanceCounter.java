@@ -57,6 +57,13 @@ public class DelegatePerformanceCounter implements PerformanceCounter {
         }
     }
 
+    @Override
+    public void completedExchange(Exchange exchange, long time, long nanos) {
+        if (counter != null) {
+            counter.completedExchange(exchange, time, nanos);
+        }
+    }
+
     @Override
     public void failedExchange(Exchange exchange) {
         counter.failedExchange(exchange);
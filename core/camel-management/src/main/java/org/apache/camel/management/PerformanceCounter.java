@@ -39,6 +39,18 @@ public interface PerformanceCounter {
      */
     void completedExchange(Exchange exchange, long time);
 
+    /**
+     * Executed when an {@link org.apache.camel.Exchange} is complete, with the time also in nanos which is used for
+     * latency histograms.
+     *
+     * @param exchange the exchange
+     * @param time     the time it took in millis to complete
+     * @param nanos    the time it took in nanos to complete
+     */
+    default void completedExchange(Exchange exchange, long time, long nanos) {
+        completedExchange(exchange, time);
+    }
+
     /**
      * Executed when an {@link org.apache.camel.Exchange} failed.
      *
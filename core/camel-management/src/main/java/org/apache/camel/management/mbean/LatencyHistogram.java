@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free latency histogram with log-linear buckets (in the style of HdrHistogram).
+ * <p/>
+ * Values are recorded in nanos, where each power of two range is divided into 32 sub buckets, which gives a relative
+ * error of at most 3%. Values higher than {@link #MAX_VALUE} (about 68 seconds) are recorded in the highest bucket.
+ * <p/>
+ * The counters are never reset while recording. Instead a reset or an interval is a copy of the counters, which is
+ * subtracted from the counters when taking a snapshot.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The default interval in millis for interval snapshots.
+     */
+    public static final long DEFAULT_INTERVAL = 60000;
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_SHIFT = 31;
+    private static final int BUCKETS = (MAX_SHIFT + 1) * SUB_BUCKETS;
+
+    /**
+     * The highest value (in nanos) which can be recorded without being capped.
+     */
+    public static final long MAX_VALUE = (1L << (SUB_BUCKET_BITS + MAX_SHIFT)) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final long interval;
+    private volatile long[] resetCounts;
+    private long[] intervalCounts;
+    private long intervalTimestamp;
+    private Snapshot lastInterval;
+
+    public LatencyHistogram() {
+        this(DEFAULT_INTERVAL);
+    }
+
+    /**
+     * @param interval the interval in millis for interval snapshots
+     */
+    public LatencyHistogram(long interval) {
+        this.interval = interval;
+        this.intervalTimestamp = System.currentTimeMillis();
+    }
+
+    /**
+     * Records the value
+     *
+     * @param nanos the latency in nanos
+     */
+    public void record(long nanos) {
+        counts.incrementAndGet(bucketIndex(nanos));
+    }
+
+    /**
+     * Takes a snapshot of the values recorded since the histogram was created or last reset.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(subtract(copyCounts(), resetCounts));
+    }
+
+    /**
+     * Takes a snapshot of the values recorded in the last completed interval. Intervals are only rolled over when
+     * snapshots are taken, so an interval may be longer than the interval configured. Until the first interval has
+     * completed, then the values recorded so far are returned.
+     */
+    public synchronized Snapshot intervalSnapshot() {
+        long now = System.currentTimeMillis();
+        if (now - intervalTimestamp >= interval) {
+            long[] current = copyCounts();
+            lastInterval = new Snapshot(subtract(current.clone(), intervalCounts));
+            intervalCounts = current;
+            intervalTimestamp = now;
+        }
+        if (lastInterval != null) {
+            return lastInterval;
+        }
+        return new Snapshot(subtract(copyCounts(), intervalCounts));
+    }
+
+    /**
+     * Resets the histogram (does not affect interval snapshots)
+     */
+    public synchronized void reset() {
+        resetCounts = copyCounts();
+    }
+
+    public long getInterval() {
+        return interval;
+    }
+
+    private long[] copyCounts() {
+        long[] answer = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            answer[i] = counts.get(i);
+        }
+        return answer;
+    }
+
+    private static long[] subtract(long[] counts, long[] baseline) {
+        if (baseline != null) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] -= baseline[i];
+            }
+        }
+        return counts;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return value < 0 ? 0 : (int) value;
+        } else if (value > MAX_VALUE) {
+            return BUCKETS - 1;
+        }
+        // keep the highest bits of the value as sub bucket, and use the shift as the bucket
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long sub = index - (long) shift * SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+
+    /**
+     * A point in time snapshot of the histogram
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+
+        Snapshot(long[] counts) {
+            this.counts = counts;
+            long total = 0;
+            for (long c : counts) {
+                total += c;
+            }
+            this.count = total;
+        }
+
+        /**
+         * Number of recorded values
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Gets the value (in nanos) at the given percentile (such as 99.9), or <tt>0</tt> if no values recorded.
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100d) / 100d * count));
+            long total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                total += counts[i];
+                if (total >= target) {
+                    return highestEquivalentValue(i);
+                }
+            }
+            return highestEquivalentValue(counts.length - 1);
+        }
+
+        /**
+         * Gets the value (in millis) at the given percentile (such as 99.9), or <tt>0</tt> if no values recorded.
+         */
+        public double getValueAtPercentileMillis(double percentile) {
+            return getValueAtPercentile(percentile) / 1_000_000d;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[count=%s, p50=%s, p90=%s, p99=%s, p999=%s]", count, getValueAtPercentile(50),
+                    getValueAtPercentile(90), getValueAtPercentile(99), getValueAtPercentile(99.9));
+        }
+    }
+}
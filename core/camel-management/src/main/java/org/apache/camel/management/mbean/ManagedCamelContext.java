@@ -92,6 +92,15 @@ public class ManagedCamelContext extends ManagedPerformanceCounter implements Ti
         }
     }
 
+    @Override
+    public void completedExchange(Exchange exchange, long time, long nanos) {
+        // only trigger on the root level (see above)
+        UnitOfWork uow = exchange.getUnitOfWork();
+        if (uow == null || uow.routeStackLevel() <= 1) {
+            super.completedExchange(exchange, time, nanos);
+        }
+    }
+
     @Override
     public void failedExchange(Exchange exchange) {
         // the camel-context mbean is triggered for every route mbean
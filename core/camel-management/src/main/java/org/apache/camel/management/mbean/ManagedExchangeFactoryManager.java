@@ -106,6 +106,11 @@ public class ManagedExchangeFactoryManager extends ManagedService implements Man
         return exchangeFactoryManager.getStatistics().getDiscardedCounter();
     }
 
+    @Override
+    public Long getTotalLeaked() {
+        return exchangeFactoryManager.getStatistics().getLeakedCounter();
+    }
+
     @Override
     public TabularData listStatistics() {
         try {
@@ -125,17 +130,21 @@ public class ManagedExchangeFactoryManager extends ManagedService implements Man
                 long acquired = 0;
                 long released = 0;
                 long discarded = 0;
+                long leaked = 0;
                 if (ef.isStatisticsEnabled()) {
                     created = ef.getStatistics().getCreatedCounter();
                     acquired = ef.getStatistics().getAcquiredCounter();
                     released = ef.getStatistics().getReleasedCounter();
                     discarded = ef.getStatistics().getDiscardedCounter();
+                    leaked = ef.getStatistics().getLeakedCounter();
                 }
 
                 CompositeData data = new CompositeDataSupport(
                         ct,
-                        new String[] { "url", "routeId", "capacity", "pooled", "created", "acquired", "released", "discarded" },
-                        new Object[] { url, routeId, capacity, size, created, acquired, released, discarded });
+                        new String[] {
+                                "url", "routeId", "capacity", "pooled", "created", "acquired", "released", "discarded",
+                                "leaked" },
+                        new Object[] { url, routeId, capacity, size, created, acquired, released, discarded, leaked });
                 answer.put(data);
             }
             return answer;
@@ -23,6 +23,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedPerformanceCounterMBean;
 import org.apache.camel.management.PerformanceCounter;
+import org.apache.camel.spi.ManagementAgent;
 import org.apache.camel.spi.ManagementStrategy;
 import org.apache.camel.support.ExchangeHelper;
 
@@ -53,6 +54,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     private String lastExchangeCompletedExchangeId;
     private Statistic lastExchangeFailureTimestamp;
     private String lastExchangeFailureExchangeId;
+    private LatencyHistogram latencyHistogram;
     private boolean statisticsEnabled = true;
 
     @Override
@@ -78,6 +80,11 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         this.lastExchangeCreatedTimestamp = new StatisticValue();
         this.lastExchangeCompletedTimestamp = new StatisticValue();
         this.lastExchangeFailureTimestamp = new StatisticValue();
+
+        ManagementAgent agent = strategy != null ? strategy.getManagementAgent() : null;
+        if (agent != null && agent.getLatencyHistogramEnabled() != null && agent.getLatencyHistogramEnabled()) {
+            this.latencyHistogram = new LatencyHistogram();
+        }
     }
 
     @Override
@@ -104,6 +111,9 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         lastExchangeCompletedExchangeId = null;
         lastExchangeFailureTimestamp.reset();
         lastExchangeFailureExchangeId = null;
+        if (latencyHistogram != null) {
+            latencyHistogram.reset();
+        }
     }
 
     @Override
@@ -216,6 +226,53 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         return firstExchangeFailureExchangeId;
     }
 
+    @Override
+    public boolean isLatencyHistogramEnabled() {
+        return latencyHistogram != null;
+    }
+
+    @Override
+    public double getLatencyP50() {
+        return latencyHistogram != null ? latencyHistogram.snapshot().getValueAtPercentileMillis(50) : 0;
+    }
+
+    @Override
+    public double getLatencyP90() {
+        return latencyHistogram != null ? latencyHistogram.snapshot().getValueAtPercentileMillis(90) : 0;
+    }
+
+    @Override
+    public double getLatencyP99() {
+        return latencyHistogram != null ? latencyHistogram.snapshot().getValueAtPercentileMillis(99) : 0;
+    }
+
+    @Override
+    public double getLatencyP999() {
+        return latencyHistogram != null ? latencyHistogram.snapshot().getValueAtPercentileMillis(99.9) : 0;
+    }
+
+    @Override
+    public double getIntervalLatencyP50() {
+        return latencyHistogram != null ? latencyHistogram.intervalSnapshot().getValueAtPercentileMillis(50) : 0;
+    }
+
+    @Override
+    public double getIntervalLatencyP99() {
+        return latencyHistogram != null ? latencyHistogram.intervalSnapshot().getValueAtPercentileMillis(99) : 0;
+    }
+
+    @Override
+    public double getIntervalLatencyP999() {
+        return latencyHistogram != null ? latencyHistogram.intervalSnapshot().getValueAtPercentileMillis(99.9) : 0;
+    }
+
+    /**
+     * The latency histogram, or <tt>null</tt> if not enabled
+     */
+    public LatencyHistogram getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return statisticsEnabled;
@@ -274,6 +331,14 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         meanProcessingTime.updateValue(mean);
     }
 
+    @Override
+    public void completedExchange(Exchange exchange, long time, long nanos) {
+        completedExchange(exchange, time);
+        if (latencyHistogram != null) {
+            latencyHistogram.record(nanos);
+        }
+    }
+
     @Override
     public void failedExchange(Exchange exchange) {
         increment();
@@ -314,6 +379,13 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         sb.append(String.format(" lastProcessingTime=\"%s\"", lastProcessingTime.getValue()));
         sb.append(String.format(" deltaProcessingTime=\"%s\"", deltaProcessingTime.getValue()));
         sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime.getValue()));
+        if (latencyHistogram != null) {
+            LatencyHistogram.Snapshot snapshot = latencyHistogram.snapshot();
+            sb.append(String.format(" latencyP50=\"%s\"", snapshot.getValueAtPercentileMillis(50)));
+            sb.append(String.format(" latencyP90=\"%s\"", snapshot.getValueAtPercentileMillis(90)));
+            sb.append(String.format(" latencyP99=\"%s\"", snapshot.getValueAtPercentileMillis(99)));
+            sb.append(String.format(" latencyP999=\"%s\"", snapshot.getValueAtPercentileMillis(99.9)));
+        }
 
         if (fullStats) {
             sb.append(String.format(" startTimestamp=\"%s\"", dateAsString(startTimestamp.getTime())));
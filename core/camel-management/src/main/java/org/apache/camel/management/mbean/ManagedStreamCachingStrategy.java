@@ -132,6 +132,21 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getBufferSize();
     }
 
+    @Override
+    public boolean isBufferPoolEnabled() {
+        return streamCachingStrategy.isBufferPoolEnabled();
+    }
+
+    @Override
+    public int getBufferPoolMaxSize() {
+        return streamCachingStrategy.getBufferPoolMaxSize();
+    }
+
+    @Override
+    public boolean isBufferPoolDirect() {
+        return streamCachingStrategy.isBufferPoolDirect();
+    }
+
     @Override
     public void setRemoveSpoolDirectoryWhenStopping(boolean remove) {
         streamCachingStrategy.setRemoveSpoolDirectoryWhenStopping(remove);
@@ -182,6 +197,26 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getStatistics().getCacheSpoolAverageSize();
     }
 
+    @Override
+    public long getBufferPoolAcquiredCounter() {
+        return streamCachingStrategy.getStatistics().getBufferPoolAcquiredCounter();
+    }
+
+    @Override
+    public long getBufferPoolCreatedCounter() {
+        return streamCachingStrategy.getStatistics().getBufferPoolCreatedCounter();
+    }
+
+    @Override
+    public long getBufferPoolReleasedCounter() {
+        return streamCachingStrategy.getStatistics().getBufferPoolReleasedCounter();
+    }
+
+    @Override
+    public int getBufferPoolAvailable() {
+        return streamCachingStrategy.getStatistics().getBufferPoolAvailable();
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return streamCachingStrategy.getStatistics().isStatisticsEnabled();
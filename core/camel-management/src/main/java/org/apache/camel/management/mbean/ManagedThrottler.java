@@ -20,20 +20,20 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedThrottlerMBean;
 import org.apache.camel.model.ProcessorDefinition;
-import org.apache.camel.processor.Throttler;
+import org.apache.camel.processor.AbstractThrottler;
 
 import static org.apache.camel.builder.Builder.constant;
 
 @ManagedResource(description = "Managed Throttler")
 public class ManagedThrottler extends ManagedProcessor implements ManagedThrottlerMBean {
-    private final Throttler throttler;
+    private final AbstractThrottler throttler;
 
-    public ManagedThrottler(CamelContext context, Throttler throttler, ProcessorDefinition<?> definition) {
+    public ManagedThrottler(CamelContext context, AbstractThrottler throttler, ProcessorDefinition<?> definition) {
         super(context, throttler, definition);
         this.throttler = throttler;
     }
 
-    public Throttler getThrottler() {
+    public AbstractThrottler getThrottler() {
         return throttler;
     }
 
@@ -71,4 +71,9 @@ public class ManagedThrottler extends ManagedProcessor implements ManagedThrottl
     public Boolean isRejectExecution() {
         return throttler.isRejectExecution();
     }
+
+    @Override
+    public String getMode() {
+        return throttler.getMode();
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.api.management.mbean.ManagedAdaptiveConcurrencyRoutePolicyMBean;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.throttling.AdaptiveConcurrencyRoutePolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedAdaptiveConcurrencyRoutePolicyTest extends ManagementTestSupport {
+
+    @Test
+    public void testRoutes() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("*:type=routes,*"), null);
+        assertEquals(1, set.size());
+        ObjectName on = set.iterator().next();
+
+        // should have route policy
+        String policy = (String) mbeanServer.getAttribute(on, "RoutePolicyList");
+        assertNotNull(policy);
+        assertTrue(policy.startsWith("AdaptiveConcurrencyRoutePolicy"), "Should be adaptive, was: " + policy);
+
+        // get the RoutePolicy
+        String mbeanName
+                = String.format("org.apache.camel:context=" + context.getManagementName() + ",name=%s,type=services", policy);
+        set = mbeanServer.queryNames(new ObjectName(mbeanName), null);
+        assertEquals(1, set.size());
+        on = set.iterator().next();
+        assertTrue(mbeanServer.isRegistered(on));
+
+        String myType = (String) mbeanServer.getAttribute(on, "ServiceType");
+        assertEquals("AdaptiveConcurrencyRoutePolicy", myType);
+
+        ManagedAdaptiveConcurrencyRoutePolicyMBean proxy
+                = JMX.newMBeanProxy(mbeanServer, on, ManagedAdaptiveConcurrencyRoutePolicyMBean.class);
+        assertNotNull(proxy);
+
+        assertEquals("Aimd", proxy.getAlgorithm());
+        assertEquals(5, proxy.getLimit());
+        assertEquals(0, proxy.getInflightExchanges());
+        assertEquals(0, proxy.getRejectedExchanges());
+
+        getMockEndpoint("mock:result").expectedMessageCount(3);
+        template.sendBody("direct:start", "A");
+        template.sendBody("direct:start", "B");
+        template.sendBody("direct:start", "C");
+        assertMockEndpointsSatisfied();
+
+        assertEquals(0, proxy.getInflightExchanges());
+        assertTrue(proxy.getLastRtt() > 0);
+        assertTrue(proxy.getMinRtt() > 0);
+        assertTrue(proxy.getLongRtt() > 0);
+
+        proxy.setMaxLimit(50);
+        assertEquals(50, proxy.getMaxLimit());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                AdaptiveConcurrencyRoutePolicy policy = new AdaptiveConcurrencyRoutePolicy();
+                policy.setAlgorithm(AdaptiveConcurrencyRoutePolicy.LimitAlgorithm.Aimd);
+                policy.setInitialLimit(5);
+                policy.setRejectExceeded(true);
+
+                from("direct:start").routePolicy(policy)
+                        .to("log:foo").to("mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_PROCESSOR;
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_ROUTE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedLatencyHistogramTest extends ManagementTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getManagementStrategy().getManagementAgent().setLatencyHistogramEnabled(true);
+        return context;
+    }
+
+    @Test
+    public void testLatencyHistogram() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName route = getCamelObjectName(TYPE_ROUTE, "foo");
+        ObjectName processor = getCamelObjectName(TYPE_PROCESSOR, "mydelay");
+
+        assertEquals(Boolean.TRUE, mbeanServer.getAttribute(route, "LatencyHistogramEnabled"));
+        assertEquals(0d, (Double) mbeanServer.getAttribute(route, "LatencyP99"));
+
+        getMockEndpoint("mock:result").expectedMessageCount(5);
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:start", "Hello World");
+        }
+        assertMockEndpointsSatisfied();
+
+        // the delay is 20 millis, so the latency should be at least that (minus the 3% bucket error)
+        Double p50 = (Double) mbeanServer.getAttribute(route, "LatencyP50");
+        Double p99 = (Double) mbeanServer.getAttribute(route, "LatencyP99");
+        assertTrue(p50 >= 19, "Should be >= 19 but was " + p50);
+        assertTrue(p99 >= p50, "Should be >= p50 but was " + p99);
+        Double intervalP99 = (Double) mbeanServer.getAttribute(route, "IntervalLatencyP99");
+        assertTrue(intervalP99 >= 19, "Should be >= 19 but was " + intervalP99);
+
+        Double delayP50 = (Double) mbeanServer.getAttribute(processor, "LatencyP50");
+        assertTrue(delayP50 >= 19, "Should be >= 19 but was " + delayP50);
+
+        String xml = (String) mbeanServer.invoke(route, "dumpStatsAsXml", new Object[] { false },
+                new String[] { "boolean" });
+        assertTrue(xml.contains("latencyP99="), xml);
+
+        // reset clears the histogram
+        mbeanServer.invoke(route, "reset", null, null);
+        assertEquals(0d, (Double) mbeanServer.getAttribute(route, "LatencyP99"));
+    }
+
+    @Test
+    public void testLatencyHistogramDisabled() throws Exception {
+        context.getManagementStrategy().getManagementAgent().setLatencyHistogramEnabled(false);
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:bar").routeId("bar").to("mock:bar");
+            }
+        });
+
+        template.sendBody("direct:bar", "Hello World");
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName route = getCamelObjectName(TYPE_ROUTE, "bar");
+        assertEquals(Boolean.FALSE, mbeanServer.getAttribute(route, "LatencyHistogramEnabled"));
+        assertEquals(0d, (Double) mbeanServer.getAttribute(route, "LatencyP99"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("foo")
+                        .delay(20).id("mydelay")
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
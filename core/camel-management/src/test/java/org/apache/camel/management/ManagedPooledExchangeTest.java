@@ -102,6 +102,9 @@ public class ManagedPooledExchangeTest extends ManagementTestSupport {
 
         num = (Long) mbeanServer.getAttribute(on, "TotalDiscarded");
         assertEquals(0, num.intValue());
+
+        num = (Long) mbeanServer.getAttribute(on, "TotalLeaked");
+        assertEquals(0, num.intValue());
     }
 
     @Override
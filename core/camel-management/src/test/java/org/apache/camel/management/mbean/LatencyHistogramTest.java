@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketIndex() {
+        for (long v = 0; v < 1_000_000; v++) {
+            int index = LatencyHistogram.bucketIndex(v);
+            long high = LatencyHistogram.highestEquivalentValue(index);
+            assertTrue(high >= v, "Value " + v + " highest " + high);
+            // relative error is at most 1/32
+            assertTrue(high - v <= v / 32, "Value " + v + " highest " + high);
+        }
+        assertEquals(LatencyHistogram.bucketIndex(LatencyHistogram.MAX_VALUE),
+                LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+        assertEquals(0, LatencyHistogram.bucketIndex(-1));
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500, snapshot.getValueAtPercentileMillis(50), 500 * 0.04);
+        assertEquals(990, snapshot.getValueAtPercentileMillis(99), 990 * 0.04);
+        assertEquals(999, snapshot.getValueAtPercentileMillis(99.9), 999 * 0.04);
+        assertEquals(1000, snapshot.getValueAtPercentileMillis(100), 1000 * 0.04);
+    }
+
+    @Test
+    public void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5_000_000L);
+        histogram.reset();
+        assertEquals(0, histogram.snapshot().getCount());
+        assertEquals(0, histogram.snapshot().getValueAtPercentile(99));
+
+        histogram.record(1000);
+        assertEquals(1, histogram.snapshot().getCount());
+        assertEquals(1000, histogram.snapshot().getValueAtPercentile(99), 1000 * 0.04);
+    }
+
+    @Test
+    public void testInterval() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram(50);
+        histogram.record(1000);
+        // first interval is not completed, so the values recorded so far
+        assertEquals(1, histogram.intervalSnapshot().getCount());
+
+        Thread.sleep(60);
+        histogram.record(2000);
+        histogram.record(3000);
+        // interval rolled over
+        assertEquals(3, histogram.intervalSnapshot().getCount());
+
+        Thread.sleep(60);
+        histogram.record(4000);
+        assertEquals(1, histogram.intervalSnapshot().getCount());
+        // reset does not affect intervals
+        histogram.reset();
+        assertEquals(1, histogram.intervalSnapshot().getCount());
+        assertEquals(0, histogram.snapshot().getCount());
+    }
+}
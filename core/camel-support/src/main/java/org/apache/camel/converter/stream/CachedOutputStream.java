@@ -16,7 +16,6 @@
  */
 package org.apache.camel.converter.stream;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -25,6 +24,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.StreamCache;
 import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
 import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.util.ObjectHelper;
 
 /**
  * This output stream will store the content into a File if the stream context size is exceed the THRESHOLD value. The
@@ -36,6 +36,10 @@ import org.apache.camel.spi.StreamCachingStrategy;
  * You can get a cached input stream of this stream. The temp file which is created with this output stream will be
  * deleted when you close this output stream or the cached fileInputStream(s) is/are closed after all the exchanges
  * using the temp file are completed.
+ * <p/>
+ * If {@link StreamCachingStrategy#isBufferPoolEnabled()} is enabled then the content is stored in buffers from the
+ * {@link StreamCacheBufferPool}, which are released back to the pool when the exchanges are completed. The temp file
+ * is then read back using memory mapping (unless a spool cipher is in use).
  */
 public class CachedOutputStream extends OutputStream {
 
@@ -55,7 +59,18 @@ public class CachedOutputStream extends OutputStream {
         this.tempFileManager = new TempFileManager(closedOnCompletion);
         this.tempFileManager.addExchange(exchange);
         this.strategy = exchange.getContext().getStreamCachingStrategy();
-        this.currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
+        StreamCacheBufferPool pool = null;
+        if (strategy.isBufferPoolEnabled()) {
+            pool = exchange.getContext().getCamelContextExtension().getContextPlugin(StreamCacheBufferPool.class);
+        }
+        if (pool != null) {
+            PooledBufferOutputStream buffers = new PooledBufferOutputStream(pool);
+            this.tempFileManager.setBuffers(buffers);
+            this.tempFileManager.setMemoryMapped(ObjectHelper.isEmpty(strategy.getSpoolCipher()));
+            this.currentStream = buffers;
+        } else {
+            this.currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
+        }
     }
 
     @Override
@@ -70,6 +85,7 @@ public class CachedOutputStream extends OutputStream {
         if (!closedOnCompletion) {
             tempFileManager.closeFileInputStreams();
             tempFileManager.cleanUpTempFile();
+            tempFileManager.releaseBuffers();
         }
     }
 
@@ -95,7 +111,7 @@ public class CachedOutputStream extends OutputStream {
     @Override
     public void write(byte[] b, int off, int len) throws IOException {
         this.totalLength += len;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
+        if (inMemory && strategy.shouldSpoolCache(totalLength)) {
             pageToFileStream();
         }
         currentStream.write(b, off, len);
@@ -104,7 +120,7 @@ public class CachedOutputStream extends OutputStream {
     @Override
     public void write(byte[] b) throws IOException {
         this.totalLength += b.length;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
+        if (inMemory && strategy.shouldSpoolCache(totalLength)) {
             pageToFileStream();
         }
         currentStream.write(b);
@@ -113,7 +129,7 @@ public class CachedOutputStream extends OutputStream {
     @Override
     public void write(int b) throws IOException {
         this.totalLength++;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
+        if (inMemory && strategy.shouldSpoolCache(totalLength)) {
             pageToFileStream();
         }
         currentStream.write(b);
@@ -137,6 +153,8 @@ public class CachedOutputStream extends OutputStream {
         if (inMemory) {
             if (currentStream instanceof CachedByteArrayOutputStream) {
                 return ((CachedByteArrayOutputStream) currentStream).newInputStreamCache();
+            } else if (currentStream instanceof PooledBufferOutputStream) {
+                return ((PooledBufferOutputStream) currentStream).newInputStreamCache(tempFileManager);
             } else {
                 throw new IllegalStateException(
                         "CurrentStream should be an instance of CachedByteArrayOutputStream but is: "
@@ -149,11 +167,20 @@ public class CachedOutputStream extends OutputStream {
 
     private void pageToFileStream() throws IOException {
         flush();
-        ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
+        OutputStream bout = currentStream;
         try {
             // creates a tmp file and a file output stream
             currentStream = tempFileManager.createOutputStream(strategy);
-            bout.writeTo(currentStream);
+            if (bout instanceof PooledBufferOutputStream) {
+                PooledBufferOutputStream buffers = (PooledBufferOutputStream) bout;
+                buffers.writeTo(currentStream);
+                if (!buffers.isShared()) {
+                    // no stream cache is using the buffers so they can be released now
+                    buffers.release();
+                }
+            } else {
+                ((CachedByteArrayOutputStream) bout).writeTo(currentStream);
+            }
         } finally {
             // ensure flag is flipped to file based
             inMemory = false;
@@ -23,6 +23,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
@@ -51,6 +53,11 @@ import org.slf4j.LoggerFactory;
  * A {@link StreamCache} for {@link File}s
  */
 public final class FileInputStreamCache extends InputStream implements StreamCache {
+    /**
+     * The maximum size of the region of a memory mapped file which is mapped at a time.
+     */
+    static final int MAPPED_CHUNK_SIZE = 64 * 1024 * 1024;
+
     private InputStream stream;
     private final long length;
     private final FileInputStreamCache.TempFileManager tempFileManager;
@@ -173,6 +180,16 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
     }
 
     private InputStream createInputStream(File file) throws IOException {
+        if (ciphers == null && tempFileManager.isMemoryMapped()) {
+            // map the file into memory (a chunk at a time) so it can be read without copying via file streams
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            try {
+                return new MappedInputStream(channel, channel.size(), MAPPED_CHUNK_SIZE);
+            } catch (IOException | RuntimeException e) {
+                IOHelper.close(channel);
+                throw e;
+            }
+        }
         InputStream in = new BufferedInputStream(Files.newInputStream(file.toPath(), StandardOpenOption.READ));
         if (ciphers != null) {
             in = new CipherInputStream(in, ciphers.createDecryptor()) {
@@ -190,12 +207,116 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         return in;
     }
 
+    /**
+     * Input stream reading from a memory mapped file. The file is mapped one chunk at a time, so files larger than 2GB
+     * can be read, and a chunk is no longer referenced when the next chunk is mapped or the stream is closed (the JDK
+     * unmaps the chunk when it is garbage collected).
+     */
+    static final class MappedInputStream extends InputStream {
+        private final FileChannel channel;
+        private final long size;
+        private final int chunkSize;
+        private ByteBuffer buffer;
+        // the position in the file where the next chunk should be mapped from
+        private long mapped;
+
+        MappedInputStream(FileChannel channel, long size, int chunkSize) {
+            this.channel = channel;
+            this.size = size;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            ByteBuffer buffer = nextBuffer();
+            return buffer != null ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            ByteBuffer buffer = nextBuffer();
+            if (buffer == null) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            if (n <= 0) {
+                return 0;
+            }
+            long current = position();
+            long target = Math.min(size, current + n);
+            if (buffer != null && target <= mapped) {
+                buffer.position(buffer.position() + (int) (target - current));
+            } else {
+                // skip past the current chunk, so the next chunk is mapped from the target position
+                buffer = null;
+                mapped = target;
+            }
+            return target - current;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, size - position());
+        }
+
+        @Override
+        public long transferTo(OutputStream out) throws IOException {
+            long total = 0;
+            ByteBuffer buffer;
+            while ((buffer = nextBuffer()) != null) {
+                total += buffer.remaining();
+                PooledInputStreamCache.writeBuffer(buffer, out);
+            }
+            return total;
+        }
+
+        @Override
+        public void close() throws IOException {
+            buffer = null;
+            channel.close();
+        }
+
+        private long position() {
+            return buffer != null ? mapped - buffer.remaining() : mapped;
+        }
+
+        /**
+         * Gets the current chunk, or maps the next chunk if the current chunk has been read.
+         *
+         * @return the chunk, or <tt>null</tt> if the end of the file has been reached
+         */
+        private ByteBuffer nextBuffer() throws IOException {
+            if (buffer != null && buffer.hasRemaining()) {
+                return buffer;
+            }
+            buffer = null;
+            if (mapped >= size) {
+                return null;
+            }
+            long len = Math.min(chunkSize, size - mapped);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, mapped, len);
+            mapped += len;
+            return buffer;
+        }
+    }
+
     /**
      * Manages the temporary file for the file input stream caches.
      *
      * Collects all FileInputStreamCache instances of the temporary file. Counts the number of exchanges which have a
      * FileInputStreamCache instance of the temporary file. Deletes the temporary file, if all exchanges are done.
      *
+     * When using a {@link StreamCacheBufferPool} then the pooled buffers are also released when all exchanges are done.
+     *
      * @see CachedOutputStream
      */
     static class TempFileManager {
@@ -209,9 +330,13 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        private boolean memoryMapped;
+        private PooledBufferOutputStream buffers;
+        private boolean buffersReleased;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
+        private List<PooledInputStreamCache> pooledInputStreamCaches;
 
         /** Only for testing. */
         private TempFileManager(File file, boolean closedOnCompletion) {
@@ -235,6 +360,23 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             fileInputStreamCaches.add(fileInputStreamCache);
         }
 
+        /**
+         * Adds a PooledInputStreamCache instance to the closer.
+         * <p>
+         * Must be synchronized, because can be accessed by several threads.
+         */
+        synchronized void add(PooledInputStreamCache pooledInputStreamCache) {
+            if (buffersReleased) {
+                // the buffers has already been released so the stream cache cannot be read
+                pooledInputStreamCache.detach();
+                return;
+            }
+            if (pooledInputStreamCaches == null) {
+                pooledInputStreamCaches = new ArrayList<>(3);
+            }
+            pooledInputStreamCaches.add(pooledInputStreamCache);
+        }
+
         void addExchange(Exchange exchange) {
             if (closedOnCompletion) {
                 exchangeCounter.incrementAndGet();
@@ -259,6 +401,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                                 LOG.warn("Error deleting temporary cache file: {}. This exception will be ignored.",
                                         tempFile, e);
                             }
+                            releaseBuffers();
                         }
                     }
 
@@ -361,6 +504,38 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             }
         }
 
+        /**
+         * Releases the pooled buffers (if any) back to the pool, which means the in-memory stream caches can no longer
+         * be read.
+         */
+        synchronized void releaseBuffers() {
+            if (buffers != null) {
+                buffersReleased = true;
+            }
+            if (pooledInputStreamCaches != null) {
+                for (PooledInputStreamCache pooledInputStreamCache : pooledInputStreamCaches) {
+                    pooledInputStreamCache.detach();
+                }
+                pooledInputStreamCaches.clear();
+            }
+            if (buffers != null) {
+                buffers.release();
+                buffers = null;
+            }
+        }
+
+        void setBuffers(PooledBufferOutputStream buffers) {
+            this.buffers = buffers;
+        }
+
+        boolean isMemoryMapped() {
+            return memoryMapped;
+        }
+
+        void setMemoryMapped(boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+        }
+
         File getTempFile() {
             return tempFile;
         }
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An {@link OutputStream} that writes to a chain of buffers acquired from a {@link StreamCacheBufferPool}, so the data
+ * does not need to be copied when growing.
+ * <p/>
+ * The buffers are returned to the pool when {@link #release()} is called.
+ */
+final class PooledBufferOutputStream extends OutputStream {
+
+    private final StreamCacheBufferPool pool;
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private ByteBuffer current;
+    private int count;
+    private boolean shared;
+    private volatile boolean released;
+
+    PooledBufferOutputStream(StreamCacheBufferPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureCapacity().put((byte) b);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            ByteBuffer buffer = ensureCapacity();
+            int n = Math.min(len, buffer.remaining());
+            buffer.put(b, off, n);
+            off += n;
+            len -= n;
+            count += n;
+        }
+    }
+
+    private ByteBuffer ensureCapacity() throws IOException {
+        if (current == null || !current.hasRemaining()) {
+            if (released) {
+                throw new IOException("Stream has been released");
+            }
+            current = pool.acquire();
+            buffers.add(current);
+        }
+        return current;
+    }
+
+    int size() {
+        return count;
+    }
+
+    /**
+     * Whether the buffers are in use by a stream cache created by {@link #newInputStreamCache}
+     */
+    boolean isShared() {
+        return shared;
+    }
+
+    /**
+     * Writes the content of the buffers to the output stream
+     */
+    void writeTo(OutputStream out) throws IOException {
+        for (ByteBuffer buffer : buffers) {
+            PooledInputStreamCache.writeBuffer(buffer.duplicate().flip(), out);
+        }
+    }
+
+    /**
+     * Creates a new {@link PooledInputStreamCache} view of the buffers.
+     */
+    PooledInputStreamCache newInputStreamCache(FileInputStreamCache.TempFileManager tempFileManager) {
+        shared = true;
+        ByteBuffer[] views = new ByteBuffer[buffers.size()];
+        for (int i = 0; i < views.length; i++) {
+            views[i] = buffers.get(i).duplicate().flip();
+        }
+        return new PooledInputStreamCache(tempFileManager, views, count);
+    }
+
+    /**
+     * Releases the buffers back to the pool
+     */
+    synchronized void release() {
+        released = true;
+        for (ByteBuffer buffer : buffers) {
+            pool.release(buffer);
+        }
+        buffers.clear();
+        current = null;
+    }
+}
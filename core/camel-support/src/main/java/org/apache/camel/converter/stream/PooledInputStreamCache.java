@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+
+/**
+ * A {@link StreamCache} for caching using in-memory buffers from a {@link StreamCacheBufferPool}.
+ * <p/>
+ * The buffers are returned to the pool when all the exchanges using the stream cache are done, and the stream cache can
+ * then no longer be read. Reading and detaching from the buffers are synchronized, so the buffers are not returned to
+ * the pool (and reused) while being read.
+ */
+public final class PooledInputStreamCache extends InputStream implements StreamCache {
+
+    private final FileInputStreamCache.TempFileManager tempFileManager;
+    private final ByteBuffer[] source;
+    private final long length;
+    private ByteBuffer[] buffers;
+    private int index;
+    private long position;
+
+    PooledInputStreamCache(FileInputStreamCache.TempFileManager tempFileManager, ByteBuffer[] source, long length) {
+        this.tempFileManager = tempFileManager;
+        this.source = source;
+        this.length = length;
+        this.buffers = new ByteBuffer[source.length];
+        for (int i = 0; i < source.length; i++) {
+            this.buffers[i] = source[i].duplicate();
+        }
+        this.tempFileManager.add(this);
+    }
+
+    @Override
+    public synchronized int read() throws IOException {
+        ByteBuffer[] buffers = getBuffers();
+        while (index < buffers.length) {
+            ByteBuffer buffer = buffers[index];
+            if (buffer.hasRemaining()) {
+                position++;
+                return buffer.get() & 0xff;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) throws IOException {
+        ByteBuffer[] buffers = getBuffers();
+        if (len == 0) {
+            return 0;
+        }
+        int total = 0;
+        while (len > 0 && index < buffers.length) {
+            ByteBuffer buffer = buffers[index];
+            if (!buffer.hasRemaining()) {
+                index++;
+                continue;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            off += n;
+            len -= n;
+            total += n;
+        }
+        position += total;
+        return total == 0 ? -1 : total;
+    }
+
+    @Override
+    public synchronized long skip(long n) throws IOException {
+        ByteBuffer[] buffers = getBuffers();
+        long total = 0;
+        while (n > 0 && index < buffers.length) {
+            ByteBuffer buffer = buffers[index];
+            if (!buffer.hasRemaining()) {
+                index++;
+                continue;
+            }
+            int s = (int) Math.min(n, buffer.remaining());
+            buffer.position(buffer.position() + s);
+            n -= s;
+            total += s;
+        }
+        position += total;
+        return total;
+    }
+
+    @Override
+    public synchronized int available() throws IOException {
+        getBuffers();
+        return (int) Math.min(Integer.MAX_VALUE, length - position);
+    }
+
+    @Override
+    public synchronized void reset() {
+        if (buffers != null) {
+            for (ByteBuffer buffer : buffers) {
+                buffer.rewind();
+            }
+        }
+        index = 0;
+        position = 0;
+    }
+
+    @Override
+    public synchronized void writeTo(OutputStream os) throws IOException {
+        ByteBuffer[] buffers = getBuffers();
+        for (int i = index; i < buffers.length; i++) {
+            writeBuffer(buffers[i].duplicate(), os);
+        }
+    }
+
+    @Override
+    public synchronized long transferTo(OutputStream out) throws IOException {
+        ByteBuffer[] buffers = getBuffers();
+        long total = 0;
+        for (; index < buffers.length; index++) {
+            ByteBuffer buffer = buffers[index];
+            total += buffer.remaining();
+            writeBuffer(buffer, out);
+        }
+        position += total;
+        return total;
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        synchronized (this) {
+            getBuffers();
+        }
+        // the copy is detached right away if the buffers are released in the meantime
+        tempFileManager.addExchange(exchange);
+        return new PooledInputStreamCache(tempFileManager, source, length);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return true;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public synchronized long position() {
+        return position;
+    }
+
+    /**
+     * Detaches this stream cache from the buffers, which are about to be returned to the pool.
+     */
+    synchronized void detach() {
+        buffers = null;
+    }
+
+    private ByteBuffer[] getBuffers() throws IOException {
+        ByteBuffer[] answer = buffers;
+        if (answer == null) {
+            throw new IOException("Cannot read stream cache as its buffers has been released (exchange is done)");
+        }
+        return answer;
+    }
+
+    /**
+     * Writes the remaining bytes of the buffer to the output stream
+     */
+    static void writeBuffer(ByteBuffer buffer, OutputStream os) throws IOException {
+        if (buffer.hasArray()) {
+            os.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+        } else {
+            byte[] data = new byte[Math.min(buffer.remaining(), 8192)];
+            while (buffer.hasRemaining()) {
+                int n = Math.min(buffer.remaining(), data.length);
+                buffer.get(data, 0, n);
+                os.write(data, 0, n);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded pool of fixed size {@link ByteBuffer}s used by {@link CachedOutputStream} for in-memory stream caches,
+ * when {@link org.apache.camel.spi.StreamCachingStrategy#isBufferPoolEnabled()} is enabled.
+ * <p/>
+ * The buffers can either be heap or direct buffers. When the pool is empty then new buffers are created, and when the
+ * pool is full then released buffers are discarded (and garbage collected).
+ */
+public final class StreamCacheBufferPool {
+
+    private final int bufferSize;
+    private final int maxSize;
+    private final boolean direct;
+    private final BlockingQueue<ByteBuffer> pool;
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder released = new LongAdder();
+
+    public StreamCacheBufferPool(int bufferSize, int maxSize, boolean direct) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("BufferSize must be positive, was: " + bufferSize);
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("MaxSize must be positive, was: " + maxSize);
+        }
+        this.bufferSize = bufferSize;
+        this.maxSize = maxSize;
+        this.direct = direct;
+        this.pool = new ArrayBlockingQueue<>(maxSize);
+    }
+
+    /**
+     * Acquires a cleared buffer from the pool, or creates a new buffer if the pool is empty.
+     */
+    public ByteBuffer acquire() {
+        acquired.increment();
+        ByteBuffer buffer = pool.poll();
+        if (buffer == null) {
+            created.increment();
+            buffer = direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+        } else {
+            buffer.clear();
+        }
+        return buffer;
+    }
+
+    /**
+     * Releases the buffer back to the pool.
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer.capacity() == bufferSize && buffer.isDirect() == direct && pool.offer(buffer)) {
+            released.increment();
+        }
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * Number of buffers available in the pool
+     */
+    public int getAvailable() {
+        return pool.size();
+    }
+
+    /**
+     * Number of times a buffer has been acquired
+     */
+    public long getAcquiredCounter() {
+        return acquired.sum();
+    }
+
+    /**
+     * Number of buffers created because the pool was empty
+     */
+    public long getCreatedCounter() {
+        return created.sum();
+    }
+
+    /**
+     * Number of buffers released back to the pool
+     */
+    public long getReleasedCounter() {
+        return released.sum();
+    }
+
+    public void resetStatistics() {
+        acquired.reset();
+        created.reset();
+        released.reset();
+    }
+
+    /**
+     * Removes all the buffers from the pool
+     */
+    public void clear() {
+        pool.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "StreamCacheBufferPool[bufferSize=" + bufferSize + ", maxSize=" + maxSize + ", direct=" + direct
+               + ", available=" + getAvailable() + "]";
+    }
+}
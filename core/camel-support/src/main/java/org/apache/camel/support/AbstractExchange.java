@@ -56,6 +56,10 @@ class AbstractExchange implements Exchange {
 
     protected final CamelContext context;
     protected Map<String, Object> properties; // create properties on-demand as we use internal properties mostly
+    // whether the properties map is shared with a copy of this exchange and must be copied before being mutated
+    protected volatile boolean propertiesShared;
+    // whether the properties map has been handed out and may be mutated directly, and therefore must not be shared
+    protected volatile boolean propertiesExposed;
     protected long created;
     protected Message in;
     protected Message out;
@@ -119,17 +123,9 @@ class AbstractExchange implements Exchange {
     public Exchange copy() {
         DefaultExchange exchange = new DefaultExchange(this);
 
-        exchange.setIn(getIn().copy());
-        copyBody(getIn(), exchange.getIn());
-        if (getIn().hasHeaders()) {
-            exchange.getIn().setHeaders(safeCopyHeaders(getIn().getHeaders()));
-        }
+        exchange.setIn(copyMessage(getIn()));
         if (hasOut()) {
-            exchange.setOut(getOut().copy());
-            copyBody(getOut(), exchange.getOut());
-            if (getOut().hasHeaders()) {
-                exchange.getOut().setHeaders(safeCopyHeaders(getOut().getHeaders()));
-            }
+            exchange.setOut(copyMessage(getOut()));
         }
 
         exchange.setException(exception);
@@ -144,7 +140,15 @@ class AbstractExchange implements Exchange {
 
         // copy properties after body as body may trigger lazy init
         if (hasProperties()) {
-            copyProperties(getProperties(), exchange.getProperties());
+            if (propertiesExposed) {
+                // the properties may be mutated via a reference to the map, so they must be copied
+                exchange.properties = new ConcurrentHashMap<>(properties);
+            } else {
+                // share the properties copy-on-write until either exchange mutates its properties
+                exchange.properties = properties;
+                exchange.propertiesShared = true;
+                this.propertiesShared = true;
+            }
         }
 
         if (hasSafeCopyProperties()) {
@@ -161,6 +165,16 @@ class AbstractExchange implements Exchange {
         return exchange;
     }
 
+    private Message copyMessage(Message message) {
+        Message answer = message.copy();
+        copyBody(message, answer);
+        // a default message has copied the headers copy-on-write already
+        if (!(answer instanceof DefaultMessage) && message.hasHeaders()) {
+            answer.setHeaders(safeCopyHeaders(message.getHeaders()));
+        }
+        return answer;
+    }
+
     private Map<String, Object> safeCopyHeaders(Map<String, Object> headers) {
         if (headers == null) {
             return null;
@@ -176,10 +190,6 @@ class AbstractExchange implements Exchange {
         return new HashMap<>(headers);
     }
 
-    private void copyProperties(Map<String, Object> source, Map<String, Object> target) {
-        target.putAll(source);
-    }
-
     private void safeCopyProperties(
             Map<String, SafeCopyProperty> source, Map<String, SafeCopyProperty> target) {
         source.entrySet().stream().forEach(entry -> {
@@ -316,23 +326,16 @@ class AbstractExchange implements Exchange {
             setProperty(key, value);
         } else if (value != null) {
             // avoid the NullPointException
-            if (properties == null) {
-                this.properties = new ConcurrentHashMap<>(8);
-            }
-            properties.put(name, value);
-        } else if (properties != null) {
+            writableProperties().put(name, value);
+        } else if (properties != null && properties.containsKey(name)) {
             // if the value is null, we just remove the key from the map
-            properties.remove(name);
+            writableProperties().remove(name);
         }
     }
 
     void setProperties(Map<String, Object> properties) {
-        if (this.properties == null) {
-            this.properties = new ConcurrentHashMap<>(8);
-        } else {
-            this.properties.clear();
-        }
-        this.properties.putAll(properties);
+        clearProperties();
+        writableProperties().putAll(properties);
     }
 
     @Override
@@ -341,10 +344,10 @@ class AbstractExchange implements Exchange {
         if (key != null) {
             return removeProperty(key);
         }
-        if (!hasProperties()) {
+        if (!hasProperties() || !properties.containsKey(name)) {
             return null;
         }
-        return properties.remove(name);
+        return writableProperties().remove(name);
     }
 
     @Override
@@ -356,9 +359,7 @@ class AbstractExchange implements Exchange {
     public boolean removeProperties(String pattern, String... excludePatterns) {
         // special optimized
         if (excludePatterns == null && "*".equals(pattern)) {
-            if (properties != null) {
-                properties.clear();
-            }
+            clearProperties();
             internalProperties.clear();
             return true;
         }
@@ -394,10 +395,11 @@ class AbstractExchange implements Exchange {
             if (matches && toBeRemoved != null) {
                 if (toBeRemoved.size() == properties.size()) {
                     // special optimization when all should be removed
-                    properties.clear();
+                    clearProperties();
                 } else {
+                    Map<String, Object> map = writableProperties();
                     for (String key : toBeRemoved) {
-                        properties.remove(key);
+                        map.remove(key);
                     }
                 }
             }
@@ -408,12 +410,48 @@ class AbstractExchange implements Exchange {
 
     @Override
     public Map<String, Object> getProperties() {
-        if (properties == null) {
+        // the returned map can be mutated so it must not be shared
+        Map<String, Object> answer = writableProperties();
+        if (!propertiesExposed) {
+            propertiesExposed = true;
+        }
+        return answer;
+    }
+
+    /**
+     * Returns the properties to be mutated, creating the properties, or copying the properties if they are shared with
+     * a copy of this exchange.
+     */
+    Map<String, Object> writableProperties() {
+        if (propertiesShared) {
+            unshareProperties(true);
+        } else if (properties == null) {
             this.properties = new ConcurrentHashMap<>(8);
         }
         return properties;
     }
 
+    /**
+     * Removes all the properties (not internal properties), without mutating the properties if they are shared with a
+     * copy of this exchange.
+     */
+    void clearProperties() {
+        if (propertiesShared) {
+            unshareProperties(false);
+        } else if (properties != null) {
+            properties.clear();
+        }
+    }
+
+    private synchronized void unshareProperties(boolean copy) {
+        // properties are thread-safe so guard against concurrent threads each taking their own copy
+        if (propertiesShared) {
+            this.properties = copy ? new ConcurrentHashMap<>(properties) : new ConcurrentHashMap<>(8);
+            this.propertiesShared = false;
+            this.propertiesExposed = false;
+        }
+    }
+
     Map<String, SafeCopyProperty> getSafeCopyProperties() {
         if (safeCopyProperties == null) {
             this.safeCopyProperties = new ConcurrentHashMap<>(2);
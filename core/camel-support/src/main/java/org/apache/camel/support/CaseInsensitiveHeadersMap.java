@@ -0,0 +1,591 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.apache.camel.Exchange;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases, for storing message headers.
+ * <p/>
+ * The map is based on an open-addressing hash table with the case-folded hash of each key stored alongside the key, so
+ * lookups are O(1) and resizing does not need to hash the keys again. The hashes of the well-known {@link Exchange}
+ * header keys are computed up front, so looking up these headers does not need to hash the key at all. The entries are
+ * iterated in insertion order.
+ * <p/>
+ * Copying a map, via the copy constructor or {@link #putAll(Map)} on an empty map, is copy-on-write which means the
+ * copy shares the internal arrays with the original map, until either of the maps is changed. This makes copying the
+ * headers cheap when exchanges are copied, such as by the multicast, splitter, and wire tap EIPs, where the headers
+ * are often not changed.
+ * <p/>
+ * Clearing the map keeps the internal arrays, so the map can be reused without allocating, such as when messages are
+ * pooled.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine. However, a map and its copies can be used by different threads.
+ */
+public class CaseInsensitiveHeadersMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int DEFAULT_CAPACITY = 8;
+    // slots in the table are the entry index + 1, so 0 is a free slot
+    private static final int FREE = 0;
+    private static final int DELETED = -1;
+
+    private String[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int[] table;
+    // number of used entries (including removed entries)
+    private int used;
+    private int size;
+    // number of deleted slots in the table
+    private int deleted;
+    // whether the arrays are shared with another map, and must be copied before being changed
+    private transient boolean shared;
+    private transient int modCount;
+    private transient Set<Map.Entry<String, Object>> entrySet;
+
+    public CaseInsensitiveHeadersMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CaseInsensitiveHeadersMap(int initialCapacity) {
+        int capacity = Math.max(initialCapacity, 2);
+        keys = new String[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        table = new int[tableSizeFor(capacity)];
+    }
+
+    public CaseInsensitiveHeadersMap(Map<? extends String, ?> map) {
+        if (map instanceof CaseInsensitiveHeadersMap) {
+            share((CaseInsensitiveHeadersMap) map);
+        } else {
+            int capacity = Math.max(map.size(), DEFAULT_CAPACITY);
+            keys = new String[capacity];
+            values = new Object[capacity];
+            hashes = new int[capacity];
+            table = new int[tableSizeFor(capacity)];
+            putAll(map);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (size == 0 || !(key instanceof String)) {
+            return null;
+        }
+        int index = indexOf((String) key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        if (size == 0 || !(key instanceof String)) {
+            return defaultValue;
+        }
+        int index = indexOf((String) key);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (size == 0 || !(key instanceof String)) {
+            return false;
+        }
+        return indexOf((String) key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != null && Objects.equals(value, values[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Objects.requireNonNull(key, "key");
+        int hash = hash(key);
+        int index = indexOf(key, hash);
+        if (index >= 0) {
+            // keep the existing key as-is
+            Object answer = values[index];
+            if (answer != value) {
+                ensureWritable();
+                values[index] = value;
+            }
+            return answer;
+        }
+        ensureWritable();
+        if (used == keys.length) {
+            grow();
+        }
+        if ((size + deleted + 1) * 2 > table.length) {
+            // too many deleted slots
+            rehash((size + 1) * 2 > table.length ? table.length * 2 : table.length);
+        }
+        index = used++;
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+        insertSlot(hash, index);
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        if (size == 0 && map instanceof CaseInsensitiveHeadersMap) {
+            // copy-on-write
+            share((CaseInsensitiveHeadersMap) map);
+            modCount++;
+        } else if (map instanceof CaseInsensitiveHeadersMap) {
+            CaseInsensitiveHeadersMap other = (CaseInsensitiveHeadersMap) map;
+            for (int i = 0; i < other.used; i++) {
+                if (other.keys[i] != null) {
+                    put(other.keys[i], other.values[i]);
+                }
+            }
+        } else {
+            for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (size == 0 || !(key instanceof String)) {
+            return null;
+        }
+        int slot = slotOf((String) key, hash((String) key));
+        if (slot < 0) {
+            return null;
+        }
+        ensureWritable();
+        return removeAt(slot, table[slot] - 1);
+    }
+
+    @Override
+    public void clear() {
+        if (shared) {
+            // do not touch the shared arrays
+            int capacity = Math.max(DEFAULT_CAPACITY, Math.min(keys.length, size));
+            keys = new String[capacity];
+            values = new Object[capacity];
+            hashes = new int[capacity];
+            table = new int[tableSizeFor(capacity)];
+            shared = false;
+        } else if (used > 0 || deleted > 0) {
+            Arrays.fill(keys, 0, used, null);
+            Arrays.fill(values, 0, used, null);
+            Arrays.fill(table, FREE);
+        }
+        used = 0;
+        size = 0;
+        deleted = 0;
+        modCount++;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        int mc = modCount;
+        for (int i = 0; i < used; i++) {
+            String key = keys[i];
+            if (key != null) {
+                action.accept(key, values[i]);
+            }
+        }
+        if (mc != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        Set<Map.Entry<String, Object>> answer = entrySet;
+        if (answer == null) {
+            answer = new EntrySet();
+            entrySet = answer;
+        }
+        return answer;
+    }
+
+    /**
+     * Computes the case-folded hash of the key, which is the same for keys that are equal ignoring case.
+     */
+    static int hash(String key) {
+        int answer = KnownKeys.hash(key);
+        if (answer == 0) {
+            answer = foldedHash(key);
+        }
+        return answer;
+    }
+
+    static int foldedHash(String key) {
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char ch = key.charAt(i);
+            if (ch < 128) {
+                if (ch >= 'A' && ch <= 'Z') {
+                    ch += 32;
+                }
+            } else {
+                // same folding as String.equalsIgnoreCase
+                ch = Character.toLowerCase(Character.toUpperCase(ch));
+            }
+            h = 31 * h + ch;
+        }
+        // spread the bits and never return 0 which is used for unknown keys
+        h ^= h >>> 16;
+        return h != 0 ? h : 1;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(Math.max(capacity, 2) * 2 - 1) << 1;
+        return Math.max(n, 4);
+    }
+
+    private int indexOf(String key) {
+        return indexOf(key, hash(key));
+    }
+
+    private int indexOf(String key, int hash) {
+        int slot = slotOf(key, hash);
+        return slot >= 0 ? table[slot] - 1 : -1;
+    }
+
+    private int slotOf(String key, int hash) {
+        final int[] t = table;
+        final int mask = t.length - 1;
+        int i = hash & mask;
+        for (;;) {
+            int s = t[i];
+            if (s == FREE) {
+                return -1;
+            }
+            if (s != DELETED) {
+                int index = s - 1;
+                if (hashes[index] == hash) {
+                    String k = keys[index];
+                    if (k == key || k.equalsIgnoreCase(key)) {
+                        return i;
+                    }
+                }
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void insertSlot(int hash, int index) {
+        final int[] t = table;
+        final int mask = t.length - 1;
+        int i = hash & mask;
+        for (;;) {
+            int s = t[i];
+            if (s == FREE || s == DELETED) {
+                if (s == DELETED) {
+                    deleted--;
+                }
+                t[i] = index + 1;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private Object removeAt(int slot, int index) {
+        Object answer = values[index];
+        table[slot] = DELETED;
+        deleted++;
+        keys[index] = null;
+        values[index] = null;
+        size--;
+        modCount++;
+        if (index == used - 1) {
+            used--;
+        }
+        return answer;
+    }
+
+    private void grow() {
+        if (size < used * 3 / 4) {
+            // there are enough removed entries to compact the entries instead of growing
+            compact(keys.length);
+        } else {
+            compact(keys.length * 2);
+        }
+    }
+
+    /**
+     * Moves the entries to the front of the (possibly new) arrays, and rebuilds the table.
+     */
+    private void compact(int capacity) {
+        String[] newKeys = capacity == keys.length ? keys : new String[capacity];
+        Object[] newValues = capacity == values.length ? values : new Object[capacity];
+        int[] newHashes = capacity == hashes.length ? hashes : new int[capacity];
+        int j = 0;
+        for (int i = 0; i < used; i++) {
+            String key = keys[i];
+            if (key != null) {
+                newKeys[j] = key;
+                newValues[j] = values[i];
+                newHashes[j] = hashes[i];
+                j++;
+            }
+        }
+        if (newKeys == keys) {
+            Arrays.fill(newKeys, j, used, null);
+            Arrays.fill(newValues, j, used, null);
+        }
+        keys = newKeys;
+        values = newValues;
+        hashes = newHashes;
+        used = j;
+        rehash(Math.max(table.length, tableSizeFor(capacity)));
+    }
+
+    private void rehash(int tableSize) {
+        if (tableSize != table.length) {
+            table = new int[tableSize];
+        } else {
+            Arrays.fill(table, FREE);
+        }
+        deleted = 0;
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != null) {
+                insertSlot(hashes[i], i);
+            }
+        }
+    }
+
+    private void share(CaseInsensitiveHeadersMap other) {
+        keys = other.keys;
+        values = other.values;
+        hashes = other.hashes;
+        table = other.table;
+        used = other.used;
+        size = other.size;
+        deleted = other.deleted;
+        shared = true;
+        other.shared = true;
+    }
+
+    private void ensureWritable() {
+        if (shared) {
+            keys = keys.clone();
+            values = values.clone();
+            hashes = hashes.clone();
+            table = table.clone();
+            shared = false;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CaseInsensitiveHeadersMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            while (next < used && keys[next] == null) {
+                next++;
+            }
+            return next < used;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return new Entry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            String key = keys[last];
+            int slot = slotOf(key, hashes[last]);
+            ensureWritable();
+            removeAt(slot, last);
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class Entry implements Map.Entry<String, Object> {
+
+        private final int index;
+        private final String key;
+
+        private Entry(int index) {
+            this.index = index;
+            this.key = keys[index];
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            // the entry may have been removed
+            return keys[index] == key ? values[index] : get(key);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            return put(key, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return key.equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+    /**
+     * The well-known header keys from {@link Exchange}, with their case-folded hashes computed up front. As these keys
+     * are string constants, they are looked up by identity using the cached {@link String#hashCode()}.
+     */
+    private static final class KnownKeys {
+
+        private static final String[] KEYS;
+        private static final int[] HASHES;
+        private static final int MASK;
+
+        static {
+            List<String> names = new ArrayList<>();
+            for (Field field : Exchange.class.getFields()) {
+                if (field.getType() == String.class && Modifier.isStatic(field.getModifiers())) {
+                    try {
+                        names.add((String) field.get(null));
+                    } catch (IllegalAccessException e) {
+                        // ignore
+                    }
+                }
+            }
+            int length = Integer.highestOneBit(Math.max(names.size(), 1) * 4 - 1) << 1;
+            KEYS = new String[length];
+            HASHES = new int[length];
+            MASK = length - 1;
+            for (String name : names) {
+                // use the interned instance, which is the same instance as the constant
+                String key = name.intern();
+                int i = key.hashCode() & MASK;
+                while (KEYS[i] != null && KEYS[i] != key) {
+                    i = (i + 1) & MASK;
+                }
+                KEYS[i] = key;
+                HASHES[i] = foldedHash(key);
+            }
+        }
+
+        /**
+         * Gets the precomputed hash if the key is a well-known key, or 0 if not
+         */
+        static int hash(String key) {
+            int i = key.hashCode() & MASK;
+            for (;;) {
+                String k = KEYS[i];
+                if (k == key) {
+                    return HASHES[i];
+                } else if (k == null) {
+                    return 0;
+                }
+                i = (i + 1) & MASK;
+            }
+        }
+    }
+
+}
@@ -80,6 +80,8 @@ public class DefaultContextReloadStrategy extends ServiceSupport implements Cont
             ServiceHelper.stopAndShutdownService(ps);
             ServiceHelper.startService(ps);
         }
+        // the reloaded properties may resolve to different values
+        pc.clearCache();
     }
 
     @ManagedAttribute(description = "Number of reloads succeeded")
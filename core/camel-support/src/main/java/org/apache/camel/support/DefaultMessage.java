@@ -24,6 +24,7 @@ import java.util.function.Supplier;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.Message;
 import org.apache.camel.spi.HeadersMapFactory;
 
 /**
@@ -34,9 +35,20 @@ import org.apache.camel.spi.HeadersMapFactory;
  * about using exact keys. See more details at {@link org.apache.camel.util.CaseInsensitiveMap}. The implementation of
  * the map can be configured by the {@link HeadersMapFactory} which can be set on the {@link CamelContext}. The default
  * implementation uses the {@link org.apache.camel.util.CaseInsensitiveMap CaseInsensitiveMap}.
+ * <p/>
+ * When a message is copied from another {@link DefaultMessage} then the headers are shared copy-on-write, which means
+ * both messages use the same headers map until either of them mutates its headers (or accesses the mutable map via
+ * {@link #getHeaders()}), at which point that message takes its own copy of the headers. Headers are not shared when
+ * the map has been handed out via {@link #getHeaders()} (or set via {@link #setHeaders(Map)}) as the map may then be
+ * mutated directly by whoever holds a reference to it; in this case the headers are copied eagerly.
  */
 public class DefaultMessage extends MessageSupport {
     private Map<String, Object> headers;
+    // whether the headers map is shared with another message and must be copied before being mutated
+    // (may be set by the thread copying this message)
+    private volatile boolean headersShared;
+    // whether the headers map has been handed out and may be mutated directly, and therefore must not be shared
+    private volatile boolean headersExposed;
 
     public DefaultMessage(Exchange exchange) {
         setExchange(exchange);
@@ -54,7 +66,7 @@ public class DefaultMessage extends MessageSupport {
     public void reset() {
         super.reset();
         if (headers != null) {
-            headers.clear();
+            clearHeaders();
         }
     }
 
@@ -203,10 +215,7 @@ public class DefaultMessage extends MessageSupport {
 
     @Override
     public void setHeader(String name, Object value) {
-        if (headers == null) {
-            headers = createHeaders();
-        }
-        headers.put(name, value);
+        writableHeaders().put(name, value);
     }
 
     @Override
@@ -218,7 +227,11 @@ public class DefaultMessage extends MessageSupport {
         if (headers.isEmpty()) {
             return null;
         }
-        return headers.remove(name);
+        if (headersShared && !headers.containsKey(name)) {
+            // avoid copying the shared headers when there is nothing to remove
+            return null;
+        }
+        return writableHeaders().remove(name);
     }
 
     @Override
@@ -238,7 +251,7 @@ public class DefaultMessage extends MessageSupport {
 
         // special optimized
         if (excludePatterns == null && "*".equals(pattern)) {
-            headers.clear();
+            clearHeaders();
             return true;
         }
 
@@ -262,10 +275,11 @@ public class DefaultMessage extends MessageSupport {
         if (matches) {
             if (toBeRemoved.size() == headers.size()) {
                 // special optimization when all should be removed
-                headers.clear();
+                clearHeaders();
             } else {
+                Map<String, Object> map = writableHeaders();
                 for (String key : toBeRemoved) {
-                    headers.remove(key);
+                    map.remove(key);
                 }
             }
         }
@@ -275,10 +289,12 @@ public class DefaultMessage extends MessageSupport {
 
     @Override
     public Map<String, Object> getHeaders() {
-        if (headers == null) {
-            headers = createHeaders();
+        // the returned map can be mutated so it must not be shared
+        Map<String, Object> answer = writableHeaders();
+        if (!headersExposed) {
+            headersExposed = true;
         }
-        return headers;
+        return answer;
     }
 
     @Override
@@ -287,6 +303,10 @@ public class DefaultMessage extends MessageSupport {
         if (factory != null) {
             if (factory.isInstanceOf(headers)) {
                 this.headers = headers;
+                // the caller holds a reference to the map
+                this.headersExposed = true;
+                this.headersShared = false;
+                return;
             } else {
                 // create a new map
                 this.headers = camelContext.getCamelContextExtension().getHeadersMapFactory().newMap(headers);
@@ -295,6 +315,8 @@ public class DefaultMessage extends MessageSupport {
             // should not really happen but some tests rely on using camel context that is not started
             this.headers = new HashMap<>(headers);
         }
+        this.headersShared = false;
+        this.headersExposed = false;
     }
 
     @Override
@@ -306,6 +328,34 @@ public class DefaultMessage extends MessageSupport {
         return !headers.isEmpty();
     }
 
+    @Override
+    protected void copyHeadersFrom(Message that) {
+        if (that instanceof DefaultMessage) {
+            DefaultMessage other = (DefaultMessage) that;
+            // only share headers that have already been populated (lazy messages populate them on first access)
+            if (other.headers != null && other.headers != headers) {
+                if (other.headers.isEmpty()) {
+                    if (headers != null) {
+                        clearHeaders();
+                    }
+                } else if (other.headersExposed) {
+                    // the headers may be mutated via a reference to the map, so they must be copied
+                    headers = copyHeaders(other.headers);
+                    headersShared = false;
+                    headersExposed = false;
+                } else {
+                    // share the headers copy-on-write until either message mutates its headers
+                    headers = other.headers;
+                    headersExposed = false;
+                    headersShared = true;
+                    other.headersShared = true;
+                }
+                return;
+            }
+        }
+        super.copyHeadersFrom(that);
+    }
+
     @Override
     public DefaultMessage newInstance() {
         return new DefaultMessage(camelContext);
@@ -331,6 +381,48 @@ public class DefaultMessage extends MessageSupport {
         return map;
     }
 
+    /**
+     * Returns the headers to be mutated, creating the headers, or copying the headers if they are shared with another
+     * message.
+     */
+    private Map<String, Object> writableHeaders() {
+        if (headers == null) {
+            headers = createHeaders();
+        } else if (headersShared) {
+            headers = copyHeaders(headers);
+            headersShared = false;
+            headersExposed = false;
+        }
+        return headers;
+    }
+
+    private Map<String, Object> copyHeaders(Map<String, Object> source) {
+        HeadersMapFactory factory = camelContext.getCamelContextExtension().getHeadersMapFactory();
+        if (factory != null) {
+            return factory.newMap(source);
+        } else {
+            return new HashMap<>(source);
+        }
+    }
+
+    /**
+     * Removes all the headers, without mutating the headers if they are shared with another message.
+     */
+    private void clearHeaders() {
+        if (headersShared) {
+            HeadersMapFactory factory = camelContext.getCamelContextExtension().getHeadersMapFactory();
+            if (factory != null) {
+                headers = factory.newMap();
+            } else {
+                headers = new HashMap<>();
+            }
+            headersShared = false;
+            headersExposed = false;
+        } else {
+            headers.clear();
+        }
+    }
+
     /**
      * A strategy method populate the initial set of headers on an inbound message from an underlying binding
      *
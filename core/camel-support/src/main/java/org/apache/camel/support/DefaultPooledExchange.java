@@ -35,6 +35,7 @@ public final class DefaultPooledExchange extends AbstractExchange implements Poo
     private Message originalOut;
     private final ExchangePattern originalPattern;
     private boolean autoRelease;
+    private PooledObjectFactorySupport.LeakTracker leakTracker;
 
     public DefaultPooledExchange(CamelContext context) {
         super(context);
@@ -74,6 +75,14 @@ public final class DefaultPooledExchange extends AbstractExchange implements Poo
         this.autoRelease = autoRelease;
     }
 
+    public PooledObjectFactorySupport.LeakTracker getLeakTracker() {
+        return leakTracker;
+    }
+
+    public void setLeakTracker(PooledObjectFactorySupport.LeakTracker leakTracker) {
+        this.leakTracker = leakTracker;
+    }
+
     @Override
     public void onDone(OnDoneTask task) {
         this.onDone = task;
@@ -82,7 +91,7 @@ public final class DefaultPooledExchange extends AbstractExchange implements Poo
     public void done() {
         if (created > 0) {
             this.created = 0; // by setting to 0 we also flag that this exchange is done and needs to be reset to use again
-            this.properties.clear();
+            clearProperties();
             internalProperties.clear();
             if (this.safeCopyProperties != null) {
                 this.safeCopyProperties.clear();
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.support;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -34,15 +35,36 @@ import org.apache.camel.StaticService;
 import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.RejectableScheduledThreadPoolExecutor;
 import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.apache.camel.util.concurrent.ThreadHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Factory for thread pools that uses the JDK {@link Executors} for creating the thread pools.
  */
 public class DefaultThreadPoolFactory extends ServiceSupport implements CamelContextAware, ThreadPoolFactory, StaticService {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultThreadPoolFactory.class);
+
+    // Executors.newThreadPerTaskExecutor is only available from Java 21 onwards, so we use reflection
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method method = null;
+        if (ThreadHelper.isVirtualThreadsSupported()) {
+            try {
+                method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            } catch (NoSuchMethodException e) {
+                // ignore
+            }
+        }
+        NEW_THREAD_PER_TASK_EXECUTOR = method;
+    }
+
     private CamelContext camelContext;
 
     @Override
@@ -57,11 +79,27 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
 
     @Override
     public ExecutorService newCachedThreadPool(ThreadFactory threadFactory) {
+        if (threadFactory instanceof CamelThreadFactory && ((CamelThreadFactory) threadFactory).isVirtual()) {
+            ExecutorService answer = newThreadPerTaskExecutor(threadFactory);
+            if (answer != null) {
+                return answer;
+            }
+        }
         return Executors.newCachedThreadPool(threadFactory);
     }
 
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (Boolean.TRUE.equals(profile.getVirtualThreads())) {
+            ExecutorService answer = newThreadPerTaskExecutor(factory);
+            if (answer != null) {
+                return answer;
+            }
+            LOG.warn("Virtual threads is not supported on this JVM (requires Java 21 or newer)."
+                     + " Using platform threads for thread pool profile: {}",
+                    profile.getId());
+        }
+
         // allow core thread timeout is default true if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : true;
         return newThreadPool(profile.getPoolSize(),
@@ -117,6 +155,23 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
         return answer;
     }
 
+    /**
+     * Creates an executor that starts a new thread for each task, which is intended to be used with virtual threads.
+     *
+     * @return the executor, or <tt>null</tt> if not supported on this JVM
+     */
+    protected ExecutorService newThreadPerTaskExecutor(ThreadFactory threadFactory) {
+        if (NEW_THREAD_PER_TASK_EXECUTOR == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+        } catch (Exception e) {
+            LOG.debug("Error creating thread per task executor due to {}. This exception is ignored.", e.getMessage(), e);
+            return null;
+        }
+    }
+
     @Override
     public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
         RejectedExecutionHandler rejectedExecutionHandler = profile.getRejectedExecutionHandler();
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.support;
 
+import java.lang.ref.Cleaner;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.atomic.LongAdder;
@@ -118,6 +119,26 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
         return statistics;
     }
 
+    /**
+     * Creates a {@link LeakTracker} for the given pooled object, which detects if the object is garbage collected while
+     * in use (acquired but never released back to the pool).
+     */
+    protected LeakTracker createLeakTracker(Object pooled) {
+        LeakTracker answer = new LeakTracker(this);
+        LeakDetector.CLEANER.register(pooled, answer);
+        return answer;
+    }
+
+    /**
+     * Callback when a pooled object has been detected as leaked.
+     */
+    protected void onLeaked() {
+        UtilizationStatistics stats = statistics;
+        if (stats != null) {
+            stats.leaked.increment();
+        }
+    }
+
     @Override
     protected void doShutdown() throws Exception {
         super.doShutdown();
@@ -140,6 +161,7 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
         public final LongAdder acquired = new LongAdder();
         public final LongAdder released = new LongAdder();
         public final LongAdder discarded = new LongAdder();
+        public final LongAdder leaked = new LongAdder();
 
         @Override
         public void reset() {
@@ -147,6 +169,7 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
             acquired.reset();
             released.reset();
             discarded.reset();
+            leaked.reset();
         }
 
         @Override
@@ -169,6 +192,53 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
             return discarded.longValue();
         }
 
+        @Override
+        public long getLeakedCounter() {
+            return leaked.longValue();
+        }
+
+    }
+
+    /**
+     * Tracks whether a pooled object is in use, so the object can be detected as leaked if it is garbage collected
+     * before being released back to the pool.
+     */
+    public static final class LeakTracker implements Runnable {
+
+        private final PooledObjectFactorySupport<?> factory;
+        private volatile boolean inUse;
+
+        private LeakTracker(PooledObjectFactorySupport<?> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * The object has been acquired from the pool
+         */
+        public void acquired() {
+            inUse = true;
+        }
+
+        /**
+         * The object has been released back to the pool (or discarded)
+         */
+        public void released() {
+            inUse = false;
+        }
+
+        @Override
+        public void run() {
+            // the pooled object has been garbage collected
+            if (inUse) {
+                factory.onLeaked();
+            }
+        }
+    }
+
+    private static final class LeakDetector {
+
+        // lazy created on first use as the cleaner uses its own thread
+        private static final Cleaner CLEANER = Cleaner.create(r -> new Thread(r, "Camel PooledObjectLeakDetector"));
     }
 
 }
@@ -130,6 +130,12 @@ public abstract class PrototypeObjectFactorySupport<T> extends ServiceSupport im
             return discarded.longValue();
         }
 
+        @Override
+        public long getLeakedCounter() {
+            // objects are not pooled so they cannot leak
+            return 0;
+        }
+
     }
 
 }
@@ -0,0 +1,492 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * A memory based implementation of {@link org.apache.camel.spi.IdempotentRepository} which is designed for high
+ * concurrency.
+ * <p/>
+ * The keys are spread over a number of segments, which are each guarded by their own lock, so concurrent threads only
+ * contend when they access keys in the same segment. Each segment keeps its keys in insertion order in a fixed size
+ * ring buffer together with an open addressing hash index, which means that no objects are allocated per key when
+ * adding keys to the repository.
+ * <p/>
+ * The repository is bounded by the cache size, where the oldest keys are evicted first. Optionally the keys can also be
+ * expired after a given time.
+ * <p/>
+ * When compact keys is enabled, then a 128-bit hash of the key is stored instead of the key itself, which uses a
+ * fraction of the memory for typical message ids such as UUIDs. The probability of two different keys having the same
+ * hash is negligible, but should such a collision happen, then the second key is regarded as a duplicate.
+ */
+@ManagedResource(description = "Concurrent memory based idempotent repository")
+public class ConcurrentMemoryIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    private int cacheSize;
+    private int segments;
+    private long expireAfterMillis;
+    private boolean compactKeys;
+    private volatile Segment[] table;
+
+    public ConcurrentMemoryIdempotentRepository() {
+        this(1000);
+    }
+
+    public ConcurrentMemoryIdempotentRepository(int cacheSize) {
+        this(cacheSize, Runtime.getRuntime().availableProcessors() * 4, 0, false);
+    }
+
+    public ConcurrentMemoryIdempotentRepository(int cacheSize, int segments, long expireAfterMillis, boolean compactKeys) {
+        this.cacheSize = cacheSize;
+        this.segments = segments;
+        this.expireAfterMillis = expireAfterMillis;
+        this.compactKeys = compactKeys;
+        createSegments();
+    }
+
+    /**
+     * Creates a new concurrent memory based repository with a default of 1000 entries in the cache.
+     */
+    public static IdempotentRepository concurrentMemoryIdempotentRepository() {
+        return new ConcurrentMemoryIdempotentRepository();
+    }
+
+    /**
+     * Creates a new concurrent memory based repository.
+     *
+     * @param cacheSize the cache size
+     */
+    public static IdempotentRepository concurrentMemoryIdempotentRepository(int cacheSize) {
+        return new ConcurrentMemoryIdempotentRepository(cacheSize);
+    }
+
+    /**
+     * Creates a new concurrent memory based repository which stores compact 128-bit hashes of the keys.
+     *
+     * @param cacheSize the cache size
+     */
+    public static IdempotentRepository compactMemoryIdempotentRepository(int cacheSize) {
+        return new ConcurrentMemoryIdempotentRepository(
+                cacheSize, Runtime.getRuntime().availableProcessors() * 4, 0, true);
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        Segment[] segments = table;
+        boolean compact = segments[0].hashes2 != null;
+        long hash = hash(key, compact);
+        return segmentFor(segments, hash).add(key, hash, compact ? hash2(key, hash) : 0);
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        Segment[] segments = table;
+        boolean compact = segments[0].hashes2 != null;
+        long hash = hash(key, compact);
+        return segmentFor(segments, hash).contains(key, hash, compact ? hash2(key, hash) : 0);
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        Segment[] segments = table;
+        boolean compact = segments[0].hashes2 != null;
+        long hash = hash(key, compact);
+        return segmentFor(segments, hash).remove(key, hash, compact ? hash2(key, hash) : 0);
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store")
+    public void clear() {
+        for (Segment segment : table) {
+            segment.clear();
+        }
+    }
+
+    @ManagedAttribute(description = "The maximum cache size")
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * The maximum number of keys to keep in the repository, where the oldest keys are evicted first.
+     */
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    @ManagedAttribute(description = "The current number of keys in the store")
+    public int getCurrentSize() {
+        int answer = 0;
+        for (Segment segment : table) {
+            answer += segment.size();
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "The number of segments")
+    public int getSegments() {
+        return table.length;
+    }
+
+    /**
+     * The maximum number of segments (rounded down to a power of two) to spread the keys over, where each segment is
+     * guarded by its own lock. Fewer segments are used for small cache sizes, so each segment holds a reasonable number
+     * of keys.
+     */
+    public void setSegments(int segments) {
+        this.segments = segments;
+    }
+
+    @ManagedAttribute(description = "Time in millis after which keys expire (0 = never)")
+    public long getExpireAfterMillis() {
+        return expireAfterMillis;
+    }
+
+    /**
+     * Time in millis after which a key is expired and removed from the repository. Is by default 0, which means keys
+     * are only evicted when the cache size is exceeded.
+     */
+    public void setExpireAfterMillis(long expireAfterMillis) {
+        this.expireAfterMillis = expireAfterMillis;
+    }
+
+    @ManagedAttribute(description = "Whether 128-bit hashes of the keys are stored instead of the keys")
+    public boolean isCompactKeys() {
+        return compactKeys;
+    }
+
+    /**
+     * Whether to store a 128-bit hash of the keys instead of the keys, which reduces the memory used per key
+     * considerably.
+     */
+    public void setCompactKeys(boolean compactKeys) {
+        this.compactKeys = compactKeys;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        Segment first = table[0];
+        if (table.length != segmentCount() || first.capacity != segmentCapacity(table.length)
+                || first.expireAfterNanos != TimeUnit.MILLISECONDS.toNanos(expireAfterMillis)
+                || (first.keys == null) != compactKeys) {
+            // the configuration has been changed
+            createSegments();
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        clear();
+    }
+
+    private void createSegments() {
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("CacheSize must be a positive number, was: " + cacheSize);
+        }
+        if (expireAfterMillis < 0) {
+            throw new IllegalArgumentException("ExpireAfterMillis must be zero or a positive number, was: " + expireAfterMillis);
+        }
+        int count = segmentCount();
+        int capacity = segmentCapacity(count);
+        long expireAfterNanos = TimeUnit.MILLISECONDS.toNanos(expireAfterMillis);
+        Segment[] answer = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            answer[i] = new Segment(capacity, expireAfterNanos, compactKeys);
+        }
+        this.table = answer;
+    }
+
+    private int segmentCount() {
+        int max = Math.max(1, Math.min(segments, cacheSize / MIN_SEGMENT_SIZE));
+        // round down to a power of two
+        return Integer.highestOneBit(max);
+    }
+
+    private int segmentCapacity(int count) {
+        return (cacheSize + count - 1) / count;
+    }
+
+    private static Segment segmentFor(Segment[] segments, long hash) {
+        int len = segments.length;
+        // use the high bits for the segment, as the low bits are used by the index within the segment
+        return len == 1 ? segments[0] : segments[(int) (hash >>> (64 - Integer.numberOfTrailingZeros(len)))];
+    }
+
+    private static long hash(String key, boolean compact) {
+        if (!compact) {
+            return mix(key.hashCode());
+        }
+        // FNV-1a over the chars
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long hash2(String key, long hash) {
+        // a second independent hash over the chars, which together with the first hash gives a 128-bit hash
+        long h = key.length() * 0x9e3779b97f4a7c15L;
+        for (int i = 0; i < key.length(); i++) {
+            h = Long.rotateLeft(h ^ key.charAt(i), 29) * 0xbf58476d1ce4e5b9L;
+        }
+        return mix(h ^ hash);
+    }
+
+    private static long mix(long h) {
+        // finalizer from the 64-bit murmur3 hash
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * A segment of the repository, which keeps its keys in insertion order in a ring buffer, and uses an open
+     * addressing hash index with linear probing to look up the slots in the ring buffer.
+     */
+    private static final class Segment {
+        private final int capacity;
+        private final long expireAfterNanos;
+        // the keys, or the 128-bit hashes of the keys when using compact keys
+        private final String[] keys;
+        private final long[] hashes;
+        private final long[] hashes2;
+        private final long[] times;
+        private final boolean[] live;
+        // the index holds the slot + 1 of the key in the ring buffer, and 0 for free
+        private final int[] index;
+        private final int mask;
+        // the first slot in the ring buffer, and the number of slots in use from the first slot, which includes the
+        // slots of removed keys until the segment is compacted
+        private int head;
+        private int range;
+        private int size;
+
+        Segment(int capacity, long expireAfterNanos, boolean compactKeys) {
+            this.capacity = capacity;
+            this.expireAfterNanos = expireAfterNanos;
+            this.keys = compactKeys ? null : new String[capacity];
+            this.hashes = new long[capacity];
+            this.hashes2 = compactKeys ? new long[capacity] : null;
+            this.times = expireAfterNanos > 0 ? new long[capacity] : null;
+            this.live = new boolean[capacity];
+            // keep the load factor of the index at most 0.5
+            int len = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1) << 1;
+            this.index = new int[len];
+            this.mask = len - 1;
+        }
+
+        synchronized boolean add(String key, long hash, long hash2) {
+            long now = times != null ? System.nanoTime() : 0;
+            expire(now);
+            if (find(key, hash, hash2) >= 0) {
+                return false;
+            }
+            if (range == capacity) {
+                if (size < capacity) {
+                    // there are removed slots in the ring buffer, so reclaim those instead of evicting a live key
+                    compact();
+                } else {
+                    evictHead();
+                }
+            }
+            int slot = (head + range) % capacity;
+            if (keys != null) {
+                keys[slot] = key;
+            } else {
+                hashes2[slot] = hash2;
+            }
+            hashes[slot] = hash;
+            if (times != null) {
+                times[slot] = now;
+            }
+            live[slot] = true;
+            insertIndex(hash, slot);
+            range++;
+            size++;
+            return true;
+        }
+
+        synchronized boolean contains(String key, long hash, long hash2) {
+            if (times != null) {
+                expire(System.nanoTime());
+            }
+            return find(key, hash, hash2) >= 0;
+        }
+
+        synchronized boolean remove(String key, long hash, long hash2) {
+            int pos = find(key, hash, hash2);
+            if (pos < 0) {
+                return false;
+            }
+            removeSlot(pos, index[pos] - 1);
+            // skip over removed slots at the head and the tail so they can be reused
+            while (range > 0 && !live[head]) {
+                head = (head + 1) % capacity;
+                range--;
+            }
+            while (range > 0 && !live[(head + range - 1) % capacity]) {
+                range--;
+            }
+            return true;
+        }
+
+        synchronized void clear() {
+            Arrays.fill(index, 0);
+            Arrays.fill(live, false);
+            if (keys != null) {
+                Arrays.fill(keys, null);
+            }
+            head = 0;
+            range = 0;
+            size = 0;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        /**
+         * Finds the position of the key in the index, or -1 if not found
+         */
+        private int find(String key, long hash, long hash2) {
+            int i = (int) hash & mask;
+            for (;;) {
+                int slot = index[i] - 1;
+                if (slot < 0) {
+                    return -1;
+                }
+                if (hashes[slot] == hash && (keys != null ? key.equals(keys[slot]) : hashes2[slot] == hash2)) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+        }
+
+        private void expire(long now) {
+            if (times == null) {
+                return;
+            }
+            // the keys are in insertion order, so expire from the head until a key is not expired
+            while (range > 0 && (!live[head] || now - times[head] >= expireAfterNanos)) {
+                evictHead();
+            }
+        }
+
+        private void evictHead() {
+            int slot = head;
+            if (live[slot]) {
+                int i = (int) hashes[slot] & mask;
+                while (index[i] != slot + 1) {
+                    i = (i + 1) & mask;
+                }
+                removeSlot(i, slot);
+            }
+            head = (head + 1) % capacity;
+            range--;
+        }
+
+        /**
+         * Moves the live keys to the front of the ring buffer, keeping their insertion order, and rebuilds the index, so
+         * the slots of removed keys can be reused.
+         */
+        private void compact() {
+            Arrays.fill(index, 0);
+            int written = 0;
+            for (int r = 0; r < range; r++) {
+                int from = (head + r) % capacity;
+                if (!live[from]) {
+                    continue;
+                }
+                int to = (head + written) % capacity;
+                if (from != to) {
+                    if (keys != null) {
+                        keys[to] = keys[from];
+                        keys[from] = null;
+                    } else {
+                        hashes2[to] = hashes2[from];
+                    }
+                    hashes[to] = hashes[from];
+                    if (times != null) {
+                        times[to] = times[from];
+                    }
+                    live[to] = true;
+                    live[from] = false;
+                }
+                insertIndex(hashes[to], to);
+                written++;
+            }
+            range = written;
+        }
+
+        private void insertIndex(long hash, int slot) {
+            int i = (int) hash & mask;
+            while (index[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            index[i] = slot + 1;
+        }
+
+        private void removeSlot(int pos, int slot) {
+            live[slot] = false;
+            if (keys != null) {
+                keys[slot] = null;
+            }
+            size--;
+            // delete from the index by shifting back the following entries in the probe sequence
+            int i = pos;
+            int j = pos;
+            index[i] = 0;
+            for (;;) {
+                j = (j + 1) & mask;
+                int s = index[j];
+                if (s == 0) {
+                    return;
+                }
+                int k = (int) hashes[s - 1] & mask;
+                if (i <= j ? (k <= i || k > j) : (k <= i && k > j)) {
+                    index[i] = s;
+                    index[j] = 0;
+                    i = j;
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,840 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository}, which is designed for a large
+ * number of keys.
+ * <p/>
+ * The keys are stored in an append-only log file, where each record is an add or remove of a key, protected by a
+ * CRC32 checksum. A memory-mapped hash index file (the log file name with <tt>.index</tt> appended) maps the hash of
+ * each key to the position of its record in the log, so looking up a key is O(1) and never requires reading the whole
+ * file, or keeping the keys in memory. Removing a key appends a remove record, instead of rewriting the file.
+ * <p/>
+ * The log is the source of truth. The index is only trusted on startup if the repository was stopped cleanly; otherwise
+ * it is rebuilt by replaying the log, where an incomplete or corrupt record at the end of the log (from a crash in the
+ * middle of a write) is truncated.
+ * <p/>
+ * Writes are flushed to disk (fsync) in batches every {@link #getSyncInterval()} millis, which means that keys added
+ * within the last interval may be lost on a power failure or OS crash (but not when only the JVM crashes). Set the
+ * interval to 0 to flush on every write.
+ * <p/>
+ * The space used by removed keys is reclaimed by compaction, which rewrites the log with only the current keys, when the
+ * ratio of garbage in the log exceeds {@link #getCompactionThreshold()}. Compaction is checked periodically in the
+ * background, and blocks access to the repository while running.
+ */
+@ManagedResource(description = "Indexed file based idempotent repository")
+public class IndexedFileIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IndexedFileIdempotentRepository.class);
+
+    private static final byte RECORD_ADD = 1;
+    private static final byte RECORD_REMOVE = 2;
+    // type (1) + key length (4) + checksum (4)
+    private static final int RECORD_OVERHEAD = 9;
+
+    private static final int INDEX_MAGIC = 0x4349444b;
+    private static final int INDEX_VERSION = 1;
+    private static final int INDEX_HEADER_SIZE = 64;
+    private static final int BUCKET_SIZE = 16;
+    private static final int MAX_BUCKETS = 1 << 26;
+    private static final long EMPTY = 0;
+    private static final long TOMBSTONE = 1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private CamelContext camelContext;
+    private File fileStore;
+    private int initialIndexCapacity = 1024;
+    private long syncInterval = 1000;
+    private long compactionInterval = 60000;
+    private double compactionThreshold = 0.5;
+    private long compactionMinFileSize = 1024 * 1024;
+
+    private volatile FileChannel log;
+    private long logSize;
+    private long liveBytes;
+    private volatile boolean dirty;
+    private long lastSync;
+    private File indexFile;
+    private FileChannel indexChannel;
+    private MappedByteBuffer index;
+    private int buckets;
+    private int size;
+    private int tombstones;
+    private ScheduledExecutorService executorService;
+
+    public IndexedFileIdempotentRepository() {
+    }
+
+    public IndexedFileIdempotentRepository(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * Creates a new indexed file based repository.
+     *
+     * @param fileStore the file store
+     */
+    public static IdempotentRepository indexedFileIdempotentRepository(File fileStore) {
+        return new IndexedFileIdempotentRepository(fileStore);
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        byte[] data = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(data);
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (find(data, hash) >= 0) {
+                return false;
+            }
+            long offset = logSize;
+            int len = append(RECORD_ADD, data);
+            insert(hash, offset);
+            liveBytes += len;
+            afterWrite();
+            return true;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        byte[] data = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(data);
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return find(data, hash) >= 0;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        byte[] data = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(data);
+        boolean compact;
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            int bucket = find(data, hash);
+            if (bucket < 0) {
+                return false;
+            }
+            append(RECORD_REMOVE, data);
+            delete(bucket);
+            liveBytes -= RECORD_OVERHEAD + data.length;
+            afterWrite();
+            // compact in the current thread when there is no background task to do it
+            compact = executorService == null && isCompactionNeeded();
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            writeLock.unlock();
+        }
+        if (compact) {
+            compact();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            FileChannel channel = channel();
+            channel.truncate(0);
+            channel.force(false);
+            logSize = 0;
+            liveBytes = 0;
+            createIndex(initialIndexCapacity);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Rewrites the log file with only the current keys, to reclaim the space used by removed keys.
+     */
+    @ManagedOperation(description = "Compacts the file store")
+    public void compact() {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            doCompact();
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Flushes any pending writes to disk
+     */
+    @ManagedOperation(description = "Flushes pending writes to disk")
+    public void sync() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        FileChannel channel = log;
+        try {
+            channel.force(false);
+        } catch (ClosedChannelException e) {
+            // the log has been compacted or closed which flushes the log
+        } catch (IOException e) {
+            dirty = true;
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    @ManagedAttribute(description = "The file path for the store")
+    public String getFilePath() {
+        return fileStore.getPath();
+    }
+
+    public int getInitialIndexCapacity() {
+        return initialIndexCapacity;
+    }
+
+    /**
+     * The initial number of buckets in the hash index, which is doubled as needed to keep the index at most half full.
+     * <p/>
+     * The default is 1024.
+     */
+    public void setInitialIndexCapacity(int initialIndexCapacity) {
+        this.initialIndexCapacity = initialIndexCapacity;
+    }
+
+    @ManagedAttribute(description = "Interval in millis between flushing writes to disk")
+    public long getSyncInterval() {
+        return syncInterval;
+    }
+
+    /**
+     * Interval in millis between flushing writes to disk (fsync). Set to 0 to flush on every write.
+     * <p/>
+     * The default is 1000.
+     */
+    public void setSyncInterval(long syncInterval) {
+        this.syncInterval = syncInterval;
+    }
+
+    public long getCompactionInterval() {
+        return compactionInterval;
+    }
+
+    /**
+     * Interval in millis between checking whether the log file should be compacted.
+     * <p/>
+     * The default is 60000.
+     */
+    public void setCompactionInterval(long compactionInterval) {
+        this.compactionInterval = compactionInterval;
+    }
+
+    @ManagedAttribute(description = "Ratio of garbage in the log file which triggers compaction")
+    public double getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * The ratio of garbage (records of removed keys) in the log file which triggers compaction.
+     * <p/>
+     * The default is 0.5.
+     */
+    public void setCompactionThreshold(double compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public long getCompactionMinFileSize() {
+        return compactionMinFileSize;
+    }
+
+    /**
+     * The minimum size in bytes of the log file before it is compacted.
+     * <p/>
+     * The default is 1mb.
+     */
+    public void setCompactionMinFileSize(long compactionMinFileSize) {
+        this.compactionMinFileSize = compactionMinFileSize;
+    }
+
+    @ManagedAttribute(description = "The current number of keys in the store")
+    public int getCurrentSize() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return size;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The size of the log file in bytes")
+    public long getLogFileSize() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return logSize;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The number of buckets in the hash index")
+    public int getIndexCapacity() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return buckets;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+
+        File parent = fileStore.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            LOG.warn("Cannot create the filestore directory at: {}", parent);
+        }
+        indexFile = new File(fileStore.getPath() + ".index");
+
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            log = openLog();
+            logSize = log.size();
+            if (!loadIndex()) {
+                rebuildIndex();
+            }
+            // mark the index as in use, so it is rebuilt if we are not stopped cleanly
+            index.putInt(20, 0);
+            index.force();
+            lastSync = System.currentTimeMillis();
+        } finally {
+            writeLock.unlock();
+        }
+        LOG.debug("Loaded {} keys from idempotent filestore: {}", size, fileStore);
+
+        if (camelContext != null) {
+            executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this,
+                    "IndexedFileIdempotentRepository");
+            if (syncInterval > 0) {
+                executorService.scheduleWithFixedDelay(this::sync, syncInterval, syncInterval, TimeUnit.MILLISECONDS);
+            }
+            if (compactionInterval > 0) {
+                executorService.scheduleWithFixedDelay(this::compactIfNeeded, compactionInterval, compactionInterval,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            // do not interrupt the tasks as that would close the file channels
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (log != null) {
+                FileChannel channel = channel();
+                // drop any partial record from a failed write
+                channel.truncate(logSize);
+                channel.force(false);
+                dirty = false;
+                IOHelper.close(channel, "Closing file idempotent repository", LOG);
+                log = null;
+            }
+            if (index != null) {
+                // write the header and mark the index as clean
+                writeIndexHeader(1);
+                index.force();
+                index = null;
+                IOHelper.close(indexChannel, "Closing file idempotent repository index", LOG);
+                indexChannel = null;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void compactIfNeeded() {
+        try {
+            boolean needed;
+            Lock readLock = lock.readLock();
+            readLock.lock();
+            try {
+                needed = isCompactionNeeded();
+            } finally {
+                readLock.unlock();
+            }
+            if (needed) {
+                compact();
+            }
+        } catch (Exception e) {
+            LOG.warn("Error compacting idempotent filestore: {} due to {}. This exception is ignored.", fileStore,
+                    e.getMessage(), e);
+        }
+    }
+
+    private boolean isCompactionNeeded() {
+        return logSize >= compactionMinFileSize && logSize - liveBytes > logSize * compactionThreshold;
+    }
+
+    /**
+     * Gets the log channel, which is reopened if it has been closed due to a thread being interrupted while doing IO on
+     * the channel.
+     */
+    private FileChannel channel() throws IOException {
+        FileChannel answer = log;
+        if (answer == null) {
+            throw new IllegalStateException("The idempotent repository is not started: " + this);
+        }
+        if (!answer.isOpen()) {
+            synchronized (this) {
+                answer = log;
+                if (answer != null && !answer.isOpen()) {
+                    LOG.debug("Reopening idempotent filestore: {}", fileStore);
+                    answer = openLog();
+                    log = answer;
+                }
+            }
+        }
+        return answer;
+    }
+
+    private FileChannel openLog() throws IOException {
+        return FileChannel.open(fileStore.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+    }
+
+    private void afterWrite() throws IOException {
+        if (syncInterval <= 0) {
+            channel().force(false);
+        } else {
+            dirty = true;
+            if (executorService == null) {
+                // flush in the current thread when there is no background task to do it
+                long now = System.currentTimeMillis();
+                if (now - lastSync >= syncInterval) {
+                    lastSync = now;
+                    sync();
+                }
+            }
+        }
+    }
+
+    // Log
+    // -------------------------------------------------------------------------
+
+    private int append(byte type, byte[] data) throws IOException {
+        int len = RECORD_OVERHEAD + data.length;
+        ByteBuffer buffer = ByteBuffer.allocate(len);
+        buffer.put(type).putInt(data.length).put(data);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, len - 4);
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+        FileChannel channel = channel();
+        long position = logSize;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        logSize = position;
+        return len;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        readFully(channel(), buffer, position);
+    }
+
+    private void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position + buffer.position());
+            if (n < 0) {
+                throw new EOFException("Unexpected end of idempotent filestore: " + fileStore);
+            }
+        }
+    }
+
+    /**
+     * Whether the add record at the given position in the log is for the given key
+     */
+    private boolean isKeyAt(long position, byte[] data) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(5 + data.length);
+        readFully(buffer, position);
+        if (buffer.get(0) != RECORD_ADD || buffer.getInt(1) != data.length) {
+            return false;
+        }
+        for (int i = 0; i < data.length; i++) {
+            if (buffer.get(5 + i) != data[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rebuildIndex() throws IOException {
+        LOG.debug("Rebuilding index of idempotent filestore: {}", fileStore);
+        createIndex(initialIndexCapacity);
+        liveBytes = 0;
+
+        long position = 0;
+        long end = log.size();
+        InputStream is = Channels.newInputStream(log.position(0));
+        DataInputStream in = new DataInputStream(new BufferedInputStream(is, 64 * 1024));
+        CRC32 crc = new CRC32();
+        while (position < end) {
+            byte[] data;
+            byte type;
+            try {
+                type = in.readByte();
+                int len = in.readInt();
+                if ((type != RECORD_ADD && type != RECORD_REMOVE) || len < 0 || len > end - position - RECORD_OVERHEAD) {
+                    break;
+                }
+                data = new byte[len];
+                in.readFully(data);
+                int checksum = in.readInt();
+                crc.reset();
+                crc.update(type);
+                crc.update(len >>> 24);
+                crc.update(len >>> 16);
+                crc.update(len >>> 8);
+                crc.update(len);
+                crc.update(data);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+            } catch (EOFException e) {
+                break;
+            }
+
+            long hash = hash(data);
+            int bucket = find(data, hash);
+            if (type == RECORD_ADD) {
+                if (bucket < 0) {
+                    insert(hash, position);
+                    liveBytes += RECORD_OVERHEAD + data.length;
+                }
+            } else if (bucket >= 0) {
+                delete(bucket);
+                liveBytes -= RECORD_OVERHEAD + data.length;
+            }
+            position += RECORD_OVERHEAD + data.length;
+        }
+
+        if (position < end) {
+            LOG.warn("Truncating incomplete or corrupt data at the end of idempotent filestore: {} from position {} to {}",
+                    fileStore, position, end);
+            log.truncate(position);
+            log.force(false);
+        }
+        logSize = position;
+    }
+
+    private void doCompact() throws IOException {
+        long before = logSize;
+        File compactFile = new File(fileStore.getPath() + ".compact");
+        LOG.debug("Compacting idempotent filestore: {} with {} keys", fileStore, size);
+
+        // write the current keys to a new log in the order of the buckets in the index
+        long position = 0;
+        try (FileOutputStream fos = new FileOutputStream(compactFile);
+             BufferedOutputStream out = new BufferedOutputStream(fos, 64 * 1024)) {
+            for (int i = 0; i < buckets; i++) {
+                long hash = index.getLong(bucketPosition(i));
+                if (hash != EMPTY && hash != TOMBSTONE) {
+                    long offset = index.getLong(bucketPosition(i) + 8);
+                    ByteBuffer header = ByteBuffer.allocate(5);
+                    readFully(header, offset);
+                    ByteBuffer record = ByteBuffer.allocate(RECORD_OVERHEAD + header.getInt(1));
+                    readFully(record, offset);
+                    out.write(record.array());
+                    position += record.capacity();
+                }
+            }
+            out.flush();
+            fos.getFD().sync();
+        }
+
+        // swap the logs and point the index to the new positions
+        IOHelper.close(log, "Closing file idempotent repository", LOG);
+        try {
+            FileUtil.renameFile(compactFile, fileStore, true);
+        } finally {
+            log = openLog();
+        }
+        dirty = false;
+        long offset = 0;
+        for (int i = 0; i < buckets; i++) {
+            long hash = index.getLong(bucketPosition(i));
+            if (hash != EMPTY && hash != TOMBSTONE) {
+                index.putLong(bucketPosition(i) + 8, offset);
+                ByteBuffer header = ByteBuffer.allocate(5);
+                readFully(header, offset);
+                offset += RECORD_OVERHEAD + header.getInt(1);
+            }
+        }
+        logSize = position;
+        liveBytes = position;
+        LOG.debug("Compacted idempotent filestore: {} from {} to {} bytes", fileStore, before, position);
+    }
+
+    // Index
+    // -------------------------------------------------------------------------
+
+    private static int bucketPosition(int bucket) {
+        // fits in an int as the number of buckets is at most MAX_BUCKETS
+        return INDEX_HEADER_SIZE + bucket * BUCKET_SIZE;
+    }
+
+    /**
+     * Finds the bucket of the given key, or -1 if not found
+     */
+    private int find(byte[] data, long hash) throws IOException {
+        int mask = buckets - 1;
+        int i = (int) hash & mask;
+        for (;;) {
+            int pos = bucketPosition(i);
+            long h = index.getLong(pos);
+            if (h == EMPTY) {
+                return -1;
+            }
+            if (h == hash && isKeyAt(index.getLong(pos + 8), data)) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void insert(long hash, long offset) throws IOException {
+        if ((size + tombstones + 1) * 2L > buckets) {
+            // grow the index when more than half full, or rebuild the index to get rid of tombstones
+            resizeIndex((size + 1) * 4L > buckets ? buckets * 2 : buckets);
+        }
+        int mask = buckets - 1;
+        int i = (int) hash & mask;
+        for (;;) {
+            int pos = bucketPosition(i);
+            long h = index.getLong(pos);
+            if (h == EMPTY || h == TOMBSTONE) {
+                if (h == TOMBSTONE) {
+                    tombstones--;
+                }
+                index.putLong(pos + 8, offset);
+                index.putLong(pos, hash);
+                size++;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void delete(int bucket) {
+        index.putLong(bucketPosition(bucket), TOMBSTONE);
+        size--;
+        tombstones++;
+    }
+
+    private boolean loadIndex() throws IOException {
+        if (!indexFile.exists() || indexFile.length() < INDEX_HEADER_SIZE) {
+            return false;
+        }
+        FileChannel channel = FileChannel.open(indexFile.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(INDEX_HEADER_SIZE);
+        readFully(channel, header, 0);
+        int count = header.getInt(8);
+        boolean valid = header.getInt(0) == INDEX_MAGIC && header.getInt(4) == INDEX_VERSION
+                && Integer.bitCount(count) == 1 && count <= MAX_BUCKETS
+                && indexFile.length() == bucketPosition(count)
+                && header.getInt(20) == 1 && header.getLong(24) == logSize;
+        if (!valid) {
+            LOG.debug("Index of idempotent filestore: {} was not closed cleanly", fileStore);
+            IOHelper.close(channel);
+            return false;
+        }
+        indexChannel = channel;
+        index = channel.map(FileChannel.MapMode.READ_WRITE, 0, bucketPosition(count));
+        buckets = count;
+        size = header.getInt(12);
+        tombstones = header.getInt(16);
+        liveBytes = header.getLong(32);
+        return true;
+    }
+
+    private void createIndex(int capacity) throws IOException {
+        closeIndex();
+        FileUtil.deleteFile(indexFile);
+        int count = Integer.highestOneBit(Math.max(16, capacity) * 2 - 1);
+        indexChannel = FileChannel.open(indexFile.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, bucketPosition(count));
+        buckets = count;
+        size = 0;
+        tombstones = 0;
+        writeIndexHeader(0);
+    }
+
+    private void resizeIndex(long capacity) throws IOException {
+        if (capacity > MAX_BUCKETS) {
+            throw new IllegalStateException(
+                    "The index of idempotent filestore: " + fileStore + " cannot hold more than " + MAX_BUCKETS / 2 + " keys");
+        }
+        LOG.debug("Resizing index of idempotent filestore: {} from {} to {} buckets", fileStore, buckets, capacity);
+        MappedByteBuffer old = index;
+        int oldBuckets = buckets;
+        FileChannel oldChannel = indexChannel;
+        indexChannel = null;
+        index = null;
+
+        // build the new index in a new file, which then replaces the old index file
+        File oldFile = indexFile;
+        indexFile = new File(oldFile.getPath() + ".resize");
+        try {
+            createIndex((int) capacity);
+            for (int i = 0; i < oldBuckets; i++) {
+                int pos = bucketPosition(i);
+                long hash = old.getLong(pos);
+                if (hash != EMPTY && hash != TOMBSTONE) {
+                    insert(hash, old.getLong(pos + 8));
+                }
+            }
+        } finally {
+            IOHelper.close(oldChannel);
+        }
+        FileUtil.renameFile(indexFile, oldFile, true);
+        indexFile = oldFile;
+    }
+
+    private void closeIndex() {
+        if (indexChannel != null) {
+            IOHelper.close(indexChannel);
+            indexChannel = null;
+            index = null;
+        }
+    }
+
+    private void writeIndexHeader(int clean) {
+        index.putInt(0, INDEX_MAGIC);
+        index.putInt(4, INDEX_VERSION);
+        index.putInt(8, buckets);
+        index.putInt(12, size);
+        index.putInt(16, tombstones);
+        index.putInt(20, clean);
+        index.putLong(24, logSize);
+        index.putLong(32, liveBytes);
+    }
+
+    private static long hash(byte[] data) {
+        // FNV-1a followed by the 64-bit murmur3 finalizer
+        long h = 0xcbf29ce484222325L;
+        for (byte b : data) {
+            h = (h ^ (b & 0xff)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        // the lowest values are reserved for empty and removed buckets
+        return h == EMPTY || h == TOMBSTONE ? h + 2 : h;
+    }
+
+}
@@ -0,0 +1,472 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.throttling;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.Consumer;
+import org.apache.camel.Exchange;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.Route;
+import org.apache.camel.spi.CamelLogger;
+import org.apache.camel.support.RoutePolicySupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A throttle based {@link org.apache.camel.spi.RoutePolicy} which learns the concurrency limit of a route from the
+ * observed processing time (round trip time) and failures of the {@link Exchange}s, instead of using a fixed maximum
+ * number of inflight exchanges as {@link ThrottlingInflightRoutePolicy} does.
+ * <p/>
+ * The limit is adjusted every time an {@link Exchange} is done, using one of the following algorithms:
+ * <ul>
+ * <li>{@link LimitAlgorithm#Aimd} - additive increase and multiplicative decrease, where the limit is increased by one
+ * while the route is busy, and reduced by the backoff ratio when an exchange failed or exceeded the timeout.</li>
+ * <li>{@link LimitAlgorithm#Vegas} - estimates the queue size from the minimum and current round trip time, and
+ * increases the limit when the queue is small, and decreases the limit when the queue is growing.</li>
+ * <li>{@link LimitAlgorithm#Gradient} - (is default) compares the current round trip time with the long term average,
+ * and reduces the limit when the latency increases, otherwise the limit grows with the square root of the limit.</li>
+ * </ul>
+ * When the number of inflight exchanges reaches the limit, then the consumer is suspended (or stopped if the consumer
+ * cannot be suspended), and then resumed again when the number of inflight exchanges is below the resume percentage of
+ * the limit. For consumers where suspending does not reduce the incoming work (such as direct) then
+ * {@link #setRejectExceeded(boolean)} can be enabled to fail exchanges above the limit with a
+ * {@link RejectedExecutionException} instead of suspending the consumer.
+ * <p/>
+ * This policy keeps state per route, so a policy instance should only be used by a single route.
+ */
+public class AdaptiveConcurrencyRoutePolicy extends RoutePolicySupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveConcurrencyRoutePolicy.class);
+
+    private static final String START_TIME = "CamelAdaptiveConcurrencyStartTime";
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+    // the number of samples for the long term average round trip time
+    private static final int LONG_WINDOW = 100;
+
+    public enum LimitAlgorithm {
+        Aimd,
+        Vegas,
+        Gradient
+    }
+
+    // the exchange property is unique per policy, as the exchange may be routed through several routes with a policy
+    private final String startTimeKey = START_TIME + "-" + COUNTER.incrementAndGet();
+    private final Lock lock = new ReentrantLock();
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private LimitAlgorithm algorithm = LimitAlgorithm.Gradient;
+    private int initialLimit = 20;
+    private int minLimit = 1;
+    private int maxLimit = 1000;
+    private int resumePercentOfLimit = 70;
+    private double backoffRatio = 0.9;
+    private double smoothing = 0.2;
+    private double rttTolerance = 1.5;
+    private long timeout;
+    private boolean rejectExceeded;
+    private LoggingLevel loggingLevel = LoggingLevel.INFO;
+    private CamelLogger logger;
+
+    // the learned limit
+    private double estimatedLimit = initialLimit;
+    private volatile int limit = initialLimit;
+    // round trip times in nanos
+    private volatile long minRtt;
+    private volatile long lastRtt;
+    private volatile double longRtt;
+
+    public AdaptiveConcurrencyRoutePolicy() {
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveConcurrencyRoutePolicy[" + algorithm + " " + minLimit + "-" + maxLimit + "]";
+    }
+
+    @Override
+    public void onExchangeBegin(Route route, Exchange exchange) {
+        int current = inflight.incrementAndGet();
+        int max = limit;
+        if (rejectExceeded && current > max) {
+            inflight.decrementAndGet();
+            rejected.increment();
+            exchange.setException(new RejectedExecutionException(
+                    "Concurrency limit: " + max + " exceeded on route: " + route.getRouteId()));
+            // do not continue routing
+            exchange.setRouteStop(true);
+            return;
+        }
+        exchange.setProperty(startTimeKey, System.nanoTime());
+
+        if (!rejectExceeded && current >= max) {
+            lock.lock();
+            try {
+                stopConsumer(current, route.getConsumer());
+            } catch (Exception e) {
+                handleException(e);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void onExchangeDone(Route route, Exchange exchange) {
+        Object start = exchange.removeProperty(startTimeKey);
+        if (!(start instanceof Long)) {
+            // the exchange was rejected or not started by this policy
+            return;
+        }
+        long rtt = System.nanoTime() - (Long) start;
+        boolean drop = exchange.isFailed() || timeout > 0 && rtt > TimeUnit.MILLISECONDS.toNanos(timeout);
+        int current = inflight.getAndDecrement();
+
+        lock.lock();
+        try {
+            updateLimit(rtt, drop, current);
+            // reload inflight in case other exchanges was done in the meantime
+            current = inflight.get();
+            if (!rejectExceeded && current <= getResumeInflightExchanges()) {
+                startConsumer(current, route.getConsumer());
+            }
+        } catch (Exception e) {
+            handleException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Updates the limit from the round trip time of an exchange that was done.
+     *
+     * @param rtt      the round trip time in nanos
+     * @param drop     whether the exchange failed or timed out
+     * @param inflight the number of inflight exchanges (including the exchange that was done)
+     */
+    protected void updateLimit(long rtt, boolean drop, int inflight) {
+        lastRtt = rtt;
+        if (minRtt == 0 || rtt < minRtt) {
+            minRtt = rtt;
+        }
+        longRtt = longRtt == 0 ? rtt : longRtt + (rtt - longRtt) / LONG_WINDOW;
+
+        // only increase the limit when the route is busy, as otherwise the limit would grow without bounds
+        boolean busy = inflight * 2 >= estimatedLimit;
+        double newLimit = estimatedLimit;
+        if (algorithm == LimitAlgorithm.Aimd) {
+            if (drop) {
+                newLimit = estimatedLimit * backoffRatio;
+            } else if (busy) {
+                newLimit = estimatedLimit + 1;
+            }
+        } else if (algorithm == LimitAlgorithm.Vegas) {
+            double log = Math.max(1, Math.log10(estimatedLimit));
+            double queue = rtt > 0 ? estimatedLimit * (1 - (double) minRtt / rtt) : 0;
+            if (drop || queue >= 6 * log) {
+                newLimit = estimatedLimit - log;
+            } else if (busy && queue <= 3 * log) {
+                newLimit = estimatedLimit + log;
+            }
+        } else {
+            double gradient = drop || rtt == 0 ? 0.5 : Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / rtt));
+            newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            if (!busy) {
+                newLimit = Math.min(newLimit, estimatedLimit);
+            }
+            newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        }
+
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        int before = limit;
+        limit = (int) estimatedLimit;
+        if (LOG.isTraceEnabled() && before != limit) {
+            LOG.trace("Concurrency limit changed {} -> {} (rtt: {} drop: {} inflight: {})", before, limit, rtt, drop,
+                    inflight);
+        }
+    }
+
+    public LimitAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Sets the algorithm to use for learning the concurrency limit.
+     * <p/>
+     * Is default {@link LimitAlgorithm#Gradient}.
+     */
+    public void setAlgorithm(LimitAlgorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * Sets the limit to start with, before the limit has been learned.
+     * <p/>
+     * Is default 20.
+     */
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * Sets the lower bound of the learned limit.
+     * <p/>
+     * Is default 1.
+     */
+    public void setMinLimit(int minLimit) {
+        if (minLimit < 1) {
+            throw new IllegalArgumentException("Must be 1 or higher, was: " + minLimit);
+        }
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Sets the upper bound of the learned limit.
+     * <p/>
+     * Is default 1000.
+     */
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public int getResumePercentOfLimit() {
+        return resumePercentOfLimit;
+    }
+
+    /**
+     * Sets at which percentage of the limit the suspended consumer should be resumed.
+     * <p/>
+     * Will by default use 70%.
+     *
+     * @param resumePercentOfLimit the percentage must be between 0 and 100
+     */
+    public void setResumePercentOfLimit(int resumePercentOfLimit) {
+        if (resumePercentOfLimit < 0 || resumePercentOfLimit > 100) {
+            throw new IllegalArgumentException("Must be a percentage between 0 and 100, was: " + resumePercentOfLimit);
+        }
+        this.resumePercentOfLimit = resumePercentOfLimit;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    /**
+     * Sets the ratio the limit is multiplied with when an exchange failed or timed out, when using the
+     * {@link LimitAlgorithm#Aimd} algorithm.
+     * <p/>
+     * Is default 0.9.
+     */
+    public void setBackoffRatio(double backoffRatio) {
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Must be between 0 and 1, was: " + backoffRatio);
+        }
+        this.backoffRatio = backoffRatio;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    /**
+     * Sets how much of a new limit is applied when using the {@link LimitAlgorithm#Gradient} algorithm, where a lower
+     * value makes the limit change slower.
+     * <p/>
+     * Is default 0.2.
+     */
+    public void setSmoothing(double smoothing) {
+        if (smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("Must be between 0 and 1, was: " + smoothing);
+        }
+        this.smoothing = smoothing;
+    }
+
+    public double getRttTolerance() {
+        return rttTolerance;
+    }
+
+    /**
+     * Sets how much the round trip time can increase compared to the long term average, before the limit is reduced
+     * when using the {@link LimitAlgorithm#Gradient} algorithm.
+     * <p/>
+     * Is default 1.5.
+     */
+    public void setRttTolerance(double rttTolerance) {
+        if (rttTolerance < 1) {
+            throw new IllegalArgumentException("Must be 1 or higher, was: " + rttTolerance);
+        }
+        this.rttTolerance = rttTolerance;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets a timeout in millis, where exchanges taking longer are regarded as failed when learning the limit.
+     * <p/>
+     * Is default 0 (disabled).
+     */
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
+    public boolean isRejectExceeded() {
+        return rejectExceeded;
+    }
+
+    /**
+     * Whether to fail new exchanges with a {@link RejectedExecutionException} when the limit has been exceeded,
+     * instead of suspending the consumer.
+     * <p/>
+     * This can be used for consumers that cannot be suspended, or where suspending does not stop new exchanges from
+     * being routed.
+     */
+    public void setRejectExceeded(boolean rejectExceeded) {
+        this.rejectExceeded = rejectExceeded;
+    }
+
+    public LoggingLevel getLoggingLevel() {
+        return loggingLevel;
+    }
+
+    /**
+     * Sets the logging level to report the throttling activity.
+     * <p/>
+     * Is default <tt>INFO</tt> level.
+     *
+     * @param loggingLevel the logging level
+     */
+    public void setLoggingLevel(LoggingLevel loggingLevel) {
+        this.loggingLevel = loggingLevel;
+    }
+
+    public CamelLogger getLogger() {
+        if (logger == null) {
+            logger = createLogger();
+        }
+        return logger;
+    }
+
+    /**
+     * Sets the logger to use for logging throttling activity.
+     *
+     * @param logger the logger
+     */
+    public void setLogger(CamelLogger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * The current learned concurrency limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * The number of inflight exchanges that has been started by this policy
+     */
+    public int getInflightExchanges() {
+        return inflight.get();
+    }
+
+    /**
+     * The number of exchanges that was rejected because the limit was exceeded
+     */
+    public long getRejectedExchanges() {
+        return rejected.sum();
+    }
+
+    /**
+     * The minimum round trip time in millis
+     */
+    public double getMinRtt() {
+        return minRtt / 1_000_000d;
+    }
+
+    /**
+     * The round trip time in millis of the last exchange that was done
+     */
+    public double getLastRtt() {
+        return lastRtt / 1_000_000d;
+    }
+
+    /**
+     * The long term average round trip time in millis
+     */
+    public double getLongRtt() {
+        return longRtt / 1_000_000d;
+    }
+
+    protected CamelLogger createLogger() {
+        return new CamelLogger(LOG, getLoggingLevel());
+    }
+
+    private int getResumeInflightExchanges() {
+        // must be at least at 1
+        return Math.max(resumePercentOfLimit * limit / 100, 1);
+    }
+
+    private void startConsumer(int size, Consumer consumer) throws Exception {
+        boolean started = resumeOrStartConsumer(consumer);
+        if (started) {
+            getLogger().log("Throttling consumer: " + size + " <= " + getResumeInflightExchanges()
+                            + " inflight exchange by resuming consumer: " + consumer);
+        }
+    }
+
+    private void stopConsumer(int size, Consumer consumer) throws Exception {
+        boolean stopped = suspendOrStopConsumer(consumer);
+        if (stopped) {
+            getLogger().log("Throttling consumer: " + size + " >= " + limit
+                            + " inflight exchange (learned limit) by suspending consumer: " + consumer);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (minLimit > maxLimit) {
+            throw new IllegalArgumentException("MinLimit: " + minLimit + " must not be higher than maxLimit: " + maxLimit);
+        }
+        // start learning from the initial limit
+        inflight.set(0);
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        limit = (int) estimatedLimit;
+        minRtt = 0;
+        lastRtt = 0;
+        longRtt = 0;
+    }
+
+}
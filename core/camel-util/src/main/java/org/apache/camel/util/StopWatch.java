@@ -79,6 +79,18 @@ public final class StopWatch {
         return 0;
     }
 
+    /**
+     * Returns the time taken in nanos.
+     *
+     * @return time in nanos, or <tt>0</tt> if not started yet.
+     */
+    public long takenNanos() {
+        if (start > 0) {
+            return System.nanoTime() - start;
+        }
+        return 0;
+    }
+
     /**
      * Returns the time taken in millis and restarts the timer.
      *
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.util.concurrent;
 
+import java.lang.reflect.Method;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
@@ -32,9 +33,61 @@ public final class ThreadHelper {
 
     private static final AtomicLong THREAD_COUNTER = new AtomicLong();
 
+    // virtual threads is only available from Java 21 onwards, so we use reflection
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_UNSTARTED;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method unstarted = null;
+        try {
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            name = builder.getMethod("name", String.class);
+            unstarted = builder.getMethod("unstarted", Runnable.class);
+            // preview features on older JVMs will fail when creating the builder
+            ofVirtual.invoke(null);
+        } catch (Throwable e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = name;
+        BUILDER_UNSTARTED = unstarted;
+    }
+
     private ThreadHelper() {
     }
 
+    /**
+     * Whether the JVM supports virtual threads
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates a new virtual thread (not started)
+     *
+     * @param  name                          the thread name
+     * @param  runnable                      the task to run
+     * @return                               the virtual thread
+     * @throws UnsupportedOperationException if the JVM does not support virtual threads
+     */
+    public static Thread newVirtualThread(String name, Runnable runnable) {
+        if (OF_VIRTUAL == null) {
+            throw new UnsupportedOperationException("Virtual threads is not supported on this JVM");
+        }
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = BUILDER_NAME.invoke(builder, name);
+            return (Thread) BUILDER_UNSTARTED.invoke(builder, runnable);
+        } catch (Exception e) {
+            throw new UnsupportedOperationException("Error creating virtual thread due to " + e.getMessage(), e);
+        }
+    }
+
     private static long nextThreadCounter() {
         return THREAD_COUNTER.incrementAndGet();
     }
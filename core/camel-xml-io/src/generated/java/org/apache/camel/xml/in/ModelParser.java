@@ -79,6 +79,12 @@ public class ModelParser extends BaseParser {
             throws IOException, XmlPullParserException {
         super(reader, namespace);
     }
+    public ModelParser(
+            org.apache.camel.xml.io.XmlPullParser parser,
+            org.apache.camel.spi.Resource resource,
+            String namespace) {
+        super(parser, resource, namespace);
+    }
     protected AggregateDefinition doParseAggregateDefinition() throws IOException, XmlPullParserException {
         return doParse(new AggregateDefinition(), (def, key, val) -> {
             switch (key) {
@@ -102,6 +108,7 @@ public class ModelParser extends BaseParser {
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); break;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); break;
                 case "optimisticLocking": def.setOptimisticLocking(val); break;
+                case "parallelCorrelationLocks": def.setParallelCorrelationLocks(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
                 case "timeoutCheckerExecutorService": def.setTimeoutCheckerExecutorService(val); break;
                 default: return processorDefinitionAttributeHandler().accept(def, key, val);
@@ -191,6 +198,17 @@ public class ModelParser extends BaseParser {
         return doParse(new DescriptionDefinition(),
             noAttributeHandler(), noElementHandler(), (def, val) -> def.setText(val));
     }
+    protected BatchDefinition doParseBatchDefinition() throws IOException, XmlPullParserException {
+        return doParse(new BatchDefinition(), (def, key, val) -> {
+            switch (key) {
+                case "byteSize": def.setByteSize(val); break;
+                case "lingerTime": def.setLingerTime(val); break;
+                case "size": def.setSize(val); break;
+                default: return processorDefinitionAttributeHandler().accept(def, key, val);
+            }
+            return true;
+        }, outputDefinitionElementHandler(), noValueHandler());
+    }
     protected BeanDefinition doParseBeanDefinition() throws IOException, XmlPullParserException {
         return doParse(new BeanDefinition(), (def, key, val) -> {
             switch (key) {
@@ -1331,6 +1349,7 @@ public class ModelParser extends BaseParser {
                 case "onPrepare": def.setOnPrepare(val); break;
                 case "parallelAggregate": def.setParallelAggregate(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
+                case "parallelWindowSize": def.setParallelWindowSize(val); break;
                 case "shareUnitOfWork": def.setShareUnitOfWork(val); break;
                 case "stopOnException": def.setStopOnException(val); break;
                 case "streaming": def.setStreaming(val); break;
@@ -1453,6 +1472,7 @@ public class ModelParser extends BaseParser {
                 case "asyncDelayed": def.setAsyncDelayed(val); break;
                 case "callerRunsWhenRejected": def.setCallerRunsWhenRejected(val); break;
                 case "executorService": def.setExecutorService(val); break;
+                case "mode": def.setMode(val); break;
                 case "rejectExecution": def.setRejectExecution(val); break;
                 case "timePeriodMillis": def.setTimePeriodMillis(val); break;
                 default: return processorDefinitionAttributeHandler().accept(def, key, val);
@@ -3336,6 +3356,7 @@ public class ModelParser extends BaseParser {
     protected ProcessorDefinition doParseProcessorDefinitionRef(String key) throws IOException, XmlPullParserException {
         switch (key) {
             case "aggregate": return doParseAggregateDefinition();
+            case "batch": return doParseBatchDefinition();
             case "bean": return doParseBeanDefinition();
             case "doCatch": return doParseCatchDefinition();
             case "when": return doParseWhenDefinition();
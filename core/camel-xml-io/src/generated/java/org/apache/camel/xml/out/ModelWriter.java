@@ -56,6 +56,9 @@ public class ModelWriter extends BaseWriter {
             throws IOException {
         doWriteAggregateDefinition("aggregate", def);
     }
+    public void writeBatchDefinition(BatchDefinition def) throws IOException {
+        doWriteBatchDefinition("batch", def);
+    }
     public void writeBeanDefinition(BeanDefinition def) throws IOException {
         doWriteBeanDefinition("bean", def);
     }
@@ -1031,6 +1034,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("completionOnNewCorrelationGroup", def.getCompletionOnNewCorrelationGroup());
         doWriteAttribute("completionInterval", def.getCompletionInterval());
         doWriteAttribute("parallelProcessing", def.getParallelProcessing());
+        doWriteAttribute("parallelCorrelationLocks", def.getParallelCorrelationLocks());
         doWriteAttribute("forceCompletionOnStop", def.getForceCompletionOnStop());
         doWriteAttribute("aggregationStrategyMethodAllowNull", def.getAggregationStrategyMethodAllowNull());
         doWriteAttribute("completionFromBatchConsumer", def.getCompletionFromBatchConsumer());
@@ -1052,6 +1056,19 @@ public class ModelWriter extends BaseWriter {
         doWriteElement("completionTimeoutExpression", def.getCompletionTimeoutExpression(), this::doWriteExpressionSubElementDefinition);
         endElement();
     }
+    protected void doWriteBatchDefinition(
+            String name,
+            BatchDefinition def)
+            throws IOException {
+        startElement(name);
+        doWriteProcessorDefinitionAttributes(def);
+        doWriteAttribute("byteSize", def.getByteSize());
+        doWriteAttribute("size", def.getSize());
+        doWriteAttribute("lingerTime", def.getLingerTime());
+        doWriteOptionalIdentifiedDefinitionElements(def);
+        doWriteList(null, null, def.getOutputs(), this::doWriteProcessorDefinitionRef);
+        endElement();
+    }
     protected void doWriteBeanDefinition(
             String name,
             BeanDefinition def)
@@ -2283,6 +2300,7 @@ public class ModelWriter extends BaseWriter {
         doWriteAttribute("parallelProcessing", def.getParallelProcessing());
         doWriteAttribute("parallelAggregate", def.getParallelAggregate());
         doWriteAttribute("shareUnitOfWork", def.getShareUnitOfWork());
+        doWriteAttribute("parallelWindowSize", def.getParallelWindowSize());
         doWriteAttribute("aggregationStrategyMethodAllowNull", def.getAggregationStrategyMethodAllowNull());
         doWriteOutputExpressionNodeElements(def);
         endElement();
@@ -2388,6 +2406,7 @@ public class ModelWriter extends BaseWriter {
             throws IOException {
         startElement(name);
         doWriteProcessorDefinitionAttributes(def);
+        doWriteAttribute("mode", def.getMode());
         doWriteAttribute("timePeriodMillis", def.getTimePeriodMillis());
         doWriteAttribute("rejectExecution", def.getRejectExecution());
         doWriteAttribute("callerRunsWhenRejected", def.getCallerRunsWhenRejected());
@@ -4735,6 +4754,7 @@ public class ModelWriter extends BaseWriter {
         if (v != null) {
             switch (v.getClass().getSimpleName()) {
                 case "AggregateDefinition" -> doWriteAggregateDefinition("aggregate", (AggregateDefinition) v);
+                case "BatchDefinition" -> doWriteBatchDefinition("batch", (BatchDefinition) v);
                 case "BeanDefinition" -> doWriteBeanDefinition("bean", (BeanDefinition) v);
                 case "CatchDefinition" -> doWriteCatchDefinition("doCatch", (CatchDefinition) v);
                 case "ChoiceDefinition" -> doWriteChoiceDefinition("choice", (ChoiceDefinition) v);
@@ -4837,6 +4857,7 @@ public class ModelWriter extends BaseWriter {
         if (v != null) {
             switch (v.getClass().getSimpleName()) {
                 case "AggregateDefinition" -> doWriteAggregateDefinition("aggregate", (AggregateDefinition) v);
+                case "BatchDefinition" -> doWriteBatchDefinition("batch", (BatchDefinition) v);
                 case "BeanDefinition" -> doWriteBeanDefinition("bean", (BeanDefinition) v);
                 case "CatchDefinition" -> doWriteCatchDefinition("doCatch", (CatchDefinition) v);
                 case "ChoiceDefinition" -> doWriteChoiceDefinition("choice", (ChoiceDefinition) v);
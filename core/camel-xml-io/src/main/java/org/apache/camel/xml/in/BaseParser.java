@@ -51,7 +51,7 @@ import org.apache.camel.xml.io.XmlPullParserException;
 
 public class BaseParser {
 
-    protected final MXParser parser;
+    protected final XmlPullParser parser;
     protected String namespace;
     protected Resource resource;
 
@@ -65,6 +65,16 @@ public class BaseParser {
         this.resource = resource;
     }
 
+    /**
+     * Creates a parser which uses the given (namespace aware) {@link XmlPullParser}, such as a
+     * {@link org.apache.camel.xml.io.BinaryXmlPullParser}.
+     */
+    public BaseParser(XmlPullParser parser, Resource resource, String namespace) {
+        this.parser = parser;
+        this.resource = resource;
+        this.namespace = namespace != null ? namespace : "";
+    }
+
     public BaseParser(InputStream input) throws IOException, XmlPullParserException {
         this(input, null);
     }
@@ -74,16 +84,18 @@ public class BaseParser {
     }
 
     public BaseParser(InputStream input, String namespace) throws IOException, XmlPullParserException {
-        this.parser = new MXParser();
-        this.parser.setFeature(XmlPullParser.FEATURE_PROCESS_NAMESPACES, true);
-        this.parser.setInput(input, null);
+        MXParser parser = new MXParser();
+        parser.setFeature(XmlPullParser.FEATURE_PROCESS_NAMESPACES, true);
+        parser.setInput(input, null);
+        this.parser = parser;
         this.namespace = namespace != null ? namespace : "";
     }
 
     public BaseParser(Reader reader, String namespace) throws IOException, XmlPullParserException {
-        this.parser = new MXParser();
-        this.parser.setFeature(XmlPullParser.FEATURE_PROCESS_NAMESPACES, true);
-        this.parser.setInput(reader);
+        MXParser parser = new MXParser();
+        parser.setFeature(XmlPullParser.FEATURE_PROCESS_NAMESPACES, true);
+        parser.setInput(reader);
+        this.parser = parser;
         this.namespace = namespace != null ? namespace : "";
     }
 
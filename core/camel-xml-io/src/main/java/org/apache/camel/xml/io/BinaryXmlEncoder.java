@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.xml.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encodes a XML document in the binary form which can be read by {@link BinaryXmlPullParser}.
+ */
+public final class BinaryXmlEncoder {
+
+    private final Map<String, Integer> strings = new LinkedHashMap<>();
+    private int[] codes = new int[1024];
+    private int size;
+
+    private BinaryXmlEncoder() {
+    }
+
+    /**
+     * Encodes the XML document
+     *
+     * @param  xml the XML document
+     * @return     the binary XML
+     */
+    public static byte[] encode(InputStream xml) throws IOException, XmlPullParserException {
+        MXParser parser = new MXParser();
+        parser.setFeature(XmlPullParser.FEATURE_PROCESS_NAMESPACES, true);
+        parser.setInput(xml, null);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        encode(parser, bos);
+        return bos.toByteArray();
+    }
+
+    /**
+     * Encodes the events of the namespace aware parser (from its current position until the end of the document)
+     *
+     * @param parser the parser
+     * @param out    the stream to write the binary XML to
+     */
+    public static void encode(XmlPullParser parser, OutputStream out) throws IOException, XmlPullParserException {
+        new BinaryXmlEncoder().doEncode(parser, out);
+    }
+
+    private void doEncode(XmlPullParser parser, OutputStream out) throws IOException, XmlPullParserException {
+        int event;
+        do {
+            event = parser.next();
+            if (event == XmlPullParser.START_TAG) {
+                int line = parser.getStartLineNumber();
+                if (line == -1) {
+                    line = parser.getLineNumber();
+                }
+                add(event);
+                add(line);
+                add(index(parser.getNamespace()));
+                add(index(parser.getName()));
+                int start = parser.getNamespaceCount(parser.getDepth() - 1);
+                int end = parser.getNamespaceCount(parser.getDepth());
+                add(end - start);
+                for (int i = start; i < end; i++) {
+                    add(index(parser.getNamespacePrefix(i)));
+                    add(index(parser.getNamespaceUri(i)));
+                }
+                add(parser.getAttributeCount());
+                for (int i = 0; i < parser.getAttributeCount(); i++) {
+                    add(index(parser.getAttributeNamespace(i)));
+                    add(index(parser.getAttributeName(i)));
+                    add(index(parser.getAttributeValue(i)));
+                }
+            } else if (event == XmlPullParser.TEXT) {
+                add(event);
+                add(index(parser.getText()));
+            } else if (event == XmlPullParser.END_TAG || event == XmlPullParser.END_DOCUMENT) {
+                add(event);
+            } else {
+                throw new XmlPullParserException(
+                        "unexpected event " + XmlPullParser.TYPES[event] + " (namespaces must be enabled)", parser, null);
+            }
+        } while (event != XmlPullParser.END_DOCUMENT);
+
+        DataOutputStream dos = new DataOutputStream(out);
+        dos.writeInt(BinaryXmlPullParser.MAGIC);
+        dos.writeByte(BinaryXmlPullParser.VERSION);
+        writeVarInt(dos, strings.size());
+        for (String s : strings.keySet()) {
+            byte[] data = s.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(dos, data.length);
+            dos.write(data);
+        }
+        writeVarInt(dos, size);
+        for (int i = 0; i < size; i++) {
+            writeVarInt(dos, codes[i]);
+        }
+        dos.flush();
+    }
+
+    private int index(String s) {
+        if (s == null) {
+            return 0;
+        }
+        return strings.computeIfAbsent(s, k -> strings.size() + 1);
+    }
+
+    private void add(int code) {
+        if (size == codes.length) {
+            codes = Arrays.copyOf(codes, size * 2);
+        }
+        codes[size++] = code;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7f) != 0) {
+            out.writeByte((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+}
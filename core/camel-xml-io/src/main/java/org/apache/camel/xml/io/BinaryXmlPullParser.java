@@ -0,0 +1,468 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.xml.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A namespace aware {@link XmlPullParser} which replays the events of a XML document that has been encoded in binary
+ * form by {@link BinaryXmlEncoder}.
+ * <p/>
+ * The binary form is the event stream as returned by {@link XmlPullParser#next()} (comments, processing instructions
+ * and the document declaration are not included) where all names, namespaces, attribute values and texts are stored
+ * once in a string table. This allows to parse a XML document (such as XML routes) without having to tokenize the text
+ * again.
+ * <p/>
+ * The format is:
+ *
+ * <pre>
+ * magic (int) version (byte)
+ * string count (varint) and the strings as UTF-8 (varint length followed by the bytes)
+ * code count (varint) and the events (each a varint) ending with END_DOCUMENT:
+ *   START_TAG line namespace name namespace-count [prefix uri]* attribute-count [namespace name value]*
+ *   TEXT text
+ *   END_TAG
+ * </pre>
+ *
+ * where names, namespaces and texts are indexes in the string table (0 is <tt>null</tt>).
+ */
+public class BinaryXmlPullParser implements XmlPullParser {
+
+    static final int MAGIC = 0x43584D4C;
+    static final byte VERSION = 1;
+
+    private String[] strings;
+    private int[] codes;
+    private int offset;
+    private int pos;
+    private int eventType = START_DOCUMENT;
+    private int depth;
+    private boolean pendingEndTag;
+    private int line = 1;
+    private String text;
+    private int attributeStart;
+    private int attributeCount;
+
+    // element stack (index is the depth)
+    private String[] elementNamespace = new String[16];
+    private String[] elementName = new String[16];
+    private int[] namespaceEnd = new int[16];
+    private String[] namespacePrefix = new String[8];
+    private String[] namespaceUri = new String[8];
+
+    public BinaryXmlPullParser() {
+    }
+
+    public BinaryXmlPullParser(InputStream input) throws XmlPullParserException {
+        setInput(input, null);
+    }
+
+    /**
+     * Whether the data is XML encoded in binary form by {@link BinaryXmlEncoder}
+     */
+    public static boolean isBinaryXml(byte[] data) {
+        return data != null && data.length > 4
+                && ((data[0] & 0xff) << 24 | (data[1] & 0xff) << 16 | (data[2] & 0xff) << 8 | data[3] & 0xff) == MAGIC;
+    }
+
+    @Override
+    public void setFeature(String name, boolean state) throws XmlPullParserException {
+        if (FEATURE_PROCESS_NAMESPACES.equals(name) && !state) {
+            throw new XmlPullParserException("binary XML is always namespace aware");
+        }
+    }
+
+    @Override
+    public boolean getFeature(String name) {
+        return FEATURE_PROCESS_NAMESPACES.equals(name);
+    }
+
+    @Override
+    public void setProperty(String name, Object value) throws XmlPullParserException {
+        throw new XmlPullParserException("unsupported property: '" + name + "'");
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        return null;
+    }
+
+    @Override
+    public void setInput(Reader in) throws XmlPullParserException {
+        throw new XmlPullParserException("binary XML can only be read from an input stream");
+    }
+
+    @Override
+    public void setInput(InputStream inputStream, String inputEncoding) throws XmlPullParserException {
+        byte[] data;
+        try {
+            // decode from a byte array, as reading the many small varints from the stream is slow
+            data = inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new XmlPullParserException("error reading binary XML", this, e);
+        }
+        if (!isBinaryXml(data)) {
+            throw new XmlPullParserException("input is not binary XML");
+        }
+        if (data[4] != VERSION) {
+            throw new XmlPullParserException("unsupported binary XML version: " + data[4]);
+        }
+        try {
+            offset = 5;
+            int count = readVarInt(data);
+            strings = new String[count + 1];
+            for (int i = 1; i <= count; i++) {
+                int length = readVarInt(data);
+                strings[i] = new String(data, offset, length, StandardCharsets.UTF_8);
+                offset += length;
+            }
+            int size = readVarInt(data);
+            codes = new int[size];
+            for (int i = 0; i < size; i++) {
+                codes[i] = readVarInt(data);
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new XmlPullParserException("binary XML is truncated", this, e);
+        }
+        pos = 0;
+        eventType = START_DOCUMENT;
+        depth = 0;
+        pendingEndTag = false;
+        line = 1;
+        text = null;
+        attributeCount = 0;
+    }
+
+    @Override
+    public String getInputEncoding() {
+        return "UTF-8";
+    }
+
+    @Override
+    public void defineEntityReplacementText(String entityName, String replacementText) throws XmlPullParserException {
+        throw new XmlPullParserException("entity replacement text not supported by binary XML");
+    }
+
+    @Override
+    public int getNamespaceCount(int depth) throws XmlPullParserException {
+        if (depth < 0 || depth > this.depth) {
+            throw new IllegalArgumentException("namespace count may be for depth 0.." + this.depth + " not " + depth);
+        }
+        return depth == 0 ? 0 : namespaceEnd[depth];
+    }
+
+    @Override
+    public String getNamespacePrefix(int pos) throws XmlPullParserException {
+        if (pos < 0 || pos >= namespaceEnd[depth]) {
+            throw new XmlPullParserException("position " + pos + " exceeded number of available namespaces");
+        }
+        return namespacePrefix[pos];
+    }
+
+    @Override
+    public String getNamespaceUri(int pos) throws XmlPullParserException {
+        if (pos < 0 || pos >= namespaceEnd[depth]) {
+            throw new XmlPullParserException("position " + pos + " exceeded number of available namespaces");
+        }
+        return namespaceUri[pos];
+    }
+
+    @Override
+    public String getNamespace(String prefix) {
+        if ("xml".equals(prefix)) {
+            return "http://www.w3.org/XML/1998/namespace";
+        } else if ("xmlns".equals(prefix)) {
+            return "http://www.w3.org/2000/xmlns/";
+        }
+        for (int i = (depth == 0 ? 0 : namespaceEnd[depth]) - 1; i >= 0; i--) {
+            if (prefix == null ? namespacePrefix[i] == null : prefix.equals(namespacePrefix[i])) {
+                return namespaceUri[i];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int getDepth() {
+        return depth;
+    }
+
+    @Override
+    public String getPositionDescription() {
+        String name = getName();
+        return TYPES[eventType] + (name != null ? " <" + name + ">" : "") + " @" + line;
+    }
+
+    @Override
+    public int getStartLineNumber() {
+        return line;
+    }
+
+    @Override
+    public int getLineNumber() {
+        return line;
+    }
+
+    @Override
+    public int getColumnNumber() {
+        return -1;
+    }
+
+    @Override
+    public boolean isWhitespace() throws XmlPullParserException {
+        if (eventType != TEXT) {
+            throw new XmlPullParserException("no content available to check for white spaces");
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch != ' ' && ch != '\n' && ch != '\t' && ch != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public char[] getTextCharacters(int[] holderForStartAndLength) {
+        if (text == null) {
+            holderForStartAndLength[0] = -1;
+            holderForStartAndLength[1] = -1;
+            return null;
+        }
+        holderForStartAndLength[0] = 0;
+        holderForStartAndLength[1] = text.length();
+        return text.toCharArray();
+    }
+
+    @Override
+    public String getNamespace() {
+        return eventType == START_TAG || eventType == END_TAG ? elementNamespace[depth] : null;
+    }
+
+    @Override
+    public String getName() {
+        return eventType == START_TAG || eventType == END_TAG ? elementName[depth] : null;
+    }
+
+    @Override
+    public String getPrefix() {
+        // prefixes are not kept in binary XML
+        return null;
+    }
+
+    @Override
+    public boolean isEmptyElementTag() throws XmlPullParserException {
+        if (eventType != START_TAG) {
+            throw new XmlPullParserException("parser must be on START_TAG to check for empty element", this, null);
+        }
+        return false;
+    }
+
+    @Override
+    public int getAttributeCount() {
+        return eventType == START_TAG ? attributeCount : -1;
+    }
+
+    @Override
+    public String getAttributeNamespace(int index) {
+        return strings[codes[attributeIndex(index)]];
+    }
+
+    @Override
+    public String getAttributeName(int index) {
+        return strings[codes[attributeIndex(index) + 1]];
+    }
+
+    @Override
+    public String getAttributePrefix(int index) {
+        attributeIndex(index);
+        return null;
+    }
+
+    @Override
+    public String getAttributeType(int index) {
+        attributeIndex(index);
+        return "CDATA";
+    }
+
+    @Override
+    public boolean isAttributeDefault(int index) {
+        attributeIndex(index);
+        return false;
+    }
+
+    @Override
+    public String getAttributeValue(int index) {
+        return strings[codes[attributeIndex(index) + 2]];
+    }
+
+    @Override
+    public String getAttributeValue(String namespace, String name) {
+        if (eventType != START_TAG) {
+            throw new IndexOutOfBoundsException("only START_TAG can have attributes");
+        }
+        for (int i = 0; i < attributeCount; i++) {
+            int index = attributeStart + 3 * i;
+            if ((namespace == null || namespace.equals(strings[codes[index]])) && name.equals(strings[codes[index + 1]])) {
+                return strings[codes[index + 2]];
+            }
+        }
+        return null;
+    }
+
+    private int attributeIndex(int index) {
+        if (eventType != START_TAG) {
+            throw new IndexOutOfBoundsException("only START_TAG can have attributes");
+        }
+        if (index < 0 || index >= attributeCount) {
+            throw new IndexOutOfBoundsException("attribute position must be 0.." + (attributeCount - 1) + " and not " + index);
+        }
+        return attributeStart + 3 * index;
+    }
+
+    @Override
+    public int getEventType() throws XmlPullParserException {
+        return eventType;
+    }
+
+    @Override
+    public int next() throws XmlPullParserException, IOException {
+        if (codes == null) {
+            throw new XmlPullParserException("no input specified");
+        }
+        if (pendingEndTag) {
+            pendingEndTag = false;
+            depth--;
+        }
+        text = null;
+        attributeCount = 0;
+        int type = codes[pos];
+        if (type == END_DOCUMENT) {
+            eventType = END_DOCUMENT;
+            return eventType;
+        }
+        pos++;
+        if (type == START_TAG) {
+            depth++;
+            ensureDepthCapacity();
+            line = codes[pos++];
+            elementNamespace[depth] = strings[codes[pos++]];
+            elementName[depth] = strings[codes[pos++]];
+            int count = codes[pos++];
+            int start = namespaceEnd[depth - 1];
+            int end = start + count;
+            if (end > namespacePrefix.length) {
+                namespacePrefix = Arrays.copyOf(namespacePrefix, end + 8);
+                namespaceUri = Arrays.copyOf(namespaceUri, end + 8);
+            }
+            for (int i = start; i < end; i++) {
+                namespacePrefix[i] = strings[codes[pos++]];
+                namespaceUri[i] = strings[codes[pos++]];
+            }
+            namespaceEnd[depth] = end;
+            attributeCount = codes[pos++];
+            attributeStart = pos;
+            pos += 3 * attributeCount;
+        } else if (type == END_TAG) {
+            pendingEndTag = true;
+        } else if (type == TEXT) {
+            text = strings[codes[pos++]];
+        } else {
+            throw new XmlPullParserException("invalid binary XML event: " + type, this, null);
+        }
+        eventType = type;
+        return eventType;
+    }
+
+    @Override
+    public int nextToken() throws XmlPullParserException, IOException {
+        return next();
+    }
+
+    @Override
+    public void require(int type, String namespace, String name) throws XmlPullParserException, IOException {
+        if (type != getEventType() || (namespace != null && !namespace.equals(getNamespace()))
+                || (name != null && !name.equals(getName()))) {
+            throw new XmlPullParserException(
+                    "expected event " + TYPES[type] + (name != null ? " with name '" + name + "'" : "")
+                                             + (namespace != null ? " with namespace '" + namespace + "'" : ""),
+                    this, null);
+        }
+    }
+
+    @Override
+    public String nextText() throws XmlPullParserException, IOException {
+        if (getEventType() != START_TAG) {
+            throw new XmlPullParserException("parser must be on START_TAG to read next text", this, null);
+        }
+        int type = next();
+        if (type == TEXT) {
+            String result = getText();
+            type = next();
+            if (type != END_TAG) {
+                throw new XmlPullParserException("TEXT must be immediately followed by END_TAG and not " + TYPES[type], this, null);
+            }
+            return result;
+        } else if (type == END_TAG) {
+            return "";
+        } else {
+            throw new XmlPullParserException("parser must be on START_TAG or TEXT to read text", this, null);
+        }
+    }
+
+    @Override
+    public int nextTag() throws XmlPullParserException, IOException {
+        next();
+        if (eventType == TEXT && isWhitespace()) {
+            next();
+        }
+        if (eventType != START_TAG && eventType != END_TAG) {
+            throw new XmlPullParserException("expected START_TAG or END_TAG not " + TYPES[eventType], this, null);
+        }
+        return eventType;
+    }
+
+    private void ensureDepthCapacity() {
+        if (depth >= elementName.length) {
+            int size = depth * 2;
+            elementNamespace = Arrays.copyOf(elementNamespace, size);
+            elementName = Arrays.copyOf(elementName, size);
+            namespaceEnd = Arrays.copyOf(namespaceEnd, size);
+        }
+    }
+
+    private int readVarInt(byte[] data) {
+        int answer = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = data[offset++] & 0xff;
+            answer |= (b & 0x7f) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return answer;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.xml.in;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RouteTemplatesDefinition;
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.model.rest.RestsDefinition;
+import org.apache.camel.xml.io.BinaryXmlEncoder;
+import org.apache.camel.xml.io.BinaryXmlPullParser;
+import org.apache.camel.xml.io.MXParser;
+import org.apache.camel.xml.io.XmlPullParser;
+import org.apache.camel.xml.out.ModelWriter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BinaryModelParserTest {
+
+    public static final String NAMESPACE = "http://camel.apache.org/schema/spring";
+
+    @Test
+    public void testEvents() throws Exception {
+        byte[] data = encode("barRoute.xml");
+        assertTrue(BinaryXmlPullParser.isBinaryXml(data));
+
+        MXParser expected = new MXParser();
+        expected.setFeature(XmlPullParser.FEATURE_PROCESS_NAMESPACES, true);
+        expected.setInput(getClass().getClassLoader().getResourceAsStream("barRoute.xml"), null);
+        BinaryXmlPullParser actual = new BinaryXmlPullParser(new ByteArrayInputStream(data));
+
+        int event;
+        do {
+            event = expected.next();
+            assertEquals(XmlPullParser.TYPES[event], XmlPullParser.TYPES[actual.next()]);
+            assertEquals(expected.getDepth(), actual.getDepth());
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getNamespace(), actual.getNamespace());
+            if (event == XmlPullParser.TEXT) {
+                assertEquals(expected.getText(), actual.getText());
+                assertEquals(expected.isWhitespace(), actual.isWhitespace());
+            } else if (event == XmlPullParser.START_TAG) {
+                assertEquals(expected.getStartLineNumber(), actual.getStartLineNumber());
+                assertEquals(expected.getNamespaceCount(expected.getDepth()), actual.getNamespaceCount(actual.getDepth()));
+                assertEquals(expected.getAttributeCount(), actual.getAttributeCount());
+                for (int i = 0; i < expected.getAttributeCount(); i++) {
+                    assertEquals(expected.getAttributeNamespace(i), actual.getAttributeNamespace(i));
+                    assertEquals(expected.getAttributeName(i), actual.getAttributeName(i));
+                    assertEquals(expected.getAttributeValue(i), actual.getAttributeValue(i));
+                }
+            }
+        } while (event != XmlPullParser.END_DOCUMENT);
+    }
+
+    @Test
+    public void testRoutes() throws Exception {
+        for (String xml : List.of("barRoute.xml", "barInterceptorRoute.xml", "barOnExceptionRoute.xml", "setHeader.xml",
+                "multiline.xml")) {
+            RoutesDefinition expected = new ModelParser(load(xml), NAMESPACE).parseRoutesDefinition().orElse(null);
+            RoutesDefinition actual = binaryParser(xml).parseRoutesDefinition().orElse(null);
+            assertNotNull(actual, xml);
+            assertEquals(write(expected), write(actual), xml);
+        }
+    }
+
+    @Test
+    public void testTemplatesAndRests() throws Exception {
+        RouteTemplatesDefinition templates = binaryParser("barTemplate.xml").parseRouteTemplatesDefinition().orElse(null);
+        assertNotNull(templates);
+        assertFalse(templates.getRouteTemplates().isEmpty());
+
+        RestsDefinition rests = binaryParser("barRest.xml").parseRestsDefinition().orElse(null);
+        assertNotNull(rests);
+        assertFalse(rests.getRests().isEmpty());
+    }
+
+    @Test
+    public void testLineNumber() throws Exception {
+        RoutesDefinition routes = binaryParser("setHeader.xml").parseRoutesDefinition().orElse(null);
+        assertNotNull(routes);
+        RouteDefinition route = routes.getRoutes().get(0);
+        assertEquals(22, route.getInput().getLineNumber());
+        assertEquals(23, route.getOutputs().get(0).getLineNumber());
+        assertEquals(26, route.getOutputs().get(1).getLineNumber());
+    }
+
+    private InputStream load(String xml) {
+        return getClass().getClassLoader().getResourceAsStream(xml);
+    }
+
+    private byte[] encode(String xml) throws Exception {
+        try (InputStream is = load(xml)) {
+            return BinaryXmlEncoder.encode(is);
+        }
+    }
+
+    private ModelParser binaryParser(String xml) throws Exception {
+        return new ModelParser(new BinaryXmlPullParser(new ByteArrayInputStream(encode(xml))), null, NAMESPACE);
+    }
+
+    private static String write(RoutesDefinition routes) throws Exception {
+        StringWriter sw = new StringWriter();
+        new ModelWriter(sw, NAMESPACE).writeRoutesDefinition(routes);
+        return sw.toString();
+    }
+}
@@ -39,7 +39,7 @@ public class ParserTest {
                 </c:root>
                 """;
         BaseParser p = new BaseParser(new StringReader(xml));
-        MXParser xpp = p.parser;
+        MXParser xpp = (MXParser) p.parser;
         xpp.defineEntityReplacementText("nbsp", "—");
         int eventType = xpp.getEventType();
         while (eventType != MXParser.END_DOCUMENT) {
@@ -138,7 +138,7 @@ public class ParserTest {
         sb.append("-->\n");
         sb.append("<root><child a=\"b\" /></root>\n");
         BaseParser p = new BaseParser(new StringReader(sb.toString()));
-        MXParser xpp = p.parser;
+        MXParser xpp = (MXParser) p.parser;
         int eventType = xpp.getEventType();
         while (eventType != MXParser.END_DOCUMENT) {
             eventType = xpp.next();
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.xml.io;
+
+import java.io.InputStream;
+
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spi.annotations.RoutesLoader;
+import org.apache.camel.support.CachedResource;
+import org.apache.camel.xml.in.ModelParser;
+import org.apache.camel.xml.io.BinaryXmlPullParser;
+import org.apache.camel.xml.io.XmlPullParser;
+
+/**
+ * Loads routes from a build-time snapshot of XML routes, which are encoded in binary form (see
+ * {@link org.apache.camel.xml.io.BinaryXmlEncoder}) so the XML does not have to be tokenized again at startup.
+ * <p/>
+ * Snapshots are created by the <tt>routes-snapshot</tt> goal of the camel-maven-plugin, and used by
+ * <tt>DefaultRoutesLoader</tt> instead of the XML routes, as long as the XML routes have not been changed.
+ */
+@ManagedResource(description = "Managed Snapshot RoutesBuilderLoader")
+@RoutesLoader(SnapshotRoutesBuilderLoader.EXTENSION)
+public class SnapshotRoutesBuilderLoader extends XmlRoutesBuilderLoader {
+
+    public static final String EXTENSION = "snapshot";
+
+    public SnapshotRoutesBuilderLoader() {
+        super(EXTENSION);
+    }
+
+    @Override
+    public RouteBuilder doLoadRouteBuilder(Resource input) throws Exception {
+        final Resource resource = new CachedResource(input);
+
+        // find the root element
+        XmlPullParser parser = createPullParser(resource);
+        if (parser.nextTag() != XmlPullParser.START_TAG) {
+            LOG.warn("Invalid routes snapshot: {}", resource.getLocation());
+            return null;
+        }
+
+        return createRouteBuilder(resource, parser.getName(), parser.getNamespace());
+    }
+
+    @Override
+    protected ModelParser createModelParser(Resource resource, String namespace) throws Exception {
+        return new ModelParser(createPullParser(resource), resource, namespace);
+    }
+
+    private static XmlPullParser createPullParser(Resource resource) throws Exception {
+        try (InputStream is = resource.getInputStream()) {
+            return new BinaryXmlPullParser(is);
+        }
+    }
+}
@@ -83,28 +83,35 @@ public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport {
             return null;
         }
 
+        return createRouteBuilder(resource, xmlInfo.getRootElementName(), xmlInfo.getRootElementNamespace());
+    }
+
+    /**
+     * Creates the {@link RouteBuilder} for the resource with the given root element.
+     */
+    protected RouteBuilder createRouteBuilder(Resource resource, String rootElementName, String rootElementNamespace) {
         return new RouteConfigurationBuilder() {
             @Override
             public void configure() throws Exception {
-                switch (xmlInfo.getRootElementName()) {
+                switch (rootElementName) {
                     case "beans", "camel" ->
-                        new ModelParser(resource, xmlInfo.getRootElementNamespace())
+                        createModelParser(resource, rootElementNamespace)
                                 .parseBeansDefinition()
                                 .ifPresent(this::allInOne);
                     case "routeTemplate", "routeTemplates" ->
-                        new ModelParser(resource, xmlInfo.getRootElementNamespace())
+                        createModelParser(resource, rootElementNamespace)
                                 .parseRouteTemplatesDefinition()
                                 .ifPresent(this::setRouteTemplateCollection);
                     case "templatedRoutes", "templatedRoute" ->
-                        new ModelParser(resource, xmlInfo.getRootElementNamespace())
+                        createModelParser(resource, rootElementNamespace)
                                 .parseTemplatedRoutesDefinition()
                                 .ifPresent(this::setTemplatedRouteCollection);
                     case "rests", "rest" ->
-                        new ModelParser(resource, xmlInfo.getRootElementNamespace())
+                        createModelParser(resource, rootElementNamespace)
                                 .parseRestsDefinition()
                                 .ifPresent(this::setRestCollection);
                     case "routes", "route" ->
-                        new ModelParser(resource, xmlInfo.getRootElementNamespace())
+                        createModelParser(resource, rootElementNamespace)
                                 .parseRoutesDefinition()
                                 .ifPresent(this::addRoutes);
                     default -> {
@@ -114,9 +121,9 @@ public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport {
 
             @Override
             public void configuration() throws Exception {
-                switch (xmlInfo.getRootElementName()) {
+                switch (rootElementName) {
                     case "routeConfigurations", "routeConfiguration" ->
-                        new ModelParser(resource, xmlInfo.getRootElementNamespace())
+                        createModelParser(resource, rootElementNamespace)
                                 .parseRouteConfigurationsDefinition()
                                 .ifPresent(this::addConfigurations);
                     default -> {
@@ -236,4 +243,11 @@ public class XmlRoutesBuilderLoader extends RouteBuilderLoaderSupport {
             }
         };
     }
+
+    /**
+     * Creates the {@link ModelParser} to use for parsing the resource.
+     */
+    protected ModelParser createModelParser(Resource resource, String namespace) throws Exception {
+        return new ModelParser(resource, namespace);
+    }
 }
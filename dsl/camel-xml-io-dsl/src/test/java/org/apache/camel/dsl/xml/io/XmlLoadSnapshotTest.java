@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dsl.xml.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.DefaultRoutesLoader;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.xml.io.BinaryXmlEncoder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class XmlLoadSnapshotTest {
+
+    private static final String ROUTES = "org/apache/camel/dsl/xml/io/barRoute.xml";
+
+    // the snapshot routes to another endpoint, so we know whether the snapshot is used
+    private static final String SNAPSHOT_ROUTES = """
+            <routes xmlns="http://camel.apache.org/schema/spring">
+                <route id="bar">
+                    <from uri="direct:bar"/>
+                    <to uri="mock:snapshot"/>
+                </route>
+            </routes>
+            """;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testLoadSnapshot() throws Exception {
+        createSnapshot(checksum());
+
+        try (DefaultCamelContext context = new DefaultCamelContext()) {
+            loadRoutes(context);
+
+            assertNotNull(context.getRoute("bar"), "Loaded bar route should be there");
+            assertTrue(context.getRoute("bar").getSourceLocation().startsWith("classpath:" + ROUTES));
+
+            MockEndpoint mock = context.getEndpoint("mock:snapshot", MockEndpoint.class);
+            mock.expectedBodiesReceived("Bye World");
+            context.createProducerTemplate().sendBody("direct:bar", "Bye World");
+            mock.assertIsSatisfied();
+        }
+    }
+
+    @Test
+    public void testLoadOutdatedSnapshot() throws Exception {
+        createSnapshot("1234");
+
+        try (DefaultCamelContext context = new DefaultCamelContext()) {
+            loadRoutes(context);
+
+            assertNotNull(context.getRoute("bar"), "Loaded bar route should be there");
+
+            // the xml routes are used instead
+            MockEndpoint mock = context.getEndpoint("mock:bar", MockEndpoint.class);
+            mock.expectedBodiesReceived("Bye World");
+            context.createProducerTemplate().sendBody("direct:bar", "Bye World");
+            mock.assertIsSatisfied();
+        }
+    }
+
+    private void loadRoutes(DefaultCamelContext context) throws Exception {
+        context.setApplicationContextClassLoader(
+                new URLClassLoader(new URL[] { dir.toUri().toURL() }, getClass().getClassLoader()));
+        context.start();
+
+        Resource resource = PluginHelper.getResourceLoader(context).resolveResource("classpath:" + ROUTES);
+        PluginHelper.getRoutesLoader(context).loadRoutes(resource);
+    }
+
+    private void createSnapshot(String checksum) throws Exception {
+        Path snapshot = dir.resolve(DefaultRoutesLoader.ROUTES_SNAPSHOT_DIRECTORY + ROUTES + ".snapshot");
+        Files.createDirectories(snapshot.getParent());
+        Files.write(snapshot,
+                BinaryXmlEncoder.encode(new ByteArrayInputStream(SNAPSHOT_ROUTES.getBytes(StandardCharsets.UTF_8))));
+        Files.writeString(dir.resolve(DefaultRoutesLoader.ROUTES_SNAPSHOT_INDEX), ROUTES + "=" + checksum + "\n");
+    }
+
+    private String checksum() throws Exception {
+        try (InputStream is = getClass().getClassLoader().getResourceAsStream(ROUTES)) {
+            CRC32 crc = new CRC32();
+            crc.update(is.readAllBytes());
+            return Long.toHexString(crc.getValue());
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.apache.camel.dsl.yaml.common.YamlDeserializerBase;
 import org.apache.camel.dsl.yaml.common.YamlDeserializerEndpointAwareBase;
 import org.apache.camel.dsl.yaml.common.YamlDeserializerSupport;
 import org.apache.camel.model.AggregateDefinition;
+import org.apache.camel.model.BatchDefinition;
 import org.apache.camel.model.BeanDefinition;
 import org.apache.camel.model.CatchDefinition;
 import org.apache.camel.model.ChoiceDefinition;
@@ -334,6 +335,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
                     @YamlProperty(name = "optimistic-lock-retry-policy", type = "object:org.apache.camel.model.OptimisticLockRetryPolicyDefinition"),
                     @YamlProperty(name = "optimistic-locking", type = "boolean"),
+                    @YamlProperty(name = "parallel-correlation-locks", type = "number"),
                     @YamlProperty(name = "parallel-processing", type = "boolean"),
                     @YamlProperty(name = "steps", type = "array:org.apache.camel.model.ProcessorDefinition"),
                     @YamlProperty(name = "timeout-checker-executor-service", type = "string")
@@ -488,6 +490,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setOptimisticLocking(val);
                     break;
                 }
+                case "parallel-correlation-locks": {
+                    String val = asText(node);
+                    target.setParallelCorrelationLocks(val);
+                    break;
+                }
                 case "parallel-processing": {
                     String val = asText(node);
                     target.setParallelProcessing(val);
@@ -975,6 +982,82 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
         }
     }
 
+    @YamlType(
+            nodes = "batch",
+            types = org.apache.camel.model.BatchDefinition.class,
+            order = org.apache.camel.dsl.yaml.common.YamlDeserializerResolver.ORDER_LOWEST - 1,
+            properties = {
+                    @YamlProperty(name = "byte-size", type = "number"),
+                    @YamlProperty(name = "description", type = "string"),
+                    @YamlProperty(name = "disabled", type = "boolean"),
+                    @YamlProperty(name = "id", type = "string"),
+                    @YamlProperty(name = "inherit-error-handler", type = "boolean"),
+                    @YamlProperty(name = "linger-time", type = "string"),
+                    @YamlProperty(name = "size", type = "number"),
+                    @YamlProperty(name = "steps", type = "array:org.apache.camel.model.ProcessorDefinition")
+            }
+    )
+    public static class BatchDefinitionDeserializer extends YamlDeserializerBase<BatchDefinition> {
+        public BatchDefinitionDeserializer() {
+            super(BatchDefinition.class);
+        }
+
+        @Override
+        protected BatchDefinition newInstance() {
+            return new BatchDefinition();
+        }
+
+        @Override
+        protected boolean setProperty(BatchDefinition target, String propertyKey,
+                String propertyName, Node node) {
+            switch(propertyKey) {
+                case "byte-size": {
+                    String val = asText(node);
+                    target.setByteSize(val);
+                    break;
+                }
+                case "disabled": {
+                    String val = asText(node);
+                    target.setDisabled(val);
+                    break;
+                }
+                case "inherit-error-handler": {
+                    String val = asText(node);
+                    target.setInheritErrorHandler(java.lang.Boolean.valueOf(val));
+                    break;
+                }
+                case "linger-time": {
+                    String val = asText(node);
+                    target.setLingerTime(val);
+                    break;
+                }
+                case "size": {
+                    String val = asText(node);
+                    target.setSize(val);
+                    break;
+                }
+                case "id": {
+                    String val = asText(node);
+                    target.setId(val);
+                    break;
+                }
+                case "description": {
+                    org.apache.camel.model.DescriptionDefinition val = asType(node, org.apache.camel.model.DescriptionDefinition.class);
+                    target.setDescription(val);
+                    break;
+                }
+                case "steps": {
+                    setSteps(target, node);
+                    break;
+                }
+                default: {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     @YamlType(
             nodes = "batch-config",
             types = org.apache.camel.model.config.BatchResequencerConfig.class,
@@ -15343,6 +15426,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "on-prepare", type = "string"),
                     @YamlProperty(name = "parallel-aggregate", type = "boolean"),
                     @YamlProperty(name = "parallel-processing", type = "boolean"),
+                    @YamlProperty(name = "parallel-window-size", type = "number"),
                     @YamlProperty(name = "share-unit-of-work", type = "boolean"),
                     @YamlProperty(name = "steps", type = "array:org.apache.camel.model.ProcessorDefinition"),
                     @YamlProperty(name = "stop-on-exception", type = "boolean"),
@@ -15419,6 +15503,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setParallelProcessing(val);
                     break;
                 }
+                case "parallel-window-size": {
+                    String val = asText(node);
+                    target.setParallelWindowSize(val);
+                    break;
+                }
                 case "share-unit-of-work": {
                     String val = asText(node);
                     target.setShareUnitOfWork(val);
@@ -16389,6 +16478,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition"),
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
+                    @YamlProperty(name = "mode", type = "enum:DelayQueue,TokenBucket"),
                     @YamlProperty(name = "reject-execution", type = "boolean"),
                     @YamlProperty(name = "time-period-millis", type = "string")
             }
@@ -16442,6 +16532,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setInheritErrorHandler(java.lang.Boolean.valueOf(val));
                     break;
                 }
+                case "mode": {
+                    String val = asText(node);
+                    target.setMode(val);
+                    break;
+                }
                 case "reject-execution": {
                     String val = asText(node);
                     target.setRejectExecution(val);
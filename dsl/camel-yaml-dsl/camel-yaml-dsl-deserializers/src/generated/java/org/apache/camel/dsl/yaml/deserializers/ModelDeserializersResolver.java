@@ -33,6 +33,8 @@ public final class ModelDeserializersResolver implements YamlDeserializerResolve
             case "basic-auth": return new ModelDeserializers.BasicAuthDefinitionDeserializer();
             case "basicAuth": return new ModelDeserializers.BasicAuthDefinitionDeserializer();
             case "org.apache.camel.model.rest.BasicAuthDefinition": return new ModelDeserializers.BasicAuthDefinitionDeserializer();
+            case "batch": return new ModelDeserializers.BatchDefinitionDeserializer();
+            case "org.apache.camel.model.BatchDefinition": return new ModelDeserializers.BatchDefinitionDeserializer();
             case "batch-config": return new ModelDeserializers.BatchResequencerConfigDeserializer();
             case "org.apache.camel.model.config.BatchResequencerConfig": return new ModelDeserializers.BatchResequencerConfigDeserializer();
             case "bean": return new ModelDeserializers.BeanDefinitionDeserializer();
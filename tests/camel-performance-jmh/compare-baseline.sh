@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+#
+# Licensed to the Apache Software Foundation (ASF) under one or more
+# contributor license agreements.  See the NOTICE file distributed with
+# this work for additional information regarding copyright ownership.
+# The ASF licenses this file to You under the Apache License, Version 2.0
+# (the "License"); you may not use this file except in compliance with
+# the License.  You may obtain a copy of the License at
+#
+#      http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+#
+
+# Runs the benchmarks and compares the results with the baseline.
+#
+# Usage: compare-baseline.sh [jmh options]
+#
+# The jmh options are passed to the benchmarks, for example a regular expression of the benchmarks to run.
+# Set THRESHOLD to the percentage a benchmark may regress (default 10), and set RECORD=true to record
+# the results as the new baseline instead of comparing. When recording, notes about the machine (cpu, memory,
+# operating system, java and git revision) are written next to the baseline, and they should be committed together.
+
+set -e
+
+DIR=$(cd "$(dirname "$0")" && pwd)
+JAR="$DIR/target/benchmarks.jar"
+BASELINE="$DIR/baseline/jmh-baseline.json"
+MACHINE="$DIR/baseline/jmh-baseline-machine.txt"
+RESULT="$DIR/target/jmh-result.json"
+
+if [ ! -f "$JAR" ]; then
+    echo "Build the benchmarks first with: mvn package -Pjmh"
+    exit 2
+fi
+
+if [ "$RECORD" != "true" ] && ! grep -q '"benchmark"' "$BASELINE" 2>/dev/null; then
+    echo "The baseline $BASELINE has no results, record it first with: RECORD=true $0"
+    exit 2
+fi
+
+java -jar "$JAR" -rf json -rff "$RESULT" "$@"
+
+if [ "$RECORD" = "true" ]; then
+    cp "$RESULT" "$BASELINE"
+    {
+        echo "Recorded: $(date -u +%Y-%m-%dT%H:%M:%SZ)"
+        echo "Revision: $(git -C "$DIR" rev-parse HEAD 2>/dev/null)"
+        echo "Options: $*"
+        echo "OS: $(uname -srm)"
+        if [ -r /proc/cpuinfo ]; then
+            echo "CPU: $(grep -m1 'model name' /proc/cpuinfo | cut -d: -f2- | sed 's/^ *//')"
+            echo "Memory: $(grep -m1 MemTotal /proc/meminfo | awk '{print $2 " kB"}')"
+        else
+            echo "CPU: $(sysctl -n machdep.cpu.brand_string 2>/dev/null)"
+            echo "Memory: $(sysctl -n hw.memsize 2>/dev/null) bytes"
+        fi
+        echo "Cores: $(getconf _NPROCESSORS_ONLN)"
+        echo "Java:"
+        java -version 2>&1 | sed 's/^/  /'
+    } > "$MACHINE"
+    echo "Recorded baseline $BASELINE with machine notes $MACHINE"
+else
+    if [ -f "$MACHINE" ]; then
+        echo "The baseline was recorded on:"
+        sed 's/^/  /' "$MACHINE"
+    fi
+    java -cp "$JAR" org.apache.camel.jmh.BaselineComparator "$BASELINE" "$RESULT" "${THRESHOLD:-10}"
+fi
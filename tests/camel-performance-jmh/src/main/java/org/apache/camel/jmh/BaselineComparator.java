@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.Reader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.camel.util.json.JsonArray;
+import org.apache.camel.util.json.JsonObject;
+import org.apache.camel.util.json.Jsoner;
+
+/**
+ * Compares JMH results in JSON format (<tt>-rf json</tt>) with a baseline, and fails with exit code 1 if any benchmark
+ * has regressed more than the threshold. Fails with exit code 2 if the baseline is empty, or none of the benchmarks
+ * are in the baseline, as there is nothing to compare with.
+ * <p/>
+ * Usage: <tt>BaselineComparator baseline.json result.json [threshold-percent]</tt>
+ */
+public final class BaselineComparator {
+
+    private static final double DEFAULT_THRESHOLD = 10.0;
+
+    private BaselineComparator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator baseline.json result.json [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD;
+
+        Map<String, JsonObject> baseline = load(new File(args[0]));
+        Map<String, JsonObject> result = load(new File(args[1]));
+        if (baseline.isEmpty()) {
+            System.err.println("The baseline " + args[0] + " has no results");
+            System.exit(2);
+        }
+
+        int compared = 0;
+        int regressions = 0;
+        System.out.printf("%-100s %15s %15s %9s%n", "Benchmark", "Baseline", "Result", "Change");
+        for (Map.Entry<String, JsonObject> entry : result.entrySet()) {
+            String name = entry.getKey();
+            JsonObject metric = entry.getValue().getMap("primaryMetric");
+            double score = metric.getBigDecimal("score").doubleValue();
+            String unit = metric.getString("scoreUnit");
+
+            JsonObject base = baseline.get(name);
+            if (base == null) {
+                System.out.printf("%-100s %15s %15.3f %9s %s%n", name, "-", score, "new", unit);
+                continue;
+            }
+            compared++;
+            JsonObject baseMetric = base.getMap("primaryMetric");
+            double baseScore = baseMetric.getBigDecimal("score").doubleValue();
+            double change = baseScore != 0 ? (score - baseScore) * 100.0 / baseScore : 0;
+            // throughput is better when higher, the other modes measure time which is better when lower
+            boolean higherIsBetter = "thrpt".equals(entry.getValue().getString("mode"));
+            double regression = higherIsBetter ? -change : change;
+            String marker = "";
+            if (regression > threshold) {
+                regressions++;
+                marker = " REGRESSION";
+            }
+            System.out.printf("%-100s %15.3f %15.3f %8.1f%% %s%s%n", name, baseScore, score, change, unit, marker);
+        }
+        for (String name : baseline.keySet()) {
+            if (!result.containsKey(name)) {
+                System.out.printf("%-100s %15s %15s %9s%n", name, "", "-", "missing");
+            }
+        }
+
+        if (compared == 0) {
+            System.err.println("None of the benchmarks are in the baseline " + args[0]);
+            System.exit(2);
+        }
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonObject> load(File file) throws Exception {
+        Map<String, JsonObject> answer = new LinkedHashMap<>();
+        try (Reader reader = new FileReader(file)) {
+            JsonArray array = (JsonArray) Jsoner.deserialize(reader);
+            for (Object o : array) {
+                JsonObject row = (JsonObject) o;
+                answer.put(key(row), row);
+            }
+        }
+        return answer;
+    }
+
+    private static String key(JsonObject row) {
+        StringBuilder sb = new StringBuilder(row.getString("benchmark"));
+        Map<String, Object> params = row.getMap("params");
+        if (params != null && !params.isEmpty()) {
+            // sort the parameters so the key is stable
+            sb.append(new TreeMap<>(params));
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Header;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bean method invocation through routes, compared with calling the same method using reflection and a method handle
+ * that takes the arguments as an object array (as used by the bean component).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BeanInvocationBenchmark {
+
+    private CamelContext context;
+    private ProducerTemplate template;
+    private final Map<String, Object> headers = new HashMap<>();
+    private final MyBean bean = new MyBean();
+    private final Object[] arguments = { "World", 3 };
+    private Method method;
+    private MethodHandle handle;
+
+    @Setup
+    public void setup() throws Exception {
+        headers.put("times", 3);
+
+        method = MyBean.class.getMethod("hello", String.class, int.class);
+        handle = MethodHandles.publicLookup().unreflect(method)
+                .asType(MethodType.genericMethodType(3)).asSpreader(Object[].class, 2);
+
+        context = new DefaultCamelContext();
+        context.getRegistry().bind("myBean", bean);
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:bean").to("bean:myBean?method=hello");
+                from("direct:method").transform(method("myBean", "hello"));
+                from("direct:body").bean("myBean", "upper");
+            }
+        });
+        context.start();
+        template = context.createProducerTemplate();
+    }
+
+    @TearDown
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public Object beanEndpoint() {
+        return template.requestBodyAndHeaders("direct:bean", "World", headers);
+    }
+
+    @Benchmark
+    public Object methodExpression() {
+        return template.requestBodyAndHeaders("direct:method", "World", headers);
+    }
+
+    @Benchmark
+    public Object beanBodyOnly() {
+        return template.requestBody("direct:body", "World");
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return method.invoke(bean, arguments);
+    }
+
+    @Benchmark
+    public Object methodHandle() throws Throwable {
+        return (Object) handle.invokeExact((Object) bean, arguments);
+    }
+
+    public static class MyBean {
+
+        public String hello(String body, @Header("times") int times) {
+            return "Hello " + body.repeat(times);
+        }
+
+        public String upper(String body) {
+            return body.toUpperCase();
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Content based routing and filtering with simple language predicates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChoiceFilterBenchmark {
+
+    private CamelContext context;
+    private ProducerTemplate template;
+    private final Map<String, Object> gold = new HashMap<>();
+    private final Map<String, Object> bronze = new HashMap<>();
+
+    @Setup
+    public void setup() throws Exception {
+        gold.put("type", "gold");
+        gold.put("amount", 200);
+        bronze.put("type", "bronze");
+        bronze.put("amount", 50);
+
+        context = new DefaultCamelContext();
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:choice")
+                        .choice()
+                        .when(simple("${header.type} == 'gold'")).setHeader("level", constant(1))
+                        .when(simple("${header.type} == 'silver'")).setHeader("level", constant(2))
+                        .otherwise().setHeader("level", constant(3))
+                        .end();
+
+                from("direct:filter")
+                        .filter(simple("${body} contains 'Camel' && ${header.amount} > 100"))
+                        .setHeader("matched", constant(true))
+                        .end();
+            }
+        });
+        context.start();
+        template = context.createProducerTemplate();
+    }
+
+    @TearDown
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public Object choiceFirstWhen() {
+        return template.requestBodyAndHeaders("direct:choice", "Hello Camel", gold);
+    }
+
+    @Benchmark
+    public Object choiceOtherwise() {
+        return template.requestBodyAndHeaders("direct:choice", "Hello Camel", bronze);
+    }
+
+    @Benchmark
+    public Object filterMatched() {
+        return template.requestBodyAndHeaders("direct:filter", "Hello Camel", gold);
+    }
+
+    @Benchmark
+    public Object filterNotMatched() {
+        return template.requestBodyAndHeaders("direct:filter", "Hello Camel", bronze);
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.component.headersmap.FastHeadersMapFactory;
+import org.apache.camel.impl.engine.CaseInsensitiveHeadersMapFactory;
+import org.apache.camel.impl.engine.DefaultHeadersMapFactory;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Get, put and copy of the case-insensitive headers maps.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HeadersMapBenchmark {
+
+    @Param({ "default", "fast", "builtin" })
+    public String factory;
+
+    @Param({ "10", "50" })
+    public int size;
+
+    private HeadersMapFactory headersMapFactory;
+    private Map<String, Object> headers;
+    private String[] keys;
+    private String[] lookupKeys;
+
+    @Setup
+    public void setup() {
+        if ("default".equals(factory)) {
+            headersMapFactory = new DefaultHeadersMapFactory();
+        } else if ("fast".equals(factory)) {
+            headersMapFactory = new FastHeadersMapFactory();
+        } else {
+            headersMapFactory = new CaseInsensitiveHeadersMapFactory();
+        }
+
+        keys = new String[size];
+        lookupKeys = new String[size];
+        headers = headersMapFactory.newMap();
+        for (int i = 0; i < size; i++) {
+            keys[i] = "MyHeader" + i;
+            // lookup using a different case
+            lookupKeys[i] = "myheader" + i;
+            headers.put(keys[i], i);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> put() {
+        Map<String, Object> map = headersMapFactory.newMap();
+        for (int i = 0; i < size; i++) {
+            map.put(keys[i], i);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public int get() {
+        int answer = 0;
+        for (String key : lookupKeys) {
+            answer += (Integer) headers.get(key);
+        }
+        return answer;
+    }
+
+    @Benchmark
+    public Map<String, Object> copy() {
+        return headersMapFactory.newMap(headers);
+    }
+
+    @Benchmark
+    public Map<String, Object> copyAndPut() {
+        Map<String, Object> map = headersMapFactory.newMap(headers);
+        map.put("Foo", "bar");
+        return map;
+    }
+
+}
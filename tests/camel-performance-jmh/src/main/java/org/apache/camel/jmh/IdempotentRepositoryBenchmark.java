@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.io.File;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.processor.idempotent.ConcurrentMemoryIdempotentRepository;
+import org.apache.camel.support.processor.idempotent.IndexedFileIdempotentRepository;
+import org.apache.camel.support.processor.idempotent.MemoryIdempotentRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Concurrent add and contains of message ids on the idempotent repositories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class IdempotentRepositoryBenchmark {
+
+    private static final int KEYS = 100000;
+
+    @Param({ "memory", "concurrentMemory", "indexedFile" })
+    public String repository;
+
+    private IdempotentRepository repo;
+    private File file;
+    private final String[] keys = new String[KEYS];
+
+    @Setup
+    public void setup() throws Exception {
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = UUID.randomUUID().toString();
+        }
+
+        if ("memory".equals(repository)) {
+            repo = MemoryIdempotentRepository.memoryIdempotentRepository(KEYS);
+        } else if ("concurrentMemory".equals(repository)) {
+            repo = new ConcurrentMemoryIdempotentRepository(KEYS);
+        } else {
+            file = File.createTempFile("idempotent", ".dat");
+            file.delete();
+            repo = new IndexedFileIdempotentRepository(file);
+        }
+        repo.start();
+    }
+
+    @TearDown
+    public void teardown() {
+        repo.stop();
+        if (file != null) {
+            file.delete();
+            new File(file.getPath() + ".index").delete();
+        }
+    }
+
+    @Benchmark
+    public boolean add() {
+        return repo.add(keys[ThreadLocalRandom.current().nextInt(KEYS)]);
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return repo.contains(keys[ThreadLocalRandom.current().nextInt(KEYS)]);
+    }
+
+}
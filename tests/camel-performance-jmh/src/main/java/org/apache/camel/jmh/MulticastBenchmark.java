@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.AggregationStrategies;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Multicast fan-out to many recipients, where the recipients either only read the headers and properties of the
+ * message, or mutate them. The copies of the exchange share the headers and properties copy-on-write, so the read-only
+ * recipients should be cheaper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MulticastBenchmark {
+
+    @Param({ "10", "50", "200" })
+    public int recipients;
+
+    @Param({ "read", "write" })
+    public String recipient;
+
+    @Param({ "false", "true" })
+    public boolean parallelProcessing;
+
+    private CamelContext context;
+    private ProducerTemplate template;
+    private final Map<String, Object> headers = new HashMap<>();
+
+    @Setup
+    public void setup() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            headers.put("header" + i, "value" + i);
+        }
+
+        context = new DefaultCamelContext();
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                String[] uris = new String[recipients];
+                for (int i = 0; i < recipients; i++) {
+                    uris[i] = "direct:" + recipient;
+                }
+
+                if (parallelProcessing) {
+                    from("direct:start").setProperty("myprop", constant("parent"))
+                            .multicast(AggregationStrategies.useOriginal()).parallelProcessing().to(uris).end();
+                } else {
+                    from("direct:start").setProperty("myprop", constant("parent"))
+                            .multicast(AggregationStrategies.useOriginal()).to(uris).end();
+                }
+
+                from("direct:read").setBody(simple("${header.header1}-${exchangeProperty.myprop}"));
+
+                from("direct:write").setHeader("header1", constant("changed")).setProperty("myprop", constant("changed"));
+            }
+        });
+        context.start();
+        template = context.createProducerTemplate();
+    }
+
+    @TearDown
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public Object multicast() {
+        return template.requestBodyAndHeaders("direct:start", "Hello World", headers);
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
+import org.apache.camel.support.DefaultConsumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creates, routes and releases exchanges the way a consumer does, with the prototype or pooled exchange factories. Run
+ * with <tt>-prof gc</tt> to compare the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class PooledExchangeBenchmark {
+
+    @Param({ "prototype", "pooled" })
+    public String exchangeFactory;
+
+    @Param({ "false", "true" })
+    public boolean statisticsEnabled;
+
+    private CamelContext context;
+    private DefaultConsumer consumer;
+
+    @Setup
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        ExtendedCamelContext ecc = context.getCamelContextExtension();
+        if ("pooled".equals(exchangeFactory)) {
+            ecc.setExchangeFactory(new PooledExchangeFactory());
+            ecc.setProcessorExchangeFactory(new PooledProcessorExchangeFactory());
+        }
+        // statistics enables the leak detection of the pooled exchanges
+        ecc.getExchangeFactory().setStatisticsEnabled(statisticsEnabled);
+        ecc.getProcessorExchangeFactory().setStatisticsEnabled(statisticsEnabled);
+
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("foo").setHeader("foo", constant("bar"));
+            }
+        });
+        context.start();
+        consumer = (DefaultConsumer) context.getRoute("foo").getConsumer();
+    }
+
+    @TearDown
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void createAndRelease() throws Exception {
+        Exchange exchange = consumer.createExchange(false);
+        exchange.getMessage().setBody("Hello World");
+        exchange.getMessage().setHeader("id", 123);
+        consumer.getProcessor().process(exchange);
+        consumer.releaseExchange(exchange, false);
+    }
+
+}
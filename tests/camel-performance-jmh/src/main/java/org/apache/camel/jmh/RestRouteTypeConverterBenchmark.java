@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.TypeConverterSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The type conversions of a typical REST route, where the path parameters are converted from String headers, the
+ * payload is converted from bytes, a vendor type is converted by a fallback type converter, and optional values are
+ * attempted with try conversions that miss. The route benchmark can be compared with the sum of the conversion
+ * benchmarks, to see how much of the time of the route is spent on type conversion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestRouteTypeConverterBenchmark {
+
+    private CamelContext context;
+    private ProducerTemplate template;
+    private TypeConverter converter;
+    private final byte[] payload = "{\"id\": 123, \"name\": \"Camel\"}".getBytes(StandardCharsets.UTF_8);
+    private final VendorOrder order = new VendorOrder("123");
+
+    @Setup
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        // vendor types are typically converted by a (non promotable) fallback type converter
+        context.getTypeConverterRegistry().addFallbackTypeConverter(new VendorTypeConverter(), false);
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:rest")
+                        .process(RestRouteTypeConverterBenchmark::convert);
+            }
+        });
+        context.start();
+        template = context.createProducerTemplate();
+        converter = context.getTypeConverter();
+    }
+
+    @TearDown
+    public void teardown() {
+        context.stop();
+    }
+
+    private static void convert(Exchange exchange) {
+        Message in = exchange.getIn();
+        Integer id = in.getHeader("id", Integer.class);
+        String body = in.getBody(String.class);
+        String order = exchange.getContext().getTypeConverter().convertTo(String.class, in.getHeader("order"));
+        Integer limit = exchange.getContext().getTypeConverter().tryConvertTo(Integer.class, in.getHeader("order"));
+        in.setBody(id + body + order + limit);
+    }
+
+    @Benchmark
+    public Object route() {
+        Exchange exchange = template.send("direct:rest", e -> {
+            e.getMessage().setHeader("id", "123");
+            e.getMessage().setHeader("order", order);
+            e.getMessage().setBody(payload);
+        });
+        return exchange.getMessage().getBody();
+    }
+
+    @Benchmark
+    public Integer headerStringToInteger() {
+        return converter.convertTo(Integer.class, "123");
+    }
+
+    @Benchmark
+    public String bodyBytesToString() {
+        return converter.convertTo(String.class, payload);
+    }
+
+    @Benchmark
+    public String vendorFallback() {
+        return converter.convertTo(String.class, order);
+    }
+
+    @Benchmark
+    public Integer tryConvertMiss() {
+        return converter.tryConvertTo(Integer.class, order);
+    }
+
+    public static final class VendorOrder {
+        private final String id;
+
+        public VendorOrder(String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return id;
+        }
+    }
+
+    private static final class VendorTypeConverter extends TypeConverterSupport {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+            if (type == String.class && value instanceof VendorOrder) {
+                return (T) ("order-" + ((VendorOrder) value).getId());
+            }
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.language.csimple.CSimpleLanguage;
+import org.apache.camel.spi.Language;
+import org.apache.camel.support.DefaultExchange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluation of simple language expressions and predicates compared with the compiled csimple language, and with the
+ * bean language that evaluates OGNL method chains reflectively.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimpleLanguageBenchmark {
+
+    @Param({ "simple", "csimple" })
+    public String language;
+
+    private CamelContext context;
+    private Exchange exchange;
+    private Language bean;
+    private Expression ognl;
+    private Predicate numeric;
+    private Expression type;
+
+    @Setup
+    public void setup() throws Exception {
+        context = new DefaultCamelContext();
+        context.start();
+
+        exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody(new Customer("Donald", new Address("Duckburg")));
+        exchange.getMessage().setHeader("age", 42);
+
+        bean = context.resolveLanguage("bean");
+        if ("csimple".equals(language)) {
+            CSimpleLanguage csimple = (CSimpleLanguage) context.resolveLanguage("csimple");
+            csimple.addImport("org.apache.camel.jmh.SimpleLanguageBenchmark.*");
+            ognl = csimple.createExpression("${bodyAs(Customer).address.city}");
+            numeric = csimple.createPredicate("${header.age} > 18");
+        } else {
+            Language simple = context.resolveLanguage("simple");
+            ognl = simple.createExpression("${body.address.city}");
+            numeric = simple.createPredicate("${header.age} > 18");
+        }
+        type = context.resolveLanguage("simple").createExpression("${type:org.apache.camel.Exchange.FILE_NAME}");
+        ognl.init(context);
+        numeric.init(context);
+        type.init(context);
+    }
+
+    @TearDown
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public Object ognlGetterChain() {
+        return ognl.evaluate(exchange, String.class);
+    }
+
+    @Benchmark
+    public Object ognlBeanLanguage() {
+        // how simple evaluated OGNL chains before, with a bean expression per evaluation
+        Expression exp = bean.createExpression(null, new Object[] { exchange.getMessage().getBody(), ".address.city" });
+        exp.init(context);
+        return exp.evaluate(exchange, String.class);
+    }
+
+    @Benchmark
+    public boolean numericPredicate() {
+        return numeric.matches(exchange);
+    }
+
+    @Benchmark
+    public Object typeConstant() {
+        return type.evaluate(exchange, Object.class);
+    }
+
+    public static class Customer {
+        private final String name;
+        private final Address address;
+
+        public Customer(String name, Address address) {
+            this.name = name;
+            this.address = address;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+    }
+
+    public static class Address {
+        private final String city;
+
+        public Address(String city) {
+            this.city = city;
+        }
+
+        public String getCity() {
+            return city;
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jmh;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Type conversions of common pairs using the type converter registry of the camel context.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypeConverterBenchmark {
+
+    private CamelContext context;
+    private TypeConverter converter;
+    private final byte[] bytes = "Hello World".getBytes(StandardCharsets.UTF_8);
+
+    @Setup
+    public void setup() {
+        context = new DefaultCamelContext();
+        context.start();
+        converter = context.getTypeConverter();
+    }
+
+    @TearDown
+    public void teardown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public Integer stringToInteger() {
+        return converter.convertTo(Integer.class, "12345");
+    }
+
+    @Benchmark
+    public String integerToString() {
+        return converter.convertTo(String.class, 12345);
+    }
+
+    @Benchmark
+    public Long stringToLong() {
+        return converter.convertTo(Long.class, "1234567890");
+    }
+
+    @Benchmark
+    public Boolean stringToBoolean() {
+        return converter.convertTo(Boolean.class, "true");
+    }
+
+    @Benchmark
+    public byte[] stringToBytes() {
+        return converter.convertTo(byte[].class, "Hello World");
+    }
+
+    @Benchmark
+    public String bytesToString() {
+        return converter.convertTo(String.class, bytes);
+    }
+
+    @Benchmark
+    public InputStream stringToInputStream() {
+        return converter.convertTo(InputStream.class, "Hello World");
+    }
+
+    @Benchmark
+    public Object noConversionNeeded() {
+        return converter.convertTo(String.class, "Hello World");
+    }
+
+}
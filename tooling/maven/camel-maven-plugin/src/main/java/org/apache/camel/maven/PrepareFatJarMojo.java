@@ -19,6 +19,7 @@ package org.apache.camel.maven;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -32,7 +33,14 @@ import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.factory.ArtifactFactory;
@@ -65,17 +73,31 @@ public class PrepareFatJarMojo extends AbstractMojo {
     private static final String META_INF_SERVICES_UBER_TYPE_CONVERTER_LOADER
             = "META-INF/services/org/apache/camel/UberTypeConverterLoader";
 
+    private static final String META_INF_SERVICES = "META-INF/services/org/apache/camel/";
+
+    private static final String META_INF_SERVICES_UBER_SERVICE_INDEX = META_INF_SERVICES + "UberServiceIndex";
+
     private DynamicClassLoader projectClassLoader;
 
     @Parameter(property = "project", required = true, readonly = true)
     private MavenProject project;
     @Parameter(defaultValue = "${project.build.outputDirectory}")
     private File classesDirectory;
+    /**
+     * Whether to generate a merged index of all the Camel factories (components, languages, data formats, configurers
+     * etc.) from the project classpath, which allows Camel to find the factories with a single lookup.
+     */
+    @Parameter(defaultValue = "true")
+    private boolean serviceIndex;
     @Component
     private ArtifactFactory artifactFactory;
 
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
+        if (serviceIndex) {
+            generateServiceIndex();
+        }
+
         Collection<String> loaders = findTypeConverterLoaderClasses();
         if (loaders.isEmpty()) {
             return;
@@ -101,6 +123,92 @@ public class PrepareFatJarMojo extends AbstractMojo {
         }
     }
 
+    private void generateServiceIndex() throws MojoExecutionException, MojoFailureException {
+        Map<String, String> factories = findFactories();
+        if (factories.isEmpty()) {
+            return;
+        }
+
+        getLog().info("Found " + factories.size() + " Camel factories from project classpath");
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("# ");
+        sb.append(GENERATED_MSG);
+        sb.append(NL);
+        for (Map.Entry<String, String> entry : factories.entrySet()) {
+            sb.append(entry.getKey());
+            sb.append("=");
+            sb.append(entry.getValue());
+            sb.append(NL);
+        }
+
+        File file = new File(classesDirectory, META_INF_SERVICES_UBER_SERVICE_INDEX);
+        try {
+            writeFile(file, sb.toString());
+        } catch (IOException e) {
+            throw new MojoFailureException("Error updating " + file, e);
+        }
+    }
+
+    /**
+     * Finds the factories from the classpath by scanning the JARs and directories for factory files (with a class
+     * property) in the {@link #META_INF_SERVICES} location. The first factory found on the classpath wins, the same as
+     * when Camel looks up the factories from the classpath at runtime.
+     *
+     * @return the factory class names by the path of the factory (relative to {@link #META_INF_SERVICES})
+     */
+    protected Map<String, String> findFactories() throws MojoExecutionException {
+        Map<String, String> factories = new TreeMap<>();
+
+        for (URL url : getProjectClassLoader().getURLs()) {
+            try {
+                File file = new File(url.toURI());
+                if (file.isDirectory()) {
+                    Path dir = file.toPath().resolve(META_INF_SERVICES);
+                    if (Files.isDirectory(dir)) {
+                        List<Path> paths;
+                        try (Stream<Path> stream = Files.walk(dir)) {
+                            paths = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+                        }
+                        for (Path path : paths) {
+                            String name = dir.relativize(path).toString().replace(File.separatorChar, '/');
+                            try (InputStream is = Files.newInputStream(path)) {
+                                addFactory(factories, name, is);
+                            }
+                        }
+                    }
+                } else if (file.isFile()) {
+                    try (JarFile jar = new JarFile(file)) {
+                        for (JarEntry entry : jar.stream().collect(Collectors.toList())) {
+                            if (!entry.isDirectory() && entry.getName().startsWith(META_INF_SERVICES)) {
+                                String name = entry.getName().substring(META_INF_SERVICES.length());
+                                try (InputStream is = jar.getInputStream(entry)) {
+                                    addFactory(factories, name, is);
+                                }
+                            }
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                getLog().warn("Error finding factories from " + url + " due to " + e.getMessage());
+            }
+        }
+
+        return factories;
+    }
+
+    private static void addFactory(Map<String, String> factories, String name, InputStream is) throws IOException {
+        if (factories.containsKey(name) || name.startsWith("Uber")) {
+            return;
+        }
+        Properties properties = new Properties();
+        properties.load(is);
+        String className = properties.getProperty("class");
+        if (className != null) {
+            factories.put(name, className.trim());
+        }
+    }
+
     private void writeFile(File file, String data) throws IOException {
         Path path = file.toPath();
         Files.createDirectories(path.getParent());
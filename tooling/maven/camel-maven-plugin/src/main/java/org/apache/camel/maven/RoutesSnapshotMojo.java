@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.apache.camel.xml.io.BinaryXmlEncoder;
+import org.apache.camel.xml.io.util.XmlStreamDetector;
+import org.apache.camel.xml.io.util.XmlStreamInfo;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Creates build-time snapshots of the XML routes of the Camel application, so the XML routes do not have to be
+ * tokenized again at startup.
+ * <p/>
+ * The snapshots are stored in <tt>META-INF/camel/routes-snapshot/</tt> together with an index, which is used by Camel to
+ * load the snapshot instead of the XML routes, as long as the XML routes have not been changed.
+ */
+@Mojo(name = "routes-snapshot", threadSafe = true, defaultPhase = LifecyclePhase.PROCESS_CLASSES)
+public class RoutesSnapshotMojo extends AbstractMojo {
+
+    private static final String GENERATED_MSG = "Generated by camel build tools - do NOT edit this file!";
+    private static final String NL = "\n";
+
+    private static final String ROUTES_SNAPSHOT_INDEX = "META-INF/camel/routes-snapshot.properties";
+    private static final String ROUTES_SNAPSHOT_DIRECTORY = "META-INF/camel/routes-snapshot/";
+    private static final String ROUTES_SNAPSHOT_EXTENSION = ".snapshot";
+
+    private static final Set<String> ROOT_ELEMENTS = Set.of(
+            "beans", "camel", "routeTemplate", "routeTemplates", "templatedRoute", "templatedRoutes", "rest", "rests",
+            "route", "routes", "routeConfiguration", "routeConfigurations");
+
+    @Parameter(defaultValue = "${project.build.outputDirectory}")
+    private File classesDirectory;
+
+    /**
+     * The directories (relative to the classes directory) with the XML routes to create snapshots of.
+     */
+    @Parameter(defaultValue = "camel,camel-template,camel-rest")
+    private List<String> directories;
+
+    /**
+     * To skip creating the snapshots
+     */
+    @Parameter(property = "camel.skipRoutesSnapshot", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (skip) {
+            getLog().info("Skipping routes snapshot");
+            return;
+        }
+
+        Map<String, String> index = new TreeMap<>();
+        for (String dir : directories) {
+            Path root = new File(classesDirectory, dir.trim()).toPath();
+            if (!Files.isDirectory(root)) {
+                continue;
+            }
+            List<Path> files;
+            try (Stream<Path> stream = Files.walk(root)) {
+                files = stream.filter(Files::isRegularFile).filter(p -> p.getFileName().toString().endsWith(".xml"))
+                        .sorted().collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new MojoExecutionException("Error scanning " + root, e);
+            }
+            for (Path file : files) {
+                String path = classesDirectory.toPath().relativize(file).toString().replace(File.separatorChar, '/');
+                try {
+                    byte[] data = Files.readAllBytes(file);
+                    if (!isRoutes(data)) {
+                        getLog().debug("Skipping " + path + " as it does not contain Camel routes");
+                        continue;
+                    }
+                    byte[] snapshot = BinaryXmlEncoder.encode(new ByteArrayInputStream(data));
+                    writeFile(new File(classesDirectory, ROUTES_SNAPSHOT_DIRECTORY + path + ROUTES_SNAPSHOT_EXTENSION),
+                            snapshot);
+                    CRC32 crc = new CRC32();
+                    crc.update(data);
+                    index.put(path, Long.toHexString(crc.getValue()));
+                } catch (Exception e) {
+                    // the routes are parsed at startup instead
+                    getLog().warn("Cannot create routes snapshot of " + path + " due to " + e.getMessage());
+                }
+            }
+        }
+
+        if (index.isEmpty()) {
+            return;
+        }
+
+        getLog().info("Created " + index.size() + " Camel routes snapshots");
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("# ");
+        sb.append(GENERATED_MSG);
+        sb.append(NL);
+        for (Map.Entry<String, String> entry : index.entrySet()) {
+            sb.append(entry.getKey().replace(" ", "\\ ").replace(":", "\\:").replace("=", "\\="));
+            sb.append("=");
+            sb.append(entry.getValue());
+            sb.append(NL);
+        }
+
+        File file = new File(classesDirectory, ROUTES_SNAPSHOT_INDEX);
+        try {
+            writeFile(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new MojoFailureException("Error updating " + file, e);
+        }
+    }
+
+    private static boolean isRoutes(byte[] data) throws IOException {
+        XmlStreamInfo info = new XmlStreamDetector(new ByteArrayInputStream(data)).information();
+        return info.isValid() && ROOT_ELEMENTS.contains(info.getRootElementName());
+    }
+
+    private void writeFile(File file, byte[] data) throws IOException {
+        Path path = file.toPath();
+        Files.createDirectories(path.getParent());
+        Files.write(path, data, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+}
@@ -246,6 +246,8 @@ public class ModelXmlParserGeneratorMojo extends AbstractGeneratorMojo {
             .addThrows(IOException.class).addThrows(XML_PULL_PARSER_EXCEPTION).setBody("super(input, namespace);");
         parser.addMethod().setConstructor(true).setPublic().setName("ModelParser").addParameter(Reader.class, "reader").addParameter(String.class, "namespace")
             .addThrows(IOException.class).addThrows(XML_PULL_PARSER_EXCEPTION).setBody("super(reader, namespace);");
+        parser.addMethod().setConstructor(true).setPublic().setName("ModelParser").addParameter("org.apache.camel.xml.io.XmlPullParser", "parser")
+            .addParameter("org.apache.camel.spi.Resource", "resource").addParameter(String.class, "namespace").setBody("super(parser, resource, namespace);");
 
         List<Class<?>> elementRefs = Arrays.asList(processorDefinitionClass, expressionDefinitionClass, dataFormatDefinitionClass);
 